@@ -0,0 +1,68 @@
+package com.www.goodjob.benchmark;
+
+import com.www.goodjob.enums.SuggestionType;
+import com.www.goodjob.util.AutocompleteIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 인덱스 조회/빌드 비용 측정.
+ * 공고 3만 건 규모(회사명 + 제목 + 인기 검색어)의 합성 데이터 기준.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AutocompleteIndexBenchmark {
+
+    private static final String[] COMPANIES = {"토스", "카카오", "네이버", "삼성전자", "LG에너지솔루션", "현대자동차", "쿠팡", "배달의민족", "당근", "SK하이닉스"};
+    private static final String[] ROLES = {"백엔드", "프론트엔드", "데이터", "머신러닝", "DevOps", "iOS", "안드로이드", "보안", "QA", "기획"};
+    private static final String[] SUFFIX = {"개발자", "엔지니어", "채용", "신입 채용", "경력 채용", "인턴"};
+
+    @Param({"30000"})
+    public int jobCount;
+
+    private List<AutocompleteIndex.Entry> source;
+    private AutocompleteIndex index;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        source = new ArrayList<>(jobCount + 2000);
+        for (int i = 0; i < jobCount; i++) {
+            String company = COMPANIES[rnd.nextInt(COMPANIES.length)] + (i % 500);
+            String title = ROLES[rnd.nextInt(ROLES.length)] + " " + SUFFIX[rnd.nextInt(SUFFIX.length)] + " " + i;
+            source.add(new AutocompleteIndex.Entry(company, SuggestionType.COMPANY, 1 + rnd.nextInt(20)));
+            source.add(new AutocompleteIndex.Entry(title, SuggestionType.TITLE, 1));
+        }
+        for (int i = 0; i < 2000; i++) {
+            source.add(new AutocompleteIndex.Entry(ROLES[i % ROLES.length] + " " + i, SuggestionType.KEYWORD, rnd.nextInt(1000)));
+        }
+        index = AutocompleteIndex.build(source);
+    }
+
+    @Benchmark
+    public Object suggestSingleJamo() {
+        return index.suggest("ㅂ", 10);          // 사전 계산 구간
+    }
+
+    @Benchmark
+    public Object suggestComposingSyllable() {
+        return index.suggest("백에", 10);        // 조합 중 입력 (ㅂㅐㄱㅇㅔ)
+    }
+
+    @Benchmark
+    public Object suggestWordPrefix() {
+        return index.suggest("토스1", 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object buildIndex() {
+        return AutocompleteIndex.build(source);
+    }
+}
@@ -0,0 +1,82 @@
+package com.www.goodjob.benchmark;
+
+import com.www.goodjob.domain.Job;
+import com.www.goodjob.domain.JobRegion;
+import com.www.goodjob.domain.Region;
+import com.www.goodjob.dto.JobDto;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.dto.ScoredJobDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천/검색 응답 한 페이지의 DTO 변환 비용 (엔티티 → JobDto → ScoredJobDto).
+ * - jobDto       : JobDto.from(job) (지역 리스트 변환 포함)
+ * - scoredJobDto : JobDto.from 후 ScoredJobDto.from 으로 한 번 더 복사 (/rec 상세 응답 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private List<Job> jobs;
+
+    @Setup
+    public void setUp() {
+        String text = "자격요건 및 우대사항 설명 ".repeat(50);
+        jobs = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Job job = new Job();
+            job.setId((long) i);
+            job.setCompanyName("회사" + i);
+            job.setTitle("백엔드 개발자 " + i);
+            job.setDepartment("플랫폼");
+            job.setExperience("경력 3년 이상");
+            job.setJobType("정규직");
+            job.setRequirements(text);
+            job.setPreferredQualifications(text);
+            job.setIdealCandidate(text);
+            job.setJobDescription(text);
+            job.setApplyStartDate(LocalDate.of(2025, 8, 1));
+            job.setApplyEndDate(LocalDate.of(2025, 9, 1));
+            job.setIsPublic(true);
+            job.setCreatedAt(LocalDateTime.of(2025, 8, 1, 9, 0));
+            job.setLastUpdatedAt(LocalDateTime.of(2025, 8, 2, 9, 0));
+            job.setUrl("https://example.com/jobs/" + i);
+            job.setRegionText("서울 강남구");
+            List<JobRegion> regions = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                Region region = Region.builder().id((long) r).sido("서울").sigungu("구" + r).build();
+                regions.add(JobRegion.builder().job(job).region(region).build());
+            }
+            job.setJobRegions(regions);
+            jobs.add(job);
+        }
+    }
+
+    @Benchmark
+    public List<JobDto> jobDto() {
+        List<JobDto> out = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            out.add(JobDto.from(job, RegionDto.fromJob(job), null));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<ScoredJobDto> scoredJobDto() {
+        List<ScoredJobDto> out = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            out.add(ScoredJobDto.from(JobDto.from(job, RegionDto.fromJob(job), null), 0.9, 0.8, 12.5));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,37 @@
+package com.www.goodjob.benchmark;
+
+import com.www.goodjob.util.CaludeFeedbackFormater;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드백 HTML 포맷 비용 (CaludeFeedbackFormater.format).
+ * CSS 템플릿(약 7KB) + 피드백 본문을 formatted 후 개행/탭 제거(replaceAll, 호출마다 정규식 컴파일)까지 포함.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FeedbackFormatterBenchmark {
+
+    @Param({"10", "100"})
+    public int feedbackItems;
+
+    private CaludeFeedbackFormater formater;
+    private String feedback;
+
+    @Setup
+    public void setUp() {
+        formater = new CaludeFeedbackFormater();
+        StringBuilder sb = new StringBuilder("<div class=\"feedback\">\n");
+        for (int i = 0; i < feedbackItems; i++) {
+            sb.append("\t<li><strong>강점 ").append(i).append("</strong> Spring Boot 기반 대용량 트래픽 처리 경험이 공고 요구사항과 일치합니다.</li>\r\n");
+        }
+        feedback = sb.append("</div>").toString();
+    }
+
+    @Benchmark
+    public String format() {
+        return formater.format(feedback);
+    }
+}
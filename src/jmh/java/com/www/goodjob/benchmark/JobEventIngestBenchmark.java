@@ -0,0 +1,108 @@
+package com.www.goodjob.benchmark;
+
+import com.www.goodjob.dto.JobEventRequest;
+import com.www.goodjob.enums.EventType;
+import com.www.goodjob.repository.JobEventLogJdbcRepository;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository;
+import com.www.goodjob.repository.JobEngagementJdbcRepository;
+import com.www.goodjob.service.ActiveUserService;
+import com.www.goodjob.service.JobEngagementService;
+import com.www.goodjob.service.JobEventRollupService;
+import com.www.goodjob.service.JobLogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고 이벤트 적재 처리량 비교 (H2 인메모리, 결과 단위 = 이벤트/초).
+ * - perEventInsert : 이벤트마다 INSERT 1회 + 커밋 (기존 JPA save 방식과 같은 왕복 수)
+ * - queuedBatch    : JobLogService.logEvents 로 큐 적재 후 writer 의 drain (다중 VALUES INSERT, batch-size 500, 롤업/활성 사용자/참여 지표 메모리 집계 포함)
+ * 원격 MySQL 에서는 왕복 지연이 더해지므로 차이가 이보다 커진다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JobEventIngestBenchmark {
+
+    private static final int EVENTS = 1_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private JobLogService jobLogService;
+    private Method drain;
+    private List<JobEventRequest> events;
+
+    @Setup
+    public void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:jobevent;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE job_event_log (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL,
+                    job_id BIGINT NOT NULL, event VARCHAR(20) NOT NULL, `timestamp` TIMESTAMP NOT NULL)""");
+
+        // 롤업/활성 사용자/참여 지표는 메모리 집계만 측정 (flush 는 주기 작업이라 적재 처리량과 무관, Redis 접속 없음)
+        JobEventRollupService rollupService = new JobEventRollupService(
+                new JobEventRollupJdbcRepository(jdbcTemplate), new DataSourceTransactionManager(dataSource));
+        ActiveUserService activeUserService = new ActiveUserService(new StringRedisTemplate());
+        JobEngagementService engagementService = new JobEngagementService(
+                new JobEngagementJdbcRepository(new NamedParameterJdbcTemplate(jdbcTemplate)), new StringRedisTemplate());
+        jobLogService = new JobLogService(new JobEventLogJdbcRepository(jdbcTemplate), rollupService,
+                activeUserService, engagementService, new SimpleMeterRegistry());
+        set("queueCapacity", EVENTS * 10);
+        set("batchSize", 500);
+        Method initMetrics = JobLogService.class.getDeclaredMethod("initMetrics");
+        initMetrics.setAccessible(true);
+        initMetrics.invoke(jobLogService);
+        drain = JobLogService.class.getDeclaredMethod("drain");
+        drain.setAccessible(true);
+
+        events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(new JobEventRequest((long) i, i % 20 == 0 ? EventType.click : EventType.impression));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE job_event_log");
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void perEventInsert() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (JobEventRequest e : events) {
+            jdbcTemplate.update("INSERT INTO job_event_log (user_id, job_id, event, `timestamp`) VALUES (?, ?, ?, ?)",
+                    1L, e.getJobId(), e.getEvent().name(), now);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void queuedBatch() throws Exception {
+        jobLogService.logEvents(1L, events);
+        drain.invoke(jobLogService);
+    }
+
+    private void set(String field, int value) throws Exception {
+        Field f = JobLogService.class.getDeclaredField(field);
+        f.setAccessible(true);
+        f.setInt(jobLogService, value);
+    }
+}
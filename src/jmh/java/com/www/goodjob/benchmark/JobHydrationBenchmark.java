@@ -0,0 +1,166 @@
+package com.www.goodjob.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고 상세 목록 조회 방식 비교 (H2 인메모리, JDBC 수준).
+ * - fetchJoin : jobs x job_region x regions x favicons 한 번에 조인 → 공고 행이 지역 수만큼 복제되어 TEXT 컬럼까지 중복 전송
+ * - batched   : jobs / job_region+regions / favicons 를 ID IN 으로 각각 조회 (JobHydrationService 방식)
+ * regionsPerJob 이 커질수록 fetchJoin 의 행 수와 전송량이 선형으로 늘어난다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobHydrationBenchmark {
+
+    private static final int JOB_COUNT = 2_000;
+    private static final int REGION_COUNT = 250;
+    private static final int FAVICON_COUNT = 200;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1", "5", "20"})
+    public int regionsPerJob;
+
+    private Connection connection;
+    private String idList;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:hydration" + regionsPerJob + ";DB_CLOSE_DELAY=-1");
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE favicons (id BIGINT PRIMARY KEY, domain VARCHAR(255), logo CLOB)");
+            st.execute("CREATE TABLE regions (id BIGINT PRIMARY KEY, sido VARCHAR(50), sigungu VARCHAR(50))");
+            st.execute("""
+                    CREATE TABLE jobs (id BIGINT PRIMARY KEY, title VARCHAR(255), company_name VARCHAR(255),
+                        requirements CLOB, preferred_qualifications CLOB, ideal_candidate CLOB, job_description CLOB,
+                        favicon_id BIGINT)""");
+            st.execute("CREATE TABLE job_region (id BIGINT AUTO_INCREMENT PRIMARY KEY, job_id BIGINT, region_id BIGINT)");
+            st.execute("CREATE INDEX idx_job_region_job ON job_region (job_id)");
+        }
+
+        String text = "자격요건 및 우대사항 설명 ".repeat(100);
+        String logo = "A".repeat(2_000);
+        try (PreparedStatement f = connection.prepareStatement("INSERT INTO favicons VALUES (?, ?, ?)");
+             PreparedStatement r = connection.prepareStatement("INSERT INTO regions VALUES (?, ?, ?)");
+             PreparedStatement j = connection.prepareStatement("INSERT INTO jobs VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement jr = connection.prepareStatement("INSERT INTO job_region (job_id, region_id) VALUES (?, ?)")) {
+            for (int i = 1; i <= FAVICON_COUNT; i++) {
+                f.setLong(1, i); f.setString(2, "d" + i); f.setString(3, logo); f.addBatch();
+            }
+            f.executeBatch();
+            for (int i = 1; i <= REGION_COUNT; i++) {
+                r.setLong(1, i); r.setString(2, "시도" + (i % 17)); r.setString(3, "시군구" + i); r.addBatch();
+            }
+            r.executeBatch();
+            Random rnd = new Random(7);
+            for (int i = 1; i <= JOB_COUNT; i++) {
+                j.setLong(1, i); j.setString(2, "공고 " + i); j.setString(3, "회사 " + (i % FAVICON_COUNT));
+                for (int c = 4; c <= 7; c++) j.setString(c, text);
+                j.setLong(8, 1 + (i % FAVICON_COUNT));
+                j.addBatch();
+                for (int k = 0; k < regionsPerJob; k++) {
+                    jr.setLong(1, i); jr.setLong(2, 1 + rnd.nextInt(REGION_COUNT)); jr.addBatch();
+                }
+            }
+            j.executeBatch();
+            jr.executeBatch();
+        }
+
+        StringJoiner ids = new StringJoiner(",");
+        for (int i = 0; i < PAGE_SIZE; i++) ids.add(String.valueOf(1 + i * (JOB_COUNT / PAGE_SIZE)));
+        idList = ids.toString();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public Map<Long, Hydrated> fetchJoin() throws SQLException {
+        Map<Long, Hydrated> result = new LinkedHashMap<>();
+        String sql = """
+                SELECT j.id, j.title, j.company_name, j.requirements, j.preferred_qualifications,
+                       j.ideal_candidate, j.job_description, f.logo, r.sido, r.sigungu
+                FROM jobs j
+                LEFT JOIN job_region jr ON jr.job_id = j.id
+                LEFT JOIN regions r ON r.id = jr.region_id
+                LEFT JOIN favicons f ON f.id = j.favicon_id
+                WHERE j.id IN (%s)""".formatted(idList);
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            while (rs.next()) {
+                long id = rs.getLong(1);
+                // DISTINCT 와 동일하게 메모리에서 중복 제거 (단, 각 행의 TEXT 컬럼은 이미 전송/물질화됨)
+                Hydrated h = result.get(id);
+                if (h == null) {
+                    h = new Hydrated(rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                            rs.getString(6), rs.getString(7), rs.getString(8));
+                    result.put(id, h);
+                } else {
+                    rs.getString(4); rs.getString(5); rs.getString(6); rs.getString(7); rs.getString(8);
+                }
+                h.regions.add(rs.getString(9) + " " + rs.getString(10));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Long, Hydrated> batched() throws SQLException {
+        Map<Long, Hydrated> result = new LinkedHashMap<>();
+        Map<Long, Long> faviconOf = new HashMap<>();
+        try (Statement st = connection.createStatement()) {
+            try (ResultSet rs = st.executeQuery("""
+                    SELECT id, title, company_name, requirements, preferred_qualifications,
+                           ideal_candidate, job_description, favicon_id
+                    FROM jobs WHERE id IN (%s)""".formatted(idList))) {
+                while (rs.next()) {
+                    long id = rs.getLong(1);
+                    result.put(id, new Hydrated(rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                            rs.getString(6), rs.getString(7), null));
+                    faviconOf.put(id, rs.getLong(8));
+                }
+            }
+            try (ResultSet rs = st.executeQuery("""
+                    SELECT jr.job_id, r.sido, r.sigungu
+                    FROM job_region jr JOIN regions r ON r.id = jr.region_id
+                    WHERE jr.job_id IN (%s)""".formatted(idList))) {
+                while (rs.next()) {
+                    result.get(rs.getLong(1)).regions.add(rs.getString(2) + " " + rs.getString(3));
+                }
+            }
+            StringJoiner faviconIds = new StringJoiner(",");
+            new HashSet<>(faviconOf.values()).forEach(id -> faviconIds.add(String.valueOf(id)));
+            Map<Long, String> logos = new HashMap<>();
+            try (ResultSet rs = st.executeQuery("SELECT id, logo FROM favicons WHERE id IN (%s)".formatted(faviconIds))) {
+                while (rs.next()) logos.put(rs.getLong(1), rs.getString(2));
+            }
+            faviconOf.forEach((jobId, faviconId) -> result.get(jobId).favicon = logos.get(faviconId));
+        }
+        return result;
+    }
+
+    public static final class Hydrated {
+        final String title, companyName, requirements, preferred, ideal, description;
+        String favicon;
+        final List<String> regions = new ArrayList<>();
+
+        Hydrated(String title, String companyName, String requirements, String preferred,
+                 String ideal, String description, String favicon) {
+            this.title = title;
+            this.companyName = companyName;
+            this.requirements = requirements;
+            this.preferred = preferred;
+            this.ideal = ideal;
+            this.description = description;
+            this.favicon = favicon;
+        }
+    }
+}
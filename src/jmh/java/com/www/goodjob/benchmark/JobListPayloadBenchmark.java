@@ -0,0 +1,104 @@
+package com.www.goodjob.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.www.goodjob.dto.JobDto;
+import com.www.goodjob.dto.JobSummaryDto;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.dto.ScoredJobDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 직렬화 비용 비교: 전체 JobDto(ScoredJobDto) vs 요약 JobSummaryDto.
+ * 응답 크기(바이트)는 Setup 시 한 번 계산해 출력한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobListPayloadBenchmark {
+
+    // 실제 공고 상세 필드 평균 길이와 비슷한 크기 (한글 기준 글자 수)
+    private static final int TEXT_FIELD_CHARS = 1500;
+    private static final int FAVICON_CHARS = 2000;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<ScoredJobDto> full;
+    private List<JobSummaryDto> summary;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        String text = "자격요건 및 우대사항 설명 ".repeat(TEXT_FIELD_CHARS / 15);
+        String favicon = "A".repeat(FAVICON_CHARS);
+        List<RegionDto> regions = List.of(new RegionDto("서울", "강남구"), new RegionDto("경기", "성남시"));
+
+        full = new ArrayList<>(pageSize);
+        summary = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            JobDto base = JobDto.builder()
+                    .id(id)
+                    .regions(regions)
+                    .companyName("회사" + id)
+                    .title("백엔드 개발자 채용 " + id)
+                    .department("플랫폼팀")
+                    .requireExperience("경력")
+                    .jobType("정규직")
+                    .requirements(text)
+                    .preferredQualifications(text)
+                    .idealCandidate(text)
+                    .jobDescription(text)
+                    .applyStartDate(LocalDate.of(2025, 8, 1))
+                    .applyEndDate(LocalDate.of(2025, 9, 1))
+                    .isPublic(true)
+                    .createdAt(LocalDateTime.of(2025, 8, 1, 9, 0))
+                    .lastUpdatedAt(LocalDateTime.of(2025, 8, 2, 9, 0))
+                    .url("https://careers.example.com/jobs/" + id)
+                    .favicon(favicon)
+                    .regionText("서울 강남구, 경기 성남시")
+                    .build();
+            full.add(ScoredJobDto.from(base, 0.9, 0.0, 0.0));
+
+            summary.add(JobSummaryDto.builder()
+                    .id(id)
+                    .companyName(base.getCompanyName())
+                    .title(base.getTitle())
+                    .jobType(base.getJobType())
+                    .requireExperience(base.getRequireExperience())
+                    .regions(regions)
+                    .applyStartDate(base.getApplyStartDate())
+                    .applyEndDate(base.getApplyEndDate())
+                    .createdAt(base.getCreatedAt())
+                    .favicon(favicon)
+                    .score(0.9)
+                    .build());
+        }
+
+        System.out.printf("%n[payload] pageSize=%d full=%,d bytes summary=%,d bytes%n",
+                pageSize,
+                objectMapper.writeValueAsBytes(full).length,
+                objectMapper.writeValueAsBytes(summary).length);
+    }
+
+    @Benchmark
+    public byte[] serializeFull() throws Exception {
+        return objectMapper.writeValueAsBytes(full);
+    }
+
+    @Benchmark
+    public byte[] serializeSummary() throws Exception {
+        return objectMapper.writeValueAsBytes(summary);
+    }
+}
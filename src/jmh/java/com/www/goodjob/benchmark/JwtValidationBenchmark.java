@@ -0,0 +1,44 @@
+package com.www.goodjob.benchmark;
+
+import com.www.goodjob.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthFilter 가 수행하는 access token 검증 비용.
+ * - validateToken         : 서명 검증 + 파싱 1회
+ * - validateThenGetEmail  : 필터 경로 (validateToken 후 getEmail 로 한 번 더 파싱)
+ * - invalidToken          : 서명 불일치 토큰 (예외 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private JwtTokenProvider provider;
+    private String token;
+    private String forged;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider("benchmark-secret-key-benchmark-secret-key");
+        token = provider.generateAccessToken("bench@goodjob.com");
+        forged = new JwtTokenProvider("other-secret-key-other-secret-key-0000").generateAccessToken("bench@goodjob.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public String validateThenGetEmail() {
+        return provider.validateToken(token) ? provider.getEmail(token) : null;
+    }
+
+    @Benchmark
+    public boolean invalidToken() {
+        return provider.validateToken(forged);
+    }
+}
@@ -0,0 +1,79 @@
+package com.www.goodjob.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 캐시(ZSET recommendation:{cvId}) 읽기 경로 (embedded Redis, 로컬 루프백).
+ * RecommendService.readCachedScores 와 같은 방식으로 reverseRangeWithScores 후 LinkedHashMap 으로 파싱한다.
+ * cardinality 는 파싱 없는 단일 왕복 기준선. 원격 Redis 에서는 왕복 지연이 더해진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RecommendCacheReadBenchmark {
+
+    private static final String KEY = "recommendation:1";
+    private static final int CACHED_JOBS = 500;
+
+    @Param({"20", "100"})
+    public int topK;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @Setup
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisTemplate.delete(KEY);
+        for (int i = 1; i <= CACHED_JOBS; i++) {
+            redisTemplate.opsForZSet().add(KEY, String.valueOf(i), 1.0 / i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public LinkedHashMap<Long, Double> readTopK() {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(KEY, 0, topK - 1);
+        LinkedHashMap<Long, Double> scores = new LinkedHashMap<>();
+        if (tuples == null) return scores;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null) continue;
+            scores.put(Long.parseLong(tuple.getValue()), tuple.getScore() == null ? 0.0 : tuple.getScore());
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public Long cardinality() {
+        return redisTemplate.opsForZSet().zCard(KEY);
+    }
+}
@@ -0,0 +1,73 @@
+package com.www.goodjob.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * 외부 API 로컬 대역 (WireMock). 운영 평균 지연과 비슷하게 고정 지연을 둔다.
+ * - FastAPI    : /recommend-jobs, /search-es
+ * - Claude     : /v1/messages (피드백/요약 비동기 생성)
+ * - Toss       : /v1/payments/confirm, /v1/payments/{key}/cancel
+ * - Prometheus : /api/v1/query (서버 상태 조회)
+ */
+class FakeUpstreams {
+
+    static final int FASTAPI_DELAY_MS = 40;
+    static final int CLAUDE_DELAY_MS = 800;
+    static final int TOSS_DELAY_MS = 150;
+
+    private final WireMockServer server = new WireMockServer(options().dynamicPort());
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop();
+    }
+
+    String baseUrl() {
+        return server.baseUrl();
+    }
+
+    /** 추천/검색 응답에 쓸 공고 id (DB 에 실제로 있는 id 여야 hydrate 경로까지 탄다) */
+    void stub(List<Long> jobIds) {
+        String recommended = jobIds.stream()
+                .map(id -> "{\"job_id\":" + id + ",\"score\":" + (1.0 - id / 10_000.0) + "}")
+                .collect(Collectors.joining(",", "{\"recommended_jobs\":[", "]}"));
+        server.stubFor(post(urlPathEqualTo("/recommend-jobs"))
+                .willReturn(okJson(recommended).withFixedDelay(FASTAPI_DELAY_MS)));
+
+        String results = jobIds.stream().limit(10)
+                .map(id -> "{\"job_id\":" + id + "}")
+                .collect(Collectors.joining(",", "{\"total\":" + jobIds.size() + ",\"results\":[", "]}"));
+        server.stubFor(post(urlPathEqualTo("/search-es"))
+                .willReturn(okJson(results).withFixedDelay(FASTAPI_DELAY_MS)));
+
+        server.stubFor(post(urlPathEqualTo("/v1/messages"))
+                .willReturn(okJson("""
+                        {"id":"msg_loadtest","type":"message","role":"assistant","model":"claude-3-5-sonnet-latest",
+                         "content":[{"type":"text","text":"<div class=\\"feedback\\">부하 테스트 피드백</div>"}],
+                         "stop_reason":"end_turn","stop_sequence":null,
+                         "usage":{"input_tokens":1200,"output_tokens":400}}""")
+                        .withFixedDelay(CLAUDE_DELAY_MS)));
+
+        server.stubFor(post(urlPathEqualTo("/v1/payments/confirm"))
+                .willReturn(okJson("""
+                        {"paymentKey":"{{jsonPath request.body '$.paymentKey'}}",
+                         "orderId":"{{jsonPath request.body '$.orderId'}}",
+                         "status":"DONE","method":"카드","totalAmount":9900}""")
+                        .withTransformers("response-template")
+                        .withFixedDelay(TOSS_DELAY_MS)));
+        server.stubFor(post(urlPathMatching("/v1/payments/[^/]+/cancel"))
+                .willReturn(okJson("{\"status\":\"CANCELED\"}").withFixedDelay(TOSS_DELAY_MS)));
+
+        server.stubFor(get(urlPathEqualTo("/api/v1/query"))
+                .willReturn(okJson("{\"status\":\"success\",\"data\":{\"resultType\":\"vector\",\"result\":[{\"value\":[0,\"1\"]}]}}")));
+    }
+}
@@ -0,0 +1,258 @@
+package com.www.goodjob.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.domain.Cv;
+import com.www.goodjob.domain.Job;
+import com.www.goodjob.domain.User;
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.enums.AlarmStatus;
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.AlarmRepository;
+import com.www.goodjob.repository.CvRepository;
+import com.www.goodjob.repository.JobRepository;
+import com.www.goodjob.repository.UserRepository;
+import com.www.goodjob.security.JwtTokenProvider;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주요 API 종단 간 부하 시나리오 (./gradlew loadTest).
+ * 앱 전체를 H2(MySQL 모드) + embedded Redis + WireMock(FastAPI/Claude/Toss/Prometheus) 위에 띄우고,
+ * 시나리오별로 고정 동시성 부하를 걸어 처리량과 p50/p99 를 build/reports/loadtest/summary.json 으로 남긴다.
+ *
+ * 절대값은 로컬 장비/대역 지연에 좌우되므로 같은 장비에서 변경 전후 비교용으로 쓴다.
+ * 동시성/시간: -Ploadtest.concurrency, -Ploadtest.durationSeconds, -Ploadtest.warmupSeconds
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class GoodjobLoadScenarioTest {
+
+    private static final int JOB_COUNT = 2_000;
+    private static final int USER_COUNT = 50;
+    private static final int ALARMS_PER_USER = 30;
+    private static final int TOP_K = 20;
+    private static final String[] KEYWORDS = {"백엔드", "프론트엔드", "데이터", "토스", "카카오"};
+
+    private static final FakeUpstreams upstreams = new FakeUpstreams();
+    private static RedisServer redisServer;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private CvRepository cvRepository;
+    @Autowired private JobRepository jobRepository;
+    @Autowired private AlarmRepository alarmRepository;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private ObjectMapper objectMapper;
+
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Long> cvIds = new ArrayList<>();
+    private final List<Long> jobIds = new ArrayList<>();
+    private final List<LatencySummary> results = new ArrayList<>();
+    private LoadRunner runner;
+
+    @DynamicPropertySource
+    static void externalServices(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort = freePort();
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+        upstreams.start();
+
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("FASTAPI_HOST", upstreams::baseUrl);
+        registry.add("PROMETHEUS_HOST", upstreams::baseUrl);
+        registry.add("anthropic.base-url", upstreams::baseUrl);
+        registry.add("toss.base-url", upstreams::baseUrl);
+    }
+
+    @BeforeAll
+    void seed() {
+        List<Job> jobs = new ArrayList<>(JOB_COUNT);
+        for (int i = 0; i < JOB_COUNT; i++) {
+            Job job = new Job();
+            job.setCompanyName(KEYWORDS[i % KEYWORDS.length] + " 회사" + i);
+            job.setTitle(KEYWORDS[i % KEYWORDS.length] + " 개발자 " + i);
+            job.setJobType("정규직");
+            job.setExperience("경력무관");
+            job.setRequirements("Java, Spring Boot ".repeat(20));
+            job.setJobDescription("서비스 개발 및 운영 ".repeat(30));
+            job.setApplyStartDate(LocalDate.now().minusDays(7));
+            job.setApplyEndDate(LocalDate.now().plusDays(30));
+            job.setIsPublic(true);
+            job.setCreatedAt(LocalDateTime.now().minusDays(i % 30));
+            job.setLastUpdatedAt(LocalDateTime.now());
+            job.setRawJobsText("raw " + i);
+            job.setRegionText("서울 강남구");
+            jobs.add(job);
+        }
+        jobRepository.saveAll(jobs).forEach(j -> jobIds.add(j.getId()));
+        upstreams.stub(jobIds.subList(0, 100));
+
+        for (int u = 0; u < USER_COUNT; u++) {
+            String email = "load" + u + "@goodjob.test";
+            User user = userRepository.save(User.builder().email(email).name("load" + u).build());
+            Cv cv = cvRepository.save(Cv.builder()
+                    .user(user)
+                    .fileName("cv" + u + ".pdf")
+                    .fileUrl("https://example.com/cv" + u + ".pdf")
+                    .rawText("Java Spring 백엔드 개발 경력 3년")
+                    .uploadedAt(LocalDateTime.now())
+                    .build());
+
+            List<Alarm> alarms = new ArrayList<>(ALARMS_PER_USER);
+            for (int a = 0; a < ALARMS_PER_USER; a++) {
+                alarms.add(Alarm.builder()
+                        .userId(user.getId())
+                        .alarmText("새 추천 공고가 도착했어요 " + a)
+                        .type(a % 2 == 0 ? AlarmType.CV_MATCH : AlarmType.APPLY_DUE)
+                        .dedupeKey("LOAD:" + u + ":" + a)
+                        .status(AlarmStatus.SENT)
+                        .sentAt(LocalDateTime.now().minusMinutes(a))
+                        .read(a % 3 == 0)
+                        .build());
+            }
+            alarmRepository.saveAll(alarms);
+
+            tokens.add(jwtTokenProvider.generateAccessToken(email));
+            cvIds.add(cv.getId());
+        }
+
+        runner = new LoadRunner(
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 20)));
+    }
+
+    @AfterAll
+    void report() throws IOException {
+        try {
+            writeReport();
+        } finally {
+            upstreams.stop();
+            redisServer.stop();
+        }
+    }
+
+    private void writeReport() throws IOException {
+        System.out.println();
+        System.out.println(LatencySummary.header());
+        results.forEach(r -> System.out.println(r.toRow()));
+
+        Path dir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("concurrency", Integer.getInteger("loadtest.concurrency", 16));
+        summary.put("durationSeconds", Integer.getInteger("loadtest.durationSeconds", 20));
+        summary.put("scenarios", results);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(dir.resolve("summary.json").toFile(), summary);
+    }
+
+    @Test
+    @Order(1)
+    void recommendTopK() throws InterruptedException {
+        // 첫 요청은 FastAPI(캐시 미스) → 비동기로 ZSET 캐시가 채워진 뒤로는 Redis 경로
+        measure("POST /rec/topk-list", seq -> post(seq,
+                "/rec/topk-list?topk=" + TOP_K + "&cvId=" + cvIds.get(seq % cvIds.size())));
+    }
+
+    @Test
+    @Order(2)
+    void recommendTopKSummary() throws InterruptedException {
+        // 같은 캐시 경로에서 목록 요약만 조회 (상세 TEXT 컬럼 미조회) → 전체 응답과 비교
+        measure("POST /rec/topk-list/summary", seq -> post(seq,
+                "/rec/topk-list/summary?topk=" + TOP_K + "&cvId=" + cvIds.get(seq % cvIds.size())));
+    }
+
+    @Test
+    @Order(3)
+    void searchJobs() throws InterruptedException {
+        // 키워드 검색: FastAPI /search-es(대역) → 공고 hydrate
+        measure("GET /jobs/search", seq -> get(seq,
+                "/jobs/search?keyword=" + encode(KEYWORDS[seq % KEYWORDS.length]) + "&size=20"));
+    }
+
+    @Test
+    @Order(4)
+    void searchJobSummaries() throws InterruptedException {
+        measure("GET /jobs/search/summary", seq -> get(seq,
+                "/jobs/search/summary?keyword=" + encode(KEYWORDS[seq % KEYWORDS.length]) + "&size=20"));
+    }
+
+    @Test
+    @Order(5)
+    void alarms() throws InterruptedException {
+        measure("GET /alarms", seq -> get(seq, "/alarms?page=0&size=20"));
+    }
+
+    @Test
+    @Order(6)
+    void logEvent() throws InterruptedException {
+        measure("POST /log/event", seq -> post(seq,
+                "/log/event?jobId=" + jobIds.get(seq % jobIds.size()) + "&event=" + (seq % 10 == 0 ? "click" : "impression")));
+    }
+
+    private void measure(String name, IntFunction<HttpRequest> requests) throws InterruptedException {
+        LatencySummary summary = runner.run(name, requests);
+        results.add(summary);
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"));
+        assertTrue(summary.requests() > 0, name + ": no requests completed");
+        assertTrue(summary.errorRate() <= maxErrorRate,
+                name + ": error rate " + summary.errorRate() + " > " + maxErrorRate);
+    }
+
+    private HttpRequest get(int seq, String pathAndQuery) {
+        return authorized(seq, pathAndQuery).GET().build();
+    }
+
+    private HttpRequest post(int seq, String pathAndQuery) {
+        return authorized(seq, pathAndQuery).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    /** 요청 순번으로 사용자를 돌려 가며 사용 (사용자별 캐시/알림 분산) */
+    private HttpRequest.Builder authorized(int seq, String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + pathAndQuery))
+                .timeout(Duration.ofSeconds(10))
+                .header("Authorization", "Bearer " + tokens.get(seq % tokens.size()));
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
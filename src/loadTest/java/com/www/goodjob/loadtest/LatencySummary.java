@@ -0,0 +1,51 @@
+package com.www.goodjob.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 시나리오 하나의 측정 결과 (warmup 제외 구간).
+ */
+public record LatencySummary(String name,
+                             long requests,
+                             long errors,
+                             double throughput,
+                             double p50Ms,
+                             double p99Ms,
+                             double maxMs) {
+
+    /** latenciesNanos 는 정렬되지 않은 상태로 넘겨도 된다 (내부에서 정렬) */
+    static LatencySummary of(String name, long[] latenciesNanos, long errors, double elapsedSeconds) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        return new LatencySummary(
+                name,
+                sorted.length,
+                errors,
+                elapsedSeconds > 0 ? sorted.length / elapsedSeconds : 0.0,
+                percentileMs(sorted, 0.50),
+                percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0
+        );
+    }
+
+    /** nearest-rank 방식 */
+    static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) return 0.0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0.0 : (double) errors / requests;
+    }
+
+    String toRow() {
+        return String.format("%-22s %9d %7d %10.1f %9.2f %9.2f %9.2f",
+                name, requests, errors, throughput, p50Ms, p99Ms, maxMs);
+    }
+
+    static String header() {
+        return String.format("%-22s %9s %7s %10s %9s %9s %9s",
+                "scenario", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+    }
+}
@@ -0,0 +1,114 @@
+package com.www.goodjob.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+/**
+ * 고정 동시성(closed model) 부하 발생기.
+ * 워커 스레드마다 요청을 연속으로 보내고, warmup 이후 구간의 응답 시간만 스레드별 배열에 기록한다 (공유 자료구조 경합 없음).
+ * 상태코드 4xx/5xx 와 예외는 오류로 센다.
+ */
+class LoadRunner {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    LoadRunner(int concurrency, Duration warmup, Duration duration) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    /**
+     * @param requests 요청 순번 → HttpRequest (요청마다 jobId 등 파라미터를 바꾸기 위함)
+     */
+    LatencySummary run(String name, IntFunction<HttpRequest> requests) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            int worker = w;
+            futures.add(workers.submit(() -> drive(requests, worker, measureFrom, end)));
+        }
+        workers.shutdown();
+        workers.awaitTermination(warmup.plus(duration).toSeconds() + 60, TimeUnit.SECONDS);
+
+        long[] all = new long[0];
+        long errors = 0;
+        for (Future<Recorder> f : futures) {
+            try {
+                Recorder r = f.get();
+                all = concat(all, r.latencies());
+                errors += r.errors;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("load worker failed: " + name, e.getCause());
+            }
+        }
+        return LatencySummary.of(name, all, errors, duration.toNanos() / 1_000_000_000.0);
+    }
+
+    private Recorder drive(IntFunction<HttpRequest> requests, int worker, long measureFrom, long end) {
+        Recorder recorder = new Recorder();
+        int seq = worker;
+        while (true) {
+            long t0 = System.nanoTime();
+            if (t0 >= end) break;
+
+            boolean ok;
+            try {
+                HttpResponse<Void> res = client.send(requests.apply(seq), HttpResponse.BodyHandlers.discarding());
+                ok = res.statusCode() < 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long t1 = System.nanoTime();
+            seq += concurrency;
+
+            if (t0 >= measureFrom) {
+                recorder.record(t1 - t0, ok);
+            }
+        }
+        return recorder;
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+
+    /** 워커 스레드 전용 기록기 */
+    private static final class Recorder {
+        private long[] values = new long[4096];
+        private int size;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+            if (!ok) errors++;
+        }
+
+        long[] latencies() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
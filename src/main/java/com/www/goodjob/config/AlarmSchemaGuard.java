@@ -0,0 +1,60 @@
+package com.www.goodjob.config;
+
+import com.www.goodjob.enums.AlarmType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 기동 시 alarm.type 컬럼 점검.
+ * 예전 스키마는 MySQL enum(...) 이고 ddl-auto=update 는 이 컬럼을 바꾸지 않는다.
+ * 새 AlarmType(DIGEST 등)이 enum 목록에 없으면 저장이 실패하므로, 알림 스케줄러가 돌기 전에 기동을 멈추고 필요한 DDL 을 알려준다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto 가 끝난 뒤 점검
+@RequiredArgsConstructor
+public class AlarmSchemaGuard {
+
+    static final String FIX_DDL = "ALTER TABLE alarm MODIFY type VARCHAR(50) NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void verifyAlarmTypeColumn() {
+        List<String> columnTypes;
+        try {
+            columnTypes = jdbcTemplate.queryForList("""
+                    SELECT COLUMN_TYPE FROM information_schema.COLUMNS
+                    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'alarm' AND COLUMN_NAME = 'type'
+                    """, String.class);
+        } catch (DataAccessException e) {
+            // MySQL 이 아닌 DB(H2 테스트 등)는 COLUMN_TYPE 이 없음 → 점검 생략
+            log.info("[ALARM_SCHEMA] alarm.type check skipped: {}", e.getMessage());
+            return;
+        }
+        if (columnTypes.isEmpty()) return;
+
+        List<AlarmType> missing = missingTypes(columnTypes.get(0));
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("alarm.type 이 MySQL enum 이고 %s 값을 허용하지 않음. 배포 전 실행 필요: %s"
+                    .formatted(missing, FIX_DDL));
+        }
+    }
+
+    /** enum('A','B') 컬럼에 없는 AlarmType 목록 (enum 이 아니면 빈 목록) */
+    static List<AlarmType> missingTypes(String columnType) {
+        if (columnType == null || !columnType.toLowerCase(Locale.ROOT).startsWith("enum(")) return List.of();
+        return Arrays.stream(AlarmType.values())
+                .filter(t -> !columnType.contains("'" + t.name() + "'"))
+                .toList();
+    }
+}
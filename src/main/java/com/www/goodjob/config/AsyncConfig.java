@@ -1,9 +1,22 @@
 package com.www.goodjob.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    /**
+     * @Async 실행 시 호출 스레드의 trace context(및 MDC)를 작업 스레드로 복사.
+     * Boot 가 auto-config 한 applicationTaskExecutor 에 적용되어
+     * 추천 요청 → 점수 저장 / Claude 피드백 생성이 같은 trace 로 이어진다.
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
 }
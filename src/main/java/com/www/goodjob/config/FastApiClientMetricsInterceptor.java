@@ -0,0 +1,70 @@
+package com.www.goodjob.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI 로 나가는 RestTemplate 요청의 실제 왕복 시간을 기록한다.
+ * (Prometheus scrape_duration 은 exporter 응답 시간이라 API 지연과 다름)
+ *
+ * Timer: fastapi.client.requests{endpoint=/recommend-jobs 등, outcome=SUCCESS|CLIENT_ERROR|SERVER_ERROR|IO_ERROR}
+ * endpoint 는 쿼리스트링을 뺀 path 라서 job_id, cv_id 가 태그 카디널리티를 늘리지 않는다.
+ */
+public class FastApiClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String TIMER_NAME = "fastapi.client.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final String fastapiAuthority;
+
+    public FastApiClientMetricsInterceptor(MeterRegistry meterRegistry, String fastapiHost) {
+        this.meterRegistry = meterRegistry;
+        this.fastapiAuthority = authorityOf(fastapiHost);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (fastapiAuthority == null || !fastapiAuthority.equals(request.getURI().getRawAuthority())) {
+            return execution.execute(request, body);
+        }
+
+        long start = System.nanoTime();
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            outcome = status >= 500 ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "SUCCESS";
+            return response;
+        } finally {
+            Timer.builder(TIMER_NAME)
+                    .description("FastAPI 호출 왕복 시간 (클라이언트 측 측정)")
+                    .tag("endpoint", endpointOf(request.getURI()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String endpointOf(URI uri) {
+        String path = uri.getRawPath();
+        return path == null || path.isEmpty() ? "/" : path;
+    }
+
+    private static String authorityOf(String host) {
+        if (host == null || host.isBlank()) return null;
+        try {
+            return URI.create(host.trim()).getRawAuthority();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
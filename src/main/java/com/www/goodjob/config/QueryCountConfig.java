@@ -0,0 +1,41 @@
+package com.www.goodjob.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청별 SQL 수/시간 추적 (N+1, 느린 요청 탐지). 테스트/스테이징 용도로 query-count.enabled=true 일 때만 켠다.
+ * 꺼져 있으면 Hibernate 훅도 등록하지 않으므로 운영 오버헤드는 없다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", havingValue = "true")
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingSessionListener.class.getName());
+        };
+    }
+
+    /** 보안 필터보다 먼저 시작해 JwtAuthFilter 의 사용자 조회까지 요청에 포함한다 */
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${query-count.warn-statements:30}") int warnStatements,
+            @Value("${query-count.warn-time-ms:300}") long warnTimeMs,
+            @Value("${query-count.repeat-threshold:10}") int repeatThreshold) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(
+                new QueryCountFilter(meterRegistry, warnStatements, warnTimeMs, repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,97 @@
+package com.www.goodjob.config;
+
+import com.www.goodjob.util.QueryCounter;
+import com.www.goodjob.util.QueryCounter.QueryStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청 단위 JPA SQL 수/실행 시간 집계.
+ * - jpa.request.statements{method, uri} : 요청당 SQL 문 수 (DistributionSummary)
+ * - jpa.request.time{method, uri}       : 요청당 SQL 실행 시간 합
+ * - jpa.request.n_plus_one{method, uri} : 같은 SQL 이 repeatThreshold 번 이상 반복된 요청 수
+ * 문장 수/시간/반복 임계치를 넘으면 WARN 로그. uri 는 매핑 패턴(/jobs/{id})이라 태그 수가 엔드포인트 수로 제한된다.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS = "jpa.request.statements";
+    static final String TIME = "jpa.request.time";
+    static final String N_PLUS_ONE = "jpa.request.n_plus_one";
+
+    private static final int LOGGED_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final int warnStatements;
+    private final long warnTimeMs;
+    private final int repeatThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, int warnStatements, long warnTimeMs, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnStatements = warnStatements;
+        this.warnTimeMs = warnTimeMs;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats stats = QueryCounter.stop();
+            if (stats.statements() > 0) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        String method = request.getMethod();
+        String uri = uriTag(request);
+
+        DistributionSummary.builder(STATEMENTS)
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder(TIME)
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.executionNanos(), TimeUnit.NANOSECONDS);
+
+        boolean repeated = stats.maxRepeats() >= repeatThreshold;
+        if (repeated) {
+            meterRegistry.counter(N_PLUS_ONE, "method", method, "uri", uri).increment();
+        }
+
+        if (repeated || stats.statements() > warnStatements || stats.executionMillis() > warnTimeMs) {
+            Map.Entry<String, Integer> top = stats.mostRepeated().orElseThrow();
+            log.warn("[QUERY] {} {} statements={} time={}ms maxRepeats={} sql={}",
+                    method, uri, stats.statements(), String.format("%.1f", stats.executionMillis()),
+                    top.getValue(), abbreviate(top.getKey()));
+        }
+    }
+
+    /** 컨트롤러 매핑 패턴. 매핑되지 않은 요청(필터 단계 처리 등)은 UNKNOWN */
+    private static String uriTag(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= LOGGED_SQL_LENGTH ? sql : sql.substring(0, LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,16 @@
+package com.www.goodjob.config;
+
+import com.www.goodjob.util.QueryCounter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 QueryCounter 에 기록 (SQL 은 변경하지 않음).
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.onStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,34 @@
+package com.www.goodjob.config;
+
+import com.www.goodjob.util.QueryCounter;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 세션마다 Hibernate 가 생성 (hibernate.session.events.auto). JDBC 실행 구간 시간을 QueryCounter 에 더한다.
+ * 세션은 한 스레드에서만 쓰이므로 시작 시각은 인스턴스 필드로 충분하다.
+ */
+public class QueryTimingSessionListener extends BaseSessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.onExecuted(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCounter.onExecuted(System.nanoTime() - batchStart);
+    }
+}
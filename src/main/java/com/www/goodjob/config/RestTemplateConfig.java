@@ -1,13 +1,45 @@
 package com.www.goodjob.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
+    /**
+     * Boot 의 RestTemplateBuilder 로 생성해야 ObservationRegistry 가 연결되어
+     * 요청마다 client span 이 열리고 FastAPI 로 W3C traceparent 헤더가 전파된다.
+     */
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${FASTAPI_HOST:}") String fastapiHost) {
+        // FastAPI 실제 응답 시간 측정 (서버 상태 화면의 응답 시간으로 사용)
+        // 컨버터는 기존 new RestTemplate() 기본값 유지: 빌더가 넣는 앱 ObjectMapper(RedisConfig)는
+        // FAIL_ON_UNKNOWN_PROPERTIES=true 라 FastAPI 응답에 필드가 추가되면 역직렬화가 실패한다
+        return builder
+                .messageConverters(new RestTemplate().getMessageConverters())
+                .additionalInterceptors(new FastApiClientMetricsInterceptor(meterRegistry, fastapiHost))
+                .build();
+    }
+
+    /**
+     * 서버 상태 화면의 Prometheus 조회 전용. 응답이 없을 때 호출 스레드가 묶이지 않도록
+     * 연결/읽기 타임아웃을 HTTP 클라이언트에 건다 (기본 RestTemplate 은 타임아웃 없음).
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate prometheusRestTemplate(RestTemplateBuilder builder,
+                                               @Value("${monitoring.prometheus.timeout-ms:2000}") long timeoutMs) {
+        return builder
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .readTimeout(Duration.ofMillis(timeoutMs))
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package com.www.goodjob.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3Client 호출 시간 (재시도 포함 전체 실행 기준).
+ *
+ * Timer: s3.client.requests{operation=DeleteObject|HeadObject|CopyObject..., outcome=SUCCESS|ERROR}
+ */
+public class S3ClientMetricsInterceptor implements ExecutionInterceptor {
+
+    public static final String TIMER_NAME = "s3.client.requests";
+
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("MetricsStartNanos");
+
+    private final MeterRegistry meterRegistry;
+
+    public S3ClientMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "SUCCESS");
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "ERROR");
+    }
+
+    private void record(ExecutionAttributes attributes, String outcome) {
+        Long start = attributes.getAttribute(START_NANOS);
+        if (start == null) return;
+
+        String operation = attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        Timer.builder(TIMER_NAME)
+                .description("S3 API 호출 시간")
+                .tag("operation", operation != null ? operation : "unknown")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
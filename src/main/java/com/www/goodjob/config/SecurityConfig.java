@@ -22,6 +22,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -64,6 +65,8 @@ public class SecurityConfig {
                         })
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // SSE(/alarms/stream) 종료 시 ASYNC 재디스패치는 인증 정보 없이 들어옴
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/", "/auth/login", "/auth/callback-endpoint", "/auth/token/refresh", "/auth/master-token",
                                 "/oauth2/**", "/swagger-ui/**", "/swagger-ui.html",
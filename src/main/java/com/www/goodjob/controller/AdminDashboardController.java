@@ -4,7 +4,9 @@ import com.www.goodjob.domain.Job;
 import com.www.goodjob.domain.User;
 import com.www.goodjob.dto.*;
 import com.www.goodjob.security.CustomUserDetails;
+import com.www.goodjob.service.ActiveUserService;
 import com.www.goodjob.service.DashboardService;
+import com.www.goodjob.service.DashboardSnapshotService;
 import com.www.goodjob.service.JobService;
 import com.www.goodjob.service.MonitoringService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,11 +17,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +33,8 @@ import java.util.Map;
 public class AdminDashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final ActiveUserService activeUserService;
     private final JobService jobService;
     private final MonitoringService monitoringService;
 
@@ -36,6 +42,8 @@ public class AdminDashboardController {
             summary = "대시보드 통계 조회",
             description = """
         대시보드에 표시될 전체 통계 데이터를 반환합니다.
+        매 요청마다 계산하지 않고 백그라운드에서 주기적으로(기본 1분) 갱신되는 스냅샷을 즉시 반환합니다.
+        스냅샷이 오래된 경우(기본 2분 초과) 갱신을 시작하고, 갱신이 끝나기 전까지는 기존 스냅샷을 반환합니다.
         
         반환되는 항목:
         - totalUsers: 전체 유저 수
@@ -44,16 +52,21 @@ public class AdminDashboardController {
         - weeklyJobChange: 전주 대비 이번 주 신규 채용공고 수 변화량
         - averageSatisfaction: 현재까지 유저 만족도 평균 (5점 척도)
         - weeklySatisfactionChange: 전주 대비 만족도 변화량
-        - activeUsersThisWeek: 이번 주 한 번 이상 활동한 유저 수
-        - activeUserDiff: 전주 대비 활동 유저 수 변화량
+        - activeUserCount: 이번 주(월요일~오늘) 한 번 이상 활동한 유저 수
+        - weeklyActiveUserChange: activeUserCount - 지난주 월요일 이후 활동 유저 수
+        - dailyActiveUserCount / weeklyActiveUserCount / monthlyActiveUserCount: 오늘 / 최근 7일(이동 구간) / 최근 30일 활성 유저 수
+          · 활성 유저 필드는 모두 공고 노출/클릭 일별 롤업(job_event_day)의 HyperLogLog 스케치 합집합 (오차 약 1.6%)
+          · activeUserCount 는 월요일부터, weeklyActiveUserCount 는 최근 7일이라 주 중에는 값이 다름
+          · /admin/dashboard/active-users (Redis 실시간 집계)와는 반영 주기가 달라 잠시 차이가 날 수 있음
         - ctr: 이번 주 채용공고 전체 클릭률 (Click Through Rate, %)
         - dailyCtrList: 최근 7일간 일별 클릭률 목록 (과거 → 현재 순서, 단위: %)
         - topKeywords: 인기 검색 키워드 Top 10 목록
+        - computedAt: 스냅샷 계산 시각
         """
     )
     @GetMapping
     public DashboardDto getDashboardStats() {
-        return dashboardService.getDashboardStats();
+        return dashboardSnapshotService.getSnapshot();
     }
 
     @Operation(
@@ -76,14 +89,28 @@ public class AdminDashboardController {
         return ResponseEntity.ok(stats);
     }
 
-    @Operation(summary = "서버 상태 확인", description = "Prometheus를 통해 Redis, Spring, FastAPI 서버의 상태와 응답 시간을 조회합니다. " +
-            "responseTime은 ms단위")
+    @Operation(
+            summary = "활성 사용자 수 조회 (DAU/WAU/MAU)",
+            description = """
+                    공고 노출/클릭 이벤트를 남긴 고유 사용자 수를 반환합니다. (Redis HyperLogLog 추정치, 오차 약 0.81%)
+                    - date: 기준 날짜 (미입력 시 오늘)
+                    - dau: 기준 날짜 당일
+                    - wau: 기준 날짜 포함 최근 7일
+                    - mau: 기준 날짜 포함 최근 30일
+                    최근 10초 이내 이벤트는 반영되지 않았을 수 있으며, 35일이 지난 날짜는 0으로 집계됩니다.
+                    """
+    )
+    @GetMapping("/active-users")
+    public ActiveUserDto getActiveUsers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return activeUserService.getActiveUsers(date != null ? date : LocalDate.now());
+    }
+
+    @Operation(summary = "서버 상태 확인", description = "Prometheus(병렬 조회, 10초 캐시)와 로컬 지표로 Redis, Spring, FastAPI 서버의 상태와 응답 시간을 조회합니다. " +
+            "responseTime은 클라이언트 측에서 측정한 최근 평균 요청 지연, ms단위")
     @GetMapping("/server-status")
     public ResponseEntity<List<ServerStatus>> getServerStatus() {
-        ServerStatus redisStatus = monitoringService.getRedisStatus();
-        ServerStatus springStatus = monitoringService.getSpringStatus();
-        ServerStatus fastAPIStatus = monitoringService.getFastapiStatus();
-        return ResponseEntity.ok(List.of(redisStatus, springStatus, fastAPIStatus));
+        return ResponseEntity.ok(monitoringService.getServerStatuses());
     }
 
     @Operation(summary = "특정 job 하나 삭제",
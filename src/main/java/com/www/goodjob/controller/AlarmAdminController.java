@@ -2,11 +2,13 @@ package com.www.goodjob.controller;
 
 import com.www.goodjob.dto.ScoredJobDto;
 import com.www.goodjob.dto.alarm.AlarmCreateRequest;
+import com.www.goodjob.dto.alarm.AlarmCtrDto;
 import com.www.goodjob.dto.alarm.AlarmResponse;
 import com.www.goodjob.dto.alarm.AlarmUpdateRequest;
 import com.www.goodjob.enums.AlarmType;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.service.AlarmCommandService;
+import com.www.goodjob.service.AlarmCtrService;
 import com.www.goodjob.service.AlarmService;
 import com.www.goodjob.repository.CvRepository;
 import com.www.goodjob.repository.AlarmRepository; // ⬅️ 추가
@@ -23,6 +25,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,6 +34,7 @@ import org.springframework.web.server.ResponseStatusException;       // ⬅️ 
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +49,7 @@ public class AlarmAdminController {
     private final AlarmCommandService alarmCommandService;
     private final CvRepository cvRepository;
     private final AlarmRepository alarmRepository; // ⬅️ 추가
+    private final AlarmCtrService alarmCtrService;
 
     /**
      * [ADMIN] 알림 생성(타 사용자) - idempotent
@@ -179,6 +184,34 @@ public class AlarmAdminController {
         return 0L;
     }
 
+    /**
+     * [ADMIN] 알림 효과(열람률/클릭률) 집계
+     */
+    @Operation(
+            summary = "[ADMIN] 알림 타입·순위별 열람률/클릭률",
+            description = """
+                    - alarm_ctr_daily 일별 집계의 기간 합계 (KST 날짜, from/to 포함, 기본 최근 7일)
+                    - rank 0: 알림 단위 (delivered=발송 알림 수, opened=읽음 전환 수, clicked=공고 첫 클릭 합계)
+                    - rank 1~10: 해당 순위 공고 노출/첫 클릭 수 (10 = 10위 이하)
+                    - 최근 1분 이내 이벤트는 아직 반영되지 않았을 수 있음
+                    """
+    )
+    @GetMapping("/ctr")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<AlarmCtrDto> adminCtr(
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = (to != null) ? to : LocalDate.now(ZoneId.of("Asia/Seoul"));
+        LocalDate start = (from != null) ? from : end.minusDays(6);
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from 은 to 이전이어야 합니다");
+        }
+        return alarmCtrService.getStats(start, end);
+    }
+
     /**
      * [ADMIN] 알림 수정
      */
@@ -3,6 +3,7 @@ package com.www.goodjob.controller;
 import com.www.goodjob.dto.alarm.AlarmResponse;
 import com.www.goodjob.enums.AlarmType;
 import com.www.goodjob.security.CustomUserDetails;
+import com.www.goodjob.service.AlarmPushService;
 import com.www.goodjob.service.AlarmService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +17,7 @@ import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "[USER] Alarms", description = "사용자 전용 알림 API (본인 소유만 접근)")
 @SecurityRequirement(name = "bearerAuth")
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class AlarmController {
 
     private final AlarmService alarmService;
+    private final AlarmPushService alarmPushService;
 
     @Operation(
             summary = "[USER] 알림 목록 조회(본인)",
@@ -52,6 +55,30 @@ public class AlarmController {
         return alarmService.getList(principal.getId(), false, unreadOnly, type, pageable);
     }
 
+    @Operation(
+            summary = "[USER] 실시간 알림 구독(SSE, 본인)",
+            description = """
+                    새 알림이 생성되면 즉시 이벤트로 전달합니다. (목록/미읽음 개수 폴링 대체)
+                    Authorization 헤더가 필요하므로 브라우저 기본 EventSource 대신 헤더 지정 가능한 SSE 클라이언트를 사용하세요.
+                    
+                    이벤트
+                    - connected: 연결 직후 1회 (data: "ok")
+                    - alarm: 새 알림 (id: 알림 ID, data: { userId, alarmId, type, alarmText, titleCode, createdAt })
+                    - heartbeat: 약 25초마다 주석 라인(:hb) 전송, 클라이언트 이벤트로는 보이지 않음
+                    
+                    연결은 약 30분 후 서버가 종료하므로 클라이언트는 재연결해야 합니다.
+                    
+                    < 에러 >
+                    - 401: 인증 실패(토큰 누락/만료)
+                    - 503: 서버 연결 수 초과 (잠시 후 재연결)
+                    """
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public SseEmitter stream(@AuthenticationPrincipal CustomUserDetails principal) {
+        return alarmPushService.subscribe(principal.getId());
+    }
+
     @Operation(
             summary = "[USER] 알림 단건 조회(본인)",
             description = """
@@ -66,7 +93,7 @@ public class AlarmController {
                 - type: CV_MATCH | APPLY_DUE | JOB_POPULAR
                 - sentAt: 발송 기준 시각
                 - userId / dedupeKey / status: 내부 확인용
-                - jobs[]: 관련 공고 목록 (rank 오름차순; jobId, rank, clickedAt 포함)
+                - jobs[]: 관련 공고 목록 (rank 오름차순; jobId, rank, clickedAt + 공고 요약 companyName, title, jobType, applyEndDate, favicon, CV_MATCH는 score)
                 - titleCode: 예) CV_MATCH_TODAY | APPLY_DUE_SUMMARY | CV_MATCH_REALTIME
                 - params: 프론트 템플릿 바인딩용 변수 맵
                 - (CV_MATCH 전용) cvId: 매칭 기준 CV ID
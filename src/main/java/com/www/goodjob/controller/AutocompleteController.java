@@ -0,0 +1,51 @@
+package com.www.goodjob.controller;
+
+import com.www.goodjob.dto.AutocompleteSuggestionDto;
+import com.www.goodjob.service.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "자동완성 API", description = "검색창 입력 중 검색어 자동완성 (비회원 가능)")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/jobs/autocomplete")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @Operation(
+            summary = "검색어 자동완성",
+            description = """
+                    ⌨️ 검색창 입력마다 호출하는 자동완성 API
+                    
+                    - 후보: 인기 검색어, 회사명, 공고 제목 (단어 시작 위치 기준 prefix 매칭)
+                    - 한글 자모 단위 매칭: 조합 중인 글자도 매칭됨 (예: '강나' → '강남', '달' → '닭갈비')
+                    - 인기도(검색 횟수, 공고 수) 내림차순 정렬
+                    - 서버 메모리 인덱스에서 바로 응답하며, 5분 주기로 신규 공고/트렌드 키워드가 반영됨
+                    
+                    예시 응답:
+                    [
+                        { "text": "백엔드", "type": "KEYWORD" },
+                        { "text": "백엔드 개발자", "type": "TITLE" }
+                    ]
+                    """
+    )
+    @GetMapping
+    public ResponseEntity<List<AutocompleteSuggestionDto>> suggest(
+            @Parameter(description = "입력 중인 검색어")
+            @RequestParam("q") String query,
+            @Parameter(description = "반환할 후보 수 (최대 20)")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(autocompleteService.suggest(query, size));
+    }
+}
@@ -3,17 +3,27 @@ package com.www.goodjob.controller;
 import com.www.goodjob.domain.Job;
 import com.www.goodjob.domain.User;
 import com.www.goodjob.dto.*;
+import com.www.goodjob.enums.TrendWindow;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.service.JobService;
+import com.www.goodjob.service.RegionDictionaryService;
 import com.www.goodjob.service.SearchLogService;
+import com.www.goodjob.util.RegionDictionary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.*;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +39,7 @@ public class JobController {
 
     private final JobService jobService;
     private final SearchLogService searchLogService;
+    private final RegionDictionaryService regionDictionaryService;
 
     @Operation(
             summary = "채용 공고 검색",
@@ -62,6 +73,9 @@ public class JobController {
                     - size는 한 페이지당 보여줄 공고 수 설정함 (예: size=10이면 한 페이지에 10개씩 나옴)
                     - 기본 정렬은 createdAt(공고 등록일순) 기준 내림차순 (최신순)
                     
+                    📦 응답: 상세 필드(requirements, jobDescription 등) 포함 전체 JobDto 페이지
+                    - 목록 카드만 필요하면 `/jobs/search/summary` 사용 (같은 파라미터, JobSummaryDto 페이지)
+                    
                     예시 요청:
                     - GET /jobs/search?keyword=토스&jobType=정규직&experience=신입&page=1&size=10
                     - GET /jobs/search?keyword=백엔드&sido=서울&sigungu=강남구
@@ -107,8 +121,50 @@ public class JobController {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         User user = userDetails != null ? userDetails.getUser() : null;
-        Page<JobDto> result = jobService.searchJobs(keyword, jobType, experience, sido, sigungu, pageable, user);
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(jobService.searchJobs(keyword, jobType, experience, sido, sigungu, pageable, user));
+    }
+
+    @Operation(
+            summary = "채용 공고 검색 (목록 요약)",
+            description = """
+                    `/jobs/search` 와 같은 검색/필터/페이징 파라미터를 받고, 목록 카드용 요약만 반환함
+                    - 응답: JobSummaryDto 페이지 (id, 제목, 회사, 지역, 날짜, 파비콘)
+                    - requirements, jobDescription 등 상세 TEXT 필드를 조회/전송하지 않아 응답 크기와 조회 비용이 작음
+                    - 상세 필드는 공고 상세 조회로 가져옴
+                    
+                    예시 요청:
+                    - GET /jobs/search/summary?keyword=백엔드&sido=서울&size=20
+                    """
+    )
+    @GetMapping("/search/summary")
+    public ResponseEntity<Page<JobSummaryDto>> searchJobSummaries(
+            @Parameter(description = "키워드 검색. 회사명, 공고 제목, 부서, 직무 설명, 조건 등에서 부분 일치로 검색됨")
+            @RequestParam(required = false) String keyword,
+
+            @Parameter(description = "근무 유형 필터. < 정규직, 계약직, 인턴, 아르바이트, 프리랜서, 파견직 > 중 선택 (다중 선택 가능)")
+            @RequestParam(required = false) List<String> jobType,
+
+            @Parameter(description = "요구 경력 필터. < 신입, 경력, 경력무관 > 중 선택 (다중 선택 가능)")
+            @RequestParam(required = false) List<String> experience,
+
+            @Parameter(description = "시도 필터. 예: '서울', '경기' 등 (다중 선택 가능)")
+            @RequestParam(required = false) List<String> sido,
+
+            @Parameter(description = "시군구 필터. 예: '강남구', '성남시' 등 (다중 선택 가능)")
+            @RequestParam(required = false) List<String> sigungu,
+
+            @ParameterObject
+            @PageableDefault(
+                    page = 0,
+                    size = 10,
+                    sort = "createdAt",
+                    direction = Sort.Direction.DESC
+            )
+            Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        User user = userDetails != null ? userDetails.getUser() : null;
+        return ResponseEntity.ok(jobService.searchJobSummaries(keyword, jobType, experience, sido, sigungu, pageable, user));
     }
 
     @Operation(summary = "근무 유형 목록 조회", description = "근무 유형 필터 옵션 반환함. < 정규직, 계약직, 인턴, 아르바이트, 프리랜서, 파견직 > 프론트 필터 select용" +
@@ -160,11 +216,30 @@ public class JobController {
                     
                     - 위처럼 선택된 지역 정보는 `/jobs/search` API의 `sido`, `sigungu` 파라미터로 전달되며
                       서버에서는 해당 값으로 채용 공고를 필터링해 반환합니다.
+                    
+                    ⚡ 캐시:
+                    - 응답에 ETag 헤더가 포함됩니다. 다음 요청에 If-None-Match 로 보내면 변경이 없을 때 304(본문 없음)를 반환합니다.
                     """
     )
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = RegionGroupDto.class))))
     @GetMapping("/region-types")
-    public ResponseEntity<List<RegionGroupDto>> getRegionTypes() {
-        return ResponseEntity.ok(jobService.getGroupedRegions());
+    public ResponseEntity<byte[]> getRegionTypes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        RegionDictionary dictionary = regionDictionaryService.current();
+        if (ifNoneMatch != null && ifNoneMatch.contains(dictionary.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(dictionary.getEtag())
+                    .build();
+        }
+        // 시작 시 직렬화해 둔 JSON 그대로 전송 (요청마다 그룹핑/정렬/직렬화 없음)
+        return ResponseEntity.ok()
+                .eTag(dictionary.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(dictionary.getGroupsJson());
     }
 
     @Operation(
@@ -195,6 +270,33 @@ public class JobController {
     }
 
 
+    @Operation(
+            summary = "인기 검색어 조회",
+            description = """
+                    📈 윈도우(HOUR, DAY, WEEK)별 인기 검색어를 검색 횟수 내림차순으로 반환함
+                    
+                    - 검색 시 메모리에서 스트리밍 집계 후 1분 주기로 Redis에 반영됨 (최대 1분 지연)
+                    - HOUR: 현재 시각의 1시간 버킷, DAY: 오늘, WEEK: 이번 주(월요일 시작)
+                    - 비회원도 호출 가능
+                    
+                    예시 응답:
+                    [
+                        { "keyword": "백엔드", "count": 42 },
+                        { "keyword": "토스", "count": 17 }
+                    ]
+                    """
+    )
+    @GetMapping("/search/trending")
+    public ResponseEntity<List<KeywordCount>> getTrendingKeywords(
+            @Parameter(description = "집계 윈도우 (HOUR, DAY, WEEK)")
+            @RequestParam(defaultValue = "DAY") TrendWindow window,
+            @Parameter(description = "반환할 키워드 수 (최대 50)")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), 50);
+        return ResponseEntity.ok(searchLogService.getTrendingKeywords(window, safeSize));
+    }
+
     @Operation(
             summary = "검색 기록 전체 삭제",
             description = """
@@ -1,17 +1,16 @@
 package com.www.goodjob.controller;
 
+import com.www.goodjob.dto.JobEventBatchRequest;
 import com.www.goodjob.enums.EventType;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.service.JobLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "로깅 API", description = "공고 노출 및 클릭 로그 기록")
 @RestController
@@ -37,4 +36,19 @@ public class LogController {
         jobLogService.logEvent(userId, jobId, eventType);
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/events")
+    @Operation(
+            summary = "공고 이벤트 일괄 로깅",
+            description = "여러 공고의 노출(impression)/클릭(click) 이벤트를 한 번에 기록합니다. (최대 200건)\n" +
+                    "이벤트는 서버 큐에 적재된 뒤 비동기로 저장되며 202(Accepted)를 반환합니다.\n" +
+                    "예시: {\"events\": [{\"jobId\": 123, \"event\": \"impression\"}, {\"jobId\": 456, \"event\": \"click\"}]}"
+    )
+    public ResponseEntity<Void> logJobEvents(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody JobEventBatchRequest request)
+    {
+        jobLogService.logEvents(userDetails.getId(), request.getEvents());
+        return ResponseEntity.accepted().build();
+    }
 }
@@ -1,6 +1,7 @@
 package com.www.goodjob.controller;
 
 import com.www.goodjob.dto.JobDto;
+import com.www.goodjob.dto.JobSummaryDto;
 import com.www.goodjob.dto.ScoredJobDto;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.service.AsyncService;
@@ -12,8 +13,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @Tag(name = "추천 API", description = "이력서를 기반으로 한 채용 공고 추천 및 피드백")
@@ -30,7 +29,8 @@ public class RecommendController {
     @Operation(
             summary = "추천 리스트 조회",
             description = "[CV ID 필요] 유저의 ID를 기반된으로 Redis에 캐시 데이터 중 상위 topK개의 추천 직무 리스트를 반환합니다." +
-                    "Redis에 캐시된 데이터가 없다면 FastAPI의 결과를 반환하며, 백그라운드로(Async) 캐시 작업을 시작합니다."
+                    "Redis에 캐시된 데이터가 없다면 FastAPI의 결과를 반환하며, 백그라운드로(Async) 캐시 작업을 시작합니다. " +
+                    "목록 카드만 필요하면 /rec/topk-list/summary 를 사용합니다."
     )
     public ResponseEntity<List<ScoredJobDto>> recommendTopK(
             @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -45,6 +45,23 @@ public class RecommendController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/topk-list/summary")
+    @Operation(
+            summary = "추천 리스트 조회 (목록 요약)",
+            description = "[CV ID 필요] /rec/topk-list 와 같은 추천 결과를 목록 카드용 요약(JobSummaryDto, score 포함)으로 반환합니다. " +
+                    "상세 TEXT 필드(requirements, jobDescription 등)는 조회/전송하지 않습니다."
+    )
+    public ResponseEntity<List<JobSummaryDto>> recommendTopKSummary(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam int topk,
+            @RequestParam Long cvId
+    ) {
+        if (userDetails == null) {
+            throw new RuntimeException("인증되지 않은 사용자입니다. JWT를 확인하세요.");
+        }
+        return ResponseEntity.ok(recommendService.requestRecommendationSummary(cvId, topk));
+    }
+
     @Operation(
             summary = "추천 캐시 생성",
             description = "[Not Used] 관리용으로 호출될 수 있습니다. FastAPI로부터 전체 추천 점수를 받아 Redis에 캐싱합니다. (Sync)"
@@ -87,7 +104,8 @@ public class RecommendController {
     @PostMapping("/similar-jobs")
     @Operation(
             summary = "유사 직무 추천",
-            description = "[Job ID 필요] 특정 직무 ID와 유사한 직무 topK개를 추천합니다. 내부적으로 FastAPI의 `/similar-jobs`를 호출하고, 해당 결과를 반환합니다."
+            description = "[Job ID 필요] 특정 직무 ID와 유사한 직무 topK개를 추천합니다. 내부적으로 FastAPI의 `/similar-jobs`를 호출하고, 해당 결과를 반환합니다. " +
+                    "목록 카드만 필요하면 /rec/similar-jobs/summary 를 사용합니다."
     )
     public ResponseEntity<List<JobDto>> getSimilarJobs(
             @RequestParam Long jobId,
@@ -96,6 +114,18 @@ public class RecommendController {
         List<JobDto> result = recommendService.fetchSimilarJobsFromFastAPI(jobId, topk);
         return ResponseEntity.ok(result);
     }
+
+    @PostMapping("/similar-jobs/summary")
+    @Operation(
+            summary = "유사 직무 추천 (목록 요약)",
+            description = "[Job ID 필요] /rec/similar-jobs 와 같은 결과를 목록 카드용 요약(JobSummaryDto)으로 반환합니다."
+    )
+    public ResponseEntity<List<JobSummaryDto>> getSimilarJobSummaries(
+            @RequestParam Long jobId,
+            @RequestParam int topk
+    ) {
+        return ResponseEntity.ok(recommendService.fetchSimilarJobSummariesFromFastAPI(jobId, topk));
+    }
 }
 
 
@@ -0,0 +1,51 @@
+package com.www.goodjob.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * CV별 현재 추천 상위 N개 공고 (cv_top_jobs, recommend_score 의 요약 테이블).
+ * 점수 저장 시 CvTopJobService 가 해당 CV 행만 다시 계산해 JDBC 로 채운다.
+ * window_start: 집계 대상 공고의 등록 시각 하한 (매일 08시 기준 창)
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "cv_top_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cv_top_jobs_cv_job", columnNames = {"cv_id", "job_id"}),
+        indexes = {
+                @Index(name = "idx_cv_top_jobs_window_user", columnList = "window_start, user_id, cv_id")
+        }
+)
+public class CvTopJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cv_id", nullable = false)
+    private Long cvId;
+
+    // 샤드/정렬용 비정규화 컬럼
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private float score;
+
+    @Column(name = "`rank`", nullable = false)
+    private Integer rank;
+
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,38 @@
+package com.www.goodjob.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공고별 누적 참여 지표 (job_engagement, 공고당 1행).
+ * JobEngagementService 가 메모리에서 모은 증분을 JDBC upsert(가산)로만 반영한다.
+ * bookmarks / applications 는 취소·삭제 시 차감되는 현재 수, impressions / clicks 는 누적 수.
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "job_engagement")
+public class JobEngagement {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long impressions;
+
+    @Column(nullable = false)
+    private long clicks;
+
+    @Column(nullable = false)
+    private long bookmarks;
+
+    @Column(nullable = false)
+    private long applications;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
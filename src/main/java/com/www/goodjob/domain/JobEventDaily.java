@@ -0,0 +1,40 @@
+package com.www.goodjob.domain;
+
+import com.www.goodjob.enums.EventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 공고별 일별 노출/클릭 수 (job_event_daily, job_event_log 의 요약 테이블).
+ * JobEventRollupService 가 적재 경로에서 모은 증분을 JDBC upsert(가산)로 반영하고,
+ * 야간 컴팩터가 전날 분을 원본 로그 기준으로 다시 계산해 덮어쓴다.
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "job_event_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_event_daily", columnNames = {"stat_date", "job_id", "event"})
+)
+public class JobEventDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event", nullable = false, length = 20)
+    private EventType event;
+
+    @Column(nullable = false)
+    private long cnt;
+}
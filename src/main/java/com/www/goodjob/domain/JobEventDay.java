@@ -0,0 +1,37 @@
+package com.www.goodjob.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 이벤트 합계 + 고유 사용자 HyperLogLog 스케치 (job_event_day, 하루 1행).
+ * 대시보드는 최근 2주치(최대 14행)만 읽고, 주간 활성 사용자는 스케치를 합쳐 추정한다.
+ * user_sketch: HyperLogLog 레지스터 4096 바이트 (util.HyperLogLog#toBytes)
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "job_event_day")
+public class JobEventDay {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private long impressions;
+
+    @Column(nullable = false)
+    private long clicks;
+
+    @Lob
+    @Column(name = "user_sketch", columnDefinition = "BLOB")
+    private byte[] userSketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -7,7 +7,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_event_log")
+@Table(name = "job_event_log",
+        indexes = @Index(name = "idx_job_event_log_timestamp", columnList = "timestamp"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,8 +52,9 @@ public class Alarm {
     @Column(name = "read_at")
     private LocalDateTime readAt;
 
+    // MySQL native enum 으로 만들지 않음: 새 타입 추가 시 ddl-auto=update 가 컬럼을 바꾸지 않음 (기존 enum 컬럼은 AlarmSchemaGuard 가 기동 시 거부)
     @Enumerated(EnumType.STRING)
-    @Column(name = "type", nullable = false, length = 50)
+    @Column(name = "type", nullable = false, length = 50, columnDefinition = "varchar(50)")
     private AlarmType type;
 
     @Column(name = "dedupe_key", length = 255)
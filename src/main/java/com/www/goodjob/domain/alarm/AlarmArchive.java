@@ -0,0 +1,72 @@
+package com.www.goodjob.domain.alarm;
+
+import com.www.goodjob.enums.AlarmStatus;
+import com.www.goodjob.enums.AlarmType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난(읽은) 알림 보관 테이블. alarm 과 같은 컬럼 + archived_at.
+ * AlarmRetentionService 가 JDBC 로만 채우며, id 는 원본 alarm.id 를 그대로 쓴다.
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "alarm_archive",
+        indexes = {
+                @Index(name = "idx_alarm_archive_user_created", columnList = "user_id, created_at")
+        }
+)
+public class AlarmArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "alarm_text", nullable = false, columnDefinition = "TEXT")
+    private String alarmText;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "cv_id")
+    private Long cvId;
+
+    @Column(name = "cv_title")
+    private String cvTitle;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 50)
+    private AlarmType type;
+
+    @Column(name = "dedupe_key", length = 255)
+    private String dedupeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AlarmStatus status;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "title_code")
+    private String titleCode;
+
+    @Column(name = "payload_json", columnDefinition = "TEXT")
+    private String payloadJson;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
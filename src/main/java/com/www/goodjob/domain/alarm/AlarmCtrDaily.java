@@ -0,0 +1,53 @@
+package com.www.goodjob.domain.alarm;
+
+import com.www.goodjob.enums.AlarmType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 효과 일별 집계 (alarm_ctr_daily).
+ * AlarmCtrService 가 메모리에서 모은 증분을 JDBC upsert(가산)로만 반영한다.
+ * rank 0 = 알림 단위(발송/열람/클릭 합계), 1~10 = 공고 노출 순위별 (10 = 10위 이하)
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "alarm_ctr_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_alarm_ctr_daily", columnNames = {"stat_date", "alarm_type", "`rank`"})
+)
+public class AlarmCtrDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alarm_type", nullable = false, length = 50)
+    private AlarmType alarmType;
+
+    @Column(name = "`rank`", nullable = false)
+    private Integer rank;
+
+    // 발송된 알림 수(rank 0) / 해당 순위로 노출된 공고 수
+    @Column(nullable = false)
+    private long delivered;
+
+    // 읽음 처리된 알림 수 (rank 0 만 사용)
+    @Column(nullable = false)
+    private long opened;
+
+    // 첫 클릭 수 (공고별 1회)
+    @Column(nullable = false)
+    private long clicked;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
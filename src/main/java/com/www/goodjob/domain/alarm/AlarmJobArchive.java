@@ -0,0 +1,35 @@
+package com.www.goodjob.domain.alarm;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** alarm_archive 로 옮겨진 알림의 공고 매핑 보관 테이블 */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "alarm_job_archive",
+        indexes = {
+                @Index(name = "idx_alarm_job_archive_job", columnList = "job_id")
+        }
+)
+@IdClass(AlarmJobId.class)
+public class AlarmJobArchive {
+
+    @Id
+    @Column(name = "alarm_id", nullable = false)
+    private Long alarmId;
+
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "`rank`", nullable = false)
+    private Integer rank;
+
+    @Column(name = "clicked_at")
+    private LocalDateTime clickedAt;
+}
@@ -0,0 +1,20 @@
+package com.www.goodjob.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 활성 사용자 수 (공고 노출/클릭 이벤트 기준, Redis HyperLogLog 추정치 - 오차 약 0.81%)
+ * dau: date 당일 / wau: date 포함 최근 7일 / mau: date 포함 최근 30일
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActiveUserDto {
+    private LocalDate date;
+    private long dau;
+    private long wau;
+    private long mau;
+}
@@ -0,0 +1,22 @@
+package com.www.goodjob.dto;
+
+import com.www.goodjob.enums.SuggestionType;
+import com.www.goodjob.util.AutocompleteIndex;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutocompleteSuggestionDto {
+    private String text;
+    private SuggestionType type;
+
+    public static AutocompleteSuggestionDto from(AutocompleteIndex.Entry entry) {
+        return AutocompleteSuggestionDto.builder()
+                .text(entry.text())
+                .type(entry.type())
+                .build();
+    }
+}
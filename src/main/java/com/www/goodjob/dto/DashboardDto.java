@@ -2,6 +2,7 @@ package com.www.goodjob.dto;
 
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -19,13 +20,23 @@ public class DashboardDto {
     private float averageSatisfaction;
     private float weeklySatisfactionChange;
 
+    // 활성 사용자 수: 모두 job_event_day 일별 HyperLogLog 스케치 기준 (출처/오차 동일, 구간만 다름)
+    // 이번 주(월요일~오늘) / 이번 주 - 지난주 월요일 이후
     private long activeUserCount;
     private int weeklyActiveUserChange;
 
+    // 오늘 / 최근 7일(오늘 포함 이동 구간) / 최근 30일
+    private long dailyActiveUserCount;
+    private long weeklyActiveUserCount;
+    private long monthlyActiveUserCount;
+
     private float ctr;
 
     private List<Float> dailyCtrList;
 
     private List<KeywordCount> topKeywords;
 
+    // 스냅샷 계산 시각 (DashboardSnapshotService 가 채움, 직접 계산 시 null)
+    private LocalDateTime computedAt;
+
 }
@@ -1,6 +1,5 @@
 package com.www.goodjob.dto;
 
-import com.www.goodjob.domain.Favicon;
 import com.www.goodjob.domain.Job;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -39,8 +38,11 @@ public class JobDto {
     private String regionText;
 
     public static JobDto from(Job job) {
-        List<RegionDto> regions = RegionDto.fromJob(job);
+        return from(job, RegionDto.fromJob(job), job.getFavicon() != null ? job.getFavicon().getLogo() : null);
+    }
 
+    // 지역/파비콘을 별도로 배치 조회한 경우 (JobHydrationService)
+    public static JobDto from(Job job, List<RegionDto> regions, String favicon) {
         return JobDto.builder()
                 .id(job.getId())
                 .regions(regions)
@@ -61,7 +63,7 @@ public class JobDto {
                 .expiredAt(job.getExpiredAt())
                 .archivedAt(job.getArchivedAt())
                 .url(job.getUrl())
-                .favicon(job.getFavicon() != null ? job.getFavicon().getLogo() : null)
+                .favicon(favicon)
                 .regionText(job.getRegionText())
                 .build();
     }
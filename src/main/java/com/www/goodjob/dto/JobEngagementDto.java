@@ -0,0 +1,35 @@
+package com.www.goodjob.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+/**
+ * 공고 참여 지표 (목록 화면 표시/인기 가중치용, 최대 1분 지연)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobEngagementDto {
+
+    // 인기 점수 가중치: 지원 > 북마크 > 클릭
+    private static final double CLICK_WEIGHT = 1.0;
+    private static final double BOOKMARK_WEIGHT = 3.0;
+    private static final double APPLICATION_WEIGHT = 5.0;
+
+    private long impressions;
+    private long clicks;
+    private long bookmarks;
+    private long applications;
+
+    /** 노출 대비 클릭률 (%) */
+    public double getCtr() {
+        return impressions > 0 ? (double) clicks / impressions * 100 : 0.0;
+    }
+
+    /** 검색/추천 목록 가중치용 인기 점수 (log 스케일로 상위 공고 쏠림 완화) */
+    @JsonIgnore
+    public double getPopularity() {
+        return Math.log1p(CLICK_WEIGHT * clicks + BOOKMARK_WEIGHT * bookmarks + APPLICATION_WEIGHT * applications);
+    }
+}
@@ -0,0 +1,20 @@
+package com.www.goodjob.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/** 공고 이벤트 묶음 (예: 검색 결과 한 페이지의 노출 20건) */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class JobEventBatchRequest {
+    public static final int MAX_EVENTS = 200;
+
+    @NotEmpty
+    @Size(max = MAX_EVENTS)
+    private List<@Valid @NotNull JobEventRequest> events;
+}
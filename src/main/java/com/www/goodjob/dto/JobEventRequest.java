@@ -0,0 +1,12 @@
+package com.www.goodjob.dto;
+
+import com.www.goodjob.enums.EventType;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class JobEventRequest {
+    @NotNull private Long jobId;
+    @NotNull private EventType event;
+}
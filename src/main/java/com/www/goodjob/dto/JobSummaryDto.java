@@ -0,0 +1,52 @@
+package com.www.goodjob.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.www.goodjob.repository.JobSummaryProjection;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 화면용 공고 요약.
+ * JobDto에서 상세 TEXT 필드(requirements, preferredQualifications, idealCandidate, jobDescription)를 뺀 형태이며
+ * 추천 목록에서는 score가 함께 내려가고, 참여 지표(engagement)는 집계된 공고에만 채워진다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobSummaryDto {
+
+    private Long id;
+    private String companyName;
+    private String title;
+    private String jobType;
+    private String requireExperience;
+    private List<RegionDto> regions;
+    private LocalDate applyStartDate;
+    private LocalDate applyEndDate;
+    private LocalDateTime createdAt;
+    private String favicon;
+    private Double score;
+    // 노출/클릭/북마크/지원 수 (집계가 없는 공고는 생략)
+    private JobEngagementDto engagement;
+
+    public static JobSummaryDto from(JobSummaryProjection p, List<RegionDto> regions) {
+        return JobSummaryDto.builder()
+                .id(p.getId())
+                .companyName(p.getCompanyName())
+                .title(p.getTitle())
+                .jobType(p.getJobType())
+                .requireExperience(p.getExperience())
+                .regions(regions)
+                .applyStartDate(p.getApplyStartDate())
+                .applyEndDate(p.getApplyEndDate())
+                .createdAt(p.getCreatedAt())
+                .favicon(p.getFavicon())
+                .build();
+    }
+}
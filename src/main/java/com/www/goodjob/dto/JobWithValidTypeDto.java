@@ -6,7 +6,6 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Getter
 @Setter
@@ -26,7 +25,6 @@ public class JobWithValidTypeDto {
 
 
     public static JobWithValidTypeDto from(Job job) {
-        List<RegionDto> regions = RegionDto.fromJob(job);
         return JobWithValidTypeDto.builder()
                 .id(job.getId())
                 .companyName(job.getCompanyName())
@@ -0,0 +1,35 @@
+package com.www.goodjob.dto.alarm;
+
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.AlarmCtrJdbcRepository.AlarmCtrRow;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 알림 타입 × 순위별 열람률/클릭률 (rank 0 = 알림 단위) */
+@Getter
+@Builder
+public class AlarmCtrDto {
+    private AlarmType type;
+    private int rank;
+    private long delivered;
+    private long opened;
+    private long clicked;
+    private double openRate;   // opened / delivered (rank 0)
+    private double ctr;        // clicked / delivered
+
+    public static AlarmCtrDto from(AlarmCtrRow row) {
+        return AlarmCtrDto.builder()
+                .type(row.type())
+                .rank(row.rank())
+                .delivered(row.delivered())
+                .opened(row.opened())
+                .clicked(row.clicked())
+                .openRate(ratio(row.opened(), row.delivered()))
+                .ctr(ratio(row.clicked(), row.delivered()))
+                .build();
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+}
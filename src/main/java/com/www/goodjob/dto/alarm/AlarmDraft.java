@@ -0,0 +1,53 @@
+package com.www.goodjob.dto.alarm;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.enums.AlarmStatus;
+import com.www.goodjob.enums.AlarmType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄러 대량 생성용 알림 초안 (AlarmBulkCommandService 입력).
+ * dedupeKey 는 필수 — 배치 INSERT 에서 중복(건너뛸 행)을 판정하는 기준이다.
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class AlarmDraft {
+
+    private Long userId;
+    private String alarmText;
+    private AlarmType type;
+    private String dedupeKey;
+    private LocalDateTime sentAt;
+
+    /** 알림 내 공고 목록 (rank 오름차순 렌더) */
+    private List<AlarmJobRequest> jobs;
+
+    private String titleCode;
+    private Map<String, Object> params;
+
+    /** CV_MATCH 일 때만 (APPLY_DUE 등은 null) */
+    private Long cvId;
+    private String cvTitle;
+
+    public Alarm toAlarm(LocalDateTime now) {
+        return Alarm.builder()
+                .userId(userId)
+                .alarmText(alarmText)
+                .type(type)
+                .dedupeKey(dedupeKey)
+                .status(AlarmStatus.QUEUED)
+                .sentAt(sentAt != null ? sentAt : now)
+                .createdAt(now)
+                .read(false)
+                .titleCode(titleCode)
+                .payload(params)
+                .cvId(cvId)
+                .cvTitle(cvTitle)
+                .build();
+    }
+}
@@ -1,7 +1,10 @@
 package com.www.goodjob.dto.alarm;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.www.goodjob.repository.AlarmJobSummaryProjection;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Getter @Setter
@@ -11,4 +14,34 @@ public class AlarmJobDto {
     private Long jobId;
     private Integer rank;
     private LocalDateTime clickedAt;
+
+    /* ===== 공고 요약 (삭제된 공고는 생략) ===== */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String companyName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String title;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String jobType;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDate applyEndDate;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String favicon;
+
+    /** CV_MATCH 알림의 추천 점수 (그 외 생략) */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double score;
+
+    public static AlarmJobDto from(AlarmJobSummaryProjection p) {
+        return AlarmJobDto.builder()
+                .jobId(p.getJobId())
+                .rank(p.getRank())
+                .clickedAt(p.getClickedAt())
+                .companyName(p.getCompanyName())
+                .title(p.getTitle())
+                .jobType(p.getJobType())
+                .applyEndDate(p.getApplyEndDate())
+                .favicon(p.getFavicon())
+                .score(p.getScore() == null ? null : p.getScore().doubleValue())
+                .build();
+    }
 }
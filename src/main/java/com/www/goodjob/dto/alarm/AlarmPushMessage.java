@@ -0,0 +1,32 @@
+package com.www.goodjob.dto.alarm;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.enums.AlarmType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** Redis 채널(alarm:push)로 노드 간 전달되고, 그대로 SSE "alarm" 이벤트 data 가 되는 메시지 */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class AlarmPushMessage {
+
+    private Long userId;
+    private Long alarmId;
+    private AlarmType type;
+    private String alarmText;
+    private String titleCode;
+    private LocalDateTime createdAt;
+
+    public static AlarmPushMessage from(Alarm alarm) {
+        return AlarmPushMessage.builder()
+                .userId(alarm.getUserId())
+                .alarmId(alarm.getId())
+                .type(alarm.getType())
+                .alarmText(alarm.getAlarmText())
+                .titleCode(alarm.getTitleCode())
+                .createdAt(alarm.getCreatedAt())
+                .build();
+    }
+}
@@ -3,5 +3,6 @@ package com.www.goodjob.enums;
 public enum AlarmType {
     CV_MATCH,           // 이력서-공고 매칭
     APPLY_DUE,          // 지원 관리 공고 마감 임박
-    JOB_POPULAR         // 인기 공고 추천
+    JOB_POPULAR,        // 인기 공고 추천
+    DIGEST              // 일일 요약 (추천 + 마감 임박 등 여러 섹션)
 }
@@ -0,0 +1,9 @@
+package com.www.goodjob.enums;
+
+/** 공고 참여 지표 (JobEngagementService 집계 단위) */
+public enum EngagementType {
+    IMPRESSION,
+    CLICK,
+    BOOKMARK,
+    APPLICATION
+}
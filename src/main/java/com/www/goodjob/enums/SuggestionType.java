@@ -0,0 +1,7 @@
+package com.www.goodjob.enums;
+
+public enum SuggestionType {
+    KEYWORD,    // 인기 검색어 (search_log)
+    COMPANY,    // 회사명 (jobs.company_name)
+    TITLE       // 공고 제목 (jobs.title)
+}
@@ -0,0 +1,42 @@
+package com.www.goodjob.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+
+/**
+ * 인기 검색어 집계 윈도우.
+ * 각 윈도우는 현재 시각이 속한 버킷(시간/일/ISO 주) 단위로 집계되며,
+ * ttl 이후 Redis에서 자동 만료된다.
+ * DAY 는 최근 7일 합산(대시보드)에 쓰이므로 8일 보관.
+ */
+public enum TrendWindow {
+    HOUR(Duration.ofHours(3)),
+    DAY(Duration.ofDays(8)),
+    WEEK(Duration.ofDays(15));
+
+    private static final DateTimeFormatter HOUR_FMT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FMT  = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final Duration ttl;
+
+    TrendWindow(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /** 시각이 속한 버킷 식별자 (예: HOUR=2025081910, DAY=20250819, WEEK=2025W34) */
+    public String bucketOf(LocalDateTime at) {
+        return switch (this) {
+            case HOUR -> at.format(HOUR_FMT);
+            case DAY -> at.format(DAY_FMT);
+            case WEEK -> "%dW%02d".formatted(
+                    at.get(IsoFields.WEEK_BASED_YEAR),
+                    at.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.www.goodjob.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * alarm → alarm_archive 이동 (AlarmRetentionService 전용).
+ * 청크 단위 id 목록으로만 동작하며, 트랜잭션은 호출자가 연다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmArchiveJdbcRepository {
+
+    private static final String ALARM_COLUMNS =
+            "id, created_at, alarm_text, user_id, cv_id, cv_title, is_read, read_at, type, dedupe_key, status, sent_at, title_code, payload_json";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * PK 순 스캔으로 id > afterId 인 알림 limit 건의 (id, created_at, is_read) 조회.
+     * created_at 단독 인덱스가 없으므로 PK 범위 스캔으로 오래된 쪽부터 훑는다.
+     */
+    public List<AlarmRetentionRow> findAfterId(long afterId, int limit) {
+        return jdbc.query("""
+                SELECT id, created_at, is_read FROM alarm
+                WHERE id > :afterId
+                ORDER BY id
+                LIMIT :limit
+                """,
+                new MapSqlParameterSource()
+                        .addValue("afterId", afterId)
+                        .addValue("limit", limit),
+                (rs, i) -> new AlarmRetentionRow(
+                        rs.getLong("id"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getBoolean("is_read")));
+    }
+
+    /** 보관 테이블로 복사 후 원본 삭제. 이동한 알림 수 반환 */
+    public int moveToArchive(Collection<Long> alarmIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", alarmIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+
+        // 재실행 시 중복 방지 (이전 실행이 복사 후 삭제 전에 중단된 경우)
+        jdbc.update("INSERT IGNORE INTO alarm_archive (" + ALARM_COLUMNS + ", archived_at) " +
+                "SELECT " + ALARM_COLUMNS + ", :archivedAt FROM alarm WHERE id IN (:ids)", params);
+        jdbc.update("INSERT IGNORE INTO alarm_job_archive (alarm_id, job_id, `rank`, clicked_at) " +
+                "SELECT alarm_id, job_id, `rank`, clicked_at FROM alarm_job WHERE alarm_id IN (:ids)", params);
+
+        jdbc.update("DELETE FROM alarm_job WHERE alarm_id IN (:ids)", params);
+        return jdbc.update("DELETE FROM alarm WHERE id IN (:ids)", params);
+    }
+
+    public record AlarmRetentionRow(long id, LocalDateTime createdAt, boolean read) {
+    }
+}
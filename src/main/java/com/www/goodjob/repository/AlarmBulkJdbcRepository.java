@@ -0,0 +1,99 @@
+package com.www.goodjob.repository;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.domain.alarm.AlarmJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * alarm / alarm_job 대량 쓰기 (MySQL multi-row INSERT ... ON DUPLICATE KEY UPDATE).
+ * 호출자가 청크 크기를 정하고 트랜잭션을 연다 — 여기서는 청크 1개 = 문장 1개.
+ *
+ * INSERT IGNORE 는 쓰지 않는다: 키 충돌뿐 아니라 잘림/NOT NULL/잘못된 enum 값까지 경고로 바꿔
+ * 깨진 행(예: type='')이 조용히 저장된다. 여기서는 키 충돌만 건너뛰고 나머지 오류는 청크를 실패시킨다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmBulkJdbcRepository {
+
+    private static final String ALARM_COLUMNS =
+            "(user_id, alarm_text, type, dedupe_key, status, sent_at, created_at, is_read, title_code, payload_json, cv_id, cv_title)";
+    private static final String ALARM_ROW = "(?, ?, ?, ?, ?, ?, ?, false, ?, ?, ?, ?)";
+
+    private static final String ALARM_JOB_ROW = "(?, ?, ?)";
+
+    private static final Alarm.JsonMapConverter PAYLOAD_CONVERTER = new Alarm.JsonMapConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /** dedupe_key 로 이미 존재하는 알림 id 조회 (dedupe_key → id) */
+    public Map<String, Long> findIdsByDedupeKeys(Collection<String> dedupeKeys) {
+        if (dedupeKeys.isEmpty()) return Map.of();
+        Map<String, Long> result = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT id, dedupe_key FROM alarm WHERE dedupe_key IN (:keys)",
+                new MapSqlParameterSource("keys", dedupeKeys),
+                rs -> {
+                    result.put(rs.getString("dedupe_key"), rs.getLong("id"));
+                });
+        return result;
+    }
+
+    /** uk_alarm_dedupe 충돌 행은 그대로 둔다 (기존 행 변경 없음) */
+    public void insertAlarmsSkippingDuplicates(List<Alarm> alarms) {
+        if (alarms.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder("INSERT INTO alarm ").append(ALARM_COLUMNS).append(" VALUES ");
+        List<Object> args = new ArrayList<>(alarms.size() * 11);
+        for (int i = 0; i < alarms.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ALARM_ROW);
+
+            Alarm a = alarms.get(i);
+            args.add(a.getUserId());
+            args.add(a.getAlarmText());
+            args.add(a.getType().name());
+            args.add(a.getDedupeKey());
+            args.add(a.getStatus().name());
+            args.add(toTimestamp(a.getSentAt()));
+            args.add(toTimestamp(a.getCreatedAt()));
+            args.add(a.getTitleCode());
+            args.add(PAYLOAD_CONVERTER.convertToDatabaseColumn(a.getPayload()));
+            args.add(a.getCvId());
+            args.add(a.getCvTitle());
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE dedupe_key = dedupe_key");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /** (alarm_id, job_id) PK 충돌 행은 그대로 둔다 */
+    public void insertAlarmJobsSkippingDuplicates(List<AlarmJob> jobs) {
+        if (jobs.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder("INSERT INTO alarm_job (alarm_id, job_id, `rank`) VALUES ");
+        List<Object> args = new ArrayList<>(jobs.size() * 3);
+        for (int i = 0; i < jobs.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ALARM_JOB_ROW);
+
+            AlarmJob j = jobs.get(i);
+            args.add(j.getAlarmId());
+            args.add(j.getJobId());
+            args.add(j.getRank());
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE alarm_id = alarm_id");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime t) {
+        return t == null ? null : Timestamp.valueOf(t);
+    }
+}
@@ -0,0 +1,69 @@
+package com.www.goodjob.repository;
+
+import com.www.goodjob.enums.AlarmType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * alarm_ctr_daily 반영/조회 (AlarmCtrService 전용).
+ * 증분을 더하는 upsert 라 여러 노드가 각자 flush 해도 합계가 맞다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmCtrJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addAll(List<AlarmCtrDelta> deltas, LocalDateTime now) {
+        if (deltas.isEmpty()) return;
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO alarm_ctr_daily (stat_date, alarm_type, `rank`, delivered, opened, clicked, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                  delivered  = delivered + VALUES(delivered),
+                  opened     = opened + VALUES(opened),
+                  clicked    = clicked + VALUES(clicked),
+                  updated_at = VALUES(updated_at)
+                """, deltas, deltas.size(), (ps, d) -> {
+            ps.setDate(1, Date.valueOf(d.statDate()));
+            ps.setString(2, d.type().name());
+            ps.setInt(3, d.rank());
+            ps.setLong(4, d.delivered());
+            ps.setLong(5, d.opened());
+            ps.setLong(6, d.clicked());
+            ps.setTimestamp(7, Timestamp.valueOf(now));
+        });
+    }
+
+    /** 기간 합계 (알림 타입 → 순위 순) */
+    public List<AlarmCtrRow> sumBetween(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+                SELECT alarm_type, `rank`, SUM(delivered) AS delivered, SUM(opened) AS opened, SUM(clicked) AS clicked
+                FROM alarm_ctr_daily
+                WHERE stat_date BETWEEN ? AND ?
+                GROUP BY alarm_type, `rank`
+                ORDER BY alarm_type, `rank`
+                """,
+                (rs, i) -> new AlarmCtrRow(
+                        AlarmType.valueOf(rs.getString("alarm_type")),
+                        rs.getInt("rank"),
+                        rs.getLong("delivered"),
+                        rs.getLong("opened"),
+                        rs.getLong("clicked")),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public record AlarmCtrDelta(LocalDate statDate, AlarmType type, int rank,
+                                long delivered, long opened, long clicked) {
+    }
+
+    public record AlarmCtrRow(AlarmType type, int rank, long delivered, long opened, long clicked) {
+    }
+}
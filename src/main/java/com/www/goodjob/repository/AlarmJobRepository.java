@@ -3,7 +3,10 @@ package com.www.goodjob.repository;
 import com.www.goodjob.domain.alarm.AlarmJob;
 import com.www.goodjob.domain.alarm.AlarmJobId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional; // ← 추가
 
@@ -13,6 +16,21 @@ public interface AlarmJobRepository extends JpaRepository<AlarmJob, AlarmJobId>
 
     void deleteByAlarmId(Long alarmId);
 
+    // 알림 페이지 단위 조회: 공고 요약 + 추천 점수(cv_id 있는 알림만)를 한 번에 (삭제된 공고는 요약 컬럼 null)
+    @Query("""
+    SELECT aj.alarmId AS alarmId, aj.jobId AS jobId, aj.rank AS rank, aj.clickedAt AS clickedAt,
+           j.companyName AS companyName, j.title AS title, j.jobType AS jobType,
+           j.applyEndDate AS applyEndDate, f.logo AS favicon, rs.score AS score
+    FROM AlarmJob aj
+    JOIN aj.alarm a
+    LEFT JOIN Job j ON j.id = aj.jobId
+    LEFT JOIN j.favicon f
+    LEFT JOIN RecommendScore rs ON rs.cv.id = a.cvId AND rs.job.id = aj.jobId
+    WHERE aj.alarmId IN :alarmIds
+    ORDER BY aj.alarmId, aj.rank
+    """)
+    List<AlarmJobSummaryProjection> findSummariesByAlarmIdIn(@Param("alarmIds") Collection<Long> alarmIds);
+
     // ← 추가: 알림 내 특정 공고 매핑 1건 조회
     Optional<AlarmJob> findByAlarmIdAndJobId(Long alarmId, Long jobId);
 }
@@ -0,0 +1,18 @@
+package com.www.goodjob.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 알림-공고 매핑 + 공고 요약 컬럼 + (CV_MATCH) 추천 점수 */
+public interface AlarmJobSummaryProjection {
+    Long getAlarmId();
+    Long getJobId();
+    Integer getRank();
+    LocalDateTime getClickedAt();
+    String getCompanyName();
+    String getTitle();
+    String getJobType();
+    LocalDate getApplyEndDate();
+    String getFavicon();
+    Float getScore();
+}
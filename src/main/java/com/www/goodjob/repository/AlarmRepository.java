@@ -5,7 +5,13 @@ import com.www.goodjob.enums.AlarmType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
@@ -20,6 +26,32 @@ public interface AlarmRepository extends JpaRepository<Alarm, Long> {
 
     long countByUserIdAndReadFalse(Long userId);
 
+    // 미읽음 카운터 정합성 점검용 (미읽음 0건인 사용자는 결과에 없음)
+    @Query("""
+    SELECT a.userId AS userId, COUNT(a) AS unreadCount
+    FROM Alarm a
+    WHERE a.read = false AND a.userId IN :userIds
+    GROUP BY a.userId
+    """)
+    List<UserUnreadCountProjection> countUnreadGroupByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 일괄 읽음 처리 상한: 이 id 이후에 생성된 알림은 건드리지 않음
+    @Query("SELECT MAX(a.id) FROM Alarm a WHERE a.userId = :userId AND a.read = false")
+    Long findMaxUnreadId(@Param("userId") Long userId);
+
+    // id 순으로 최대 :limit 건씩 읽음 처리 (idx_alarm_user_unread 범위 스캔)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+    UPDATE alarm SET is_read = true, read_at = :readAt
+    WHERE user_id = :userId AND is_read = false AND id <= :maxId
+    ORDER BY id
+    LIMIT :limit
+    """, nativeQuery = true)
+    int markReadChunk(@Param("userId") Long userId,
+                      @Param("maxId") Long maxId,
+                      @Param("readAt") LocalDateTime readAt,
+                      @Param("limit") int limit);
+
     Page<Alarm> findAll(Pageable pageable);
     Page<Alarm> findByRead(boolean read, Pageable pageable);
     Page<Alarm> findByType(AlarmType type, Pageable pageable);
@@ -0,0 +1,64 @@
+package com.www.goodjob.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * 지원 마감 임박 목록 스트리밍 조회 (일일 요약 알림 전용).
+ * 결과를 List 로 모으지 않고 행 단위로 넘겨서, 지원 건수가 늘어도 메모리 사용량이 일정하다.
+ * user_id % shards == shard 인 사용자만 조회 (요약 알림을 시간대별로 나눠 생성).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationDueJdbcRepository {
+
+    // user_id 순 정렬 → 호출자가 사용자 경계에서 한 번에 집계 가능
+    // 사용자 내에서는 마감일 → 회사명 → 제목 (NULL 은 뒤로)
+    private static final String SQL = """
+            SELECT a.user_id, a.job_id, a.apply_due_date, j.title, j.company_name
+            FROM applications a
+            JOIN jobs j ON j.id = a.job_id
+            WHERE a.apply_due_date BETWEEN ? AND ?
+              AND MOD(a.user_id, ?) = ?
+            ORDER BY a.user_id, a.apply_due_date,
+                     j.company_name IS NULL, j.company_name,
+                     j.title IS NULL, j.title
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** [start, end] 마감 지원 건을 user_id 순으로 한 행씩 전달. 반환: 전달한 행 수 */
+    public long streamDuesBetween(LocalDate start, LocalDate end, int shard, int shards,
+                                  Consumer<ApplicationDueRow> consumer) {
+        long[] count = {0};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL Connector/J: Integer.MIN_VALUE 면 서버 커서로 한 행씩 스트리밍
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setDate(1, Date.valueOf(start));
+            ps.setDate(2, Date.valueOf(end));
+            ps.setInt(3, shards);
+            ps.setInt(4, shard);
+            return ps;
+        }, rs -> {
+            consumer.accept(new ApplicationDueRow(
+                    rs.getLong("user_id"),
+                    rs.getLong("job_id"),
+                    rs.getDate("apply_due_date").toLocalDate(),
+                    rs.getString("title"),
+                    rs.getString("company_name")));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    public record ApplicationDueRow(Long userId, Long jobId, LocalDate applyEndDate, String title, String companyName) {
+    }
+}
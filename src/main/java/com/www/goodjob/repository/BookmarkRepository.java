@@ -3,6 +3,8 @@ package com.www.goodjob.repository;
 import com.www.goodjob.domain.Bookmark;
 import com.www.goodjob.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,5 +13,9 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     boolean existsByUserIdAndJobId(Long userId, Long jobId);
     Optional<Bookmark> findByUserIdAndJobId(Long userId, Long jobId);
     List<Bookmark> findAllByUser(User user);
+
+    // Bookmark + Job 을 한 번의 쿼리로 가져옴
+    @Query("SELECT b FROM Bookmark b JOIN FETCH b.job WHERE b.user = :user")
+    List<Bookmark> findAllWithJobByUser(@Param("user") User user);
     void deleteAllByUser(User user);
 }
@@ -23,6 +23,9 @@ public interface CvRepository extends JpaRepository<Cv, Long> {
     @Query("select c.id from Cv c")
     List<Long> findAllCvIds();
 
+    @Query("select c.id from Cv c where c.user = :user")
+    List<Long> findIdsByUser(@Param("user") User user);
+
     @Query("select c.fileName from Cv c where c.id = :cvId")
     Optional<String> findFileNameById(@Param("cvId") Long cvId);
 
@@ -0,0 +1,90 @@
+package com.www.goodjob.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * cv_top_jobs 유지 (CvTopJobService 전용). 트랜잭션은 호출자가 연다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CvTopJobJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * CV 1개의 현재 상위 topN (잠금 없는 일반 SELECT).
+     * window 이후 등록된 공개 공고만 대상이라 jobs(created_at) 범위 → recommend_score(cv_id, job_id) 조회로 끝난다.
+     * INSERT ... SELECT 로 합치지 않음: REPEATABLE READ 에서 스캔한 recommend_score/jobs 행에 공유 next-key 잠금이 걸린다.
+     */
+    public List<TopJobRow> findTopN(Long cvId, LocalDateTime windowStart, int topN) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cvId", cvId)
+                .addValue("windowStart", Timestamp.valueOf(windowStart))
+                .addValue("topN", topN);
+        return jdbc.query("""
+                SELECT c.user_id, rs.job_id, rs.score
+                FROM recommend_score rs
+                JOIN cv   c ON c.id = rs.cv_id
+                JOIN jobs j ON j.id = rs.job_id
+                WHERE rs.cv_id = :cvId
+                  AND j.is_public = TRUE
+                  AND j.created_at >= :windowStart
+                ORDER BY rs.score DESC, rs.created_at DESC, rs.job_id DESC
+                LIMIT :topN
+                """, params, (rs, i) -> new TopJobRow(rs.getLong("user_id"), rs.getLong("job_id"), rs.getFloat("score")));
+    }
+
+    /**
+     * CV 1개의 행을 rows(순위 순)로 교체. 호출자가 트랜잭션을 연다.
+     * 같은 CV 의 갱신이 동시에 돌면 나중 것이 (cv_id, job_id) 행을 덮어쓴다.
+     */
+    public void replace(Long cvId, List<TopJobRow> rows, LocalDateTime windowStart, LocalDateTime refreshedAt) {
+        jdbc.update("DELETE FROM cv_top_jobs WHERE cv_id = :cvId", new MapSqlParameterSource("cvId", cvId));
+        if (rows.isEmpty()) return;
+
+        Timestamp window = Timestamp.valueOf(windowStart);
+        Timestamp refreshed = Timestamp.valueOf(refreshedAt);
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            TopJobRow row = rows.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("cvId", cvId)
+                    .addValue("userId", row.userId())
+                    .addValue("jobId", row.jobId())
+                    .addValue("score", row.score())
+                    .addValue("rank", i + 1)
+                    .addValue("windowStart", window)
+                    .addValue("refreshedAt", refreshed);
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO cv_top_jobs (cv_id, user_id, job_id, score, `rank`, window_start, refreshed_at)
+                VALUES (:cvId, :userId, :jobId, :score, :rank, :windowStart, :refreshedAt)
+                ON DUPLICATE KEY UPDATE
+                  score        = VALUES(score),
+                  `rank`       = VALUES(`rank`),
+                  window_start = VALUES(window_start),
+                  refreshed_at = VALUES(refreshed_at)
+                """, batch);
+    }
+
+    public int deleteByCvId(Long cvId) {
+        return jdbc.update("DELETE FROM cv_top_jobs WHERE cv_id = :cvId",
+                new MapSqlParameterSource("cvId", cvId));
+    }
+
+    /** 지난 창의 행 정리 */
+    public int deleteWindowsBefore(LocalDateTime windowStart) {
+        return jdbc.update("DELETE FROM cv_top_jobs WHERE window_start < :windowStart",
+                new MapSqlParameterSource("windowStart", Timestamp.valueOf(windowStart)));
+    }
+
+    public record TopJobRow(Long userId, Long jobId, float score) {
+    }
+}
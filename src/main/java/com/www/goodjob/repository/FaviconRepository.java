@@ -0,0 +1,9 @@
+package com.www.goodjob.repository;
+
+import com.www.goodjob.domain.Favicon;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FaviconRepository extends JpaRepository<Favicon, Long> {
+}
@@ -0,0 +1,68 @@
+package com.www.goodjob.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * job_engagement 반영/조회 (JobEngagementService 전용).
+ * 증분을 더하는 upsert 라 여러 노드가 각자 flush 해도 합계가 맞다.
+ * 집계 도입 전에 생긴 북마크/지원을 취소하면 0 아래로 내려갈 수 있어 0 으로 하한을 둔다 (첫 삽입과 갱신 모두).
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobEngagementJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addAll(List<JobEngagementRow> deltas, LocalDateTime now) {
+        if (deltas.isEmpty()) return;
+        jdbcTemplate.getJdbcTemplate().batchUpdate("""
+                INSERT INTO job_engagement (job_id, impressions, clicks, bookmarks, applications, updated_at)
+                VALUES (?, ?, ?, GREATEST(?, 0), GREATEST(?, 0), ?)
+                ON DUPLICATE KEY UPDATE
+                  impressions  = impressions + VALUES(impressions),
+                  clicks       = clicks + VALUES(clicks),
+                  bookmarks    = GREATEST(bookmarks + ?, 0),
+                  applications = GREATEST(applications + ?, 0),
+                  updated_at   = VALUES(updated_at)
+                """, deltas, deltas.size(), (ps, d) -> {
+            ps.setLong(1, d.jobId());
+            ps.setLong(2, d.impressions());
+            ps.setLong(3, d.clicks());
+            ps.setLong(4, d.bookmarks());
+            ps.setLong(5, d.applications());
+            ps.setTimestamp(6, Timestamp.valueOf(now));
+            // VALUES(bookmarks) 는 0 으로 잘린 값이라 갱신 분기에는 원래 증분을 다시 바인딩
+            ps.setLong(7, d.bookmarks());
+            ps.setLong(8, d.applications());
+        });
+    }
+
+    /** 현재 누적값 (행이 없는 공고는 제외) */
+    public List<JobEngagementRow> findByJobIds(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) return List.of();
+        return jdbcTemplate.query("""
+                SELECT job_id, impressions, clicks, bookmarks, applications
+                FROM job_engagement
+                WHERE job_id IN (:ids)
+                """,
+                new MapSqlParameterSource("ids", jobIds),
+                (rs, i) -> new JobEngagementRow(
+                        rs.getLong("job_id"),
+                        rs.getLong("impressions"),
+                        rs.getLong("clicks"),
+                        rs.getLong("bookmarks"),
+                        rs.getLong("applications")));
+    }
+
+    /** 누적값 또는 증분 (증분의 bookmarks/applications 는 음수일 수 있음) */
+    public record JobEngagementRow(Long jobId, long impressions, long clicks, long bookmarks, long applications) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.www.goodjob.repository;
+
+import com.www.goodjob.enums.EventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * job_event_log 대량 적재 (JobLogService 의 백그라운드 writer 전용).
+ * 다중 VALUES INSERT 1문장으로 묶어 왕복/커밋 횟수를 이벤트 수가 아닌 배치 수에 비례하게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobEventLogJdbcRepository {
+
+    private static final String ROW = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAll(List<JobEventRow> rows) {
+        if (rows.isEmpty()) return 0;
+
+        StringBuilder sql = new StringBuilder("INSERT INTO job_event_log (user_id, job_id, event, `timestamp`) VALUES ");
+        List<Object> args = new ArrayList<>(rows.size() * 4);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+
+            JobEventRow r = rows.get(i);
+            args.add(r.userId());
+            args.add(r.jobId());
+            args.add(r.event().name());
+            args.add(Timestamp.valueOf(r.timestamp()));
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /** timestamp: 요청 수신 시각 (적재 지연과 무관하게 보존) */
+    public record JobEventRow(Long userId, Long jobId, EventType event, LocalDateTime timestamp) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.www.goodjob.repository;
+
+import com.www.goodjob.enums.EventType;
+import com.www.goodjob.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * job_event_daily / job_event_day 반영·조회 (JobEventRollupService 전용).
+ * - addJobCounts / mergeDay: 증분 가산 (여러 노드가 각자 flush 해도 합계가 맞음)
+ * - replaceDay: 하루치를 job_event_log 원본으로 다시 계산해 덮어씀 (야간 컴팩터)
+ *   원본은 idx_job_event_log_timestamp 범위 스캔 + 잠금 없는 일반 SELECT 로만 읽는다.
+ *   (INSERT ... SELECT 는 REPEATABLE READ 에서 스캔 행에 공유 next-key 잠금을 걸어 적재 writer 를 막음)
+ * mergeDay / replaceDay 는 호출자 트랜잭션 안에서 실행되어야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobEventRollupJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addJobCounts(List<JobCountDelta> deltas) {
+        if (deltas.isEmpty()) return;
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO job_event_daily (stat_date, job_id, event, cnt)
+                VALUES (?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)
+                """, deltas, deltas.size(), (ps, d) -> {
+            ps.setDate(1, Date.valueOf(d.statDate()));
+            ps.setLong(2, d.jobId());
+            ps.setString(3, d.event().name());
+            ps.setLong(4, d.count());
+        });
+    }
+
+    /** 일 합계 가산 + 스케치 합집합. 스케치는 행 잠금 후 읽어 합친다 (동시 flush 간 유실 방지) */
+    public void mergeDay(LocalDate date, long impressions, long clicks, HyperLogLog users, LocalDateTime now) {
+        Date day = Date.valueOf(date);
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO job_event_day (stat_date, impressions, clicks, user_sketch, updated_at) VALUES (?, 0, 0, NULL, ?)",
+                day, Timestamp.valueOf(now));
+
+        List<byte[]> current = jdbcTemplate.query(
+                "SELECT user_sketch FROM job_event_day WHERE stat_date = ? FOR UPDATE",
+                (rs, i) -> rs.getBytes("user_sketch"), day);
+        HyperLogLog merged = HyperLogLog.fromBytes(current.isEmpty() ? null : current.get(0));
+        merged.merge(users);
+
+        jdbcTemplate.update("""
+                UPDATE job_event_day
+                SET impressions = impressions + ?, clicks = clicks + ?, user_sketch = ?, updated_at = ?
+                WHERE stat_date = ?
+                """, impressions, clicks, merged.toBytes(), Timestamp.valueOf(now), day);
+    }
+
+    /** date 하루치를 원본 로그로 재계산. 반환: 재계산된 일 합계 */
+    public JobEventDayRow replaceDay(LocalDate date, LocalDateTime now) {
+        Date day = Date.valueOf(date);
+        Timestamp start = Timestamp.valueOf(date.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+
+        List<JobCountDelta> counts = jdbcTemplate.query("""
+                SELECT job_id, event, COUNT(*) AS cnt
+                FROM job_event_log
+                WHERE `timestamp` >= ? AND `timestamp` < ?
+                GROUP BY job_id, event
+                """, (rs, i) -> new JobCountDelta(
+                        date, rs.getLong("job_id"), EventType.valueOf(rs.getString("event")), rs.getLong("cnt")),
+                start, end);
+
+        long[] totals = new long[2];
+        for (JobCountDelta c : counts) {
+            totals[c.event() == EventType.impression ? 0 : 1] += c.count();
+        }
+
+        jdbcTemplate.update("DELETE FROM job_event_daily WHERE stat_date = ?", day);
+        addJobCounts(counts);
+
+        // 고유 사용자는 List 로 모으지 않고 스트리밍하며 스케치에 추가
+        HyperLogLog users = new HyperLogLog();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT DISTINCT user_id FROM job_event_log WHERE `timestamp` >= ? AND `timestamp` < ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setTimestamp(1, start);
+            ps.setTimestamp(2, end);
+            return ps;
+        }, rs -> {
+            users.add(rs.getLong("user_id"));
+        });
+
+        jdbcTemplate.update("""
+                INSERT INTO job_event_day (stat_date, impressions, clicks, user_sketch, updated_at)
+                VALUES (?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                  impressions = VALUES(impressions),
+                  clicks      = VALUES(clicks),
+                  user_sketch = VALUES(user_sketch),
+                  updated_at  = VALUES(updated_at)
+                """, day, totals[0], totals[1], users.toBytes(), Timestamp.valueOf(now));
+
+        return new JobEventDayRow(date, totals[0], totals[1], users);
+    }
+
+    /** from 이후(포함) 일 합계, 날짜 오름차순 */
+    public List<JobEventDayRow> findDaysSince(LocalDate from) {
+        return jdbcTemplate.query(
+                "SELECT stat_date, impressions, clicks, user_sketch FROM job_event_day WHERE stat_date >= ? ORDER BY stat_date",
+                (rs, i) -> new JobEventDayRow(
+                        rs.getDate("stat_date").toLocalDate(),
+                        rs.getLong("impressions"),
+                        rs.getLong("clicks"),
+                        HyperLogLog.fromBytes(rs.getBytes("user_sketch"))),
+                Date.valueOf(from));
+    }
+
+    public record JobCountDelta(LocalDate statDate, Long jobId, EventType event, long count) {
+    }
+
+    public record JobEventDayRow(LocalDate statDate, long impressions, long clicks, HyperLogLog users) {
+    }
+}
@@ -18,4 +18,23 @@ public interface JobLightRepository extends JpaRepository<Job, Long> {
           AND j.created_at > :since
         """, nativeQuery = true)
     List<Long> findNewJobIdsAfter(@Param("since") LocalDateTime since);
+
+    @Query(value = """
+        SELECT j.id           AS id,
+               j.title        AS title,
+               j.company_name AS companyName
+        FROM jobs j
+        WHERE j.is_public = TRUE
+        """, nativeQuery = true)
+    List<JobSuggestSourceProjection> findPublicSuggestSources();
+
+    @Query(value = """
+        SELECT j.id           AS id,
+               j.title        AS title,
+               j.company_name AS companyName
+        FROM jobs j
+        WHERE j.is_public = TRUE
+          AND j.id > :afterId
+        """, nativeQuery = true)
+    List<JobSuggestSourceProjection> findPublicSuggestSourcesAfterId(@Param("afterId") long afterId);
 }
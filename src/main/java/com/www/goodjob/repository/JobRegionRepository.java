@@ -3,9 +3,21 @@ package com.www.goodjob.repository;
 import com.www.goodjob.domain.Job;
 import com.www.goodjob.domain.JobRegion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface JobRegionRepository extends JpaRepository<JobRegion, Long>{
 
+    @Query("""
+        SELECT jr.job.id AS jobId, jr.region.id AS regionId
+        FROM JobRegion jr
+        WHERE jr.job.id IN :jobIds
+        ORDER BY jr.id
+        """)
+    List<JobRegionRowProjection> findRegionRowsByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
 }
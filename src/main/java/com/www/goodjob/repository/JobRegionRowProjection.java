@@ -0,0 +1,7 @@
+package com.www.goodjob.repository;
+
+/** job_region 한 행 (공고 ID 기준 배치 조회용, 지역 정보는 RegionDictionary 에서 조회) */
+public interface JobRegionRowProjection {
+    Long getJobId();
+    Long getRegionId();
+}
@@ -8,14 +8,15 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.www.goodjob.dto.JobWithValidTypeDto;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    // 지역/파비콘은 fetch 하지 않음 (컬렉션 fetch + 페이징은 메모리 페이징이 됨) → JobHydrationService 에서 배치 조회
     @Query(value = """
     SELECT j FROM Job j
-    LEFT JOIN FETCH j.favicon f
     WHERE j.isPublic = true
     AND (
         :keyword IS NULL OR
@@ -71,7 +72,6 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     )
     """
     )
-    @EntityGraph(value = "Job.withJobRegionsAndRegion")
     Page<Job> searchJobsWithFilters(
             @Param("keyword") String keyword,
             @Param("jobTypes") List<String> jobTypes,
@@ -129,12 +129,59 @@ AND (
             Pageable pageable
     );
 
-    @Query("SELECT DISTINCT j FROM Job j " +
-            "LEFT JOIN FETCH j.jobRegions jr " +
-            "LEFT JOIN FETCH jr.region " +
-            "LEFT JOIN FETCH j.favicon " +
-            "WHERE j.id IN :ids")
-    List<Job> findByIdInWithRegion(@Param("ids") List<Long> ids);
+    // 목록용 요약 조회: TEXT 컬럼 없이 필요한 컬럼만 (지역은 JobRegionRepository로 별도 배치 조회)
+    @Query("""
+    SELECT j.id AS id, j.companyName AS companyName, j.title AS title, j.jobType AS jobType,
+           j.experience AS experience, j.applyStartDate AS applyStartDate, j.applyEndDate AS applyEndDate,
+           j.createdAt AS createdAt, f.logo AS favicon
+    FROM Job j
+    LEFT JOIN j.favicon f
+    WHERE j.id IN :ids
+    """)
+    List<JobSummaryProjection> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = """
+    SELECT j.id AS id, j.companyName AS companyName, j.title AS title, j.jobType AS jobType,
+           j.experience AS experience, j.applyStartDate AS applyStartDate, j.applyEndDate AS applyEndDate,
+           j.createdAt AS createdAt, f.logo AS favicon
+    FROM Job j
+    LEFT JOIN j.favicon f
+    WHERE j.isPublic = true
+    AND (:jobTypes IS NULL OR j.jobType IN :jobTypes)
+    AND (:experiences IS NULL OR j.experience IN :experiences)
+    AND (
+        (:sidos IS NULL AND :sigungus IS NULL)
+        OR EXISTS (
+            SELECT 1 FROM JobRegion jr
+            WHERE jr.job = j
+            AND (:sidos IS NULL OR jr.region.sido IN :sidos)
+            AND (:sigungus IS NULL OR jr.region.sigungu IN :sigungus)
+        )
+    )
+    """,
+            countQuery = """
+    SELECT COUNT(j.id) FROM Job j
+    WHERE j.isPublic = true
+    AND (:jobTypes IS NULL OR j.jobType IN :jobTypes)
+    AND (:experiences IS NULL OR j.experience IN :experiences)
+    AND (
+        (:sidos IS NULL AND :sigungus IS NULL)
+        OR EXISTS (
+            SELECT 1 FROM JobRegion jr
+            WHERE jr.job = j
+            AND (:sidos IS NULL OR jr.region.sido IN :sidos)
+            AND (:sigungus IS NULL OR jr.region.sigungu IN :sigungus)
+        )
+    )
+    """
+    )
+    Page<JobSummaryProjection> searchSummariesWithFilters(
+            @Param("jobTypes") List<String> jobTypes,
+            @Param("experiences") List<String> experiences,
+            @Param("sidos") List<String> sidos,
+            @Param("sigungus") List<String> sigungus,
+            Pageable pageable
+    );
 
 
     long countByCreatedAtAfter(LocalDateTime date);
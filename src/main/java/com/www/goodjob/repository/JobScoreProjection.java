@@ -0,0 +1,7 @@
+package com.www.goodjob.repository;
+
+/** 공고별 추천 점수 (여러 CV 중 최고 점수 등 집계 결과) */
+public interface JobScoreProjection {
+    Long getJobId();
+    Float getScore();
+}
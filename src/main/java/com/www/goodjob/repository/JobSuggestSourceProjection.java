@@ -0,0 +1,8 @@
+package com.www.goodjob.repository;
+
+/** 자동완성 인덱스 원천 (TEXT 컬럼 없이 제목/회사명만) */
+public interface JobSuggestSourceProjection {
+    Long getId();
+    String getTitle();
+    String getCompanyName();
+}
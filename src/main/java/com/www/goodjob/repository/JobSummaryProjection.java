@@ -0,0 +1,17 @@
+package com.www.goodjob.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 공고 목록용 요약 컬럼 (requirements, job_description 등 TEXT 컬럼 제외) */
+public interface JobSummaryProjection {
+    Long getId();
+    String getCompanyName();
+    String getTitle();
+    String getJobType();
+    String getExperience();
+    LocalDate getApplyStartDate();
+    LocalDate getApplyEndDate();
+    LocalDateTime getCreatedAt();
+    String getFavicon();
+}
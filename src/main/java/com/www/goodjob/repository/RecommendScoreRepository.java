@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,16 @@ public interface RecommendScoreRepository extends JpaRepository<RecommendScore,
 """)
     List<RecommendScore> findByCvIdAndJobIdIn(@Param("cvId") Long cvId, @Param("jobIds") List<Long> jobIds);
 
+    // 사용자의 여러 CV 점수 중 공고별 최고 점수를 한 번에 조회 (CV 마다 조회하지 않음)
+    @Query("""
+            SELECT r.job.id AS jobId, MAX(r.score) AS score
+            FROM RecommendScore r
+            WHERE r.cv.id IN :cvIds AND r.job.id IN :jobIds
+            GROUP BY r.job.id
+            """)
+    List<JobScoreProjection> findMaxScoresByCvIdInAndJobIdIn(@Param("cvIds") Collection<Long> cvIds,
+                                                             @Param("jobIds") Collection<Long> jobIds);
+
     @Query("""
             SELECT r FROM RecommendScore r
             WHERE r.cv.id = :cvId AND r.job.id = :jobId
@@ -0,0 +1,65 @@
+package com.www.goodjob.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 사용자×CV별 상위 N개 추천 공고 스트리밍 조회 (일일 요약 알림 전용).
+ * recommend_score 전체를 정렬하지 않고 CvTopJobService 가 유지하는 cv_top_jobs(CV당 최대 TOP_N 행)만 읽는다.
+ * CV 이름(file_name)까지 한 번에 가져와 CV별 추가 조회가 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendTopNJdbcRepository {
+
+    // 공개 여부는 저장 이후 바뀔 수 있으므로 읽을 때 다시 확인
+    private static final String SQL = """
+            SELECT t.user_id, t.cv_id, c.file_name AS cv_title, t.job_id, t.score
+            FROM cv_top_jobs t
+            JOIN cv   c ON c.id = t.cv_id
+            JOIN jobs j ON j.id = t.job_id
+            WHERE t.window_start = ?
+              AND MOD(t.user_id, ?) = ?
+              AND t.`rank` <= ?
+              AND t.score >= ?
+              AND j.is_public = TRUE
+            ORDER BY t.user_id, t.cv_id, t.`rank`
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** windowStart 창의 CV별 상위 topN (score >= threshold) 을 user_id → cv_id → 순위 순으로 전달 */
+    public long streamTopNPerUserAndCv(int topN, double threshold, LocalDateTime windowStart,
+                                            int shard, int shards, Consumer<RecommendTopNRow> consumer) {
+        long[] count = {0};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setTimestamp(1, Timestamp.valueOf(windowStart));
+            ps.setInt(2, shards);
+            ps.setInt(3, shard);
+            ps.setInt(4, topN);
+            ps.setDouble(5, threshold);
+            return ps;
+        }, rs -> {
+            consumer.accept(new RecommendTopNRow(
+                    rs.getLong("user_id"),
+                    rs.getLong("cv_id"),
+                    rs.getString("cv_title"),
+                    rs.getLong("job_id"),
+                    rs.getDouble("score")));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    public record RecommendTopNRow(Long userId, Long cvId, String cvTitle, Long jobId, double score) {
+    }
+}
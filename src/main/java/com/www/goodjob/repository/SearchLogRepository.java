@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SearchLogRepository extends JpaRepository<SearchLog, Long> {
@@ -22,6 +23,13 @@ public interface SearchLogRepository extends JpaRepository<SearchLog, Long> {
             "ORDER BY COUNT(s) DESC")
     List<KeywordCount> findTopKeywords(Pageable pageable);
 
+    @Query("SELECT new com.www.goodjob.dto.KeywordCount(s.keyword, COUNT(s)) " +
+            "FROM SearchLog s " +
+            "WHERE s.keyword IS NOT NULL AND s.createdAt >= :since " +
+            "GROUP BY s.keyword " +
+            "ORDER BY COUNT(s) DESC")
+    List<KeywordCount> findTopKeywordsSince(LocalDateTime since, Pageable pageable);
+
     @Query(value = """
             SELECT s.keyword, s.created_at 
             FROM search_log s
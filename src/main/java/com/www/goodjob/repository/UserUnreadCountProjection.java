@@ -0,0 +1,6 @@
+package com.www.goodjob.repository;
+
+public interface UserUnreadCountProjection {
+    Long getUserId();
+    Long getUnreadCount();
+}
@@ -0,0 +1,145 @@
+package com.www.goodjob.scheduler;
+
+import com.www.goodjob.service.AlarmDigestService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매일 10:00 KST 일일 요약 알림 (기존 CV 추천 TOP N / 지원 마감 임박 스케줄러 통합).
+ * 사용자를 user_id % shards 로 나누고, 샤드 k 를 (window / shards) * k 뒤에 실행해
+ * 10:00 에 DB/알림 생성/푸시 부하가 한꺼번에 몰리지 않게 한다.
+ *
+ * 샤드 예약은 메모리에만 있으므로, 완료한 샤드를 Redis(alarm:digest:done:{날짜})에 남기고
+ * 창(window)이 끝난 뒤 catchUp 이 빠진 샤드를 실행한다 (창 도중 재시작 대비, dedupe 키로 재실행 안전).
+ * 샤드 실행은 전용 단일 스레드에서 순서대로 처리하고, 공용 스케줄러 풀은 시각이 되면 넘겨주기만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyDigestAlarmScheduler {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    static final String DONE_KEY_PREFIX = "alarm:digest:done:";
+    private static final Duration DONE_TTL = Duration.ofDays(2);
+    /** 창 종료 후 마지막 샤드가 끝날 때까지 기다리는 여유 */
+    static final Duration CATCH_UP_GRACE = Duration.ofMinutes(10);
+
+    private final AlarmDigestService alarmDigestService;
+    private final TaskScheduler taskScheduler;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${alarm.digest.cron:0 0 10 * * *}")
+    private String cron;
+
+    @Value("${alarm.digest.shards:6}")
+    private int shards;
+
+    @Value("${alarm.digest.window-minutes:30}")
+    private long windowMinutes;
+
+    private final AtomicBoolean catchUpQueued = new AtomicBoolean();
+    private ExecutorService shardExecutor;
+
+    @PostConstruct
+    void init() {
+        shardExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "alarm-digest");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (shardExecutor != null) shardExecutor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${alarm.digest.cron:0 0 10 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        LocalDate today = LocalDate.now(ZONE);
+        int count = shardCount();
+        Duration step = Duration.ofMinutes(Math.max(windowMinutes, 0)).dividedBy(count);
+        Instant base = Instant.now();
+
+        for (int shard = 0; shard < count; shard++) {
+            int s = shard;
+            taskScheduler.schedule(() -> shardExecutor.execute(() -> runShard(s, count, today)),
+                    base.plus(step.multipliedBy(shard)));
+        }
+        log.info("[DIGEST] scheduled shards={} step={}s date={}", count, step.toSeconds(), today);
+    }
+
+    /** 오늘 창이 끝났는데 완료 표시가 없는 샤드 실행 */
+    @Scheduled(fixedDelayString = "${alarm.digest.catch-up-interval-ms:300000}", initialDelay = 60_000)
+    public void catchUp() {
+        if (!catchUpQueued.compareAndSet(false, true)) return;
+        shardExecutor.execute(() -> {
+            try {
+                catchUp(ZonedDateTime.now(ZONE));
+            } catch (Exception e) {
+                log.warn("[DIGEST] catch-up failed", e);
+            } finally {
+                catchUpQueued.set(false);
+            }
+        });
+    }
+
+    void catchUp(ZonedDateTime now) {
+        LocalDate today = now.toLocalDate();
+        ZonedDateTime firedAt = CronExpression.parse(cron).next(today.atStartOfDay(ZONE).minusSeconds(1));
+        if (firedAt == null || !firedAt.toLocalDate().equals(today)) return;
+        if (now.isBefore(firedAt.plusMinutes(Math.max(windowMinutes, 0)).plus(CATCH_UP_GRACE))) return;
+
+        int count = shardCount();
+        Set<String> done = redisTemplate.opsForSet().members(doneKey(today, count));
+        for (int shard = 0; shard < count; shard++) {
+            if (done != null && done.contains(String.valueOf(shard))) continue;
+            log.info("[DIGEST] catch-up shard {}/{} date={}", shard, count, today);
+            runShard(shard, count, today);
+        }
+    }
+
+    private void runShard(int shard, int count, LocalDate today) {
+        try {
+            AlarmDigestService.ShardResult result = alarmDigestService.runShard(shard, count, today, LocalDateTime.now(ZONE));
+            if (result.failedChunks() > 0) {
+                // 완료 표시를 남기지 않아 catchUp 이 샤드 전체를 다시 실행 (이미 만든 알림은 dedupe 키로 건너뜀)
+                log.warn("[DIGEST] shard {}/{} had {} failed chunks; left for catch-up", shard, count, result.failedChunks());
+                return;
+            }
+            markDone(shard, count, today);
+        } catch (Exception e) {
+            // 한 샤드 실패가 다른 샤드 실행에 영향 주지 않도록 로그만 남김 (완료 표시가 없으므로 catchUp 이 다시 시도)
+            log.warn("[DIGEST] shard {}/{} failed", shard, count, e);
+        }
+    }
+
+    private void markDone(int shard, int count, LocalDate today) {
+        String key = doneKey(today, count);
+        redisTemplate.opsForSet().add(key, String.valueOf(shard));
+        redisTemplate.expire(key, DONE_TTL);
+    }
+
+    /** 샤드 수가 바뀌면 샤드 번호의 의미도 바뀌므로 키에 포함 */
+    static String doneKey(LocalDate date, int count) {
+        return DONE_KEY_PREFIX + date + ":" + count;
+    }
+
+    private int shardCount() {
+        return Math.max(shards, 1);
+    }
+}
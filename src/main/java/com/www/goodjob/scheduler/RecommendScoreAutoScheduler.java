@@ -1,11 +1,12 @@
 package com.www.goodjob.scheduler;
 
 import com.www.goodjob.dto.ScoredJobDto;
+import com.www.goodjob.dto.alarm.AlarmDraft;
 import com.www.goodjob.dto.alarm.AlarmJobRequest;
 import com.www.goodjob.enums.AlarmType;
 import com.www.goodjob.repository.CvIdUserIdProjectionRepo;
 import com.www.goodjob.repository.JobLightRepository;
-import com.www.goodjob.service.AlarmCommandService;
+import com.www.goodjob.service.AlarmBulkCommandService;
 import com.www.goodjob.service.RecommendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +39,7 @@ public class RecommendScoreAutoScheduler {
     private final JobLightRepository jobRepo;
     private final CvIdUserIdProjectionRepo cvRepo;
     private final RecommendService recommendService;
-    private final AlarmCommandService alarmCommandService;
+    private final AlarmBulkCommandService alarmBulkCommandService;
 
     /**
      * 매 15분마다 실행 (초 분 시 일 월 요일)
@@ -65,7 +66,7 @@ public class RecommendScoreAutoScheduler {
             return;
         }
 
-        int usersNotified = 0;
+        List<AlarmDraft> drafts = new ArrayList<>();
         // 3) 각 CV → 추천 가져와 신규 공고 & 90점↑만 필터
         for (var cv : cvPairs) {
             Long cvId   = cv.getCvId();
@@ -108,15 +109,24 @@ public class RecommendScoreAutoScheduler {
             String titleCode = "CV_MATCH_REALTIME";
             Map<String,Object> params = Map.of("count", hits.size(), "threshold", THRESHOLD);
 
-            var alarm = alarmCommandService.createIfNotExists(
-                    userId,
-                    "새로 등록된 추천 공고 %d건 (%.0f점↑)".formatted(hits.size(), THRESHOLD),
-                    AlarmType.CV_MATCH,
-                    dedupeKey, now, jobs,
-                    titleCode, params
-            );
+            drafts.add(AlarmDraft.builder()
+                    .userId(userId)
+                    .alarmText("새로 등록된 추천 공고 %d건 (%.0f점↑)".formatted(hits.size(), THRESHOLD))
+                    .type(AlarmType.CV_MATCH)
+                    .dedupeKey(dedupeKey)
+                    .sentAt(now)
+                    .jobs(jobs)
+                    .titleCode(titleCode)
+                    .params(params)
+                    .build());
+        }
 
-            if (alarm != null) usersNotified++;
+        // 추천 조회(FastAPI)가 끝난 뒤 한 번에 저장
+        // 실패 청크가 있어도 커서는 진행 (dedupe 키가 실행 시각 기준이라 재실행 시 성공 청크 사용자에게 중복 발송됨)
+        var bulk = alarmBulkCommandService.createAllIfNotExists(drafts);
+        int usersNotified = bulk.created().size();
+        if (bulk.hasFailures()) {
+            log.warn("[AUTO-RECO-90] {} alarm chunks failed; their users are not notified for this window", bulk.failedChunks());
         }
 
         writeCursor(now);
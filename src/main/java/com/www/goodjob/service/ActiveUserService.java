@@ -0,0 +1,126 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.ActiveUserDto;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 일별 활성 사용자 집계 (Redis HyperLogLog, 키당 최대 12KB).
+ * - 적재 경로: JobLogService writer 가 기록한 배치의 user_id 를 날짜별 메모리 집합에 모음 (중복 제거)
+ * - 10초 주기: 날짜별 키에 PFADD 파이프라인 반영 (PFADD 는 멱등이라 실패 시 다시 넣어 재시도)
+ * - 조회: PFCOUNT 1회 (기간 조회는 여러 날짜 키를 한 번에 PFCOUNT → 서버에서 합집합 추정)
+ *   조회 비용은 사용자/이벤트 수와 무관하게 기간 일수에만 비례 (최대 30키)
+ * 날짜는 job_event_log.timestamp 와 같은 서버 로컬 시각 기준.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActiveUserService {
+
+    static final String KEY_PREFIX = "active:users:day:";
+    static final int WEEK_DAYS = 7;
+    static final int MONTH_DAYS = 30;
+
+    // MAU 계산 구간 + 여유
+    private static final Duration KEY_TTL = Duration.ofDays(MONTH_DAYS + 5);
+    private static final int PFADD_CHUNK = 1_000;
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate redis;
+
+    private Map<LocalDate, Set<Long>> pending = new HashMap<>();
+
+    /** DB 에 기록된 이벤트 배치 반영 (메모리만) */
+    public synchronized void record(List<JobEventRow> rows) {
+        for (JobEventRow r : rows) {
+            if (r.userId() == null) continue;
+            pending.computeIfAbsent(r.timestamp().toLocalDate(), k -> new HashSet<>()).add(r.userId());
+        }
+    }
+
+    public ActiveUserDto getActiveUsers(LocalDate date) {
+        return new ActiveUserDto(
+                date,
+                countBetween(date, date),
+                countBetween(date.minusDays(WEEK_DAYS - 1), date),
+                countBetween(date.minusDays(MONTH_DAYS - 1), date));
+    }
+
+    /** [from, to] 기간(양끝 포함) 고유 사용자 수. Redis 장애 시 0 */
+    public long countBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) return 0;
+        List<String> keys = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            keys.add(keyOf(d));
+        }
+        try {
+            Long count = redis.opsForHyperLogLog().size(keys.toArray(new String[0]));
+            return count != null ? count : 0L;
+        } catch (Exception e) {
+            log.warn("[ACTIVE_USER] count failed: from={} to={}", from, to, e);
+            return 0L;
+        }
+    }
+
+    @Scheduled(fixedDelay = 10_000, initialDelay = 10_000)
+    public void flush() {
+        Map<LocalDate, Set<Long>> drained = drain();
+        if (drained.isEmpty()) return;
+
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<LocalDate, Set<Long>> e : drained.entrySet()) {
+                    byte[] key = keyOf(e.getKey()).getBytes(StandardCharsets.UTF_8);
+                    List<Long> ids = new ArrayList<>(e.getValue());
+                    for (int from = 0; from < ids.size(); from += PFADD_CHUNK) {
+                        List<Long> chunk = ids.subList(from, Math.min(from + PFADD_CHUNK, ids.size()));
+                        byte[][] values = new byte[chunk.size()][];
+                        for (int i = 0; i < chunk.size(); i++) {
+                            values[i] = chunk.get(i).toString().getBytes(StandardCharsets.UTF_8);
+                        }
+                        connection.hyperLogLogCommands().pfAdd(key, values);
+                    }
+                    connection.keyCommands().expire(key, KEY_TTL.getSeconds());
+                }
+                return null;
+            });
+            log.debug("[ACTIVE_USER] flushed days={}", drained.size());
+        } catch (Exception e) {
+            log.warn("[ACTIVE_USER] flush failed, requeue days={}", drained.size(), e);
+            restore(drained);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /* ===== Internals ===== */
+
+    synchronized Map<LocalDate, Set<Long>> drain() {
+        Map<LocalDate, Set<Long>> drained = pending;
+        pending = new HashMap<>();
+        return drained;
+    }
+
+    private synchronized void restore(Map<LocalDate, Set<Long>> drained) {
+        drained.forEach((date, ids) -> pending.computeIfAbsent(date, k -> new HashSet<>()).addAll(ids));
+    }
+
+    static String keyOf(LocalDate date) {
+        return KEY_PREFIX + DAY.format(date);
+    }
+}
@@ -0,0 +1,144 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.domain.alarm.AlarmJob;
+import com.www.goodjob.dto.alarm.AlarmDraft;
+import com.www.goodjob.dto.alarm.AlarmJobRequest;
+import com.www.goodjob.repository.AlarmBulkJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 스케줄러용 알림 대량 생성.
+ * 사용자마다 REQUIRES_NEW + saveAndFlush + 제약 위반 catch 를 반복하는 대신,
+ * CHUNK_SIZE 건씩 트랜잭션 1개로 묶어 multi-row INSERT (dedupe 키 충돌만 건너뜀) 로 처리한다.
+ *
+ * 청크당 문장 수: 기존 키 조회 1 + alarm INSERT 1 + 생성 id 조회 1 + alarm_job INSERT 1
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlarmBulkCommandService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final AlarmBulkJdbcRepository alarmBulkJdbcRepository;
+    private final AlarmPushService alarmPushService;
+    private final AlarmUnreadCounterService alarmUnreadCounterService;
+    private final AlarmCtrService alarmCtrService;
+    private final PlatformTransactionManager txManager;
+
+    /**
+     * dedupeKey 기준 idempotent 대량 생성.
+     * 반환: 이번 호출에서 새로 생성된 알림 (id 채워짐, 이미 있던 dedupeKey 는 제외) + 실패한 청크 수.
+     * 청크 하나가 실패하면 해당 청크만 롤백되고 나머지는 계속 진행한다.
+     * 실패 청크의 초안은 만들어지지 않았으므로, 호출자는 failedChunks 를 보고 재시도 여부를 정한다.
+     */
+    public BulkCreateResult createAllIfNotExists(List<AlarmDraft> drafts) {
+        if (drafts == null || drafts.isEmpty()) return BulkCreateResult.EMPTY;
+
+        // 입력 내 dedupeKey 중복은 먼저 온 것만
+        Map<String, AlarmDraft> byKey = new LinkedHashMap<>();
+        for (AlarmDraft d : drafts) {
+            validate(d);
+            byKey.putIfAbsent(d.getDedupeKey(), d);
+        }
+
+        List<AlarmDraft> unique = new ArrayList<>(byKey.values());
+        List<Alarm> created = new ArrayList<>();
+        int failedChunks = 0;
+        TransactionTemplate tx = newTx();
+
+        for (int from = 0; from < unique.size(); from += CHUNK_SIZE) {
+            List<AlarmDraft> chunk = unique.subList(from, Math.min(from + CHUNK_SIZE, unique.size()));
+            try {
+                List<Alarm> result = tx.execute(status -> writeChunk(chunk));
+                if (result != null) {
+                    created.addAll(result);
+                    // 청크 커밋 이후
+                    alarmPushService.publish(result);
+                    alarmUnreadCounterService.incrementAfterCommit(result);
+                    recordDelivered(result, byKey);
+                }
+            } catch (Exception e) {
+                failedChunks++;
+                log.warn("[ALARM_BULK] chunk failed: offset={} size={}", from, chunk.size(), e);
+            }
+        }
+
+        log.info("[ALARM_BULK] requested={} unique={} created={} failedChunks={}",
+                drafts.size(), unique.size(), created.size(), failedChunks);
+        return new BulkCreateResult(created, failedChunks);
+    }
+
+    private List<Alarm> writeChunk(List<AlarmDraft> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> keys = chunk.stream().map(AlarmDraft::getDedupeKey).toList();
+        Set<String> existing = alarmBulkJdbcRepository.findIdsByDedupeKeys(keys).keySet();
+
+        List<AlarmDraft> toInsert = chunk.stream()
+                .filter(d -> !existing.contains(d.getDedupeKey()))
+                .toList();
+        if (toInsert.isEmpty()) return List.of();
+
+        List<Alarm> alarms = toInsert.stream().map(d -> d.toAlarm(now)).toList();
+        alarmBulkJdbcRepository.insertAlarmsSkippingDuplicates(alarms);
+
+        Map<String, Long> ids = alarmBulkJdbcRepository.findIdsByDedupeKeys(
+                alarms.stream().map(Alarm::getDedupeKey).toList());
+
+        List<Alarm> created = new ArrayList<>(alarms.size());
+        List<AlarmJob> jobs = new ArrayList<>();
+        for (int i = 0; i < alarms.size(); i++) {
+            Alarm alarm = alarms.get(i);
+            Long id = ids.get(alarm.getDedupeKey());
+            if (id == null) continue; // 동시에 다른 곳에서 삭제된 경우 등
+            alarm.setId(id);
+            created.add(alarm);
+
+            for (AlarmJobRequest j : AlarmCommandService.normalizeJobs(toInsert.get(i).getJobs())) {
+                jobs.add(AlarmJob.of(id, j.getJobId(), j.getRank()));
+            }
+        }
+        alarmBulkJdbcRepository.insertAlarmJobsSkippingDuplicates(jobs);
+        return created;
+    }
+
+    private void recordDelivered(List<Alarm> alarms, Map<String, AlarmDraft> drafts) {
+        for (Alarm a : alarms) {
+            AlarmDraft d = drafts.get(a.getDedupeKey());
+            alarmCtrService.recordDeliveredAfterCommit(a.getType(), d == null ? List.of()
+                    : AlarmCommandService.normalizeJobs(d.getJobs()).stream().map(AlarmJobRequest::getRank).toList());
+        }
+    }
+
+    private static void validate(AlarmDraft d) {
+        if (d.getAlarmText() == null || d.getAlarmText().isBlank()) throw new IllegalArgumentException("alarmText must not be blank");
+        if (d.getType() == null) throw new IllegalArgumentException("type must not be null");
+        if (d.getDedupeKey() == null || d.getDedupeKey().isBlank()) throw new IllegalArgumentException("dedupeKey must not be blank");
+    }
+
+    /** 청크마다 독립 트랜잭션 (호출자 트랜잭션과 분리) */
+    private TransactionTemplate newTx() {
+        TransactionTemplate tpl = new TransactionTemplate(txManager);
+        tpl.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tpl;
+    }
+
+    /** created: 새로 생성된 알림, failedChunks: 롤백된 청크 수 (0 이면 전체 반영) */
+    public record BulkCreateResult(List<Alarm> created, int failedChunks) {
+        static final BulkCreateResult EMPTY = new BulkCreateResult(List.of(), 0);
+
+        public boolean hasFailures() {
+            return failedChunks > 0;
+        }
+    }
+}
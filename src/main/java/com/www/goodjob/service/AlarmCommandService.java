@@ -30,6 +30,9 @@ public class AlarmCommandService {
 
     private final AlarmRepository alarmRepository;
     private final AlarmJobRepository alarmJobRepository;
+    private final AlarmPushService alarmPushService;
+    private final AlarmUnreadCounterService alarmUnreadCounterService;
+    private final AlarmCtrService alarmCtrService;
 
     /** CV 비의존 알림(APPLY_DUE 등) 오버로드 */
     public Alarm createIfNotExists(Long userId,
@@ -85,6 +88,7 @@ public class AlarmCommandService {
             // 여기서 즉시 제약 위반 발생 → 아래 catch로 진입
             Alarm saved = alarmRepository.saveAndFlush(toSave);
             persistJobs(saved.getId(), jobs);
+            afterCreated(saved, jobs);
             return saved;
         } catch (DataIntegrityViolationException | ConstraintViolationException dup) {
             // uk_alarm_dedupe 충돌 → 새로 만들지 않음
@@ -96,13 +100,25 @@ public class AlarmCommandService {
 
     /** jobs 정리 후 batch 저장 */
     private void persistJobs(Long alarmId, List<AlarmJobRequest> jobs) {
-        if (jobs == null || jobs.isEmpty()) return;
+        List<AlarmJobRequest> sorted = normalizeJobs(jobs);
+        if (sorted.isEmpty()) return;
+
+        List<AlarmJob> entities = sorted.stream()
+                .map(j -> AlarmJob.of(alarmId, j.getJobId(), j.getRank()))
+                .toList();
+
+        alarmJobRepository.saveAll(entities);
+    }
+
+    /** null/불완전 항목 제거, 같은 jobId는 rank가 작은 쪽만 남기고 rank 오름차순 정렬 */
+    static List<AlarmJobRequest> normalizeJobs(List<AlarmJobRequest> jobs) {
+        if (jobs == null || jobs.isEmpty()) return List.of();
 
         List<AlarmJobRequest> cleaned = jobs.stream()
                 .filter(Objects::nonNull)
                 .filter(j -> j.getJobId() != null && j.getRank() != null)
                 .toList();
-        if (cleaned.isEmpty()) return;
+        if (cleaned.isEmpty()) return List.of();
 
         Map<Long, AlarmJobRequest> byJob = cleaned.stream().collect(
                 Collectors.toMap(
@@ -113,15 +129,9 @@ public class AlarmCommandService {
                 )
         );
 
-        List<AlarmJobRequest> sorted = byJob.values().stream()
+        return byJob.values().stream()
                 .sorted(Comparator.comparingInt(AlarmJobRequest::getRank))
                 .toList();
-
-        List<AlarmJob> entities = sorted.stream()
-                .map(j -> AlarmJob.of(alarmId, j.getJobId(), j.getRank()))
-                .toList();
-
-        alarmJobRepository.saveAll(entities);
     }
 
     private final PlatformTransactionManager txManager; // ⬅️ 반드시 주입
@@ -149,6 +159,7 @@ public class AlarmCommandService {
                 Alarm toSave = baseAlarm(userId, text, type, dedupeKey, sentAt, titleCode, params, null, null);
                 Alarm saved = alarmRepository.saveAndFlush(toSave); // 제약 즉시 검사
                 persistJobs(saved.getId(), jobs);
+                afterCreated(saved, jobs);
                 return saved;
             } catch (DataIntegrityViolationException e) {
                 status.setRollbackOnly(); // 내부 tx만 롤백
@@ -175,6 +186,7 @@ public class AlarmCommandService {
                 Alarm toSave = baseAlarm(userId, text, type, dedupeKey, sentAt, titleCode, params, cvId, cvTitle);
                 Alarm saved = alarmRepository.saveAndFlush(toSave);
                 persistJobs(saved.getId(), jobs);
+                afterCreated(saved, jobs);
                 return saved;
             } catch (DataIntegrityViolationException e) {
                 status.setRollbackOnly();
@@ -185,6 +197,14 @@ public class AlarmCommandService {
 
     /* ================= Helpers ================= */
 
+    /** 커밋 후 실시간 푸시 + 미읽음 카운터 증가 + 발송 집계 */
+    private void afterCreated(Alarm saved, List<AlarmJobRequest> jobs) {
+        alarmPushService.publishAfterCommit(List.of(saved));
+        alarmUnreadCounterService.incrementAfterCommit(List.of(saved));
+        alarmCtrService.recordDeliveredAfterCommit(saved.getType(),
+                normalizeJobs(jobs).stream().map(AlarmJobRequest::getRank).toList());
+    }
+
     private static Alarm baseAlarm(
             Long userId,
             String text,
@@ -0,0 +1,142 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.alarm.AlarmCtrDto;
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.AlarmCtrJdbcRepository;
+import com.www.goodjob.repository.AlarmCtrJdbcRepository.AlarmCtrDelta;
+import com.www.goodjob.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 발송/열람/공고 클릭 이벤트 집계 (알림 효과 측정용).
+ * - 요청 스레드: 커밋 후 (날짜, 알림 타입, 순위) 카운터에 LongAdder 증가만 (DB 접근 없음)
+ * - 1분 주기: 카운터를 sumThenReset 으로 비우고 alarm_ctr_daily 에 가산 upsert (실패 시 되돌려 다음 주기에 재시도)
+ * - 조회: 일별 집계 테이블만 읽음 (alarm_job 스캔 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlarmCtrService {
+
+    static final int ALARM_LEVEL = 0;   // 알림 단위 집계 행
+    static final int MAX_RANK = 10;     // 10위 이하는 10으로 묶음
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AlarmCtrJdbcRepository alarmCtrJdbcRepository;
+
+    private final Map<CtrKey, CtrCounts> counters = new ConcurrentHashMap<>();
+
+    /** 알림 1건 발송 + 포함된 공고 순위별 노출 */
+    public void recordDeliveredAfterCommit(AlarmType type, Collection<Integer> ranks) {
+        if (type == null) return;
+        List<Integer> copy = ranks == null ? List.of() : List.copyOf(ranks);
+        AfterCommit.run(() -> {
+            LocalDate today = LocalDate.now(KST);
+            counts(today, type, ALARM_LEVEL).delivered.increment();
+            for (Integer rank : copy) {
+                if (rank != null) counts(today, type, bucket(rank)).delivered.increment();
+            }
+        });
+    }
+
+    /** 미읽음 → 읽음 전환 */
+    public void recordOpenedAfterCommit(AlarmType type) {
+        if (type == null) return;
+        AfterCommit.run(() -> counts(LocalDate.now(KST), type, ALARM_LEVEL).opened.increment());
+    }
+
+    /** 알림 내 공고 첫 클릭 */
+    public void recordClickedAfterCommit(AlarmType type, Integer rank) {
+        if (type == null) return;
+        AfterCommit.run(() -> {
+            LocalDate today = LocalDate.now(KST);
+            counts(today, type, ALARM_LEVEL).clicked.increment();
+            if (rank != null) counts(today, type, bucket(rank)).clicked.increment();
+        });
+    }
+
+    /** 기간(KST 날짜, 양끝 포함) 합계 */
+    public List<AlarmCtrDto> getStats(LocalDate from, LocalDate to) {
+        return alarmCtrJdbcRepository.sumBetween(from, to).stream()
+                .map(AlarmCtrDto::from)
+                .toList();
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void flush() {
+        List<AlarmCtrDelta> deltas = drain();
+        if (deltas.isEmpty()) return;
+        try {
+            alarmCtrJdbcRepository.addAll(deltas, LocalDateTime.now(KST));
+            log.debug("[ALARM_CTR] flushed rows={}", deltas.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영되도록 되돌림
+            log.warn("[ALARM_CTR] flush failed, requeue rows={}", deltas.size(), e);
+            deltas.forEach(this::restore);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /* ===== Internals ===== */
+
+    List<AlarmCtrDelta> drain() {
+        LocalDate today = LocalDate.now(KST);
+        List<AlarmCtrDelta> deltas = new ArrayList<>();
+        for (Iterator<Map.Entry<CtrKey, CtrCounts>> it = counters.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<CtrKey, CtrCounts> e = it.next();
+            CtrKey key = e.getKey();
+            CtrCounts c = e.getValue();
+            long delivered = c.delivered.sumThenReset();
+            long opened = c.opened.sumThenReset();
+            long clicked = c.clicked.sumThenReset();
+
+            if (delivered != 0 || opened != 0 || clicked != 0) {
+                deltas.add(new AlarmCtrDelta(key.date(), key.type(), key.rank(), delivered, opened, clicked));
+            } else if (key.date().isBefore(today)) {
+                // 지난 날짜 키에는 더 이상 기록되지 않음
+                it.remove();
+            }
+        }
+        return deltas;
+    }
+
+    private void restore(AlarmCtrDelta d) {
+        CtrCounts c = counts(d.statDate(), d.type(), d.rank());
+        c.delivered.add(d.delivered());
+        c.opened.add(d.opened());
+        c.clicked.add(d.clicked());
+    }
+
+    private CtrCounts counts(LocalDate date, AlarmType type, int rank) {
+        return counters.computeIfAbsent(new CtrKey(date, type, rank), k -> new CtrCounts());
+    }
+
+    private static int bucket(int rank) {
+        return Math.max(1, Math.min(rank, MAX_RANK));
+    }
+
+    private record CtrKey(LocalDate date, AlarmType type, int rank) {
+    }
+
+    private static final class CtrCounts {
+        final LongAdder delivered = new LongAdder();
+        final LongAdder opened = new LongAdder();
+        final LongAdder clicked = new LongAdder();
+    }
+}
@@ -0,0 +1,275 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.alarm.AlarmDraft;
+import com.www.goodjob.dto.alarm.AlarmJobRequest;
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.ApplicationDueJdbcRepository;
+import com.www.goodjob.repository.ApplicationDueJdbcRepository.ApplicationDueRow;
+import com.www.goodjob.repository.RecommendTopNJdbcRepository;
+import com.www.goodjob.repository.RecommendTopNJdbcRepository.RecommendTopNRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 일일 요약 알림 엔진: 사용자별로 CV 추천(CV_MATCH)과 지원 마감 임박(APPLY_DUE)을 알림 1건으로 합친다.
+ *
+ * 샤드(user_id % shards) 1개 처리 단계
+ *  1) collect-cv  : cv_top_jobs 에서 오늘 창(08시 이후 공고)의 CV별 TOP N 을 스트리밍 → 사용자별 CV 섹션 (샤드 크기만큼만 메모리)
+ *  2) merge-due   : 마감 임박 지원 건을 user_id 순 스트리밍 → 사용자 경계마다 CV 섹션과 합쳐 초안 생성
+ *  3) write       : 초안을 WRITE_BATCH_SIZE 건씩 대량 생성기로 전달 (2단계와 교차 진행, 시간은 별도 집계)
+ * 섹션이 하나뿐인 사용자는 기존과 같은 CV_MATCH / APPLY_DUE 알림, 둘 이상이면 DIGEST 알림을 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlarmDigestService {
+
+    // CV 추천 섹션
+    static final int CV_TOP_N = CvTopJobService.TOP_N;
+    static final double CV_THRESHOLD = 10.0;
+    private static final String DEFAULT_CV_TITLE = "내 이력서";
+
+    // 마감 임박 섹션: 오늘(D0) ~ D+2, 최대 10건
+    static final int DUE_WINDOW_DAYS = 2;
+    static final int DUE_MAX_ITEMS = 10;
+
+    private static final int WRITE_BATCH_SIZE = 500;
+
+    private final RecommendTopNJdbcRepository recommendTopNRepository;
+    private final ApplicationDueJdbcRepository applicationDueRepository;
+    private final AlarmBulkCommandService alarmBulkCommandService;
+    private final MeterRegistry meterRegistry;
+
+    /** 샤드 1개 처리 */
+    public ShardResult runShard(int shard, int shards, LocalDate today, LocalDateTime now) {
+        ShardRun run = new ShardRun(today, now);
+
+        // 1) collect-cv
+        long t0 = System.nanoTime();
+        long cvRows = recommendTopNRepository.streamTopNPerUserAndCv(
+                CV_TOP_N, CV_THRESHOLD, CvTopJobService.windowStartOf(today), shard, shards, run::acceptCv);
+        long collectNanos = System.nanoTime() - t0;
+
+        // 2) merge-due (+ 중간 write)
+        long t1 = System.nanoTime();
+        long dueRows = applicationDueRepository.streamDuesBetween(
+                today, today.plusDays(DUE_WINDOW_DAYS), shard, shards, run::acceptDue);
+        run.finish();
+        long mergeNanos = System.nanoTime() - t1 - run.writeNanos;
+
+        record("collect-cv", collectNanos);
+        record("merge-due", mergeNanos);
+        record("write", run.writeNanos);
+
+        ShardResult result = new ShardResult(shard, cvRows, dueRows, run.users, run.generated, run.failedChunks,
+                collectNanos / 1_000_000, mergeNanos / 1_000_000, run.writeNanos / 1_000_000);
+        log.info("[DIGEST] shard={}/{} cvRows={} dueRows={} users={} generated={} failedChunks={} collect={}ms merge={}ms write={}ms",
+                shard, shards, cvRows, dueRows, run.users, run.generated, run.failedChunks,
+                result.collectMs(), result.mergeMs(), result.writeMs());
+        return result;
+    }
+
+    private void record(String phase, long nanos) {
+        Timer.builder("alarm.digest.phase")
+                .description("일일 요약 알림 단계별 소요 시간")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(nanos));
+    }
+
+    /* ===== 샤드 1회 실행 상태 ===== */
+
+    private final class ShardRun {
+
+        private final LocalDate today;
+        private final LocalDateTime now;
+
+        // 1단계 결과: userId → (cvId → CV 섹션), user_id 순
+        private final Map<Long, Map<Long, CvSection>> cvByUser = new LinkedHashMap<>();
+
+        // 2단계: 현재 사용자의 마감 임박 섹션
+        private Long dueUserId;
+        private final List<Long> dueJobs = new ArrayList<>(DUE_MAX_ITEMS);
+        private final long[] dueCounts = new long[DUE_WINDOW_DAYS + 1];
+
+        private final List<AlarmDraft> pending = new ArrayList<>(WRITE_BATCH_SIZE);
+        private int users;
+        private int generated;
+        private int failedChunks;
+        private long writeNanos;
+
+        ShardRun(LocalDate today, LocalDateTime now) {
+            this.today = today;
+            this.now = now;
+        }
+
+        void acceptCv(RecommendTopNRow row) {
+            cvByUser.computeIfAbsent(row.userId(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.cvId(), k -> new CvSection(row.cvId(), row.cvTitle()))
+                    .jobIds.add(row.jobId());
+        }
+
+        void acceptDue(ApplicationDueRow row) {
+            if (!row.userId().equals(dueUserId)) {
+                flushDueUser();
+                dueUserId = row.userId();
+            }
+            if (dueJobs.size() >= DUE_MAX_ITEMS) return;
+
+            int dday = (int) ChronoUnit.DAYS.between(today, row.applyEndDate());
+            if (dday < 0 || dday > DUE_WINDOW_DAYS) return;
+            dueJobs.add(row.jobId());
+            dueCounts[dday]++;
+        }
+
+        void finish() {
+            flushDueUser();
+            // 마감 임박 없이 CV 추천만 있는 사용자
+            for (var e : cvByUser.entrySet()) {
+                emit(e.getKey(), e.getValue().values(), List.of(), new long[DUE_WINDOW_DAYS + 1]);
+            }
+            cvByUser.clear();
+            write();
+        }
+
+        private void flushDueUser() {
+            if (dueUserId != null && !dueJobs.isEmpty()) {
+                Map<Long, CvSection> cv = cvByUser.remove(dueUserId);
+                emit(dueUserId, cv == null ? List.of() : cv.values(), dueJobs, dueCounts);
+            }
+            dueJobs.clear();
+            Arrays.fill(dueCounts, 0);
+        }
+
+        private void emit(Long userId, Collection<CvSection> cvSections, List<Long> due, long[] counts) {
+            AlarmDraft draft = buildDraft(userId, cvSections, due, counts, today, now);
+            if (draft == null) return;
+            users++;
+            pending.add(draft);
+            if (pending.size() >= WRITE_BATCH_SIZE) write();
+        }
+
+        private void write() {
+            if (pending.isEmpty()) return;
+            long t = System.nanoTime();
+            var bulk = alarmBulkCommandService.createAllIfNotExists(new ArrayList<>(pending));
+            generated += bulk.created().size();
+            failedChunks += bulk.failedChunks();
+            writeNanos += System.nanoTime() - t;
+            pending.clear();
+        }
+    }
+
+    static final class CvSection {
+        final Long cvId;
+        final String cvTitle;
+        final List<Long> jobIds = new ArrayList<>(CV_TOP_N);
+
+        CvSection(Long cvId, String cvTitle) {
+            this.cvId = cvId;
+            this.cvTitle = (cvTitle == null || cvTitle.isBlank()) ? DEFAULT_CV_TITLE : cvTitle;
+        }
+    }
+
+    /* ===== 초안 생성 ===== */
+
+    static AlarmDraft buildDraft(Long userId, Collection<CvSection> cvSections, List<Long> dueJobs,
+                                 long[] dueCounts, LocalDate today, LocalDateTime now) {
+        int sectionCount = cvSections.size() + (dueJobs.isEmpty() ? 0 : 1);
+        if (sectionCount == 0) return null;
+
+        List<Map<String, Object>> sections = new ArrayList<>(sectionCount);
+        List<AlarmJobRequest> jobs = new ArrayList<>();
+        List<String> summaries = new ArrayList<>(sectionCount);
+
+        for (CvSection cv : cvSections) {
+            Map<String, Object> section = cvParams(cv);
+            section.put("type", AlarmType.CV_MATCH.name());
+            section.put("titleCode", "CV_MATCH_TODAY");
+            section.put("jobIds", cv.jobIds);
+            sections.add(section);
+            for (Long jobId : cv.jobIds) jobs.add(new AlarmJobRequest(jobId, jobs.size() + 1));
+            summaries.add("‘%s’ 추천 %d건".formatted(cv.cvTitle, cv.jobIds.size()));
+        }
+
+        if (!dueJobs.isEmpty()) {
+            Map<String, Object> section = dueParams(dueCounts);
+            section.put("type", AlarmType.APPLY_DUE.name());
+            section.put("titleCode", "APPLY_DUE_SUMMARY");
+            section.put("jobIds", new ArrayList<>(dueJobs));
+            sections.add(section);
+            for (Long jobId : dueJobs) jobs.add(new AlarmJobRequest(jobId, jobs.size() + 1));
+            summaries.add("마감 임박 %d건".formatted(dueJobs.size()));
+        }
+
+        AlarmDraft.AlarmDraftBuilder draft = AlarmDraft.builder()
+                .userId(userId)
+                .dedupeKey("DIGEST:%d:%s".formatted(userId, today))
+                .sentAt(now)
+                .jobs(jobs);
+
+        if (sectionCount > 1) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("sections", sections);
+            return draft
+                    .type(AlarmType.DIGEST)
+                    .titleCode("DAILY_DIGEST")
+                    .alarmText("오늘의 알림: " + String.join(" · ", summaries))
+                    .params(params)
+                    .build();
+        }
+
+        // 섹션 1개: 기존 알림 형식 그대로
+        if (dueJobs.isEmpty()) {
+            CvSection cv = cvSections.iterator().next();
+            return draft
+                    .type(AlarmType.CV_MATCH)
+                    .titleCode("CV_MATCH_TODAY")
+                    .alarmText("‘%s’에 대한 오늘의 추천 공고 TOP %d (%.0f점 이상)".formatted(cv.cvTitle, cv.jobIds.size(), CV_THRESHOLD))
+                    .params(cvParams(cv))
+                    .cvId(cv.cvId)
+                    .cvTitle(cv.cvTitle)
+                    .build();
+        }
+        long total = dueCounts[0] + dueCounts[1] + dueCounts[2];
+        return draft
+                .type(AlarmType.APPLY_DUE)
+                .titleCode("APPLY_DUE_SUMMARY")
+                .alarmText("지원 마감 임박 %d건 (D0:%d, D1:%d, D2:%d)".formatted(total, dueCounts[0], dueCounts[1], dueCounts[2]))
+                .params(dueParams(dueCounts))
+                .build();
+    }
+
+    private static Map<String, Object> cvParams(CvSection cv) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("topN", cv.jobIds.size());
+        params.put("threshold", CV_THRESHOLD);
+        params.put("cvId", cv.cvId);
+        params.put("cvTitle", cv.cvTitle);
+        return params;
+    }
+
+    private static Map<String, Object> dueParams(long[] counts) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("total", counts[0] + counts[1] + counts[2]);
+        params.put("d0", counts[0]);
+        params.put("d1", counts[1]);
+        params.put("d2", counts[2]);
+        params.put("windowDays", DUE_WINDOW_DAYS);
+        return params;
+    }
+
+    /** failedChunks > 0 이면 일부 사용자 알림이 롤백된 것 → 샤드를 완료로 보지 않는다 */
+    public record ShardResult(int shard, long cvRows, long dueRows, int users, int generated, int failedChunks,
+                              long collectMs, long mergeMs, long writeMs) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.www.goodjob.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.dto.alarm.AlarmPushMessage;
+import com.www.goodjob.util.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 실시간 푸시 (SSE).
+ * - 생성 측: 알림 커밋 후 Redis 채널(alarm:push)로 publish → 어느 노드에서 생성됐든 모든 노드가 수신
+ * - 수신 측: 각 노드는 자기에게 연결된 사용자 emitter 에만 전달 (연결이 없으면 무시)
+ * - 연결 관리: 노드당 최대 연결 수 제한, 주기적 heartbeat 로 끊긴 연결 정리, 타임아웃 후 클라이언트 재연결
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlarmPushService implements MessageListener {
+
+    public static final String CHANNEL = "alarm:push";
+    static final String EVENT_CONNECTED = "connected";
+    static final String EVENT_ALARM = "alarm";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${alarm.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${alarm.sse.max-connections-per-node:5000}")
+    private int maxConnections;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private ThreadPoolExecutor heartbeatExecutor;
+
+    @PostConstruct
+    void init() {
+        // 연결이 많으면 순차 전송이 길어지므로 공용 스케줄러 풀 대신 전용 스레드에서 보낸다 (이전 회차가 돌고 있으면 건너뜀)
+        heartbeatExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), r -> {
+            Thread t = new Thread(r, "alarm-sse-heartbeat");
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        Gauge.builder("alarm.sse.connections", connections, AtomicInteger::get)
+                .description("이 노드의 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (heartbeatExecutor != null) heartbeatExecutor.shutdownNow();
+    }
+
+    /** 사용자 SSE 구독. 노드 연결 수 초과 시 503 (클라이언트는 재시도 간격 후 재연결) */
+    public SseEmitter subscribe(Long userId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "SSE 연결 수 초과");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitters.computeIfAbsent(userId, k -> new CopyOnWriteArraySet<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 연결 직후 더미 이벤트 1건 (일부 프록시는 첫 바이트 전까지 응답을 버퍼링)
+        send(userId, emitter, SseEmitter.event().name(EVENT_CONNECTED).data("ok"));
+        return emitter;
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 publish (롤백된 알림이 푸시되지 않도록) */
+    public void publishAfterCommit(List<Alarm> alarms) {
+        if (alarms == null || alarms.isEmpty()) return;
+        AfterCommit.run(() -> publish(alarms));
+    }
+
+    /** Redis 장애는 알림 생성 실패로 전파하지 않음 (클라이언트는 목록 재조회로 복구) */
+    public void publish(List<Alarm> alarms) {
+        for (Alarm alarm : alarms) {
+            try {
+                String json = objectMapper.writeValueAsString(AlarmPushMessage.from(alarm));
+                redisTemplate.convertAndSend(CHANNEL, json);
+            } catch (Exception e) {
+                log.warn("[ALARM_PUSH] publish failed: alarmId={}", alarm.getId(), e);
+            }
+        }
+    }
+
+    /** Redis 채널 수신 → 로컬 연결로 라우팅 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String json = new String(message.getBody(), StandardCharsets.UTF_8);
+            AlarmPushMessage push = objectMapper.readValue(json, AlarmPushMessage.class);
+            deliver(push, json);
+        } catch (Exception e) {
+            log.warn("[ALARM_PUSH] invalid message", e);
+        }
+    }
+
+    void deliver(AlarmPushMessage push, String json) {
+        Set<SseEmitter> targets = emitters.get(push.getUserId());
+        if (targets == null || targets.isEmpty()) return;
+
+        for (SseEmitter emitter : targets) {
+            send(push.getUserId(), emitter, SseEmitter.event()
+                    .name(EVENT_ALARM)
+                    .id(String.valueOf(push.getAlarmId()))
+                    .data(json, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /** 프록시/LB idle timeout 방지 + 끊긴 연결 감지 (comment 라인은 클라이언트 이벤트로 보이지 않음) */
+    @Scheduled(fixedDelayString = "${alarm.sse.heartbeat-ms:25000}", initialDelay = 25_000)
+    public void heartbeat() {
+        heartbeatExecutor.execute(this::sendHeartbeats);
+    }
+
+    void sendHeartbeats() {
+        emitters.forEach((userId, set) -> {
+            for (SseEmitter emitter : set) {
+                send(userId, emitter, SseEmitter.event().comment("hb"));
+            }
+        });
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /* ===== Internals ===== */
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 emitter
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (k, set) -> {
+            if (set.remove(emitter)) connections.decrementAndGet();
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
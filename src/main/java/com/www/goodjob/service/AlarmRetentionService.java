@@ -0,0 +1,234 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.repository.AlarmArchiveJdbcRepository;
+import com.www.goodjob.repository.AlarmArchiveJdbcRepository.AlarmRetentionRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 보존 정책: 읽은 지 오래된 알림을 alarm_archive / alarm_job_archive 로 이동.
+ * - 대상: is_read = true AND created_at < now - read-max-age-days (미읽음은 보존)
+ * - 방식: PK 순으로 chunk-size 건씩 스캔 → 청크마다 짧은 트랜잭션으로 복사+삭제 → pause-ms 휴식
+ * - 제한: 새벽 실행, max-duration-minutes 를 넘기면 중단하고 다음 실행에서 이어서 처리
+ * - 커서: 마지막 스캔 id 를 Redis 에 저장해 다음 실행은 그 뒤부터 스캔한다.
+ *   끝까지 처리하면 기준 시각 이전 마지막 id 를 저장하므로 매일 새로 기준을 넘긴 구간만 본다.
+ *   커서 뒤에 남은 미읽음 알림이 나중에 읽히는 경우는 full-scan-interval-days 마다 0부터 다시 훑어 처리
+ * - 실행: 스케줄러 스레드는 전용 단일 스레드로 넘기기만 한다 (pause 동안 공용 스케줄러 풀을 점유하지 않음)
+ * hot 테이블(alarm)을 작게 유지해 사용자 조회 인덱스가 메모리에 머물도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlarmRetentionService {
+
+    static final String CURSOR_KEY = "alarm:retention:cursor";
+    static final String FULL_SCAN_KEY = "alarm:retention:full-scan-date";
+
+    private final AlarmArchiveJdbcRepository archiveRepository;
+    private final PlatformTransactionManager txManager;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${alarm.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${alarm.retention.read-max-age-days:90}")
+    private int readMaxAgeDays;
+
+    @Value("${alarm.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${alarm.retention.pause-ms:100}")
+    private long pauseMs;
+
+    @Value("${alarm.retention.max-duration-minutes:30}")
+    private long maxDurationMinutes;
+
+    @Value("${alarm.retention.full-scan-interval-days:7}")
+    private int fullScanIntervalDays;
+
+    private final AtomicLong cursor = new AtomicLong();
+    private Counter archivedCounter;
+    private Timer runTimer;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        // 실행 중이면 다음 트리거는 버린다 (큐 없음)
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), r -> {
+            Thread t = new Thread(r, "alarm-retention");
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+        initMetrics();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    void initMetrics() {
+        archivedCounter = Counter.builder("alarm.retention.archived")
+                .description("보관 테이블로 이동한 알림 수")
+                .register(meterRegistry);
+        runTimer = Timer.builder("alarm.retention.run")
+                .description("보존 정책 1회 실행 시간")
+                .register(meterRegistry);
+        Gauge.builder("alarm.retention.cursor", cursor, AtomicLong::get)
+                .description("마지막으로 스캔한 alarm.id (다음 실행의 시작점)")
+                .register(meterRegistry);
+    }
+
+    /** 매일 04:00 KST (트래픽 최저 시간대) */
+    @Scheduled(cron = "${alarm.retention.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledRun() {
+        if (!enabled) return;
+        executor.execute(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                log.warn("[ALARM_RETENTION] run failed at cursor={}", cursor.get(), e);
+            }
+        });
+    }
+
+    public synchronized Result run() {
+        return runTimer.record(() -> archive(LocalDateTime.now()));
+    }
+
+    Result archive(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusDays(readMaxAgeDays);
+        long deadline = System.nanoTime() + Duration.ofMinutes(maxDurationMinutes).toNanos();
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        long scanned = 0;
+        long archived = 0;
+        boolean completed = false;
+        long start = readCursor();
+        if (start == 0) {
+            writeFullScanDate(now.toLocalDate());
+        }
+        cursor.set(start);
+        // 기준 시각 이전의 마지막 id: 끝까지 처리했을 때 다음 실행의 시작점
+        long boundary = start;
+
+        while (true) {
+            List<AlarmRetentionRow> rows = archiveRepository.findAfterId(cursor.get(), chunkSize);
+            if (rows.isEmpty()) {
+                completed = true;
+                break;
+            }
+            scanned += rows.size();
+
+            List<Long> ids = rows.stream()
+                    .filter(r -> r.read() && r.createdAt().isBefore(cutoff))
+                    .map(AlarmRetentionRow::id)
+                    .toList();
+            if (!ids.isEmpty()) {
+                Integer moved = tx.execute(status -> archiveRepository.moveToArchive(ids, now));
+                if (moved != null) {
+                    archived += moved;
+                    archivedCounter.increment(moved);
+                }
+            }
+
+            for (AlarmRetentionRow r : rows) {
+                if (r.createdAt().isBefore(cutoff)) boundary = r.id();
+            }
+            AlarmRetentionRow last = rows.get(rows.size() - 1);
+            cursor.set(last.id());
+            // id 는 생성 순서이므로 기준 시각 이후 행에 도달하면 더 볼 필요 없음
+            if (!last.createdAt().isBefore(cutoff) || rows.size() < chunkSize) {
+                completed = true;
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+            writeCursor(cursor.get());
+            pause();
+        }
+
+        if (completed) {
+            writeCursor(fullScanDue(now.toLocalDate()) ? 0 : boundary);
+        } else {
+            writeCursor(cursor.get());
+        }
+
+        Result result = new Result(scanned, archived, cursor.get(), completed);
+        log.info("[ALARM_RETENTION] cutoff={} scanned={} archived={} cursor={} completed={}",
+                cutoff, scanned, archived, result.lastId(), completed);
+        return result;
+    }
+
+    private long readCursor() {
+        try {
+            String v = redisTemplate.opsForValue().get(CURSOR_KEY);
+            return v == null || v.isBlank() ? 0 : Long.parseLong(v);
+        } catch (Exception e) {
+            log.warn("[ALARM_RETENTION] cursor read failed, scanning from 0", e);
+            return 0;
+        }
+    }
+
+    private void writeCursor(long id) {
+        try {
+            redisTemplate.opsForValue().set(CURSOR_KEY, Long.toString(id));
+        } catch (Exception e) {
+            log.warn("[ALARM_RETENTION] cursor write failed id={}", id, e);
+        }
+    }
+
+    private void writeFullScanDate(LocalDate date) {
+        try {
+            redisTemplate.opsForValue().set(FULL_SCAN_KEY, date.toString());
+        } catch (Exception e) {
+            log.warn("[ALARM_RETENTION] full-scan date write failed", e);
+        }
+    }
+
+    /** 마지막 전체 스캔 시작일로부터 full-scan-interval-days 가 지났으면 다음 실행은 0부터 */
+    private boolean fullScanDue(LocalDate today) {
+        try {
+            String v = redisTemplate.opsForValue().get(FULL_SCAN_KEY);
+            return v == null || !LocalDate.parse(v).plusDays(fullScanIntervalDays).isAfter(today);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) return;
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** scanned: 스캔 행 수, archived: 이동 건수, lastId: 이번 실행에서 마지막 스캔 id, completed: 시간 제한 전에 끝까지 처리 */
+    public record Result(long scanned, long archived, long lastId, boolean completed) {
+    }
+}
@@ -8,8 +8,8 @@ import com.www.goodjob.dto.alarm.*;
 import com.www.goodjob.enums.AlarmStatus;
 import com.www.goodjob.enums.AlarmType;
 import com.www.goodjob.repository.AlarmJobRepository;
+import com.www.goodjob.repository.AlarmJobSummaryProjection;
 import com.www.goodjob.repository.AlarmRepository;
-import com.www.goodjob.repository.JobBatchRepository;       // ⬅️ 추가
 import com.www.goodjob.repository.RecommendScoreRepository; // ⬅️ 추가
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,19 +21,27 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.*;                                         // ⬅️ 추가(Map, List, HashMap, ArrayList 등)
-import java.util.stream.Collectors;                         // ⬅️ 추가
 
 @Service
 @RequiredArgsConstructor
 public class AlarmService {
 
+    // 일괄 읽음 처리 시 UPDATE 1회가 갱신하는 최대 행 수
+    static final int MARK_ALL_READ_CHUNK = 5_000;
+
     private final AlarmRepository alarmRepository;
     private final AlarmJobRepository alarmJobRepository;
 
     // ⬇️ 점수/공고 조회에 필요한 의존성 추가
-    private final JobBatchRepository jobRepo;
+    private final JobHydrationService jobHydrationService;
     private final RecommendScoreRepository recommendScoreRepository;
 
+    // 미읽음 개수 캐시 (Redis)
+    private final AlarmUnreadCounterService alarmUnreadCounterService;
+
+    // 발송/열람/클릭 집계
+    private final AlarmCtrService alarmCtrService;
+
     /* CREATE */
     @Transactional
     public AlarmResponse create(Long actorUserId, boolean isAdmin, AlarmCreateRequest req) {
@@ -72,6 +80,9 @@ public class AlarmService {
                     .forEach(j -> alarmJobRepository.save(AlarmJob.of(saved.getId(), j.getJobId(), j.getRank())));
         }
 
+        alarmUnreadCounterService.incrementAfterCommit(List.of(saved));
+        alarmCtrService.recordDeliveredAfterCommit(saved.getType(),
+                req.getJobs() == null ? List.of() : req.getJobs().stream().map(AlarmJobRequest::getRank).toList());
         return toResponse(saved);
     }
 
@@ -106,7 +117,7 @@ public class AlarmService {
             // USER: 본인 소유만
             page = findPageForUser(actorUserId, unreadOnly, type, pageable);
         }
-        return page.map(this::toResponse);
+        return toResponses(page);
     }
 
     /* READ list (ADMIN: 특정 사용자 스코프 조회) */
@@ -117,18 +128,16 @@ public class AlarmService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자 전용 기능");
         }
         Page<Alarm> page = findPageForUser(targetUserId, unreadOnly, type, pageable);
-        return page.map(this::toResponse);
+        return toResponses(page);
     }
 
-    @Transactional(readOnly = true)
     public long countUnread(Long actorUserId) {
-        return alarmRepository.countByUserIdAndReadFalse(actorUserId);
+        return alarmUnreadCounterService.get(actorUserId);
     }
 
     /* ADMIN: 타 사용자 읽지 않은 개수 */
-    @Transactional(readOnly = true)
     public long countUnreadByAdmin(Long targetUserId) {
-        return alarmRepository.countByUserIdAndReadFalse(targetUserId);
+        return alarmUnreadCounterService.get(targetUserId);
     }
 
     /* UPDATE (부분/전체) */
@@ -177,7 +186,11 @@ public class AlarmService {
         if (!isAdmin && !alarm.getUserId().equals(actorUserId)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "권한 없음");
         }
-        alarm.markReadNow();
+        if (!alarm.isRead()) {
+            alarm.markReadNow();
+            alarmUnreadCounterService.decrementAfterCommit(alarm.getUserId(), 1);
+            alarmCtrService.recordOpenedAfterCommit(alarm.getType());
+        }
     }
 
     /* PATCH - read-all (my alarms) */
@@ -202,6 +215,9 @@ public class AlarmService {
         }
         alarmRepository.delete(alarm);
         // alarm_job은 FK on delete cascade
+        if (!alarm.isRead()) {
+            alarmUnreadCounterService.decrementAfterCommit(alarm.getUserId(), 1);
+        }
     }
 
     /* ===== Private Helpers ===== */
@@ -218,19 +234,25 @@ public class AlarmService {
         }
     }
 
+    /**
+     * 미읽음 일괄 읽음 처리: 엔티티 로딩 없이 bulk UPDATE.
+     * 호출 시점의 최대 미읽음 id 까지를 id 순으로 MARK_ALL_READ_CHUNK 건씩 갱신한다
+     * (대부분 UPDATE 1회, 미읽음이 많아도 문장당 잠금/undo 크기가 제한됨).
+     */
     @Transactional
     protected long markAllReadInternal(Long userId) {
-        var page = alarmRepository.findByUserIdAndRead(userId, false, Pageable.ofSize(500));
+        Long maxId = alarmRepository.findMaxUnreadId(userId);
+        if (maxId == null) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
         long updated = 0;
-        while (!page.isEmpty()) {
-            for (Alarm a : page.getContent()) {
-                a.markReadNow();
-                updated++;
-            }
-            if (page.hasNext()) {
-                page = alarmRepository.findByUserIdAndRead(userId, false, page.nextPageable());
-            } else break;
-        }
+        int affected;
+        do {
+            affected = alarmRepository.markReadChunk(userId, maxId, now, MARK_ALL_READ_CHUNK);
+            updated += affected;
+        } while (affected == MARK_ALL_READ_CHUNK);
+
+        alarmUnreadCounterService.decrementAfterCommit(userId, updated);
         return updated;
     }
 
@@ -247,25 +269,40 @@ public class AlarmService {
 
         if (alarmJob.getClickedAt() == null) {
             alarmJob.setClickedAt(LocalDateTime.now());
+            alarmCtrService.recordClickedAfterCommit(alarm.getType(), alarmJob.getRank());
         }
 
         // 선택 정책: 공고 클릭하면 알림도 읽음 처리하고 싶다면 함께 처리
         if (!alarm.isRead()) {
             alarm.markReadNow();
+            alarmUnreadCounterService.decrementAfterCommit(alarm.getUserId(), 1);
+            alarmCtrService.recordOpenedAfterCommit(alarm.getType());
         }
     }
 
-    /* DTO 변환 */
+    /* DTO 변환 (단건) */
     private AlarmResponse toResponse(Alarm alarm) {
-        var jobs = alarmJobRepository.findByAlarmIdOrderByRankAsc(alarm.getId())
-                .stream()
-                .map(j -> AlarmJobDto.builder()
-                        .jobId(j.getJobId())
-                        .rank(j.getRank())
-                        .clickedAt(j.getClickedAt())
-                        .build())
-                .toList();
+        return toResponse(alarm, findJobSummaries(List.of(alarm.getId())).getOrDefault(alarm.getId(), List.of()));
+    }
+
+    /* DTO 변환 (페이지): 페이지 내 알림의 공고 요약/점수를 쿼리 1회로 */
+    private Page<AlarmResponse> toResponses(Page<Alarm> page) {
+        Map<Long, List<AlarmJobDto>> jobsByAlarm = findJobSummaries(
+                page.getContent().stream().map(Alarm::getId).toList());
+        return page.map(a -> toResponse(a, jobsByAlarm.getOrDefault(a.getId(), List.of())));
+    }
+
+    /* alarmId → rank 오름차순 공고 요약 */
+    private Map<Long, List<AlarmJobDto>> findJobSummaries(List<Long> alarmIds) {
+        if (alarmIds.isEmpty()) return Map.of();
+        Map<Long, List<AlarmJobDto>> result = new HashMap<>();
+        for (AlarmJobSummaryProjection p : alarmJobRepository.findSummariesByAlarmIdIn(alarmIds)) {
+            result.computeIfAbsent(p.getAlarmId(), k -> new ArrayList<>()).add(AlarmJobDto.from(p));
+        }
+        return result;
+    }
 
+    private AlarmResponse toResponse(Alarm alarm, List<AlarmJobDto> jobs) {
         return AlarmResponse.builder()
                 .id(alarm.getId())
                 .createdAt(alarm.getCreatedAt())
@@ -300,11 +337,8 @@ public class AlarmService {
         if (rels.isEmpty()) return List.of();
         List<Long> jobIds = rels.stream().map(AlarmJob::getJobId).toList();
 
-        // 공고 조회 → DTO
-        var jobs = jobRepo.findByIdIn(jobIds);
-        Map<Long, JobDto> jobDtoMap = jobs.stream()
-                .map(JobDto::from)
-                .collect(Collectors.toMap(JobDto::getId, j -> j));
+        // 공고 조회 → DTO (지역/파비콘은 배치 조회)
+        Map<Long, JobDto> jobDtoMap = jobHydrationService.findJobDtosById(jobIds);
 
         // 점수: CV_MATCH && cvId 존재 시에만 조회
         Map<Long, Double> scoreMap = new HashMap<>();
@@ -0,0 +1,214 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.repository.AlarmRepository;
+import com.www.goodjob.repository.UserUnreadCountProjection;
+import com.www.goodjob.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 미읽음 알림 개수 캐시 (Redis: alarm:unread:{userId}).
+ * - 조회: 키가 있으면 O(1) GET, 없으면 DB count 후 적재 (lazy load)
+ * - 변경: 커밋 후 증감. 키가 없는 사용자는 건드리지 않음 (다음 조회 때 DB 기준으로 적재)
+ * - 정합성: 주기적으로 적재된 키를 DB 집계와 비교해 보정 + TTL 로 오차 상한
+ * Redis 장애 시에는 DB count 로 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlarmUnreadCounterService {
+
+    static final String KEY_PREFIX = "alarm:unread:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int RECONCILE_BATCH = 500;
+
+    // 키가 있을 때만 INCRBY, 음수가 되면 0으로 보정 (TTL 유지). 키가 없으면 -1
+    private static final String APPLY_DELTA_LUA = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local n = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if n < 0 then redis.call('INCRBY', KEYS[1], -n); n = 0 end
+            return n
+            """;
+    private static final RedisScript<Long> APPLY_DELTA = new DefaultRedisScript<>(APPLY_DELTA_LUA, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AlarmRepository alarmRepository;
+    private final MeterRegistry meterRegistry;
+
+    private Counter reconciledCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        reconciledCounter = Counter.builder("alarm.unread.reconciled")
+                .description("DB 집계와 달라 보정된 미읽음 카운터 수")
+                .register(meterRegistry);
+    }
+
+    public long get(Long userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(keyOf(userId));
+            if (cached != null) {
+                recordCacheLookup("hit");
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("[ALARM_UNREAD] redis read failed: userId={}", userId, e);
+            recordCacheLookup("error");
+            return alarmRepository.countByUserIdAndReadFalse(userId);
+        }
+
+        recordCacheLookup("miss");
+        long count = alarmRepository.countByUserIdAndReadFalse(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(keyOf(userId), String.valueOf(count), TTL);
+        } catch (Exception e) {
+            log.warn("[ALARM_UNREAD] redis load failed: userId={}", userId, e);
+        }
+        return count;
+    }
+
+    /** 생성된 알림만큼 증가 (커밋 후) */
+    public void incrementAfterCommit(List<Alarm> created) {
+        if (created == null || created.isEmpty()) return;
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Alarm a : created) {
+            if (!a.isRead()) deltas.merge(a.getUserId(), 1L, Long::sum);
+        }
+        AfterCommit.run(() -> applyAll(deltas));
+    }
+
+    /** 읽음/삭제 등으로 미읽음이 줄어든 만큼 감소 (커밋 후) */
+    public void decrementAfterCommit(Long userId, long count) {
+        if (count <= 0) return;
+        AfterCommit.run(() -> applyAll(Map.of(userId, -count)));
+    }
+
+    /** 사용자별 증감을 pipeline 한 번으로 반영 */
+    void applyAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        byte[] script = APPLY_DELTA_LUA.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (deltas.size() == 1) {
+                Map.Entry<Long, Long> e = deltas.entrySet().iterator().next();
+                redisTemplate.execute(APPLY_DELTA, List.of(keyOf(e.getKey())), String.valueOf(e.getValue()));
+                return;
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<Long, Long> e : deltas.entrySet()) {
+                    connection.scriptingCommands().eval(
+                            script, ReturnType.INTEGER, 1,
+                            keyOf(e.getKey()).getBytes(StandardCharsets.UTF_8),
+                            String.valueOf(e.getValue()).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영 실패 시 어긋난 값이 남지 않도록 해당 키 제거 → 다음 조회 때 DB 기준 재적재
+            log.warn("[ALARM_UNREAD] redis update failed, evicting {} keys", deltas.size(), e);
+            evict(deltas.keySet());
+        }
+    }
+
+    /** 10분마다: 적재된 카운터를 DB 집계와 비교해 다른 값만 덮어씀 */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 60_000)
+    public void reconcile() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(RECONCILE_BATCH).build();
+        int checked = 0;
+        int fixed = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(RECONCILE_BATCH);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == RECONCILE_BATCH) {
+                    checked += batch.size();
+                    fixed += reconcileBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                checked += batch.size();
+                fixed += reconcileBatch(batch);
+            }
+        } catch (Exception e) {
+            log.warn("[ALARM_UNREAD] reconcile failed", e);
+            return;
+        }
+        reconciledCounter.increment(fixed);
+        log.info("[ALARM_UNREAD] reconcile checked={} fixed={}", checked, fixed);
+    }
+
+    /* ===== Internals ===== */
+
+    /** cache.requests{cache=alarm.unread, result=hit|miss|error} */
+    private void recordCacheLookup(String result) {
+        meterRegistry.counter("cache.requests", "cache", "alarm.unread", "result", result).increment();
+    }
+
+    int reconcileBatch(List<String> keys) {
+        List<String> cached = redisTemplate.opsForValue().multiGet(keys);
+        if (cached == null) return 0;
+
+        Map<Long, String> cachedByUser = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Long userId = parseUserId(keys.get(i));
+            if (userId != null && cached.get(i) != null) cachedByUser.put(userId, cached.get(i));
+        }
+        if (cachedByUser.isEmpty()) return 0;
+
+        Map<Long, Long> actual = new HashMap<>();
+        for (UserUnreadCountProjection p : alarmRepository.countUnreadGroupByUserIdIn(cachedByUser.keySet())) {
+            actual.put(p.getUserId(), p.getUnreadCount());
+        }
+
+        Map<String, String> fixes = new HashMap<>();
+        cachedByUser.forEach((userId, value) -> {
+            String expected = String.valueOf(actual.getOrDefault(userId, 0L));
+            if (!expected.equals(value)) fixes.put(keyOf(userId), expected);
+        });
+        if (fixes.isEmpty()) return 0;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            fixes.forEach((key, value) -> connection.stringCommands().setEx(
+                    key.getBytes(StandardCharsets.UTF_8), TTL.getSeconds(), value.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+        return fixes.size();
+    }
+
+    private void evict(Collection<Long> userIds) {
+        try {
+            redisTemplate.delete(userIds.stream().map(AlarmUnreadCounterService::keyOf).toList());
+        } catch (Exception e) {
+            log.warn("[ALARM_UNREAD] evict failed", e);
+        }
+    }
+
+    private static Long parseUserId(String key) {
+        try {
+            return Long.parseLong(key.substring(KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
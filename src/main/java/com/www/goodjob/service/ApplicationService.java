@@ -6,6 +6,7 @@ import com.www.goodjob.domain.User;
 import com.www.goodjob.dto.ApplicationResponse;
 import com.www.goodjob.dto.ApplicationUpdateRequest;
 import com.www.goodjob.enums.ApplicationStatus;
+import com.www.goodjob.enums.EngagementType;
 import com.www.goodjob.repository.ApplicationRepository;
 import com.www.goodjob.repository.JobRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import java.util.NoSuchElementException;
 public class ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
+    private final JobEngagementService jobEngagementService;
 
     public void addApplication(User user, Long jobId) {
         if (applicationRepository.existsByUserIdAndJobId(user.getId(), jobId)) {
@@ -35,6 +37,7 @@ public class ApplicationService {
                 .build();
 
         applicationRepository.save(application);
+        jobEngagementService.recordAfterCommit(jobId, EngagementType.APPLICATION, 1);
     }
 
     public List<ApplicationResponse> getApplications(User user) {
@@ -77,6 +80,7 @@ public class ApplicationService {
                 .orElseThrow(() -> new NoSuchElementException("해당 공고에 대한 지원 이력이 없습니다."));
 
         applicationRepository.delete(app);
+        jobEngagementService.recordAfterCommit(jobId, EngagementType.APPLICATION, -1);
     }
 
 }
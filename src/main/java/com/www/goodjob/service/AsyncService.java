@@ -11,6 +11,8 @@ import com.www.goodjob.dto.JobDto;
 import com.www.goodjob.dto.ScoredJobDto;
 import com.www.goodjob.repository.*;
 import com.www.goodjob.util.ClaudeClient;
+import com.www.goodjob.util.Spans;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,9 +47,13 @@ public class AsyncService {
     private final RecommendScoreRepository recommendScoreRepository;
     private final RecommendScoreJdbcRepository jdbcRepository;
     private final CvFeedbackRepository cvFeedbackRepository;
+    private final CvTopJobService cvTopJobService;
 
     private final ClaudeClient claudeClient;
 
+    /** @Async 작업 단계 span. 호출 스레드의 trace 는 AsyncConfig 의 TaskDecorator 가 이어준다 */
+    private final Tracer tracer;
+
 
     @Value("${FASTAPI_HOST}")
     private String fastapiHost;
@@ -55,13 +61,10 @@ public class AsyncService {
     @Autowired
     private ObjectMapper objectMapper;
 
+
     @Async
     public void cacheRecommendForUser(Long cvId) {
 
-        long startTime = System.nanoTime();
-        long responseTime = 0;
-        long endTime;
-        long durationMs;
         int totalJobCount = (int) jobRepository.count();
 
         String url = fastapiHost + "/recommend-jobs";
@@ -80,17 +83,13 @@ public class AsyncService {
             ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
             String responseBody = response.getBody();
 
-            responseTime = System.nanoTime();
-            durationMs = (responseTime - startTime) / 1_000_000;
-            log.info("[Debug] 추천 리스트 응답 시간: {}ms (cvId={})", durationMs, cvId);
-
             String zsetKey = "recommendation:" + cvId;
 
             JsonNode root = objectMapper.readTree(responseBody);
             JsonNode recommendedJobsNode = root.get("recommended_jobs");
 
 
-            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Spans.inSpan(tracer, "recommend.cache.write", () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
                 for (JsonNode rec : recommendedJobsNode) {
                     String jobIdStr = rec.get("job_id").asText();
                     double score = rec.get("score").asDouble();
@@ -102,17 +101,13 @@ public class AsyncService {
                     );
                 }
                 return null;
-            });
+            }));
 
             redisTemplate.expire(zsetKey, Duration.ofHours(6));
             log.info("[Debug] 추천 점수 전체 캐싱 완료: cvId=" + cvId);
 
         } catch (Exception e) {
             log.error("[Debug] 추천 점수 캐싱 실패: cvId=" + cvId, e);
-        } finally {
-            endTime = System.nanoTime();
-            durationMs = (endTime - responseTime) / 1_000_000;
-            log.info("[Debug] 추천 캐싱 수행 시간: {}ms (userId={})", durationMs, cvId);
         }
     }
 
@@ -121,7 +116,10 @@ public class AsyncService {
     public void saveRecommendScores(Long cvId, List<ScoredJobDto> recommendations) {
 
         try {
-            jdbcRepository.batchUpsert(cvId, recommendations);
+            Spans.inSpan(tracer, "recommend.score.save", () -> {
+                jdbcRepository.batchUpsert(cvId, recommendations);
+                cvTopJobService.refresh(cvId);
+            });
             log.info("[Recommend] 추천 점수 일괄 저장 성공: cvId={}", cvId);
         } catch (Exception e) {
             log.error("[Recommend] 추천 점수 일괄 저장 실패: cvId={}, error={}", cvId, e.getMessage(), e);
@@ -161,49 +159,35 @@ public class AsyncService {
     @Async
     @Transactional
     public void generateFeedbackAsync(Long cvId, Long jobId) {
-        long totalStart = System.nanoTime();
-
         try {
-            long startScoreFetch = System.nanoTime();
-            RecommendScore score = recommendScoreRepository.findByCvIdAndJobId(cvId, jobId);
-            long endScoreFetch = System.nanoTime();
-            log.info("[Feedback] RecommendScore fetch 시간: {}ms", (endScoreFetch - startScoreFetch) / 1_000_000);
-
-            Long recommendScoreId = score.getId();
+            Spans.inSpan(tracer, "recommend.feedback", () -> generateFeedback(cvId, jobId));
+        } catch (Exception e) {
+            log.error("[Feedback] 피드백 생성 실패: cvId={}, jobId={}, error={}", cvId, jobId, e.getMessage(), e);
+        }
+    }
 
-            long startFeedbackCheck = System.nanoTime();
-            Optional<CvFeedback> existing = cvFeedbackRepository.findByRecommendScore_Id(recommendScoreId);
-            long endFeedbackCheck = System.nanoTime();
-            log.info("[Feedback] 피드백 존재 여부 확인 시간: {}ms", (endFeedbackCheck - startFeedbackCheck) / 1_000_000);
+    private void generateFeedback(Long cvId, Long jobId) {
+        RecommendScore score = recommendScoreRepository.findByCvIdAndJobId(cvId, jobId);
 
-            if (existing.isPresent()) {
-                log.info("[Feedback] 기존 피드백 존재함 → 생성 생략 (cvId={}, jobId={})", cvId, jobId);
-                return;
-            }
+        Long recommendScoreId = score.getId();
 
-            long startClaude = System.nanoTime();
-            String feedback = claudeClient.generateFeedback(
-                    score.getCv().getRawText(),
-                    score.getJob().getRawJobsText()
-            );
-            long endClaude = System.nanoTime();
-            log.info("[Feedback] Claude 피드백 생성 시간: {}ms", (endClaude - startClaude) / 1_000_000);
-
-            long startSave = System.nanoTime();
-            CvFeedback newFeedback = CvFeedback.builder()
-                    .recommendScore(score)
-                    .feedback(feedback)
-                    .confirmed(false)
-                    .build();
-            cvFeedbackRepository.save(newFeedback);
-            long endSave = System.nanoTime();
-            log.info("[Feedback] 피드백 저장 시간: {}ms", (endSave - startSave) / 1_000_000);
+        Optional<CvFeedback> existing = cvFeedbackRepository.findByRecommendScore_Id(recommendScoreId);
 
-        } catch (Exception e) {
-            log.error("[Feedback] 피드백 생성 실패: cvId={}, jobId={}, error={}", cvId, jobId, e.getMessage(), e);
-        } finally {
-            long totalEnd = System.nanoTime();
-            log.info("[Feedback] 전체 비동기 피드백 생성 수행 시간: {}ms (cvId={}, jobId={})", (totalEnd - totalStart) / 1_000_000, cvId, jobId);
+        if (existing.isPresent()) {
+            log.info("[Feedback] 기존 피드백 존재함 → 생성 생략 (cvId={}, jobId={})", cvId, jobId);
+            return;
         }
+
+        String feedback = claudeClient.generateFeedback(
+                score.getCv().getRawText(),
+                score.getJob().getRawJobsText()
+        );
+
+        CvFeedback newFeedback = CvFeedback.builder()
+                .recommendScore(score)
+                .feedback(feedback)
+                .confirmed(false)
+                .build();
+        cvFeedbackRepository.save(newFeedback);
     }
 }
@@ -0,0 +1,193 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.AutocompleteSuggestionDto;
+import com.www.goodjob.dto.KeywordCount;
+import com.www.goodjob.enums.SuggestionType;
+import com.www.goodjob.enums.TrendWindow;
+import com.www.goodjob.repository.JobLightRepository;
+import com.www.goodjob.repository.JobSuggestSourceProjection;
+import com.www.goodjob.repository.SearchLogRepository;
+import com.www.goodjob.util.AutocompleteIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 검색어 자동완성.
+ * - 원천: 공개 공고의 제목/회사명 + 인기 검색어(search_log, 실시간 트렌드)
+ * - 조회: 메모리 불변 인덱스(AutocompleteIndex) 참조만 하므로 DB/Redis 접근 없음
+ * - 갱신: 5분마다 신규 공고(id 커서)와 오늘의 트렌드 키워드만 반영, 1시간마다 전체 재빌드
+ *   (인덱스는 새로 빌드 후 교체 → 조회 스레드는 락 없이 항상 완성된 인덱스를 본다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Duration FULL_REBUILD_INTERVAL = Duration.ofHours(1);
+
+    private static final int KEYWORD_SOURCE_LIMIT = 2000;   // 전체 빌드 시 search_log 상위 키워드 수
+    private static final int TRENDING_SOURCE_LIMIT = 200;   // 증분 반영 시 오늘의 트렌드 키워드 수
+    private static final long KEYWORD_BOOST = 3;            // 검색어 1회 = 공고 3건 가중치
+
+    private final JobLightRepository jobLightRepository;
+    private final SearchLogRepository searchLogRepository;
+    private final KeywordTrendService keywordTrendService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${autocomplete.p99-budget-ms:30}")
+    private long p99BudgetMs;
+
+    private final AtomicReference<AutocompleteIndex> index = new AtomicReference<>(AutocompleteIndex.empty());
+
+    // 후보 원천 누적 (정규화 텍스트 → 후보). refresh()에서만 변경
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private long lastJobId = 0L;
+    private LocalDateTime lastFullBuildAt;
+
+    private Timer latencyTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        latencyTimer = Timer.builder("autocomplete.suggest")
+                .description("자동완성 조회 지연")
+                .publishPercentiles(0.5, 0.99)
+                .serviceLevelObjectives(Duration.ofMillis(p99BudgetMs))
+                .register(meterRegistry);
+    }
+
+    public List<AutocompleteSuggestionDto> suggest(String query, int size) {
+        long start = System.nanoTime();
+        try {
+            return index.get().suggest(query, size).stream()
+                    .map(AutocompleteSuggestionDto::from)
+                    .toList();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            latencyTimer.record(Duration.ofNanos(elapsed));
+            if (elapsed > Duration.ofMillis(p99BudgetMs).toNanos()) {
+                // 사용자 입력 원문은 로그에 남기지 않음 (길이만)
+                log.warn("[AUTOCOMPLETE] budget exceeded: {}ms > {}ms (queryLength={})",
+                        elapsed / 1_000_000, p99BudgetMs, query == null ? 0 : query.length());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 300_000, initialDelay = 10_000)
+    public void refresh() {
+        refresh(LocalDateTime.now(KST));
+    }
+
+    synchronized void refresh(LocalDateTime now) {
+        try {
+            if (lastFullBuildAt == null || lastFullBuildAt.plus(FULL_REBUILD_INTERVAL).isBefore(now)) {
+                rebuildAll();
+                lastFullBuildAt = now;
+            } else {
+                applyIncrement();
+            }
+        } catch (Exception e) {
+            // 실패 시 기존 인덱스를 그대로 서빙
+            log.warn("[AUTOCOMPLETE] refresh failed", e);
+        }
+    }
+
+    /* ===== Internals ===== */
+
+    private void rebuildAll() {
+        long start = System.nanoTime();
+        candidates.clear();
+        lastJobId = 0L;
+
+        addJobs(jobLightRepository.findPublicSuggestSources());
+        for (KeywordCount kc : searchLogRepository.findTopKeywords(PageRequest.of(0, KEYWORD_SOURCE_LIMIT))) {
+            addKeyword(kc.getKeyword(), kc.getCount());
+        }
+        addTrendingKeywords();
+
+        publish();
+        log.info("[AUTOCOMPLETE] full rebuild: candidates={} keys={} took={}ms",
+                candidates.size(), index.get().keyCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void applyIncrement() {
+        List<JobSuggestSourceProjection> newJobs = jobLightRepository.findPublicSuggestSourcesAfterId(lastJobId);
+        int before = candidates.size();
+        addJobs(newJobs);
+        addTrendingKeywords();
+
+        if (!newJobs.isEmpty() || candidates.size() != before) {
+            publish();
+        }
+        log.debug("[AUTOCOMPLETE] increment: newJobs={} candidates={}", newJobs.size(), candidates.size());
+    }
+
+    private void addJobs(List<JobSuggestSourceProjection> jobs) {
+        for (JobSuggestSourceProjection j : jobs) {
+            candidate(j.getCompanyName(), SuggestionType.COMPANY).ifPresent(c -> c.jobCount++);
+            candidate(j.getTitle(), SuggestionType.TITLE).ifPresent(c -> c.jobCount++);
+            if (j.getId() != null && j.getId() > lastJobId) lastJobId = j.getId();
+        }
+    }
+
+    private void addTrendingKeywords() {
+        for (KeywordCount kc : keywordTrendService.getTopKeywords(TrendWindow.DAY, TRENDING_SOURCE_LIMIT)) {
+            addKeyword(kc.getKeyword(), kc.getCount());
+        }
+    }
+
+    private void addKeyword(String keyword, long count) {
+        // 누적 카운트(전체)와 오늘 카운트가 겹치므로 합산 대신 큰 값 유지
+        candidate(keyword, SuggestionType.KEYWORD).ifPresent(c -> c.keywordCount = Math.max(c.keywordCount, count));
+    }
+
+    private Optional<Candidate> candidate(String text, SuggestionType type) {
+        if (text == null || text.isBlank()) return Optional.empty();
+        String display = text.trim().replaceAll("\\s+", " ");
+        Candidate c = candidates.computeIfAbsent(display.toLowerCase(Locale.ROOT), k -> new Candidate(display, type));
+        c.promote(type);
+        return Optional.of(c);
+    }
+
+    private void publish() {
+        List<AutocompleteIndex.Entry> entries = new ArrayList<>(candidates.size());
+        for (Candidate c : candidates.values()) {
+            entries.add(new AutocompleteIndex.Entry(c.text, c.type, c.weight()));
+        }
+        index.set(AutocompleteIndex.build(entries));
+    }
+
+    private static final class Candidate {
+        final String text;
+        SuggestionType type;
+        long jobCount;
+        long keywordCount;
+
+        Candidate(String text, SuggestionType type) {
+            this.text = text;
+            this.type = type;
+        }
+
+        /** 표시 타입 우선순위: KEYWORD > COMPANY > TITLE (enum 선언 순서) */
+        void promote(SuggestionType other) {
+            if (other.ordinal() < type.ordinal()) type = other;
+        }
+
+        long weight() {
+            return jobCount + keywordCount * KEYWORD_BOOST;
+        }
+    }
+}
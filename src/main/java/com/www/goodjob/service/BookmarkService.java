@@ -1,8 +1,8 @@
 package com.www.goodjob.service;
 
 import com.www.goodjob.domain.*;
-import com.www.goodjob.dto.JobDto;
 import com.www.goodjob.dto.ScoredJobDto;
+import com.www.goodjob.enums.EngagementType;
 import com.www.goodjob.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +20,8 @@ public class BookmarkService {
     private final JobRepository jobRepository;
     private final RecommendScoreRepository recommendScoreRepository;
     private final CvRepository cvRepository;
+    private final JobEngagementService jobEngagementService;
+    private final JobHydrationService jobHydrationService;
 
     @Transactional
     public boolean addBookmark(Long userId, Long jobId) {
@@ -40,6 +42,7 @@ public class BookmarkService {
                 .build();
 
         bookmarkRepository.save(bookmark);
+        jobEngagementService.recordAfterCommit(jobId, EngagementType.BOOKMARK, 1);
         return true;
     }
 
@@ -52,36 +55,35 @@ public class BookmarkService {
         }
 
         bookmarkRepository.delete(bookmark);
+        jobEngagementService.recordAfterCommit(jobId, EngagementType.BOOKMARK, -1);
         return true;
     }
 
+    /**
+     * 북마크 공고 + 사용자 CV 중 최고 추천 점수.
+     * 쿼리 수는 북마크/CV 수와 무관: 북마크+공고 1, CV id 1, 점수 1, 지역 1, 파비콘 있으면 1 (HotPathQueryCountTest 로 고정)
+     */
     @Transactional(readOnly = true)
     public List<ScoredJobDto> getBookmarkedJobsByUser(User user) {
-        List<Bookmark> bookmarks = bookmarkRepository.findAllByUser(user);
-        List<Job> jobs = bookmarks.stream().map(Bookmark::getJob).toList();
-        List<Long> jobIds = jobs.stream().map(Job::getId).toList();
+        List<Job> jobs = bookmarkRepository.findAllWithJobByUser(user).stream()
+                .map(Bookmark::getJob)
+                .toList();
 
-        List<Cv> cvs = cvRepository.findAllByUser(user);
-        if (cvs.isEmpty()) {
+        List<Long> cvIds = cvRepository.findIdsByUser(user);
+        if (cvIds.isEmpty()) {
             throw new RuntimeException("CV not found for user");
         }
-
-        List<RecommendScore> allScores = new ArrayList<>();
-        for (Cv cv : cvs) {
-            allScores.addAll(
-                    recommendScoreRepository.findByCvIdAndJobIdIn(cv.getId(), jobIds)
-            );
+        if (jobs.isEmpty()) {
+            return List.of();
         }
 
+        List<Long> jobIds = jobs.stream().map(Job::getId).toList();
         Map<Long, Float> scoreMap = new HashMap<>();
-        for (RecommendScore rs : allScores) {
-            Long jobId = rs.getJob().getId();
-            float score = rs.getScore();
-            scoreMap.put(jobId, Math.max(scoreMap.getOrDefault(jobId, 0f), score));
+        for (JobScoreProjection row : recommendScoreRepository.findMaxScoresByCvIdInAndJobIdIn(cvIds, jobIds)) {
+            scoreMap.put(row.getJobId(), row.getScore());
         }
 
-        return jobs.stream()
-                .map(JobDto::from)
+        return jobHydrationService.toDtos(jobs).stream()
                 .map(dto -> ScoredJobDto.from(
                         dto,
                         scoreMap.getOrDefault(dto.getId(), 0f),
@@ -29,6 +29,7 @@ public class CvService {
     private final ClaudeClient claudeClient;
     private final RedisTemplate<String, String> redisTemplate;
     private final S3Service s3Service;
+    private final CvTopJobService cvTopJobService;
 
     @Value("${FASTAPI_HOST}")
     private String fastapiHost;
@@ -42,27 +43,18 @@ public class CvService {
 
         String url = fastapiHost + "/delete-cv?cv_id=" + cvId;
         try {
-            long t1 = System.currentTimeMillis();
-
             recommendScoreRepository.deleteByCvId(cvId);
-            long t2 = System.currentTimeMillis();
+            cvTopJobService.deleteByCvId(cvId);
 
             cvRepository.delete(cv);
-            long t3 = System.currentTimeMillis();
 
             restTemplate.delete(url);
-            long t4 = System.currentTimeMillis();
 
             // Redis 캐시 삭제
             String zsetKey = "recommendation:" + cvId;
             redisTemplate.delete(zsetKey);
             log.info("[CV 삭제] Redis 캐시 삭제 완료: key={}", zsetKey);
 
-            log.info("[CV 삭제] recommendScoreRepository.deleteByCvId: {}ms", (t2 - t1));
-            log.info("[CV 삭제] cvRepository.delete: {}ms", (t3 - t2));
-            log.info("[CV 삭제] restTemplate.delete (FastAPI 호출): {}ms", (t4 - t3));
-            log.info("[CV 삭제] 전체 삭제 소요 시간: {}ms (cvId={})", (t4 - t1), cvId);
-
             s3Service.deleteFileName(fileName);
 
             return "CV " + cvId + " deleted from Elasticsearch, RDB, and Redis.";
@@ -0,0 +1,87 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.repository.CvTopJobJdbcRepository;
+import com.www.goodjob.repository.CvTopJobJdbcRepository.TopJobRow;
+import com.www.goodjob.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * cv_top_jobs 유지: CV별로 "오늘 08시 이후 등록된 공개 공고" 중 추천 점수 상위 TOP_N 만 보관.
+ * - 점수 저장(batchUpsert) 직후 해당 CV 만 다시 계산 → 일일 요약 알림은 이 작은 테이블만 읽는다.
+ * - 08시 이후 공고의 점수는 반드시 그 이후의 저장으로 들어오므로 따로 전체 재계산이 필요 없다.
+ * - 창이 바뀌면(08:05) 지난 창의 행을 지운다.
+ * - 갱신은 점수 저장 커밋 뒤 별도 트랜잭션에서: 일반 SELECT 로 읽고 DELETE + 배치 INSERT.
+ *   실패하면 그 트랜잭션만 롤백되어 기존 상위 N 이 남고, 점수 저장에는 영향이 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CvTopJobService {
+
+    public static final int TOP_N = 5;
+    public static final int WINDOW_START_HOUR = 8;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final CvTopJobJdbcRepository cvTopJobJdbcRepository;
+    private final PlatformTransactionManager txManager;
+
+    /** 점수 저장 트랜잭션 안에서 호출 → 커밋 후 갱신 (롤백되면 갱신하지 않음) */
+    public void refresh(Long cvId) {
+        AfterCommit.run(() -> refreshNow(cvId));
+    }
+
+    private void refreshNow(Long cvId) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDateTime windowStart = windowStartAt(now);
+        try {
+            Integer rows = newTx().execute(status -> {
+                List<TopJobRow> top = cvTopJobJdbcRepository.findTopN(cvId, windowStart, TOP_N);
+                cvTopJobJdbcRepository.replace(cvId, top, windowStart, now);
+                return top.size();
+            });
+            log.debug("[CV_TOP_JOBS] refreshed cvId={} rows={}", cvId, rows);
+        } catch (Exception e) {
+            log.warn("[CV_TOP_JOBS] refresh failed: cvId={}", cvId, e);
+        }
+    }
+
+    public void deleteByCvId(Long cvId) {
+        cvTopJobJdbcRepository.deleteByCvId(cvId);
+    }
+
+    @Scheduled(cron = "0 5 8 * * *", zone = "Asia/Seoul")
+    public void purgeExpiredWindows() {
+        int deleted = cvTopJobJdbcRepository.deleteWindowsBefore(windowStartAt(LocalDateTime.now(KST)));
+        log.info("[CV_TOP_JOBS] purged rows={}", deleted);
+    }
+
+    /** date 의 집계 창 시작 시각 */
+    public static LocalDateTime windowStartOf(LocalDate date) {
+        return date.atTime(WINDOW_START_HOUR, 0);
+    }
+
+    /** 커밋 콜백 안에서도 쓸 수 있도록 항상 새 트랜잭션 */
+    private TransactionTemplate newTx() {
+        TransactionTemplate tpl = new TransactionTemplate(txManager);
+        tpl.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tpl;
+    }
+
+    /** now 가 속한 창의 시작 시각 (08시 이전이면 전날 08시) */
+    static LocalDateTime windowStartAt(LocalDateTime now) {
+        LocalDate date = now.getHour() < WINDOW_START_HOUR ? now.toLocalDate().minusDays(1) : now.toLocalDate();
+        return windowStartOf(date);
+    }
+}
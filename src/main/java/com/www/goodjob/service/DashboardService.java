@@ -4,6 +4,8 @@ import com.www.goodjob.dto.DashboardDto;
 import com.www.goodjob.dto.KeywordCount;
 import com.www.goodjob.enums.TossPaymentPlan;
 import com.www.goodjob.repository.*;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository.JobEventDayRow;
+import com.www.goodjob.util.HyperLogLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -11,94 +13,154 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
+    // 인기 검색어 집계 구간 (이동 구간이라 주 경계에서 비지 않음)
+    private static final int TOP_KEYWORD_DAYS = 7;
+    // 활성 사용자 이동 구간 (오늘 포함)
+    private static final int WAU_DAYS = 7;
+    private static final int MAU_DAYS = 30;
+
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final UserFeedbackRepository userFeedbackRepository;
     private final SearchLogRepository searchLogRepository;
-    private final JobEventLogRepository jobEventLogRepository;
+    private final JobEventRollupService jobEventRollupService;
+    private final KeywordTrendService keywordTrendService;
 
+    /** 호출 스레드에서 순차 계산 */
     public DashboardDto getDashboardStats() {
+        try {
+            return computeStatsAsync(Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 서로 독립인 하위 집계(유저/공고/만족도/검색어/이벤트·활성 사용자)를 executor 에서 병렬 실행.
+     * 각 하위 집계는 개별 커넥션에서 단건 조회만 하므로 트랜잭션으로 묶지 않는다.
+     */
+    public CompletableFuture<DashboardDto> computeStatsAsync(Executor executor) {
         LocalDateTime startOfThisWeek = LocalDate.now().with(java.time.DayOfWeek.MONDAY).atStartOfDay();
         LocalDateTime startOfLastWeek = startOfThisWeek.minusWeeks(1);
         LocalDateTime endOfLastWeek = startOfThisWeek.minusSeconds(1);
 
-        // 1. 총 유저 수
-        long totalUsers = userRepository.count();
-
-        // 2. 이번 주 생성 유저 수
-        long thisWeekUsers = userRepository.countByCreatedAtAfter(startOfThisWeek);
-
-        // 3. 지난 주 생성 유저 수
-        long lastWeekUsers = userRepository.countByCreatedAtBetween(startOfLastWeek, endOfLastWeek);
-
-        int weeklyUserChange = (int)(thisWeekUsers - lastWeekUsers);
-
-        // 4. 총 채용공고 수
-        long totalJobs = jobRepository.count();
-
-        // 5. 이번 주 채용공고 수
-        long thisWeekJobs = jobRepository.countByCreatedAtAfter(startOfThisWeek);
-
-        // 6. 지난 주 채용공고 수
-        long lastWeekJobs = jobRepository.countByCreatedAtBetween(startOfLastWeek, endOfLastWeek);
-
-        int weeklyJobChange = (int)(thisWeekJobs - lastWeekJobs);
-
-        // 7. 평균 만족도
-        Float averageSatisfaction = userFeedbackRepository.getAverageSatisfaction();
-
-        // 9. 지난 주 평균 만족도
-        Float lastWeekSatisfaction = userFeedbackRepository.getAverageSatisfactionBetween(startOfLastWeek, endOfLastWeek);
-
-        float weeklySatisfactionChange =
-                (averageSatisfaction != null ? averageSatisfaction : 0f) -
-                        (lastWeekSatisfaction != null ? lastWeekSatisfaction : 0f);
-
-        List<KeywordCount> topKeywords = searchLogRepository.findTopKeywords(PageRequest.of(0, 10));
+        // 1~3. 총 유저 수 / 이번 주 / 지난 주 생성 유저 수
+        CompletableFuture<WeeklyCount> users = CompletableFuture.supplyAsync(() -> new WeeklyCount(
+                userRepository.count(),
+                userRepository.countByCreatedAtAfter(startOfThisWeek),
+                userRepository.countByCreatedAtBetween(startOfLastWeek, endOfLastWeek)), executor);
+
+        // 4~6. 총 채용공고 수 / 이번 주 / 지난 주 채용공고 수
+        CompletableFuture<WeeklyCount> jobs = CompletableFuture.supplyAsync(() -> new WeeklyCount(
+                jobRepository.count(),
+                jobRepository.countByCreatedAtAfter(startOfThisWeek),
+                jobRepository.countByCreatedAtBetween(startOfLastWeek, endOfLastWeek)), executor);
+
+        // 7~8. 평균 만족도 / 지난 주 평균 만족도
+        CompletableFuture<Satisfaction> satisfaction = CompletableFuture.supplyAsync(() -> new Satisfaction(
+                userFeedbackRepository.getAverageSatisfaction(),
+                userFeedbackRepository.getAverageSatisfactionBetween(startOfLastWeek, endOfLastWeek)), executor);
+
+        CompletableFuture<List<KeywordCount>> keywords = CompletableFuture.supplyAsync(this::topKeywords, executor);
+
+        CompletableFuture<EventStats> events = CompletableFuture.supplyAsync(
+                () -> eventStats(startOfThisWeek.toLocalDate(), startOfLastWeek.toLocalDate()), executor);
+
+        return CompletableFuture.allOf(users, jobs, satisfaction, keywords, events).thenApply(v -> {
+            WeeklyCount u = users.join();
+            WeeklyCount j = jobs.join();
+            Satisfaction s = satisfaction.join();
+            EventStats e = events.join();
+
+            float averageSatisfaction = s.average() != null ? s.average() : 0f;
+            float weeklySatisfactionChange = averageSatisfaction - (s.lastWeek() != null ? s.lastWeek() : 0f);
+
+            return DashboardDto.builder()
+                    .totalUserCount(u.total())
+                    .weeklyUserChange((int) (u.thisWeek() - u.lastWeek()))
+                    .totalJobCount(j.total())
+                    .weeklyJobChange((int) (j.thisWeek() - j.lastWeek()))
+                    .averageSatisfaction(averageSatisfaction)
+                    .weeklySatisfactionChange(weeklySatisfactionChange)
+                    .activeUserCount(e.activeUsersThisWeek())
+                    .weeklyActiveUserChange((int) (e.activeUsersThisWeek() - e.activeUsersSinceLastWeek()))
+                    .dailyActiveUserCount(e.dau())
+                    .weeklyActiveUserCount(e.wau())
+                    .monthlyActiveUserCount(e.mau())
+                    .ctr(e.ctr())
+                    .dailyCtrList(e.dailyCtrList())
+                    .topKeywords(keywords.join())
+                    .build();
+        });
+    }
 
-        long activeUsersThisWeek = jobEventLogRepository.countActiveUsersSince(startOfThisWeek);
-        long activeUsersLastWeek = jobEventLogRepository.countActiveUsersSince(startOfLastWeek);
-        int activeUserDiff = (int)(activeUsersThisWeek - activeUsersLastWeek);
+    // 최근 7일 인기 검색어: Redis 일 버킷 합산 사용, 집계가 비어있을 때만(배포 직후 등) 같은 구간의 테이블 집계로 대체
+    private List<KeywordCount> topKeywords() {
+        List<KeywordCount> topKeywords = keywordTrendService.getRecentTopKeywords(TOP_KEYWORD_DAYS, 10);
+        if (topKeywords.isEmpty()) {
+            LocalDateTime since = LocalDate.now().minusDays(TOP_KEYWORD_DAYS - 1).atStartOfDay();
+            topKeywords = searchLogRepository.findTopKeywordsSince(since, PageRequest.of(0, 10));
+        }
+        return topKeywords;
+    }
 
-        long impressions = jobEventLogRepository.countImpressionsSince(startOfThisWeek);
-        long clicks = jobEventLogRepository.countClicksSince(startOfThisWeek);
+    // 노출/클릭/활성 사용자: 일별 롤업 최대 30행만 읽음 (job_event_log 스캔 없음)
+    // 활성 사용자 필드는 모두 같은 일별 HLL 스케치의 합집합 (오차 약 1.6%) → 구간만 다르고 출처/오차는 같다
+    private EventStats eventStats(LocalDate thisMonday, LocalDate lastMonday) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.minusDays(WAU_DAYS - 1);
+        LocalDate monthStart = today.minusDays(MAU_DAYS - 1);
+        Map<LocalDate, JobEventDayRow> days = new HashMap<>();
+        // 지난주 월요일은 항상 30일 전 이후라 주간 비교 구간도 포함됨
+        jobEventRollupService.getDaysSince(monthStart).forEach(d -> days.put(d.statDate(), d));
+
+        HyperLogLog thisWeekUsers = new HyperLogLog();
+        HyperLogLog sinceLastWeekUsers = new HyperLogLog();
+        HyperLogLog dailyUsers = new HyperLogLog();
+        HyperLogLog weeklyUsers = new HyperLogLog();
+        HyperLogLog monthlyUsers = new HyperLogLog();
+        long impressions = 0;
+        long clicks = 0;
+        for (JobEventDayRow d : days.values()) {
+            monthlyUsers.merge(d.users());
+            if (!d.statDate().isBefore(weekStart)) weeklyUsers.merge(d.users());
+            if (d.statDate().equals(today)) dailyUsers.merge(d.users());
+            if (d.statDate().isBefore(lastMonday)) continue;
+            sinceLastWeekUsers.merge(d.users());
+            if (!d.statDate().isBefore(thisMonday)) {
+                thisWeekUsers.merge(d.users());
+                impressions += d.impressions();
+                clicks += d.clicks();
+            }
+        }
 
         float ctr = impressions > 0 ? ((float) clicks / impressions) * 100 : 0f;
 
         List<Float> dailyCtrList = new ArrayList<>();
 
         for (int i = 6; i >= 0; i--) {
-            LocalDate targetDate = LocalDate.now().minusDays(i);
-            LocalDateTime startOfDay = targetDate.atStartOfDay();
-            LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
-
-            long dailyImpressions = jobEventLogRepository.countImpressionsBetween(startOfDay, endOfDay);
-            long dailyClicks = jobEventLogRepository.countClicksBetween(startOfDay, endOfDay);
+            JobEventDayRow day = days.get(today.minusDays(i));
+            long dailyImpressions = day != null ? day.impressions() : 0;
+            long dailyClicks = day != null ? day.clicks() : 0;
 
             float dailyCtr = dailyImpressions > 0 ? ((float) dailyClicks / dailyImpressions) * 100 : 0f;
             dailyCtrList.add(dailyCtr);
         }
 
-        return new DashboardDto(
-                totalUsers,
-                weeklyUserChange,
-                totalJobs,
-                weeklyJobChange,
-                averageSatisfaction != null ? averageSatisfaction : 0f,
-                weeklySatisfactionChange,
-                activeUsersThisWeek,
-                activeUserDiff,
-                ctr,
-                dailyCtrList,
-                topKeywords
-        );
+        return new EventStats(thisWeekUsers.estimate(), sinceLastWeekUsers.estimate(),
+                dailyUsers.estimate(), weeklyUsers.estimate(), monthlyUsers.estimate(), ctr, dailyCtrList);
     }
 
     // plan 비율
@@ -115,4 +177,14 @@ public class DashboardService {
                 "total", total
         );
     }
+
+    private record WeeklyCount(long total, long thisWeek, long lastWeek) {
+    }
+
+    private record Satisfaction(Float average, Float lastWeek) {
+    }
+
+    private record EventStats(long activeUsersThisWeek, long activeUsersSinceLastWeek, long dau, long wau, long mau,
+                              float ctr, List<Float> dailyCtrList) {
+    }
 }
@@ -0,0 +1,150 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.DashboardDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관리자 대시보드 스냅샷 (stale-while-revalidate).
+ * - 조회: 마지막 스냅샷을 즉시 반환 (computedAt 포함). 최초 1회만 계산 완료를 기다림
+ * - 갱신: 스케줄(refresh-interval) 또는 조회 시 max-age 초과를 감지하면 백그라운드에서 재계산.
+ *   동시에 여러 갱신 요청이 와도 계산은 1회만 진행 (single-flight)
+ * - 계산: DashboardService 의 하위 집계를 전용 풀에서 병렬 실행
+ * 갱신이 실패하면 이전 스냅샷을 계속 제공한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+
+    private final DashboardService dashboardService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.snapshot.max-age-ms:120000}")
+    private long maxAgeMs;
+
+    @Value("${dashboard.snapshot.parallelism:4}")
+    private int parallelism;
+
+    private final AtomicReference<DashboardDto> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<DashboardDto>> inFlight = new AtomicReference<>();
+
+    private ExecutorService queryExecutor;
+    private Timer refreshTimer;
+
+    @PostConstruct
+    void init() {
+        initMetrics();
+        AtomicInteger seq = new AtomicInteger();
+        queryExecutor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "dashboard-query-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    void initMetrics() {
+        refreshTimer = Timer.builder("dashboard.snapshot.refresh")
+                .description("대시보드 스냅샷 재계산 시간")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.snapshot.age", this, s -> s.ageMs() / 1000.0)
+                .description("현재 스냅샷 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /** 마지막 스냅샷 반환. 오래됐으면 백그라운드 갱신만 걸고 기존 값을 그대로 반환 */
+    public DashboardDto getSnapshot() {
+        DashboardDto current = snapshot.get();
+        if (current == null) {
+            return awaitFirst();
+        }
+        if (isStale(current)) {
+            refreshAsync();
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.snapshot.refresh-interval-ms:60000}", initialDelay = 5_000)
+    public void scheduledRefresh() {
+        // 스케줄러 스레드는 갱신 시작만 하고 바로 반환 (공유 풀 점유 방지)
+        refreshAsync();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (queryExecutor != null) queryExecutor.shutdownNow();
+    }
+
+    /* ===== Internals ===== */
+
+    /** 진행 중인 갱신이 있으면 그 결과를, 없으면 새로 시작한 갱신을 반환 */
+    CompletableFuture<DashboardDto> refreshAsync() {
+        while (true) {
+            CompletableFuture<DashboardDto> running = inFlight.get();
+            if (running != null) return running;
+
+            CompletableFuture<DashboardDto> promise = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, promise)) continue;
+
+            long start = System.nanoTime();
+            try {
+                dashboardService.computeStatsAsync(queryExecutor)
+                        .whenComplete((dto, ex) -> complete(promise, dto, ex, start));
+            } catch (RuntimeException e) {
+                complete(promise, null, e, start);
+            }
+            return promise;
+        }
+    }
+
+    private void complete(CompletableFuture<DashboardDto> promise, DashboardDto dto, Throwable ex, long start) {
+        refreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (ex == null) {
+            dto.setComputedAt(LocalDateTime.now());
+            snapshot.set(dto);
+        } else {
+            log.warn("[DASHBOARD] snapshot refresh failed, keep previous computedAt={}",
+                    snapshot.get() != null ? snapshot.get().getComputedAt() : null, ex);
+        }
+        // 다음 갱신 요청이 새 계산을 시작할 수 있도록 완료 전에 비움
+        inFlight.compareAndSet(promise, null);
+        if (ex == null) promise.complete(dto);
+        else promise.completeExceptionally(ex);
+    }
+
+    private DashboardDto awaitFirst() {
+        try {
+            return refreshAsync().join();
+        } catch (CompletionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "대시보드 통계를 계산하지 못했습니다.", e.getCause());
+        }
+    }
+
+    private boolean isStale(DashboardDto dto) {
+        return dto.getComputedAt() == null
+                || Duration.between(dto.getComputedAt(), LocalDateTime.now()).toMillis() > maxAgeMs;
+    }
+
+    private double ageMs() {
+        DashboardDto current = snapshot.get();
+        if (current == null || current.getComputedAt() == null) return Double.NaN;
+        return Duration.between(current.getComputedAt(), LocalDateTime.now()).toMillis();
+    }
+}
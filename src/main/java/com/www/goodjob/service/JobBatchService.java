@@ -2,20 +2,18 @@ package com.www.goodjob.service;
 
 import com.www.goodjob.dto.JobDto;
 import com.www.goodjob.dto.ScoredJobDto;
-import com.www.goodjob.repository.JobBatchRepository;
 import com.www.goodjob.repository.RecommendScoreRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobBatchService {
 
-    private final JobBatchRepository jobRepo;
+    private final JobHydrationService jobHydrationService;
     private final RecommendScoreRepository recommendScoreRepository;
 
     @Transactional(readOnly = true)
@@ -26,11 +24,8 @@ public class JobBatchService {
         Map<Long, Integer> order = new HashMap<>();
         for (int i = 0; i < ids.size(); i++) order.put(ids.get(i), i);
 
-        // 공고 조회 → 기본 DTO 맵
-        var jobs = jobRepo.findByIdIn(ids);
-        Map<Long, JobDto> jobDtoMap = jobs.stream()
-                .map(JobDto::from)
-                .collect(Collectors.toMap(JobDto::getId, j -> j));
+        // 공고 조회 → 기본 DTO 맵 (지역/파비콘은 ID 배치 조회, 공고별 LAZY 로딩 없음)
+        Map<Long, JobDto> jobDtoMap = jobHydrationService.findJobDtosById(ids);
 
         // 점수 조회: cvId가 있을 때만 recommend_score 조회
         Map<Long, Double> scoreMap = new HashMap<>();
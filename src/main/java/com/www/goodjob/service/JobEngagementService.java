@@ -0,0 +1,204 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.JobEngagementDto;
+import com.www.goodjob.enums.EngagementType;
+import com.www.goodjob.enums.EventType;
+import com.www.goodjob.repository.JobEngagementJdbcRepository;
+import com.www.goodjob.repository.JobEngagementJdbcRepository.JobEngagementRow;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import com.www.goodjob.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공고별 참여 지표 (노출/클릭/북마크/지원) 집계.
+ * - 기록: 공고별 LongAdder 증가만 (요청 스레드/적재 writer 에서 DB·Redis 접근 없음), 주기 동안 증분이 없던 공고는 flush 때 제거
+ *   북마크/지원은 커밋 후 반영, 취소·삭제 시 차감
+ * - 1분 주기: 증분을 job_engagement 에 가산 upsert (실패 시 되돌려 재시도) →
+ *   반영된 공고의 최신 누적값을 Redis 해시(지표별 1개, field = jobId)에 덮어씀 (노드 간 합계 일치)
+ * - 조회: 목록 공고 ID 묶음으로 HMGET 파이프라인 1회 (집계 쿼리 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobEngagementService {
+
+    static final String KEY_PREFIX = "job:engagement:";
+
+    private static final EngagementType[] TYPES = EngagementType.values();
+
+    private final JobEngagementJdbcRepository jobEngagementJdbcRepository;
+    private final StringRedisTemplate redis;
+
+    private final Map<Long, Counts> counters = new ConcurrentHashMap<>();
+
+    /** DB 에 기록된 노출/클릭 배치 반영 (JobLogService writer) */
+    public void record(List<JobEventRow> rows) {
+        for (JobEventRow r : rows) {
+            if (r.jobId() == null) continue;
+            add(r.jobId(), r.event() == EventType.click ? EngagementType.CLICK : EngagementType.IMPRESSION, 1);
+        }
+    }
+
+    /** 북마크/지원 추가(+1)·취소(-1). 트랜잭션 안이면 커밋 후 반영 */
+    public void recordAfterCommit(Long jobId, EngagementType type, int delta) {
+        if (jobId == null || type == null) return;
+        AfterCommit.run(() -> add(jobId, type, delta));
+    }
+
+    /** 공고별 최신 지표 (Redis 미반영/장애 시 해당 공고는 결과에서 빠짐) */
+    public Map<Long, JobEngagementDto> getEngagements(Collection<Long> jobIds) {
+        if (jobIds == null || jobIds.isEmpty()) return Map.of();
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(jobIds));
+        byte[][] fields = new byte[ids.size()][];
+        for (int i = 0; i < ids.size(); i++) {
+            fields[i] = ids.get(i).toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        try {
+            List<Object> results = redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (EngagementType type : TYPES) {
+                    connection.hashCommands().hMGet(keyOf(type), fields);
+                }
+                return null;
+            });
+
+            Map<Long, long[]> values = new HashMap<>();
+            for (int t = 0; t < TYPES.length; t++) {
+                List<?> column = (List<?>) results.get(t);
+                for (int i = 0; i < ids.size(); i++) {
+                    Object v = column.get(i);
+                    if (v == null) continue;
+                    values.computeIfAbsent(ids.get(i), k -> new long[TYPES.length])[t] = Math.max(0, Long.parseLong(v.toString()));
+                }
+            }
+
+            Map<Long, JobEngagementDto> out = new HashMap<>();
+            values.forEach((id, v) -> out.put(id, new JobEngagementDto(v[0], v[1], v[2], v[3])));
+            return out;
+        } catch (Exception e) {
+            log.warn("[JOB_ENGAGEMENT] read failed: jobs={}", ids.size(), e);
+            return Map.of();
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void flush() {
+        List<JobEngagementRow> deltas = drain();
+        if (deltas.isEmpty()) return;
+
+        try {
+            jobEngagementJdbcRepository.addAll(deltas, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("[JOB_ENGAGEMENT] flush failed, requeue jobs={}", deltas.size(), e);
+            deltas.forEach(this::restore);
+            return;
+        }
+
+        // 증분이 아니라 DB 누적값을 덮어써서 다른 노드의 반영분/이전 Redis 유실과 무관하게 맞춤
+        try {
+            List<JobEngagementRow> totals = jobEngagementJdbcRepository.findByJobIds(
+                    deltas.stream().map(JobEngagementRow::jobId).toList());
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (int t = 0; t < TYPES.length; t++) {
+                    Map<byte[], byte[]> hash = new HashMap<>();
+                    for (JobEngagementRow row : totals) {
+                        hash.put(row.jobId().toString().getBytes(StandardCharsets.UTF_8),
+                                Long.toString(valueOf(row, TYPES[t])).getBytes(StandardCharsets.UTF_8));
+                    }
+                    if (!hash.isEmpty()) connection.hashCommands().hMSet(keyOf(TYPES[t]), hash);
+                }
+                return null;
+            });
+            log.debug("[JOB_ENGAGEMENT] flushed jobs={}", deltas.size());
+        } catch (Exception e) {
+            // DB 에는 반영됨 → 다음 flush 에서 해당 공고가 다시 갱신될 때 맞춰짐
+            log.warn("[JOB_ENGAGEMENT] redis sync failed: jobs={}", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /* ===== Internals ===== */
+
+    /**
+     * 공고별 증분을 꺼내고, 이번 주기에 증분이 없던 공고는 맵에서 제거한다 (한 번이라도 노출된 공고가 계속 쌓이지 않도록).
+     * 증가(add)와 꺼내기/제거가 모두 같은 키의 compute 안에서 일어나므로 제거와 동시 증가가 엇갈려 유실되지 않는다.
+     */
+    List<JobEngagementRow> drain() {
+        List<JobEngagementRow> deltas = new ArrayList<>();
+        for (Long jobId : counters.keySet()) {
+            counters.computeIfPresent(jobId, (k, c) -> {
+                long[] v = new long[TYPES.length];
+                boolean any = false;
+                for (int t = 0; t < TYPES.length; t++) {
+                    v[t] = c.of(TYPES[t]).sumThenReset();
+                    any |= v[t] != 0;
+                }
+                if (!any) return null;
+                deltas.add(new JobEngagementRow(k, v[0], v[1], v[2], v[3]));
+                return c;
+            });
+        }
+        return deltas;
+    }
+
+    int trackedJobs() {
+        return counters.size();
+    }
+
+    private void restore(JobEngagementRow d) {
+        for (EngagementType type : TYPES) {
+            long v = valueOf(d, type);
+            if (v != 0) add(d.jobId(), type, v);
+        }
+    }
+
+    private void add(Long jobId, EngagementType type, long delta) {
+        counters.compute(jobId, (k, c) -> {
+            Counts counts = c != null ? c : new Counts();
+            counts.of(type).add(delta);
+            return counts;
+        });
+    }
+
+    private static long valueOf(JobEngagementRow row, EngagementType type) {
+        return switch (type) {
+            case IMPRESSION -> row.impressions();
+            case CLICK -> row.clicks();
+            case BOOKMARK -> row.bookmarks();
+            case APPLICATION -> row.applications();
+        };
+    }
+
+    static byte[] keyOf(EngagementType type) {
+        return (KEY_PREFIX + type.name().toLowerCase(Locale.ROOT)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** EngagementType 순서대로 1개씩 */
+    private static final class Counts {
+        private final LongAdder[] adders = new LongAdder[TYPES.length];
+
+        Counts() {
+            for (int i = 0; i < adders.length; i++) adders[i] = new LongAdder();
+        }
+
+        LongAdder of(EngagementType type) {
+            return adders[type.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.enums.EventType;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository.JobCountDelta;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository.JobEventDayRow;
+import com.www.goodjob.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공고 노출/클릭 일별 롤업 (대시보드용, job_event_log 전체 스캔 대체).
+ * - 적재 경로: JobLogService writer 가 INSERT 성공한 배치를 넘기면 (날짜, 공고, 이벤트) LongAdder 증가 + 날짜별 HLL 에 user_id 추가
+ * - 1분 주기: 증분을 job_event_daily / job_event_day 에 가산 (실패 시 되돌려 다음 주기에 재시도, HLL 합집합은 중복 반영해도 무방)
+ * - 야간 컴팩터: 전날(및 최근 7일 중 비어있는 날)을 원본 로그로 재계산해 덮어씀 → 유실/중복 보정
+ * 날짜는 job_event_log.timestamp 와 같은 서버 로컬 시각 기준.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobEventRollupService {
+
+    static final int BACKFILL_DAYS = 7;
+
+    private final JobEventRollupJdbcRepository jobEventRollupJdbcRepository;
+    private final PlatformTransactionManager txManager;
+
+    private final Map<CountKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<LocalDate, DaySketch> sketches = new ConcurrentHashMap<>();
+
+    /** DB 에 기록된 이벤트 배치 반영 (메모리만) */
+    public void record(List<JobEventRow> rows) {
+        for (JobEventRow r : rows) {
+            LocalDate date = r.timestamp().toLocalDate();
+            counters.computeIfAbsent(new CountKey(date, r.jobId(), r.event()), k -> new LongAdder()).increment();
+            if (r.userId() != null) sketches.computeIfAbsent(date, k -> new DaySketch()).add(r.userId());
+        }
+    }
+
+    /** from 이후(포함) 일 합계 + 고유 사용자 스케치 (마지막 flush 시점 기준) */
+    public List<JobEventDayRow> getDaysSince(LocalDate from) {
+        return jobEventRollupJdbcRepository.findDaysSince(from);
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void flush() {
+        LocalDate today = LocalDate.now();
+        List<JobCountDelta> deltas = drainCounts(today);
+        Map<LocalDate, HyperLogLog> users = drainSketches(today);
+        if (deltas.isEmpty() && users.isEmpty()) return;
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<LocalDate, long[]> totals = dayTotals(deltas);
+            newTx().executeWithoutResult(status -> {
+                jobEventRollupJdbcRepository.addJobCounts(deltas);
+                for (LocalDate date : union(totals.keySet(), users.keySet())) {
+                    long[] t = totals.getOrDefault(date, new long[2]);
+                    jobEventRollupJdbcRepository.mergeDay(date, t[0], t[1],
+                            users.getOrDefault(date, new HyperLogLog()), now);
+                }
+            });
+            log.debug("[JOB_EVENT_ROLLUP] flushed rows={} days={}", deltas.size(), totals.size());
+        } catch (Exception e) {
+            log.warn("[JOB_EVENT_ROLLUP] flush failed, requeue rows={}", deltas.size(), e);
+            deltas.forEach(d -> counters.computeIfAbsent(new CountKey(d.statDate(), d.jobId(), d.event()), k -> new LongAdder()).add(d.count()));
+            users.forEach((date, hll) -> sketches.computeIfAbsent(date, k -> new DaySketch()).merge(hll));
+        }
+    }
+
+    /** 매일 00:30 전날 확정 + 최근 7일 중 롤업이 없는 날 채움 (첫 배포 시 과거분 백필) */
+    @Scheduled(cron = "0 30 0 * * *")
+    public void compact() {
+        flush(); // 메모리에 남은 전날 증분이 재계산 뒤에 더해지지 않도록 먼저 반영
+
+        LocalDate today = LocalDate.now();
+        Set<LocalDate> present = new HashSet<>();
+        jobEventRollupJdbcRepository.findDaysSince(today.minusDays(BACKFILL_DAYS))
+                .forEach(d -> present.add(d.statDate()));
+
+        for (LocalDate date = today.minusDays(BACKFILL_DAYS); date.isBefore(today); date = date.plusDays(1)) {
+            if (present.contains(date) && !date.equals(today.minusDays(1))) continue;
+            LocalDate target = date;
+            try {
+                JobEventDayRow row = newTx().execute(status -> jobEventRollupJdbcRepository.replaceDay(target, LocalDateTime.now()));
+                log.info("[JOB_EVENT_ROLLUP] compacted date={} impressions={} clicks={}",
+                        target, row == null ? 0 : row.impressions(), row == null ? 0 : row.clicks());
+            } catch (Exception e) {
+                log.warn("[JOB_EVENT_ROLLUP] compaction failed: date={}", target, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /* ===== Internals ===== */
+
+    List<JobCountDelta> drainCounts(LocalDate today) {
+        List<JobCountDelta> deltas = new ArrayList<>();
+        for (Iterator<Map.Entry<CountKey, LongAdder>> it = counters.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<CountKey, LongAdder> e = it.next();
+            CountKey key = e.getKey();
+            long count = e.getValue().sumThenReset();
+            if (count != 0) {
+                deltas.add(new JobCountDelta(key.date(), key.jobId(), key.event(), count));
+            } else if (key.date().isBefore(today)) {
+                // 지난 날짜 키에는 더 이상 기록되지 않음
+                it.remove();
+            }
+        }
+        return deltas;
+    }
+
+    Map<LocalDate, HyperLogLog> drainSketches(LocalDate today) {
+        Map<LocalDate, HyperLogLog> drained = new HashMap<>();
+        for (Iterator<Map.Entry<LocalDate, DaySketch>> it = sketches.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<LocalDate, DaySketch> e = it.next();
+            HyperLogLog hll = e.getValue().swap();
+            if (hll != null) {
+                drained.put(e.getKey(), hll);
+            } else if (e.getKey().isBefore(today.minusDays(1))) {
+                // 자정 직후 늦게 기록되는 전날 이벤트를 위해 하루는 남겨둠
+                it.remove();
+            }
+        }
+        return drained;
+    }
+
+    /** 날짜별 [노출, 클릭] 합계 */
+    private static Map<LocalDate, long[]> dayTotals(List<JobCountDelta> deltas) {
+        Map<LocalDate, long[]> totals = new HashMap<>();
+        for (JobCountDelta d : deltas) {
+            long[] t = totals.computeIfAbsent(d.statDate(), k -> new long[2]);
+            t[d.event() == EventType.impression ? 0 : 1] += d.count();
+        }
+        return totals;
+    }
+
+    private static Set<LocalDate> union(Set<LocalDate> a, Set<LocalDate> b) {
+        Set<LocalDate> all = new TreeSet<>(a);
+        all.addAll(b);
+        return all;
+    }
+
+    private TransactionTemplate newTx() {
+        return new TransactionTemplate(txManager);
+    }
+
+    private record CountKey(LocalDate date, Long jobId, EventType event) {
+    }
+
+    /** 날짜별 HLL. flush 가 통째로 가져가고 빈 스케치로 교체 */
+    private static final class DaySketch {
+        private HyperLogLog hll = new HyperLogLog();
+        private boolean dirty;
+
+        synchronized void add(long userId) {
+            hll.add(userId);
+            dirty = true;
+        }
+
+        synchronized void merge(HyperLogLog other) {
+            hll.merge(other);
+            dirty = true;
+        }
+
+        /** 변경이 없으면 null */
+        synchronized HyperLogLog swap() {
+            if (!dirty) return null;
+            HyperLogLog taken = hll;
+            hll = new HyperLogLog();
+            dirty = false;
+            return taken;
+        }
+    }
+}
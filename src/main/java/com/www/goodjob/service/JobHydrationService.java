@@ -0,0 +1,87 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.domain.Favicon;
+import com.www.goodjob.domain.Job;
+import com.www.goodjob.dto.JobDto;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.repository.FaviconRepository;
+import com.www.goodjob.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 공고 ID 목록 → JobDto 조립.
+ * fetch join(jobs x job_region x regions) 대신 테이블별로 ID 배치 조회한다.
+ *   1) jobs       : id IN (...)           → 공고 1건당 1행 (TEXT 컬럼이 지역 수만큼 중복 전송되지 않음)
+ *   2) job_region : job_id IN (...) → (jobId, regionId) 만, 지역명은 RegionDictionary 에서
+ *   3) favicons   : id IN (distinct favicon_id) → 같은 회사 공고가 여러 개여도 로고는 1회
+ */
+@Service
+@RequiredArgsConstructor
+public class JobHydrationService {
+
+    private final JobRepository jobRepository;
+    private final RegionDictionaryService regionDictionaryService;
+    private final FaviconRepository faviconRepository;
+
+    /** ids 순서를 유지한 JobDto 목록 (존재하지 않는 ID는 제외) */
+    public List<JobDto> findJobDtosInOrder(List<Long> ids) {
+        Map<Long, JobDto> byId = findJobDtosById(ids);
+
+        List<JobDto> result = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            JobDto dto = byId.get(id);
+            if (dto != null) result.add(dto);
+        }
+        return result;
+    }
+
+    public Map<Long, JobDto> findJobDtosById(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Map.of();
+
+        Map<Long, JobDto> result = new HashMap<>(ids.size() * 2);
+        for (JobDto dto : toDtos(jobRepository.findAllById(new LinkedHashSet<>(ids)))) {
+            result.put(dto.getId(), dto);
+        }
+        return result;
+    }
+
+    /** 이미 조회된 공고 엔티티(지역/파비콘 미로딩) → JobDto, 입력 순서 유지 */
+    public List<JobDto> toDtos(List<Job> jobs) {
+        if (jobs == null || jobs.isEmpty()) return List.of();
+
+        List<Long> jobIds = jobs.stream().map(Job::getId).toList();
+        Map<Long, List<RegionDto>> regions = regionDictionaryService.findRegionsByJobIds(jobIds);
+        Map<Long, String> logos = loadFaviconLogos(jobs);
+
+        List<JobDto> result = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            // favicon은 LAZY 프록시 → getId()는 초기화 없이 FK 값만 읽음
+            Long faviconId = job.getFavicon() != null ? job.getFavicon().getId() : null;
+            result.add(JobDto.from(
+                    job,
+                    regions.getOrDefault(job.getId(), List.of()),
+                    faviconId != null ? logos.get(faviconId) : null
+            ));
+        }
+        return result;
+    }
+
+    private Map<Long, String> loadFaviconLogos(List<Job> jobs) {
+        Set<Long> faviconIds = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getFavicon() != null && job.getFavicon().getId() != null) {
+                faviconIds.add(job.getFavicon().getId());
+            }
+        }
+        if (faviconIds.isEmpty()) return Map.of();
+
+        Map<Long, String> logos = new HashMap<>();
+        for (Favicon favicon : faviconRepository.findAllById(faviconIds)) {
+            logos.put(favicon.getId(), favicon.getLogo());
+        }
+        return logos;
+    }
+}
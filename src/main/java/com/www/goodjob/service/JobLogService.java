@@ -1,22 +1,158 @@
 package com.www.goodjob.service;
 
-import com.www.goodjob.domain.JobEventLog;
+import com.www.goodjob.dto.JobEventRequest;
 import com.www.goodjob.enums.EventType;
-import com.www.goodjob.repository.JobEventLogRepository;
+import com.www.goodjob.repository.JobEventLogJdbcRepository;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공고 노출/클릭 이벤트 수집.
+ * - 요청 스레드: lock-free 큐에 적재만 (DB 접근 없음). 큐가 가득 차면 버리고 dropped 카운터 증가
+ * - 전용 writer 스레드: flush-interval 마다 큐를 batch-size 씩 비우며 다중 VALUES INSERT
+ *   (공유 스케줄러 풀(2)을 오래 걸리는 작업과 나눠 쓰지 않도록 별도 스레드)
+ * 기록된 배치는 대시보드용 일별 롤업(JobEventRollupService), 활성 사용자 HLL(ActiveUserService),
+ * 공고별 참여 지표(JobEngagementService)에도 반영한다.
+ * 노드가 비정상 종료되면 큐에 남은 이벤트(최대 flush-interval 분량)는 유실될 수 있다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobLogService {
 
-    private final JobEventLogRepository jobEventLogRepository;
+    private final JobEventLogJdbcRepository jobEventLogJdbcRepository;
+    private final JobEventRollupService jobEventRollupService;
+    private final ActiveUserService activeUserService;
+    private final JobEngagementService jobEngagementService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${job-event.ingest.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${job-event.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job-event.ingest.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private final Queue<JobEventRow> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger(); // ConcurrentLinkedQueue.size() 는 O(n)
+
+    private ScheduledExecutorService writer;
+    private Counter acceptedCounter;
+    private Counter droppedCounter;
+    private Counter writtenCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void init() {
+        initMetrics();
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "job-event-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writer.scheduleWithFixedDelay(this::drain, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    void initMetrics() {
+        acceptedCounter = Counter.builder("job.event.ingest.accepted").description("큐에 적재된 이벤트 수").register(meterRegistry);
+        droppedCounter = Counter.builder("job.event.ingest.dropped").description("큐 포화로 버린 이벤트 수").register(meterRegistry);
+        writtenCounter = Counter.builder("job.event.ingest.written").description("DB 에 기록된 이벤트 수").register(meterRegistry);
+        failedCounter = Counter.builder("job.event.ingest.failed").description("DB 기록 실패로 유실된 이벤트 수").register(meterRegistry);
+        Gauge.builder("job.event.ingest.queue", queued, AtomicInteger::get)
+                .description("기록 대기 중인 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /** 이벤트 1건 적재. 큐가 가득 차 버려졌으면 false */
+    public boolean logEvent(Long userId, Long jobId, EventType eventType) {
+        return offer(new JobEventRow(userId, jobId, eventType, LocalDateTime.now()));
+    }
+
+    /** 여러 이벤트 적재. 실제 적재된 수 반환 */
+    public int logEvents(Long userId, List<JobEventRequest> events) {
+        LocalDateTime now = LocalDateTime.now();
+        int accepted = 0;
+        for (JobEventRequest e : events) {
+            if (offer(new JobEventRow(userId, e.getJobId(), e.getEvent(), now))) accepted++;
+        }
+        return accepted;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain(); // 남은 이벤트 기록
+    }
+
+    /* ===== Internals ===== */
+
+    private boolean offer(JobEventRow row) {
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        queue.offer(row);
+        acceptedCounter.increment();
+        return true;
+    }
+
+    /** 큐가 빌 때까지 batchSize 씩 기록 */
+    void drain() {
+        List<JobEventRow> batch = new ArrayList<>(batchSize);
+        while (true) {
+            JobEventRow row;
+            while (batch.size() < batchSize && (row = queue.poll()) != null) {
+                batch.add(row);
+            }
+            if (batch.isEmpty()) return;
+            queued.addAndGet(-batch.size());
+            write(batch);
+            if (batch.size() < batchSize) return;
+            batch = new ArrayList<>(batchSize);
+        }
+    }
 
-    public void logEvent(Long userId, Long jobId, EventType eventType) {
-        JobEventLog log = new JobEventLog();
-        log.setUserId(userId);
-        log.setJobId(jobId);
-        log.setEvent(eventType);
-        jobEventLogRepository.save(log);
+    private void write(List<JobEventRow> batch) {
+        try {
+            jobEventLogJdbcRepository.insertAll(batch);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            // 재시도하면 장애 중 큐가 계속 불어나므로 버리고 계측만
+            failedCounter.increment(batch.size());
+            log.warn("[JOB_EVENT] batch insert failed: size={}", batch.size(), e);
+            return;
+        }
+        // 원본에 기록된 이벤트만 집계 (롤업이 로그보다 커지지 않도록)
+        jobEventRollupService.record(batch);
+        activeUserService.record(batch);
+        jobEngagementService.record(batch);
     }
 }
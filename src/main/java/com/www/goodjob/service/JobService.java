@@ -22,7 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 @Service
@@ -34,6 +34,9 @@ public class JobService {
     private final RestTemplate restTemplate;
     private final SearchLogService searchLogService;
     private final JobRegionRepository jobRegionRepository;
+    private final JobSummaryService jobSummaryService;
+    private final JobHydrationService jobHydrationService;
+    private final RegionDictionaryService regionDictionaryService;
 
     @Value("${FASTAPI_HOST}")
     private String fastapiHost;
@@ -47,84 +50,122 @@ public class JobService {
                                    User user) {
 
         // 검색 기록 저장
+        saveSearchLog(keyword, user);
+
+        // 경력무관 확장 (공통)
+        List<String> expandedExperienceFilters = expandExperienceFilters(experienceFilters);
+
+        // keyword 기반 → FastAPI 호출
+        if (keyword != null && !keyword.isBlank()) {
+            return searchByKeyword(keyword, jobTypes, expandedExperienceFilters, sidoFilters, sigunguFilters,
+                    pageable, jobHydrationService::findJobDtosInOrder);
+        }
+
+        // keyword 없이 RDB 검색
+        Page<Job> jobPage = jobRepository.searchJobsWithFilters(
+                null,
+                emptyToNull(jobTypes),
+                emptyToNull(expandedExperienceFilters),
+                emptyToNull(sidoFilters),
+                emptyToNull(sigunguFilters),
+                pageable
+        );
+
+        List<JobDto> content = jobHydrationService.toDtos(jobPage.getContent());
+        return new PageImpl<>(content, pageable, jobPage.getTotalElements());
+    }
+
+    /**
+     * searchJobs 와 동일한 검색 조건/순서이지만 목록용 요약(JobSummaryDto)만 조회.
+     * 상세 TEXT 컬럼을 읽지 않으므로 목록 화면에서 사용.
+     */
+    public Page<JobSummaryDto> searchJobSummaries(String keyword,
+                                                  List<String> jobTypes,
+                                                  List<String> experienceFilters,
+                                                  List<String> sidoFilters,
+                                                  List<String> sigunguFilters,
+                                                  Pageable pageable,
+                                                  User user) {
+
+        saveSearchLog(keyword, user);
+        List<String> expandedExperienceFilters = expandExperienceFilters(experienceFilters);
+
+        if (keyword != null && !keyword.isBlank()) {
+            return searchByKeyword(keyword, jobTypes, expandedExperienceFilters, sidoFilters, sigunguFilters,
+                    pageable, jobSummaryService::findByIdsInOrder);
+        }
+
+        return jobSummaryService.search(
+                emptyToNull(jobTypes),
+                emptyToNull(expandedExperienceFilters),
+                emptyToNull(sidoFilters),
+                emptyToNull(sigunguFilters),
+                pageable
+        );
+    }
+
+    private void saveSearchLog(String keyword, User user) {
         if (user != null && keyword != null && !keyword.isBlank()) {
             searchLogService.saveSearchLog(keyword.trim(), user);
         }
+    }
 
-        // 경력무관 확장 (공통)
-        List<String> expandedExperienceFilters = experienceFilters == null ? null :
+    private static List<String> expandExperienceFilters(List<String> experienceFilters) {
+        return experienceFilters == null ? null :
                 experienceFilters.stream()
                         .flatMap(f -> f.equals("경력무관")
                                 ? Stream.of("경력무관", "신입", "경력")
                                 : Stream.of(f))
                         .distinct()
                         .toList();
+    }
 
-        // keyword 기반 → FastAPI 호출
-        if (keyword != null && !keyword.isBlank()) {
-            try {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-
-                Map<String, Object> requestBody = new HashMap<>();
-                requestBody.put("keyword", keyword);
-                requestBody.put("jobType", jobTypes);
-                requestBody.put("experience", expandedExperienceFilters);
-                requestBody.put("sido", sidoFilters);
-                requestBody.put("sigungu", sigunguFilters);
-                requestBody.put("page", pageable.getPageNumber());
-                requestBody.put("size", pageable.getPageSize());
-
-                HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-                ResponseEntity<JobSearchResponse> response = restTemplate.postForEntity(
-                        fastapiHost + "/search-es", requestEntity, JobSearchResponse.class);
-
-                JobSearchResponse body = response.getBody();
-                if (body == null || body.getResults().isEmpty()) {
-                    return new PageImpl<>(List.of(), pageable, 0);
-                }
-
-                List<Long> ids = body.getResults().stream()
-                        .map(JobSearchDto::getJobId)
-                        .toList();
-
-                List<Job> jobs = jobRepository.findByIdInWithRegion(ids);
-
-                Map<Long, Job> jobMap = jobs.stream()
-                        .collect(Collectors.toMap(Job::getId, j -> j));
-
-                List<JobDto> sortedDtos = ids.stream()
-                        .map(jobMap::get)
-                        .filter(Objects::nonNull)
-                        .map(JobDto::from)
-                        .toList();
-
-                return new PageImpl<>(sortedDtos, pageable, body.getTotal());
+    private static List<String> emptyToNull(List<String> values) {
+        return (values == null || values.isEmpty()) ? null : values;
+    }
 
-            } catch (Exception e) {
-                throw new RuntimeException("FastAPI POST 검색 요청 실패: " + e.getMessage(), e);
+    // FastAPI(ES)에서 정렬된 ID 목록을 받아 loader로 RDB 조회 (응답 순서 유지)
+    private <T> Page<T> searchByKeyword(String keyword,
+                                        List<String> jobTypes,
+                                        List<String> expandedExperienceFilters,
+                                        List<String> sidoFilters,
+                                        List<String> sigunguFilters,
+                                        Pageable pageable,
+                                        Function<List<Long>, List<T>> loader) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("keyword", keyword);
+            requestBody.put("jobType", jobTypes);
+            requestBody.put("experience", expandedExperienceFilters);
+            requestBody.put("sido", sidoFilters);
+            requestBody.put("sigungu", sigunguFilters);
+            requestBody.put("page", pageable.getPageNumber());
+            requestBody.put("size", pageable.getPageSize());
+
+            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
+            ResponseEntity<JobSearchResponse> response = restTemplate.postForEntity(
+                    fastapiHost + "/search-es", requestEntity, JobSearchResponse.class);
+
+            JobSearchResponse body = response.getBody();
+            if (body == null || body.getResults().isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, 0);
             }
-        }
 
+            List<Long> ids = body.getResults().stream()
+                    .map(JobSearchDto::getJobId)
+                    .toList();
 
-        // keyword 없이 RDB 검색
-        List<String> safeJobTypes = (jobTypes == null || jobTypes.isEmpty()) ? null : jobTypes;
-        List<String> safeExperience = (expandedExperienceFilters == null || expandedExperienceFilters.isEmpty()) ? null : expandedExperienceFilters;
-        List<String> safeSido = (sidoFilters == null || sidoFilters.isEmpty()) ? null : sidoFilters;
-        List<String> safeSigungu = (sigunguFilters == null || sigunguFilters.isEmpty()) ? null : sigunguFilters;
+            return new PageImpl<>(loader.apply(ids), pageable, body.getTotal());
 
-        Page<Job> jobPage = jobRepository.searchJobsWithFilters(
-                null,
-                safeJobTypes,
-                safeExperience,
-                safeSido,
-                safeSigungu,
-                pageable
-        );
-
-        return jobPage.map(JobDto::from);
+        } catch (Exception e) {
+            throw new RuntimeException("FastAPI POST 검색 요청 실패: " + e.getMessage(), e);
+        }
     }
 
+
     public List<String> getAvailableJobTypes() {
         return JobTypeCategory.asList();
     }
@@ -134,23 +175,7 @@ public class JobService {
     }
 
     public List<RegionGroupDto> getGroupedRegions() {
-        List<Region> allRegions = regionRepository.findAllRegions();
-        Map<String, Set<String>> grouped = new HashMap<>();
-
-        for (Region region : allRegions) {
-            if (region.getSido() == null || region.getSigungu() == null) continue;
-
-            grouped.computeIfAbsent(region.getSido(), k -> new HashSet<>())
-                    .add(region.getSigungu());
-        }
-
-        return grouped.entrySet().stream()
-                .map(entry -> RegionGroupDto.builder()
-                        .sido(entry.getKey())
-                        .sigunguList(entry.getValue().stream().sorted().collect(Collectors.toList()))
-                        .build())
-                .sorted(Comparator.comparing(RegionGroupDto::getSido))
-                .collect(Collectors.toList());
+        return regionDictionaryService.current().getGroups();
     }
 
     public String deleteJob(Long jobId) {
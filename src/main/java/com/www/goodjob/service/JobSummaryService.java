@@ -0,0 +1,82 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.JobEngagementDto;
+import com.www.goodjob.dto.JobSummaryDto;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.repository.JobRepository;
+import com.www.goodjob.repository.JobSummaryProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 목록(검색/추천/유사 공고)용 요약 공고 조회.
+ * - 공고: 요약 컬럼만 projection 으로 조회 (TEXT 컬럼/엔티티 로딩 없음)
+ * - 지역: 공고 ID 묶음으로 job_region 만 조회하고 지역명은 RegionDictionary 에서 채움
+ * - 참여 지표: 공고 ID 묶음으로 Redis 에서 한 번에 조회 (집계 쿼리 없음)
+ * fetch join 으로 인한 행 중복(공고 x 지역) 없이 쿼리 2회로 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobSummaryService {
+
+    private final JobRepository jobRepository;
+    private final RegionDictionaryService regionDictionaryService;
+    private final JobEngagementService jobEngagementService;
+
+    /** ids 순서를 유지한 요약 목록 (존재하지 않는 ID는 제외) */
+    public List<JobSummaryDto> findByIdsInOrder(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        Map<Long, JobSummaryProjection> rows = new HashMap<>();
+        for (JobSummaryProjection p : jobRepository.findSummariesByIdIn(ids)) {
+            rows.put(p.getId(), p);
+        }
+        Map<Long, List<RegionDto>> regions = regionDictionaryService.findRegionsByJobIds(rows.keySet());
+        Map<Long, JobEngagementDto> engagements = jobEngagementService.getEngagements(rows.keySet());
+
+        List<JobSummaryDto> result = new ArrayList<>(rows.size());
+        for (Long id : ids) {
+            JobSummaryProjection p = rows.get(id);
+            if (p != null) {
+                JobSummaryDto dto = JobSummaryDto.from(p, regions.getOrDefault(id, List.of()));
+                dto.setEngagement(engagements.get(id));
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    /** 점수 순서(LinkedHashMap 순서)를 유지한 요약 목록 + score */
+    public List<JobSummaryDto> findScoredInOrder(LinkedHashMap<Long, Double> scores) {
+        List<JobSummaryDto> summaries = findByIdsInOrder(new ArrayList<>(scores.keySet()));
+        for (JobSummaryDto dto : summaries) {
+            dto.setScore(scores.get(dto.getId()));
+        }
+        return summaries;
+    }
+
+    /** 키워드 없는 필터 검색 (RDB) */
+    public Page<JobSummaryDto> search(List<String> jobTypes,
+                                      List<String> experiences,
+                                      List<String> sidos,
+                                      List<String> sigungus,
+                                      Pageable pageable) {
+        Page<JobSummaryProjection> page = jobRepository.searchSummariesWithFilters(
+                jobTypes, experiences, sidos, sigungus, pageable);
+
+        List<Long> ids = page.getContent().stream().map(JobSummaryProjection::getId).toList();
+        Map<Long, List<RegionDto>> regions = regionDictionaryService.findRegionsByJobIds(ids);
+        Map<Long, JobEngagementDto> engagements = jobEngagementService.getEngagements(ids);
+
+        List<JobSummaryDto> content = page.getContent().stream()
+                .map(p -> JobSummaryDto.from(p, regions.getOrDefault(p.getId(), List.of()))
+                        .toBuilder().engagement(engagements.get(p.getId())).build())
+                .toList();
+        return new PageImpl<>(content, pageable, page.getTotalElements());
+    }
+}
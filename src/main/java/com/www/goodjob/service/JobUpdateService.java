@@ -15,6 +15,7 @@ public class JobUpdateService {
 
     private final JobUpdateStatusRepository jobUpdateStatusRepository;
     private final RecommendService recommendService;
+    private final RestTemplate restTemplate;
 
     @Value("${FASTAPI_HOST}")
     private String fastapiHost;
@@ -29,7 +30,6 @@ public class JobUpdateService {
         // 비동기 작업 실행
         new Thread(() -> {
             try {
-                RestTemplate restTemplate = new RestTemplate();
                 String url = fastapiHost + "/save-es-jobs";
                 restTemplate.getForEntity(url, String.class);
                 recommendService.recomputeAllRecommendations(50);
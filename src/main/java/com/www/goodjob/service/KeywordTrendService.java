@@ -0,0 +1,151 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.KeywordCount;
+import com.www.goodjob.enums.TrendWindow;
+import com.www.goodjob.util.SpaceSavingTopK;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 검색 키워드 스트리밍 집계.
+ * - 요청 스레드: 메모리 내 Space-Saving 스케치에 offer (O(1), DB/Redis 접근 없음)
+ * - 1분 주기: 스케치를 교체(drain)하고 윈도우별(시간/일/주) Redis ZSET에 ZINCRBY 파이프라인 반영
+ *   반영값은 추정치가 아닌 보장 하한(count - error) → 주기마다 롱테일 오차가 누적되지 않음
+ * - 조회: 현재 버킷 ZSET에서 ZREVRANGE 0..k-1 (search_log 테이블 스캔 없음)
+ * - 최근 N일: 일 버킷 N개를 ZUNIONSTORE 로 합산 (주 버킷처럼 월요일에 비지 않는 이동 구간)
+ *
+ * ZINCRBY는 가산적이므로 여러 노드가 각자 flush 해도 합산 결과가 맞다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordTrendService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String KEY_PREFIX = "trend:keyword:";
+
+    // flush 간격 동안 유지할 키워드 수 (초과 시 하위 키워드부터 교체)
+    private static final int SKETCH_CAPACITY = 512;
+    // 버킷 ZSET 당 유지할 최대 키워드 수 (초과분은 flush 시 하위부터 제거)
+    private static final int MAX_TRACKED_PER_BUCKET = 1000;
+
+    // 최근 N일 합산 결과 (조회마다 다시 계산, 정리용 TTL)
+    private static final Duration RECENT_TTL = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate redis;
+
+    private final AtomicReference<SpaceSavingTopK> pending =
+            new AtomicReference<>(new SpaceSavingTopK(SKETCH_CAPACITY));
+
+    /** 검색 1회 기록 (요청 스레드에서 호출) */
+    public void record(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized == null) return;
+        pending.get().offer(normalized);
+    }
+
+    /** 윈도우별 현재 버킷의 인기 검색어 TOP size */
+    public List<KeywordCount> getTopKeywords(TrendWindow window, int size) {
+        if (size <= 0) return List.of();
+        String key = keyOf(window, LocalDateTime.now(KST));
+        try {
+            return readTop(key, size);
+        } catch (Exception e) {
+            log.warn("[TREND] top keyword read failed: window={}", window, e);
+            return List.of();
+        }
+    }
+
+    /** 오늘 포함 최근 days 일(KST) 인기 검색어 TOP size. 일 버킷 TTL(TrendWindow.DAY) 이내에서만 유효 */
+    public List<KeywordCount> getRecentTopKeywords(int days, int size) {
+        if (size <= 0 || days <= 0) return List.of();
+        LocalDateTime now = LocalDateTime.now(KST);
+        String first = keyOf(TrendWindow.DAY, now);
+        List<String> others = new ArrayList<>(days - 1);
+        for (int d = 1; d < days; d++) {
+            others.add(keyOf(TrendWindow.DAY, now.minusDays(d)));
+        }
+        String dest = KEY_PREFIX + "recent" + days + "d:" + TrendWindow.DAY.bucketOf(now);
+        try {
+            Long stored = redis.opsForZSet().unionAndStore(first, others, dest);
+            if (stored == null || stored == 0) return List.of();
+            redis.expire(dest, RECENT_TTL);
+            return readTop(dest, size);
+        } catch (Exception e) {
+            log.warn("[TREND] recent top keyword read failed: days={}", days, e);
+            return List.of();
+        }
+    }
+
+    private List<KeywordCount> readTop(String key, int size) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redis.opsForZSet().reverseRangeWithScores(key, 0, size - 1);
+        if (tuples == null || tuples.isEmpty()) return List.of();
+
+        List<KeywordCount> out = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            if (t.getValue() == null) continue;
+            long count = Math.round(Optional.ofNullable(t.getScore()).orElse(0.0));
+            out.add(new KeywordCount(t.getValue(), count));
+        }
+        return out;
+    }
+
+    /** 메모리 스케치 → Redis 윈도우 버킷 반영 */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void flush() {
+        SpaceSavingTopK drained = pending.getAndSet(new SpaceSavingTopK(SKETCH_CAPACITY));
+        if (drained.isEmpty()) return;
+
+        Map<String, Long> counts = drained.guaranteedSnapshot();
+        if (counts.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now(KST);
+
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (TrendWindow window : TrendWindow.values()) {
+                    byte[] key = keyOf(window, now).getBytes(StandardCharsets.UTF_8);
+                    for (Map.Entry<String, Long> e : counts.entrySet()) {
+                        connection.zSetCommands().zIncrBy(
+                                key,
+                                e.getValue(),
+                                e.getKey().getBytes(StandardCharsets.UTF_8)
+                        );
+                    }
+                    // 점수 오름차순 기준 하위 키워드 제거 → 상위 MAX_TRACKED_PER_BUCKET만 유지
+                    connection.zSetCommands().zRemRange(key, 0, -(MAX_TRACKED_PER_BUCKET + 1));
+                    connection.keyCommands().expire(key, window.getTtl().getSeconds());
+                }
+                return null;
+            });
+            log.debug("[TREND] flushed {} keywords", counts.size());
+        } catch (Exception e) {
+            // Redis 장애 시 이번 주기 집계는 버린다 (search_log 원본은 DB에 남아있음)
+            log.warn("[TREND] flush failed: keywords={}", counts.size(), e);
+        }
+    }
+
+    private static String keyOf(TrendWindow window, LocalDateTime at) {
+        return KEY_PREFIX + window.name().toLowerCase(Locale.ROOT) + ":" + window.bucketOf(at);
+    }
+
+    private static String normalize(String keyword) {
+        if (keyword == null) return null;
+        String trimmed = keyword.trim();
+        if (trimmed.isEmpty()) return null;
+        // MySQL 기본 collation(대소문자 무시)과 동일하게 묶이도록 소문자화
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,42 +2,216 @@ package com.www.goodjob.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.config.FastApiClientMetricsInterceptor;
 import com.www.goodjob.dto.ServerStatus;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 관리자 대시보드 서버 상태.
+ *
+ * - Prometheus PromQL(up, 1시간 가동률)은 전용 풀에서 병렬로 조회하고, 결과는 cache-ttl-ms 동안 재사용
+ * - Prometheus 호출은 연결/읽기 타임아웃이 있는 전용 RestTemplate(prometheusRestTemplate)을 사용
+ * - Prometheus 응답이 없으면 로컬 지표로 대체: Spring 은 actuator health, Redis 는 마지막 PING, FastAPI 는 최근 호출 결과
+ * - 응답 시간은 scrape_duration 이 아니라 클라이언트 측 Timer 로 측정한 실제 요청 지연 (직전 계산 이후 구간 평균)
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MonitoringService {
 
+    static final String REDIS_NAME = "Redis Cache";
+    static final String SPRING_NAME = "Spring Server";
+    static final String FASTAPI_NAME = "FastAPI Server";
+
+    static final String REDIS_PING_TIMER = "redis.client.ping";
+    static final String HTTP_SERVER_TIMER = "http.server.requests";
+
+    private static final String REDIS_UP_QUERY = "up{job=\"redis\"}";
+    private static final String REDIS_UPTIME_QUERY = "avg_over_time(up{job=\"redis\"}[1h])";
+    private static final String SPRING_UP_QUERY = "up{job=\"spring-ec2\"}";
+    private static final String SPRING_UPTIME_QUERY = "avg_over_time(up{job=\"spring-ec2\"}[1h])";
+    private static final String FASTAPI_UP_QUERY = "up{job=\"ecs-fastapi\"}";
+    private static final String FASTAPI_UPTIME_QUERY = "avg_over_time(up{job=\"ecs-fastapi\"}[1h])";
+
+    /** PromQL 1건당 최대 대기 시간. 초과하면 로컬 지표로 대체 */
+    static final long QUERY_TIMEOUT_MS = 2_000;
+    private static final int QUERY_THREADS = 6;
+
     @Value("${monitoring.prometheus.url}")
     private String prometheusBaseUrl;
 
+    @Value("${monitoring.status.cache-ttl-ms:10000}")
+    private long cacheTtlMs;
+
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final HealthEndpoint healthEndpoint;
+    private final StringRedisTemplate redisTemplate;
+
+    private final RecentMean springLatency = new RecentMean();
+    private final RecentMean redisLatency = new RecentMean();
+    private final RecentMean fastapiLatency = new RecentMean();
+    private final RecentMean fastapiFailures = new RecentMean();
+
+    private ExecutorService queryExecutor;
+    private Timer redisPingTimer;
+    private volatile boolean lastRedisPingOk;
+    /** 최근 구간에 FastAPI 호출이 없으면 직전 판단을 유지 */
+    private volatile boolean lastFastapiOk;
+    private volatile CachedStatuses cached;
+
+    private record CachedStatuses(List<ServerStatus> statuses, long expiresAtNanos) {}
+
+    public MonitoringService(@Qualifier("prometheusRestTemplate") RestTemplate restTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             HealthEndpoint healthEndpoint,
+                             StringRedisTemplate redisTemplate) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.healthEndpoint = healthEndpoint;
+        this.redisTemplate = redisTemplate;
+    }
 
-    private double parsePrometheusValue(String json) {
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        queryExecutor = Executors.newFixedThreadPool(QUERY_THREADS, r -> {
+            Thread t = new Thread(r, "monitoring-query-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        redisPingTimer = Timer.builder(REDIS_PING_TIMER)
+                .description("Redis PING 왕복 시간 (클라이언트 측 측정)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (queryExecutor != null) queryExecutor.shutdownNow();
+    }
+
+    /** Redis, Spring, FastAPI 순서. cache-ttl-ms 동안은 같은 결과를 반환 */
+    public List<ServerStatus> getServerStatuses() {
+        CachedStatuses c = cached;
+        if (c != null && System.nanoTime() < c.expiresAtNanos()) return c.statuses();
+
+        synchronized (this) {
+            c = cached;
+            if (c != null && System.nanoTime() < c.expiresAtNanos()) return c.statuses();
+
+            // 6개 쿼리를 한꺼번에 띄운 뒤 결과를 모은다
+            CompletableFuture<OptionalDouble> redisUp = submit(REDIS_UP_QUERY);
+            CompletableFuture<OptionalDouble> redisUptime = submit(REDIS_UPTIME_QUERY);
+            CompletableFuture<OptionalDouble> springUp = submit(SPRING_UP_QUERY);
+            CompletableFuture<OptionalDouble> springUptime = submit(SPRING_UPTIME_QUERY);
+            CompletableFuture<OptionalDouble> fastapiUp = submit(FASTAPI_UP_QUERY);
+            CompletableFuture<OptionalDouble> fastapiUptime = submit(FASTAPI_UPTIME_QUERY);
+
+            List<ServerStatus> statuses = List.of(
+                    redisStatus(redisUp.join(), redisUptime.join()),
+                    springStatus(springUp.join(), springUptime.join()),
+                    fastapiStatus(fastapiUp.join(), fastapiUptime.join())
+            );
+            cached = new CachedStatuses(statuses, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(cacheTtlMs));
+            return statuses;
+        }
+    }
+
+    /** Redis 실제 왕복 시간 측정용 PING. 실패 여부는 Prometheus 미응답 시 up 판단에 사용 */
+    @Scheduled(fixedDelayString = "${monitoring.status.redis-probe-interval-ms:15000}", initialDelay = 5_000)
+    public void probeRedis() {
+        long start = System.nanoTime();
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
-            JsonNode valueNode = root.path("data").path("result").get(0).path("value").get(1);
-            return valueNode != null ? Double.parseDouble(valueNode.asText()) : 0.0;
+            String pong = redisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+            lastRedisPingOk = "PONG".equalsIgnoreCase(pong);
         } catch (Exception e) {
-            log.error("Prometheus 파싱 실패", e);
-            return 0.0;
+            lastRedisPingOk = false;
+            log.warn("[MONITORING] Redis PING 실패: {}", e.getMessage());
+        } finally {
+            redisPingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /* ================= 상태 계산 ================= */
+
+    private ServerStatus redisStatus(OptionalDouble up, OptionalDouble uptime) {
+        boolean isUp = up.isPresent() ? up.getAsDouble() == 1.0 : lastRedisPingOk;
+        double latency = redisLatency.update(meterRegistry.find(REDIS_PING_TIMER).timers());
+        return new ServerStatus(REDIS_NAME, isUp, uptime.orElse(isUp ? 1.0 : 0.0), latency);
+    }
+
+    private ServerStatus springStatus(OptionalDouble up, OptionalDouble uptime) {
+        boolean isUp = up.isPresent() ? up.getAsDouble() == 1.0 : isLocalHealthUp();
+        double latency = springLatency.update(meterRegistry.find(HTTP_SERVER_TIMER).timers());
+        return new ServerStatus(SPRING_NAME, isUp, uptime.orElse(isUp ? 1.0 : 0.0), latency);
+    }
+
+    private ServerStatus fastapiStatus(OptionalDouble up, OptionalDouble uptime) {
+        // 응답 시간은 성공 호출 기준. 실패/타임아웃은 up 판단에만 사용
+        double latency = fastapiLatency.update(meterRegistry.find(FastApiClientMetricsInterceptor.TIMER_NAME)
+                .tag("outcome", "SUCCESS").timers());
+        fastapiFailures.update(meterRegistry.find(FastApiClientMetricsInterceptor.TIMER_NAME).timers().stream()
+                .filter(t -> !"SUCCESS".equals(t.getId().getTag("outcome")))
+                .toList());
+        if (fastapiLatency.hadRecentSamples()) {
+            lastFastapiOk = true;
+        } else if (fastapiFailures.hadRecentSamples()) {
+            lastFastapiOk = false;
+        }
+        boolean isUp = up.isPresent() ? up.getAsDouble() == 1.0 : lastFastapiOk;
+        return new ServerStatus(FASTAPI_NAME, isUp, uptime.orElse(isUp ? 1.0 : 0.0), latency);
+    }
+
+    private boolean isLocalHealthUp() {
+        try {
+            return Status.UP.equals(healthEndpoint.health().getStatus());
+        } catch (Exception e) {
+            log.warn("[MONITORING] actuator health 조회 실패: {}", e.getMessage());
+            return false;
         }
     }
 
+    /* ================= Prometheus ================= */
+
+    private CompletableFuture<OptionalDouble> submit(String promQlQuery) {
+        return CompletableFuture.supplyAsync(() -> query(promQlQuery), queryExecutor)
+                .completeOnTimeout(OptionalDouble.empty(), QUERY_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> OptionalDouble.empty());
+    }
+
     public double queryMetricValue(String promQlQuery) {
+        return query(promQlQuery).orElse(0.0);
+    }
+
+    /** 요청 실패, 비정상 응답, 빈 결과 → empty */
+    private OptionalDouble query(String promQlQuery) {
         try {
             URI uri = UriComponentsBuilder
                     .fromHttpUrl(prometheusBaseUrl + "/api/v1/query")
@@ -45,53 +219,61 @@ public class MonitoringService {
                     .build(false) // 인코딩 생략
                     .toUri();
 
-            log.info("Prometheus 요청 URI: {}", uri);
-
             ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
 
             if (response.getStatusCode().is2xxSuccessful()) {
-                return parsePrometheusValue(response.getBody());
-            } else {
-                return 0.0;
+                return parse(response.getBody());
             }
+            log.warn("[MONITORING] Prometheus 응답 코드 {}: {}", response.getStatusCode(), promQlQuery);
+            return OptionalDouble.empty();
 
         } catch (Exception e) {
-            log.error("Prometheus 요청 실패", e);
-            return 0.0;
+            log.warn("[MONITORING] Prometheus 요청 실패: {} ({})", promQlQuery, e.getMessage());
+            return OptionalDouble.empty();
         }
     }
 
-    private static final String REDIS_UP_QUERY = "up{job=\"redis\"}";
-    private static final String REDIS_UPTIME_QUERY = "avg_over_time(up{job=\"redis\"}[1h])";
-    private static final String REDIS_LATENCY_QUERY = "avg_over_time(scrape_duration_seconds{job=\"redis\"}[1m])";
-
-    public ServerStatus getRedisStatus() {
-        double up = queryMetricValue(REDIS_UP_QUERY);
-        double uptimeRatio = queryMetricValue(REDIS_UPTIME_QUERY);
-        double latency = queryMetricValue(REDIS_LATENCY_QUERY);
-        return new ServerStatus("Redis Cache", up == 1.0, uptimeRatio, (latency * 1000));
-    }
-
-    private static final String SPRING_UP_QUERY = "up{job=\"spring-ec2\"}";
-    private static final String SPRING_UPTIME_QUERY = "avg_over_time(up{job=\"spring-ec2\"}[1h])";
-    private static final String SPRING_LATENCY_QUERY = "avg_over_time(scrape_duration_seconds{job=\"spring-ec2\"}[1m])";
-
-    public ServerStatus getSpringStatus() {
-        double up = queryMetricValue(SPRING_UP_QUERY);
-        double uptimeRatio = queryMetricValue(SPRING_UPTIME_QUERY);
-        double latency = queryMetricValue(SPRING_LATENCY_QUERY);
-        return new ServerStatus("Spring Server", up == 1.0, uptimeRatio, (latency * 1000));
+    private OptionalDouble parse(String json) {
+        try {
+            JsonNode result = objectMapper.readTree(json).path("data").path("result");
+            JsonNode valueNode = result.path(0).path("value").path(1);
+            if (valueNode.isMissingNode()) return OptionalDouble.empty();
+            return OptionalDouble.of(Double.parseDouble(valueNode.asText()));
+        } catch (Exception e) {
+            log.error("Prometheus 파싱 실패", e);
+            return OptionalDouble.empty();
+        }
     }
 
-    private static final String FASTAPI_UP_QUERY = "up{job=\"ecs-fastapi\"}";
-    private static final String FASTAPI_UPTIME_QUERY = "avg_over_time(up{job=\"ecs-fastapi\"}[1h])";
-    private static final String FASTAPI_LATENCY_QUERY = "avg_over_time(scrape_duration_seconds{job=\"ecs-fastapi\"}[1m])";
+    /**
+     * Timer 누적값(count, totalTime)의 직전 호출 대비 차이로 최근 구간 평균(ms)을 계산.
+     * 구간 내 요청이 없으면 이전 평균을 유지한다.
+     */
+    static final class RecentMean {
+        private long lastCount;
+        private double lastTotalMs;
+        private double lastMean;
+        private boolean recent;
 
-    public ServerStatus getFastapiStatus() {
-        double up = queryMetricValue(FASTAPI_UP_QUERY);
-        double uptimeRatio = queryMetricValue(FASTAPI_UPTIME_QUERY);
-        double latency = queryMetricValue(FASTAPI_LATENCY_QUERY);
+        synchronized double update(Collection<Timer> timers) {
+            long count = 0;
+            double totalMs = 0;
+            for (Timer t : timers) {
+                count += t.count();
+                totalMs += t.totalTime(TimeUnit.MILLISECONDS);
+            }
+            recent = count > lastCount;
+            if (recent) {
+                lastMean = (totalMs - lastTotalMs) / (count - lastCount);
+            }
+            lastCount = count;
+            lastTotalMs = totalMs;
+            return lastMean;
+        }
 
-        return new ServerStatus("FastAPI Server", up == 1.0, uptimeRatio, (latency * 1000));
+        /** 직전 update 구간에 새 요청이 있었는지 */
+        synchronized boolean hadRecentSamples() {
+            return recent;
+        }
     }
 }
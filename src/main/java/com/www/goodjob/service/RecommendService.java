@@ -5,13 +5,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.www.goodjob.domain.*;
 import com.www.goodjob.dto.JobDto;
+import com.www.goodjob.dto.JobSummaryDto;
 import com.www.goodjob.dto.ScoredJobDto;
 import com.www.goodjob.repository.CvRepository;
-import com.www.goodjob.repository.JobRepository;
 import com.www.goodjob.repository.RecommendScoreRepository;
 import com.www.goodjob.repository.CvFeedbackRepository;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.util.ClaudeClient;
+import com.www.goodjob.util.Spans;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Tracer;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -30,8 +34,6 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -42,15 +44,23 @@ public class RecommendService {
     private final RecommendScoreRepository recommendScoreRepository;
     private final CvFeedbackRepository cvFeedbackRepository;
     private final ClaudeClient claudeClient;
-    private final JobRepository jobRepository;
     private final CvRepository cvRepository;
 
     private final RedisTemplate<String, String> redisTemplate;
 
     private final AsyncService asyncService;
 
+    private final JobSummaryService jobSummaryService;
+
+    private final JobHydrationService jobHydrationService;
+
     private final EntityManager entityManager;
 
+    private final MeterRegistry meterRegistry;
+
+    /** 단계별 span (cache.read / hydrate / fastapi) */
+    private final Tracer tracer;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -61,6 +71,35 @@ public class RecommendService {
      * FastAPI 서버로 추천 점수 요청
      */
     private List<ScoredJobDto> fetchRecommendationFromFastAPI(Long cvId, int topk) {
+        try {
+            LinkedHashMap<Long, Double> scoreMap = fetchScoresFromFastAPI(cvId, topk);
+            List<Long> jobIds = new ArrayList<>(scoreMap.keySet());
+
+            List<ScoredJobDto> result = new ArrayList<>();
+
+            List<JobDto> jobs = Spans.inSpan(tracer, "recommend.hydrate",
+                    () -> jobHydrationService.findJobDtosInOrder(jobIds));
+            for (JobDto base : jobs) {
+                ScoredJobDto scored = ScoredJobDto.from(
+                        base,
+                        scoreMap.get(base.getId()),
+                        0.0,
+                        0.0
+                );
+                result.add(scored);
+            }
+
+            return result;
+
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "추천 요청 실패", e);
+        }
+    }
+
+    /**
+     * FastAPI 추천 결과 (jobId → score, 응답 순서 유지)
+     */
+    private LinkedHashMap<Long, Double> fetchScoresFromFastAPI(Long cvId, int topk) throws JsonProcessingException {
         String url = fastapiHost + "/recommend-jobs";
 
         HttpHeaders headers = new HttpHeaders();
@@ -73,55 +112,25 @@ public class RecommendService {
 
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
 
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-            String responseBody = response.getBody();
-
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode recommendedJobsNode = root.get("recommended_jobs");
-
-            List<Long> jobIds = new ArrayList<>();
-            Map<Long, Double> scoreMap = new HashMap<>();
+        ResponseEntity<String> response = Spans.inSpan(tracer, "recommend.fastapi",
+                () -> restTemplate.postForEntity(url, request, String.class));
+        String responseBody = response.getBody();
 
-            for (JsonNode rec : recommendedJobsNode) {
-                Long jobId = rec.get("job_id").asLong();
-                jobIds.add(jobId);
-                scoreMap.put(jobId, rec.get("score").asDouble()); // 점수 저장
-            }
-
-            List<Job> jobs = jobRepository.findByIdInWithRegion(jobIds);
-
-            Map<Long, Job> jobMap = jobs.stream()
-                    .collect(Collectors.toMap(Job::getId, Function.identity()));
-
-            List<ScoredJobDto> result = new ArrayList<>();
-
-            for (Long jobId : jobIds) {
-                Job job = jobMap.get(jobId);
-                if (job != null) {
-                    JobDto base = JobDto.from(job);
-                    ScoredJobDto scored = ScoredJobDto.from(
-                            base,
-                            scoreMap.get(jobId),
-                            0.0,
-                            0.0
-                    );
-                    result.add(scored);
-                }
-            }
-
-            return result;
+        JsonNode root = objectMapper.readTree(responseBody);
+        JsonNode recommendedJobsNode = root.get("recommended_jobs");
 
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "추천 요청 실패", e);
+        LinkedHashMap<Long, Double> scoreMap = new LinkedHashMap<>();
+        for (JsonNode rec : recommendedJobsNode) {
+            scoreMap.put(rec.get("job_id").asLong(), rec.get("score").asDouble()); // 점수 저장
         }
+        return scoreMap;
     }
 
     public List<ScoredJobDto> getScoredFromCache(Long cvId, int topk) {
         String zsetKey = "recommendation:" + cvId;
 
-        Set<ZSetOperations.TypedTuple<String>> topKJobIds = redisTemplate.opsForZSet()
-                .reverseRangeWithScores(zsetKey, 0, topk - 1);
+        Set<ZSetOperations.TypedTuple<String>> topKJobIds = Spans.inSpan(tracer, "recommend.cache.read",
+                () -> redisTemplate.opsForZSet().reverseRangeWithScores(zsetKey, 0, topk - 1));
 
         if (topKJobIds == null || topKJobIds.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "캐시된 추천 결과가 없습니다.");
@@ -135,12 +144,9 @@ public class RecommendService {
                     .map(Long::parseLong)
                     .toList();
 
-            // RDB에서 일괄 조회
-            List<Job> jobs = jobRepository.findByIdInWithRegion(jobIds);
-
-            // JobId → Job 매핑
-            Map<Long, Job> jobMap = jobs.stream()
-                    .collect(Collectors.toMap(Job::getId, Function.identity()));
+            // RDB에서 일괄 조회 (JobId → JobDto)
+            Map<Long, JobDto> jobMap = Spans.inSpan(tracer, "recommend.hydrate",
+                    () -> jobHydrationService.findJobDtosById(jobIds));
 
             List<ScoredJobDto> result = new ArrayList<>();
             for (ZSetOperations.TypedTuple<String> tuple : topKJobIds) {
@@ -149,12 +155,11 @@ public class RecommendService {
                     if (jobIdStr == null) continue;
 
                     Long jobId = Long.parseLong(jobIdStr);
-                    Job job = jobMap.get(jobId);
-                    if (job == null) continue;
+                    JobDto base = jobMap.get(jobId);
+                    if (base == null) continue;
 
                     double score = Optional.ofNullable(tuple.getScore()).orElse(0.0);
 
-                    JobDto base = JobDto.from(job);
                     ScoredJobDto dto = ScoredJobDto.from(
                             base,
                             score, // ZSet에서 꺼낸 score
@@ -173,27 +178,27 @@ public class RecommendService {
     }
 
     public List<ScoredJobDto> requestRecommendation(Long cvId, int topk) {
-        long startTime = System.nanoTime();
-        long endTime;
-        long durationMs;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String source = "cache";
+        boolean success = false;
         try {
             List<ScoredJobDto> cachedResult = getScoredFromCache(cvId, topk);
+            recordCacheLookup(true);
             log.info("[Recommend] 캐시된 추천 결과 사용: cvId={}, topK={}", cvId, topk);
-            long saveStart = System.nanoTime();
-            long saveEnd = 0;
             asyncService.saveRecommendScores(cvId, cachedResult);
-            saveEnd = System.nanoTime();
-            log.info("[Recommend] 스코어 저장 시간: {}ms (cvId={})", (saveEnd - saveStart) / 1_000_000, cvId);
 
             cachedResult.stream()
                     .limit(5)
                     .forEach(scoredJob -> asyncService.generateFeedbackAsync(cvId, scoredJob.getId()));
 
+            success = true;
             return cachedResult;
         } catch (ResponseStatusException e) {
             if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
                 throw e; // 다른 에러면 그대로 throw
             }
+            recordCacheLookup(false);
+            source = "fastapi";
 
             // 2. 캐시 없음 → 캐싱 비동기 실행
             log.info("[Recommend] 캐시 없음 → FastAPI 요청 후 캐시 비동기 처리 시작: cvId={}, topK={}", cvId, topk);
@@ -201,68 +206,121 @@ public class RecommendService {
 
             List<ScoredJobDto> apiResult = fetchRecommendationFromFastAPI(cvId, topk);
             log.info("[Recommend] FastAPI 결과 반환 완료: userId={}, 추천 수={}", cvId, apiResult.size());
-            long saveStart = System.nanoTime();
-            long saveEnd = 0;
             asyncService.saveRecommendScores(cvId, apiResult);
-            saveEnd = System.nanoTime();
-            log.info("[Recommend] 스코어 저장 시간: {}ms (cvId={})", (saveEnd - saveStart) / 1_000_000, cvId);
 
             apiResult.stream()
                     .limit(3)
                     .forEach(scoredJob -> asyncService.generateFeedbackAsync(cvId, scoredJob.getId()));
+            success = true;
             return apiResult;
         } finally {
-            endTime = System.nanoTime();
-            durationMs = (endTime - startTime) / 1_000_000;
-
-            log.info("[Recommend] 전체 추천 수행 시간: {}ms (userId={})", durationMs, cvId);
+            recordRecommend(sample, "full", source, success);
         }
     }
 
 
     /**
-     * 추천 점수 기반 피드백 무조건 새로 생성 (기존 피드백 덮어쓰기) -> 테스트용
+     * requestRecommendation 과 동일한 흐름(캐시 → FastAPI fallback)이지만
+     * 공고는 목록용 요약(JobSummaryDto)만 조회한다.
      */
-    public String getOrGenerateFeedback(Long cvId, Long jobId) {
-        long totalStart = System.nanoTime();
+    public List<JobSummaryDto> requestRecommendationSummary(Long cvId, int topk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String source = "cache";
+        boolean success = false;
+        try {
+            LinkedHashMap<Long, Double> scores = readCachedScores(cvId, topk);
+            boolean cached = !scores.isEmpty();
+            recordCacheLookup(cached);
+
+            if (!cached) {
+                source = "fastapi";
+                log.info("[Recommend] 캐시 없음 → FastAPI 요청 후 캐시 비동기 처리 시작: cvId={}, topK={}", cvId, topk);
+                asyncService.cacheRecommendForUser(cvId);
+                try {
+                    scores = fetchScoresFromFastAPI(cvId, topk);
+                } catch (Exception e) {
+                    throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "추천 요청 실패", e);
+                }
+            }
+
+            LinkedHashMap<Long, Double> scored = scores;
+            List<JobSummaryDto> result = Spans.inSpan(tracer, "recommend.hydrate",
+                    () -> jobSummaryService.findScoredInOrder(scored));
+
+            // 점수 저장은 id/score만 사용
+            List<ScoredJobDto> scoreRows = result.stream()
+                    .map(dto -> ScoredJobDto.builder().id(dto.getId()).score(dto.getScore()).build())
+                    .toList();
+            asyncService.saveRecommendScores(cvId, scoreRows);
+
+            result.stream()
+                    .limit(cached ? 5 : 3)
+                    .forEach(job -> asyncService.generateFeedbackAsync(cvId, job.getId()));
+
+            success = true;
+            return result;
+        } finally {
+            recordRecommend(sample, "summary", source, success);
+        }
+    }
 
-        long startCvFetch = System.nanoTime();
+    /** recommend.requests{view=full|summary, source=cache|fastapi, outcome} */
+    private void recordRecommend(Timer.Sample sample, String view, String source, boolean success) {
+        sample.stop(Timer.builder("recommend.requests")
+                .description("추천 요청 전체 처리 시간")
+                .tag("view", view)
+                .tag("source", source)
+                .tag("outcome", success ? "SUCCESS" : "ERROR")
+                .register(meterRegistry));
+    }
+
+    /** cache.requests{cache=recommendation, result=hit|miss} */
+    private void recordCacheLookup(boolean hit) {
+        meterRegistry.counter("cache.requests", "cache", "recommendation", "result", hit ? "hit" : "miss").increment();
+    }
 
-        long endCvFetch = System.nanoTime();
-        log.info("[Feedback] CV fetch 시간: {}ms", (endCvFetch - startCvFetch) / 1_000_000);
+    // Redis 캐시의 jobId → score (점수 내림차순, 캐시 없으면 빈 map)
+    private LinkedHashMap<Long, Double> readCachedScores(Long cvId, int topk) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = Spans.inSpan(tracer, "recommend.cache.read",
+                () -> redisTemplate.opsForZSet().reverseRangeWithScores("recommendation:" + cvId, 0, topk - 1));
 
-        long startScoreFetch = System.nanoTime();
+        LinkedHashMap<Long, Double> scores = new LinkedHashMap<>();
+        if (tuples == null) return scores;
+
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null) continue;
+            try {
+                scores.put(Long.parseLong(tuple.getValue()), Optional.ofNullable(tuple.getScore()).orElse(0.0));
+            } catch (NumberFormatException ex) {
+                log.warn("[WARN] 캐시된 jobId 파싱 실패: {}", tuple.getValue());
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * 추천 점수 기반 피드백 무조건 새로 생성 (기존 피드백 덮어쓰기) -> 테스트용
+     */
+    public String getOrGenerateFeedback(Long cvId, Long jobId) {
         RecommendScore score = recommendScoreRepository.findByCvIdAndJobId(cvId, jobId);
-        long endScoreFetch = System.nanoTime();
-        log.info("[Feedback] RecommendScore fetch 시간: {}ms", (endScoreFetch - startScoreFetch) / 1_000_000);
 
         Long recommendScoreId = score.getId();
 
-        long startFeedbackCheck = System.nanoTime();
         Optional<CvFeedback> existing = cvFeedbackRepository.findByRecommendScore_Id(recommendScoreId);
-        long endFeedbackCheck = System.nanoTime();
-        log.info("[Feedback] 피드백 존재 여부 확인 시간: {}ms", (endFeedbackCheck - startFeedbackCheck) / 1_000_000);
 
         if (existing.isPresent()) {
             log.info("[Feedback] 기존 피드백 반환 (cached)");
             return existing.get().getFeedback();
         }
 
-        long startClaude = System.nanoTime();
         String feedback = claudeClient.generateFeedback(
                 score.getCv().getRawText(),
                 score.getJob().getRawJobsText()
         );
-        long endClaude = System.nanoTime();
-        log.info("[Feedback] Claude 피드백 생성 시간: {}ms", (endClaude - startClaude) / 1_000_000);
 
-        long startDelete = System.nanoTime();
         cvFeedbackRepository.findByRecommendScore_Id(recommendScoreId)
                 .ifPresent(cvFeedbackRepository::delete);
-        long endDelete = System.nanoTime();
-        log.info("[Feedback] 기존 피드백 삭제 시간: {}ms", (endDelete - startDelete) / 1_000_000);
 
-        long startSave = System.nanoTime();
         CvFeedback newFeedback = CvFeedback.builder()
                 .recommendScore(score)
                 .feedback(feedback)
@@ -270,47 +328,41 @@ public class RecommendService {
                 .build();
 
         cvFeedbackRepository.save(newFeedback);
-        long endSave = System.nanoTime();
-        log.info("[Feedback] 새 피드백 저장 시간: {}ms", (endSave - startSave) / 1_000_000);
-
-        long totalEnd = System.nanoTime();
-        log.info("[Feedback] 전체 수행 시간: {}ms", (totalEnd - totalStart) / 1_000_000);
 
         return feedback;
     }
 
     public List<JobDto> fetchSimilarJobsFromFastAPI(Long jobId, int k) {
-        String url = fastapiHost + "/similar-jobs?job_id=" + jobId + "&k=" + k;
-
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            String responseBody = response.getBody();
+            return jobHydrationService.findJobDtosInOrder(fetchSimilarJobIds(jobId, k));
 
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode jobIdsNode = root.get("job_ids");
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "유사 공고 요청 실패", e);
+        }
+    }
 
-            List<Long> jobIds = new ArrayList<>();
-            for (JsonNode idNode : jobIdsNode) {
-                jobIds.add(idNode.asLong());
-            }
+    public List<JobSummaryDto> fetchSimilarJobSummariesFromFastAPI(Long jobId, int k) {
+        try {
+            return jobSummaryService.findByIdsInOrder(fetchSimilarJobIds(jobId, k));
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "유사 공고 요청 실패", e);
+        }
+    }
 
-            List<Job> jobs = jobRepository.findByIdInWithRegion(jobIds);
-            Map<Long, Job> jobMap = jobs.stream()
-                    .collect(Collectors.toMap(Job::getId, Function.identity()));
+    private List<Long> fetchSimilarJobIds(Long jobId, int k) throws JsonProcessingException {
+        String url = fastapiHost + "/similar-jobs?job_id=" + jobId + "&k=" + k;
 
-            List<JobDto> result = new ArrayList<>();
-            for (Long id : jobIds) {
-                Job job = jobMap.get(id);
-                if (job != null) {
-                    result.add(JobDto.from(job));
-                }
-            }
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        String responseBody = response.getBody();
 
-            return result;
+        JsonNode root = objectMapper.readTree(responseBody);
+        JsonNode jobIdsNode = root.get("job_ids");
 
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "유사 공고 요청 실패", e);
+        List<Long> jobIds = new ArrayList<>();
+        for (JsonNode idNode : jobIdsNode) {
+            jobIds.add(idNode.asLong());
         }
+        return jobIds;
     }
 
     public List<ScoredJobDto> testFetchRecommendationOnly(Long cvId, int topk) {
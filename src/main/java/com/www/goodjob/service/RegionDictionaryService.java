@@ -0,0 +1,86 @@
+package com.www.goodjob.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.repository.JobRegionRepository;
+import com.www.goodjob.repository.JobRegionRowProjection;
+import com.www.goodjob.repository.RegionRepository;
+import com.www.goodjob.util.RegionDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * regions 테이블(수백 행, 거의 변하지 않음)을 메모리 사전으로 유지.
+ * 기동 시 로드하고 하루 한 번 다시 읽는다. 로드 전 호출되면 그 자리에서 로드한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionDictionaryService {
+
+    private final RegionRepository regionRepository;
+    private final JobRegionRepository jobRegionRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<RegionDictionary> dictionary = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 첫 조회 시 다시 시도
+            log.warn("[REGION] preload failed", e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 실패 시 기존 사전 유지
+            log.warn("[REGION] reload failed", e);
+        }
+    }
+
+    public RegionDictionary current() {
+        RegionDictionary d = dictionary.get();
+        return d != null ? d : reload();
+    }
+
+    public synchronized RegionDictionary reload() {
+        RegionDictionary loaded = RegionDictionary.build(regionRepository.findAllRegions(), objectMapper);
+        dictionary.set(loaded);
+        log.info("[REGION] dictionary loaded: regions={} etag={}", loaded.size(), loaded.getEtag());
+        return loaded;
+    }
+
+    /** 공고 ID 묶음 → 공고별 지역 목록 (job_region 1회 조회 + 사전 조회, regions 조인 없음) */
+    public Map<Long, List<RegionDto>> findRegionsByJobIds(Collection<Long> jobIds) {
+        if (jobIds == null || jobIds.isEmpty()) return Map.of();
+
+        RegionDictionary dict = current();
+        Map<Long, List<RegionDto>> grouped = new HashMap<>();
+        int missing = 0;
+        for (JobRegionRowProjection row : jobRegionRepository.findRegionRowsByJobIdIn(jobIds)) {
+            RegionDto region = dict.get(row.getRegionId());
+            if (region == null) {
+                missing++;
+                continue;
+            }
+            grouped.computeIfAbsent(row.getJobId(), k -> new ArrayList<>()).add(region);
+        }
+        if (missing > 0) {
+            log.warn("[REGION] {} region ids not in dictionary (reload pending)", missing);
+        }
+        return grouped;
+    }
+}
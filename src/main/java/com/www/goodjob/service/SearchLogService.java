@@ -2,7 +2,9 @@ package com.www.goodjob.service;
 
 import com.www.goodjob.domain.SearchLog;
 import com.www.goodjob.domain.User;
+import com.www.goodjob.dto.KeywordCount;
 import com.www.goodjob.dto.SearchLogDto;
+import com.www.goodjob.enums.TrendWindow;
 import com.www.goodjob.repository.SearchLogRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,6 +17,7 @@ import java.util.List;
 public class SearchLogService {
 
     private final SearchLogRepository searchLogRepository;
+    private final KeywordTrendService keywordTrendService;
 
     public void saveSearchLog(String keyword, User user) {
         // 가장 최근 검색 기록 가져오기
@@ -28,6 +31,13 @@ public class SearchLogService {
         // 저장
         SearchLog log = SearchLog.of(keyword.trim(), user);
         searchLogRepository.save(log);
+
+        // 인기 검색어 스트리밍 집계 (메모리 스케치 → 주기적으로 Redis 반영)
+        keywordTrendService.record(log.getKeyword());
+    }
+
+    public List<KeywordCount> getTrendingKeywords(TrendWindow window, int size) {
+        return keywordTrendService.getTopKeywords(window, size);
     }
 
     public List<SearchLogDto> getSearchHistory(User user) {
@@ -34,6 +34,10 @@ public class TossPaymentService {
     @Value("${toss.secret-key}")
     private String secretKey;
 
+    // 부하 테스트 등에서 로컬 fake 로 교체
+    @Value("${toss.base-url:https://api.tosspayments.com}")
+    private String baseUrl = "https://api.tosspayments.com";
+
     public HttpResponse requestConfirm(ConfirmPaymentRequest req) throws Exception {
         JsonNode requestObj = objectMapper.createObjectNode()
                 .put("orderId", req.getOrderId())
@@ -41,7 +45,7 @@ public class TossPaymentService {
                 .put("paymentKey", req.getPaymentKey());
 
         HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.tosspayments.com/v1/payments/confirm"))
+                .uri(URI.create(baseUrl + "/v1/payments/confirm"))
                 .header("Authorization", getAuthorization())
                 .header("Content-Type", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(requestObj.toString()))
@@ -54,7 +58,7 @@ public class TossPaymentService {
         String body = String.format("{\"cancelReason\":\"%s\"}", req.getCancelReason());
 
         HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.tosspayments.com/v1/payments/" + req.getPaymentKey() + "/cancel"))
+                .uri(URI.create(baseUrl + "/v1/payments/" + req.getPaymentKey() + "/cancel"))
                 .header("Authorization", getAuthorization())
                 .header("Content-Type", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(body))
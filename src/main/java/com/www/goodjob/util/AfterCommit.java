@@ -0,0 +1,26 @@
+package com.www.goodjob.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안이면 커밋 후, 밖이면 즉시 실행 (롤백되면 실행하지 않음).
+ * 메모리 카운터/Redis 반영/푸시처럼 DB 커밋과 어긋나면 안 되는 부수 효과에 사용.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
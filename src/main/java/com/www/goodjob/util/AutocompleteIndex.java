@@ -0,0 +1,159 @@
+package com.www.goodjob.util;
+
+import com.www.goodjob.enums.SuggestionType;
+
+import java.util.*;
+
+/**
+ * 불변 prefix 인덱스 (검색어 자동완성용).
+ *
+ * - 각 후보 문자열의 단어 시작 위치마다 자모 분해 키를 만들어 정렬 배열로 보관한다.
+ *   ("백엔드 개발자" → "백엔드 개발자", "개발자" 두 키가 같은 후보를 가리킴)
+ * - 조회: 이진 탐색으로 prefix 구간을 찾고, 구간 내에서 weight 상위 limit개를 고른다.
+ * - 구간이 커지는 짧은 prefix(자모 SHORT_PREFIX_LEN개 이하)는 빌드 시 상위 결과를 미리 계산해 둔다.
+ *
+ * 빌드 후 변경되지 않으므로 여러 스레드에서 락 없이 조회 가능하다.
+ */
+public final class AutocompleteIndex {
+
+    public static final int MAX_LIMIT = 20;
+    private static final int SHORT_PREFIX_LEN = 2;
+
+    public record Entry(String text, SuggestionType type, long weight) {
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::weight).reversed()
+            .thenComparingInt(e -> e.text().length())
+            .thenComparing(Entry::text);
+
+    private final Entry[] entries;
+    private final String[] keys;     // 자모 분해 키 (정렬됨)
+    private final int[] targets;     // keys[i] → entries 인덱스
+    private final Map<String, int[]> shortPrefixTop;
+
+    private AutocompleteIndex(Entry[] entries, String[] keys, int[] targets, Map<String, int[]> shortPrefixTop) {
+        this.entries = entries;
+        this.keys = keys;
+        this.targets = targets;
+        this.shortPrefixTop = shortPrefixTop;
+    }
+
+    public static AutocompleteIndex empty() {
+        return build(List.of());
+    }
+
+    public static AutocompleteIndex build(Collection<Entry> source) {
+        Entry[] entries = source.stream()
+                .filter(e -> e.text() != null && !e.text().isBlank())
+                .toArray(Entry[]::new);
+
+        List<KeyRef> refs = new ArrayList<>(entries.length * 3);
+        for (int i = 0; i < entries.length; i++) {
+            String text = entries[i].text().trim();
+            Set<String> seen = new HashSet<>();
+            int start = 0;
+            while (start < text.length()) {
+                String key = HangulJamo.toSearchKey(text.substring(start));
+                if (!key.isEmpty() && seen.add(key)) refs.add(new KeyRef(key, i));
+                int nextSpace = text.indexOf(' ', start);
+                if (nextSpace < 0) break;
+                start = nextSpace + 1;
+            }
+        }
+        refs.sort(Comparator.comparing(KeyRef::key));
+
+        String[] keys = new String[refs.size()];
+        int[] targets = new int[refs.size()];
+        for (int i = 0; i < refs.size(); i++) {
+            keys[i] = refs.get(i).key();
+            targets[i] = refs.get(i).target();
+        }
+
+        AutocompleteIndex index = new AutocompleteIndex(entries, keys, targets, new HashMap<>());
+        index.precomputeShortPrefixes();
+        return index;
+    }
+
+    /** 입력 prefix에 대한 상위 limit개 후보 (weight 내림차순) */
+    public List<Entry> suggest(String query, int limit) {
+        String prefix = HangulJamo.toSearchKey(query);
+        int k = Math.min(Math.max(limit, 0), MAX_LIMIT);
+        if (prefix.isEmpty() || k == 0 || keys.length == 0) return List.of();
+
+        int[] cached = shortPrefixTop.get(prefix);
+        if (cached != null) {
+            List<Entry> out = new ArrayList<>(Math.min(k, cached.length));
+            for (int i = 0; i < cached.length && i < k; i++) out.add(entries[cached[i]]);
+            return out;
+        }
+        if (prefix.length() <= SHORT_PREFIX_LEN) return List.of(); // 사전 계산에 없으면 매칭 없음
+
+        int from = lowerBound(prefix);
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(prefix)) to++;
+
+        return toEntries(topInRange(from, to, k));
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public int keyCount() {
+        return keys.length;
+    }
+
+    /* ===== Internals ===== */
+
+    private void precomputeShortPrefixes() {
+        for (int len = 1; len <= SHORT_PREFIX_LEN; len++) {
+            int i = 0;
+            while (i < keys.length) {
+                if (keys[i].length() < len) {
+                    i++;
+                    continue;
+                }
+                String prefix = keys[i].substring(0, len);
+                int j = i + 1;
+                while (j < keys.length && keys[j].startsWith(prefix)) j++;
+                shortPrefixTop.put(prefix, topInRange(i, j, MAX_LIMIT));
+                i = j;
+            }
+        }
+    }
+
+    private int[] topInRange(int from, int to, int k) {
+        // 작은 min-heap으로 상위 k개 유지 (같은 후보가 여러 키로 걸리면 1회만)
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, (a, b) -> RANKING.compare(entries[b], entries[a]));
+        Set<Integer> seen = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            int target = targets[i];
+            if (!seen.add(target)) continue;
+            heap.offer(target);
+            if (heap.size() > k) heap.poll();
+        }
+        int[] out = new int[heap.size()];
+        for (int i = out.length - 1; i >= 0; i--) out[i] = heap.poll();
+        return out;
+    }
+
+    private List<Entry> toEntries(int[] idx) {
+        List<Entry> out = new ArrayList<>(idx.length);
+        for (int i : idx) out.add(entries[i]);
+        return out;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private record KeyRef(String key, int target) {
+    }
+}
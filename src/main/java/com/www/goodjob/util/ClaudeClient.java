@@ -3,6 +3,10 @@ package com.www.goodjob.util;
 import com.anthropic.client.AnthropicClient;
 import com.anthropic.client.okhttp.AnthropicOkHttpClient;
 import com.anthropic.models.messages.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -19,22 +23,41 @@ public class ClaudeClient {
 
     private final String summaryPrompt;
 
+    /** claude.client.requests{operation, outcome} / claude.tokens{operation, type=input|output} */
+    private final MeterRegistry meterRegistry;
+
+    private final Tracer tracer;
+
+    /** baseUrl 이 비어 있으면 Anthropic 기본 엔드포인트. 부하 테스트에서는 로컬 fake 주소를 넣는다 */
     @Autowired
-    public ClaudeClient(@Value("${anthropic.api-key}") String apiKey) {
-        this.client = AnthropicOkHttpClient.builder()
-                .apiKey(apiKey)
-                .build();
-        this.feedbackPrompt =CaludeFeedbackPrompt.V3;
-        this.summaryPrompt= CaludeSummaryPrompt.V1;
+    public ClaudeClient(@Value("${anthropic.api-key}") String apiKey,
+                        @Value("${anthropic.base-url:}") String baseUrl,
+                        MeterRegistry meterRegistry,
+                        Tracer tracer) {
+        this(buildClient(apiKey, baseUrl), CaludeFeedbackPrompt.V3, CaludeSummaryPrompt.V1, meterRegistry, tracer);
     }
 
-    public ClaudeClient(@Value("${anthropic.api-key}") String apiKey, String feedbackPrompt ,String summaryPrompt) {
-        this.client = AnthropicOkHttpClient.builder()
-                .apiKey(apiKey)
-                .build();
-        this.summaryPrompt = summaryPrompt;
+    public ClaudeClient(String apiKey, String feedbackPrompt, String summaryPrompt,
+                        MeterRegistry meterRegistry, Tracer tracer) {
+        this(buildClient(apiKey, ""), feedbackPrompt, summaryPrompt, meterRegistry, tracer);
+    }
+
+    private ClaudeClient(AnthropicClient client, String feedbackPrompt, String summaryPrompt,
+                         MeterRegistry meterRegistry, Tracer tracer) {
+        this.client = client;
         this.feedbackPrompt = feedbackPrompt;
+        this.summaryPrompt = summaryPrompt;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+    }
 
+    private static AnthropicClient buildClient(String apiKey, String baseUrl) {
+        AnthropicOkHttpClient.Builder builder = AnthropicOkHttpClient.builder()
+                .apiKey(apiKey);
+        if (baseUrl != null && !baseUrl.isBlank()) {
+            builder.baseUrl(baseUrl);
+        }
+        return builder.build();
     }
 
     public String generateFeedback(String cvText, String jobText) {
@@ -46,7 +69,7 @@ public class ClaudeClient {
                 .addUserMessage("이력서:\n" + cvText + "\n\n채용 공고:\n" + jobText)
                 .build();
 
-        Message message = client.messages().create(params);
+        Message message = create("feedback", params);
 
         // return message.content().toString();
          return  this.caludeFeedbackFormater.format(
@@ -69,7 +92,7 @@ public class ClaudeClient {
                 .addUserMessage("이력서:\n" + cvText)
                 .build();
 
-        Message message = client.messages().create(params);
+        Message message = create("summary", params);
 
         return message.content().stream()
                 .map(ContentBlock::text)
@@ -78,4 +101,31 @@ public class ClaudeClient {
                 .map(TextBlock::text)
                 .reduce("", (a, b) -> a + b);
     }
+
+    private Message create(String operation, MessageCreateParams params) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = tracer.nextSpan().name("claude." + operation).start();
+        String outcome = "ERROR";
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            Message message = client.messages().create(params);
+            outcome = "SUCCESS";
+            long inputTokens = message.usage().inputTokens();
+            long outputTokens = message.usage().outputTokens();
+            meterRegistry.counter("claude.tokens", "operation", operation, "type", "input").increment(inputTokens);
+            meterRegistry.counter("claude.tokens", "operation", operation, "type", "output").increment(outputTokens);
+            span.tag("claude.tokens.input", inputTokens);
+            span.tag("claude.tokens.output", outputTokens);
+            return message;
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+            sample.stop(Timer.builder("claude.client.requests")
+                    .description("Claude API 호출 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.www.goodjob.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 음절 → 호환 자모 분해 유틸.
+ * 입력 중인(조합 중) 글자도 prefix 매칭되도록 겹모음/겹받침까지 낱자로 푼다.
+ *   "강남" → "ㄱㅏㅇㄴㅏㅁ", "닭" → "ㄷㅏㄹㄱ", "과" → "ㄱㅗㅏ"
+ * 따라서 "강나"(ㄱㅏㅇㄴㅏ), "달"(ㄷㅏㄹ) 입력도 각각 "강남", "닭갈비"의 prefix가 된다.
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 낱자로 직접 입력된 겹자모(호환 자모) 분해
+    private static final Map<Character, String> COMPAT_COMPOUND = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /** 소문자화 + 공백 정규화 후 자모 분해 (검색 키 생성용) */
+    public static String toSearchKey(String text) {
+        if (text == null) return "";
+        String normalized = text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return decompose(normalized);
+    }
+
+    public static String decompose(String text) {
+        if (text == null || text.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int idx = c - SYLLABLE_BASE;
+                int cho = idx / (JUNG_COUNT * JONG_COUNT);
+                int jung = (idx % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT;
+                int jong = idx % JONG_COUNT;
+                sb.append(CHO[cho]).append(JUNG[jung]).append(JONG[jong]);
+            } else {
+                String compound = COMPAT_COMPOUND.get(c);
+                if (compound != null) sb.append(compound);
+                else sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.www.goodjob.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 실행된 JPA(Hibernate) SQL 문 수/실행 시간 집계.
+ * QueryCountStatementInspector(문장 수, SQL 별 반복 횟수)와 QueryTimingSessionListener(실행 시간)가 채우고,
+ * 요청 단위로는 QueryCountFilter, 테스트에서는 measure(...) 로 구간을 연다.
+ * 구간이 열려 있지 않으면 아무것도 기록하지 않는다 (@Async/스케줄러 스레드 등).
+ * JdbcTemplate 기반 *JdbcRepository 는 Hibernate 를 거치지 않으므로 집계 대상이 아니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Collector> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /** 구간 결과 스냅샷. statementsBySql 의 키는 Hibernate 가 만든 SQL (파라미터는 ? 로 남아 있음) */
+    public record QueryStats(int statements, long executionNanos, Map<String, Integer> statementsBySql) {
+
+        public static final QueryStats EMPTY = new QueryStats(0, 0L, Map.of());
+
+        public double executionMillis() {
+            return executionNanos / 1_000_000.0;
+        }
+
+        /** 가장 많이 반복된 SQL (N+1 후보) */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return statementsBySql.entrySet().stream().max(Map.Entry.comparingByValue());
+        }
+
+        public int maxRepeats() {
+            return mostRepeated().map(Map.Entry::getValue).orElse(0);
+        }
+    }
+
+    /** 현재 스레드에서 새 구간 시작. 이미 열린 구간이 있으면 그 안에 중첩된다 */
+    public static void start() {
+        CURRENT.set(new Collector(CURRENT.get()));
+    }
+
+    /** 가장 안쪽 구간을 닫고 결과 반환. 결과는 바깥 구간에도 더해진다. 열린 구간이 없으면 EMPTY */
+    public static QueryStats stop() {
+        Collector collector = CURRENT.get();
+        if (collector == null) return QueryStats.EMPTY;
+
+        if (collector.outer == null) {
+            CURRENT.remove();
+        } else {
+            collector.outer.merge(collector);
+            CURRENT.set(collector.outer);
+        }
+        return collector.snapshot();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * action 실행 중의 SQL 만 따로 집계 (start/stop 으로 감싼 것과 같음).
+     */
+    public static QueryStats measure(Runnable action) {
+        return measure(() -> {
+            action.run();
+            return null;
+        }).stats();
+    }
+
+    public static <T> Measured<T> measure(Supplier<T> action) {
+        start();
+        T value;
+        try {
+            value = action.get();
+        } catch (RuntimeException | Error e) {
+            stop();
+            throw e;
+        }
+        return new Measured<>(value, stop());
+    }
+
+    public record Measured<T>(T value, QueryStats stats) {
+    }
+
+    /* ===== Hibernate 훅(QueryCountStatementInspector, QueryTimingSessionListener) 전용 ===== */
+
+    public static void onStatement(String sql) {
+        Collector collector = CURRENT.get();
+        if (collector != null) collector.statement(sql);
+    }
+
+    public static void onExecuted(long nanos) {
+        Collector collector = CURRENT.get();
+        if (collector != null) collector.nanos += nanos;
+    }
+
+    private static final class Collector {
+        private final Collector outer;
+        private final Map<String, Integer> bySql = new HashMap<>();
+        private int statements;
+        private long nanos;
+
+        Collector(Collector outer) {
+            this.outer = outer;
+        }
+
+        void statement(String sql) {
+            statements++;
+            bySql.merge(sql, 1, Integer::sum);
+        }
+
+        void merge(Collector inner) {
+            statements += inner.statements;
+            nanos += inner.nanos;
+            inner.bySql.forEach((sql, n) -> bySql.merge(sql, n, Integer::sum));
+        }
+
+        QueryStats snapshot() {
+            return new QueryStats(statements, nanos, Collections.unmodifiableMap(new HashMap<>(bySql)));
+        }
+    }
+}
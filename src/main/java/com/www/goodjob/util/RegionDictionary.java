@@ -0,0 +1,85 @@
+package com.www.goodjob.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.domain.Region;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.dto.RegionGroupDto;
+import org.springframework.util.DigestUtils;
+
+import java.util.*;
+
+/**
+ * 지역 사전 (불변 스냅샷).
+ * - regionId → RegionDto (공고 DTO 조립 시 Region 엔티티 로딩 대신 사용)
+ * - sido → 정렬된 sigungu 목록 (/jobs/region-types 응답)
+ * - 위 응답의 직렬화 JSON 과 ETag 를 빌드 시점에 한 번만 만든다.
+ *
+ * 반환되는 RegionDto / RegionGroupDto 는 여러 응답에서 공유되므로 수정하면 안 된다.
+ */
+public final class RegionDictionary {
+
+    private final Map<Long, RegionDto> byId;
+    private final List<RegionGroupDto> groups;
+    private final byte[] groupsJson;
+    private final String etag;
+
+    private RegionDictionary(Map<Long, RegionDto> byId, List<RegionGroupDto> groups, byte[] groupsJson) {
+        this.byId = byId;
+        this.groups = groups;
+        this.groupsJson = groupsJson;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(groupsJson) + "\"";
+    }
+
+    /** objectMapper 는 애플리케이션 ObjectMapper 빈(RedisConfig)을 넘겨 다른 응답과 같은 설정으로 직렬화한다 */
+    public static RegionDictionary build(Collection<Region> regions, ObjectMapper objectMapper) {
+        Map<Long, RegionDto> byId = new HashMap<>(regions.size() * 2);
+        Map<String, Set<String>> grouped = new TreeMap<>();
+
+        for (Region region : regions) {
+            if (region.getId() != null) {
+                byId.put(region.getId(), RegionDto.builder()
+                        .sido(region.getSido())
+                        .sigungu(region.getSigungu())
+                        .build());
+            }
+            if (region.getSido() == null || region.getSigungu() == null) continue;
+            grouped.computeIfAbsent(region.getSido(), k -> new TreeSet<>())
+                    .add(region.getSigungu());
+        }
+
+        List<RegionGroupDto> groups = grouped.entrySet().stream()
+                .map(entry -> RegionGroupDto.builder()
+                        .sido(entry.getKey())
+                        .sigunguList(List.copyOf(entry.getValue()))
+                        .build())
+                .toList();
+
+        try {
+            return new RegionDictionary(Map.copyOf(byId), groups, objectMapper.writeValueAsBytes(groups));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("지역 목록 직렬화 실패", e);
+        }
+    }
+
+    public RegionDto get(Long regionId) {
+        return regionId == null ? null : byId.get(regionId);
+    }
+
+    public List<RegionGroupDto> getGroups() {
+        return groups;
+    }
+
+    /** getGroups() 의 JSON (복사본) */
+    public byte[] getGroupsJson() {
+        return groupsJson.clone();
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
@@ -0,0 +1,108 @@
+package com.www.goodjob.util;
+
+import java.util.*;
+
+/**
+ * Space-Saving 알고리즘 기반 heavy-hitter 카운터.
+ * capacity 개수만큼의 키만 유지하며, 꽉 찬 상태에서 새 키가 들어오면
+ * 최소 카운트 키를 밀어내고 (최소값 + 1)로 이어받는다. → 메모리 O(capacity)
+ *
+ * 상위 키의 count는 실제값 이상(과대추정)이며, 과대추정 폭은 error 이하.
+ */
+public class SpaceSavingTopK {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSavingTopK(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void offer(String key) {
+        offer(key, 1L);
+    }
+
+    public synchronized void offer(String key, long increment) {
+        if (key == null || increment <= 0) return;
+
+        Counter c = counters.get(key);
+        if (c != null) {
+            c.count += increment;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(increment, 0L));
+            return;
+        }
+
+        // 최소 카운트 키 교체 (capacity가 수백 수준이라 선형 탐색으로 충분)
+        String minKey = null;
+        Counter min = null;
+        for (Map.Entry<String, Counter> e : counters.entrySet()) {
+            if (min == null || e.getValue().count < min.count) {
+                minKey = e.getKey();
+                min = e.getValue();
+            }
+        }
+        counters.remove(minKey);
+        counters.put(key, new Counter(min.count + increment, min.count));
+    }
+
+    /** 카운트 내림차순 상위 k개 (count = 추정치) */
+    public synchronized List<Map.Entry<String, Long>> top(int k) {
+        return counters.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().count, a.getValue().count))
+                .limit(Math.max(k, 0))
+                .map(e -> Map.entry(e.getKey(), e.getValue().count))
+                .toList();
+    }
+
+    /** 현재 유지 중인 전체 (키 → 추정 카운트) 스냅샷 */
+    public synchronized Map<String, Long> snapshot() {
+        Map<String, Long> out = new HashMap<>(counters.size() * 2);
+        counters.forEach((k, v) -> out.put(k, v.count));
+        return out;
+    }
+
+    /**
+     * 보장 하한 스냅샷 (키 → count - error). 밀려난 키의 최소값을 이어받은 부분을 빼므로 실제값 이하이며,
+     * 0 이하는 제외한다. 외부에 누적 합산할 때 사용 (추정치를 더하면 주기마다 오차가 쌓임).
+     */
+    public synchronized Map<String, Long> guaranteedSnapshot() {
+        Map<String, Long> out = new HashMap<>(counters.size() * 2);
+        counters.forEach((k, v) -> {
+            long guaranteed = v.count - v.error;
+            if (guaranteed > 0) out.put(k, guaranteed);
+        });
+        return out;
+    }
+
+    public synchronized long errorOf(String key) {
+        Counter c = counters.get(key);
+        return c == null ? 0L : c.error;
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static final class Counter {
+        long count;
+        final long error;
+
+        Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
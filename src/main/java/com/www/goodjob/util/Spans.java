@@ -0,0 +1,35 @@
+package com.www.goodjob.util;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.util.function.Supplier;
+
+/**
+ * 추천 흐름의 단계별 span (Redis 조회, MySQL hydrate, FastAPI, Claude 등).
+ * 현재 trace 의 자식 span 으로 열리고, 예외는 span 에 기록한 뒤 그대로 던진다.
+ * Tracer.NOOP 이면 비용 없이 body 만 실행.
+ */
+public final class Spans {
+
+    private Spans() {}
+
+    public static <T> T inSpan(Tracer tracer, String name, Supplier<T> body) {
+        Span span = tracer.nextSpan().name(name).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return body.get();
+        } catch (RuntimeException | Error e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    public static void inSpan(Tracer tracer, String name, Runnable body) {
+        inSpan(tracer, name, () -> {
+            body.run();
+            return null;
+        });
+    }
+}
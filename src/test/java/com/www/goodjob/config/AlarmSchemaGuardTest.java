@@ -0,0 +1,63 @@
+package com.www.goodjob.config;
+
+import com.www.goodjob.enums.AlarmType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmSchemaGuardTest {
+
+    @InjectMocks
+    private AlarmSchemaGuard guard;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void failsStartup_whenEnumColumnLacksNewType() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("enum('CV_MATCH','APPLY_DUE','JOB_POPULAR')"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, guard::verifyAlarmTypeColumn);
+        assertTrue(e.getMessage().contains("DIGEST"));
+        assertTrue(e.getMessage().contains(AlarmSchemaGuard.FIX_DDL));
+    }
+
+    @Test
+    void passes_forVarcharColumnOrMissingTable() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("varchar(50)"))
+                .thenReturn(List.of());
+
+        assertDoesNotThrow(guard::verifyAlarmTypeColumn);
+        assertDoesNotThrow(guard::verifyAlarmTypeColumn);
+    }
+
+    @Test
+    void skips_whenInformationSchemaHasNoColumnType() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenThrow(new BadSqlGrammarException("alarm schema", "SELECT COLUMN_TYPE", new SQLException("H2")));
+
+        assertDoesNotThrow(guard::verifyAlarmTypeColumn);
+    }
+
+    @Test
+    void missingTypes_acceptsEnumListingEveryType() {
+        String all = "enum('CV_MATCH','APPLY_DUE','JOB_POPULAR','DIGEST')";
+        assertEquals(List.of(), AlarmSchemaGuard.missingTypes(all));
+        assertEquals(List.of(AlarmType.DIGEST), AlarmSchemaGuard.missingTypes("ENUM('CV_MATCH','APPLY_DUE','JOB_POPULAR')"));
+    }
+}
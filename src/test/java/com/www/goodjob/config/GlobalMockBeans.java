@@ -57,5 +57,10 @@ public class GlobalMockBeans {
         return Mockito.mock(SearchLogService.class);
     }
 
+    @Bean
+    public RegionDictionaryService regionDictionaryService() {
+        return Mockito.mock(RegionDictionaryService.class);
+    }
+
     // 추가적으로 필요한 Mock 빈은 이곳에 계속 추가하면 됩니다.
 }
@@ -0,0 +1,41 @@
+package com.www.goodjob.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountFilterTest {
+
+    private static final String FIND_SCORE = "select rs.id from recommend_score rs where rs.cv_id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountStatementInspector inspector = new QueryCountStatementInspector();
+    private final QueryCountFilter filter = new QueryCountFilter(meterRegistry, 30, 300, 3);
+
+    @Test
+    void recordsStatementsPerRequest_andFlagsRepeatedSql() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bookmark");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/bookmark");
+            for (int i = 0; i < 4; i++) inspector.inspect(FIND_SCORE);
+        });
+
+        assertEquals(4.0, meterRegistry.get(QueryCountFilter.STATEMENTS)
+                .tags("method", "GET", "uri", "/bookmark").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get(QueryCountFilter.N_PLUS_ONE)
+                .tags("method", "GET", "uri", "/bookmark").counter().count());
+    }
+
+    @Test
+    void skipsMetrics_whenRequestRunsNoSql() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertNull(meterRegistry.find(QueryCountFilter.STATEMENTS).summary());
+    }
+}
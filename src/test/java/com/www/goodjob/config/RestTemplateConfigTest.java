@@ -0,0 +1,55 @@
+package com.www.goodjob.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.dto.JobSearchDto;
+import com.www.goodjob.dto.JobSearchResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RestTemplateConfigTest {
+
+    private static final String FASTAPI_HOST = "http://fastapi:8000";
+
+    @Test
+    void decodesSearchResponse_withFieldsTheDtoDoesNotMap() {
+        // 운영과 같이 빌더에 앱 ObjectMapper(FAIL_ON_UNKNOWN_PROPERTIES=true) 컨버터가 들어 있는 상태
+        RestTemplateBuilder builder = new RestTemplateBuilder()
+                .messageConverters(new MappingJackson2HttpMessageConverter(new ObjectMapper()));
+        RestTemplate restTemplate = new RestTemplateConfig()
+                .restTemplate(builder, new SimpleMeterRegistry(), FASTAPI_HOST);
+
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(FASTAPI_HOST + "/search-es")).andRespond(withSuccess("""
+                {
+                  "total": 2,
+                  "page": 0,
+                  "size": 10,
+                  "took_ms": 12,
+                  "results": [
+                    {"job_id": 101, "score": 12.4, "title": "백엔드 개발자", "company_name": "토스",
+                     "highlight": {"title": ["<em>백엔드</em> 개발자"]}},
+                    {"job_id": 202, "score": 9.1, "title": "서버 개발자", "company_name": "당근", "highlight": {}}
+                  ]
+                }
+                """, MediaType.APPLICATION_JSON));
+
+        JobSearchResponse body = restTemplate.postForObject(
+                FASTAPI_HOST + "/search-es", Map.of("keyword", "백엔드"), JobSearchResponse.class);
+
+        server.verify();
+        assertEquals(2, body.getTotal());
+        assertEquals(List.of(101L, 202L), body.getResults().stream().map(JobSearchDto::getJobId).toList());
+    }
+}
@@ -5,7 +5,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.www.goodjob.config.TestSecurityConfig;
 import com.www.goodjob.domain.Job;
 import com.www.goodjob.dto.*;
+import com.www.goodjob.service.ActiveUserService;
 import com.www.goodjob.service.DashboardService;
+import com.www.goodjob.service.DashboardSnapshotService;
 import com.www.goodjob.service.JobService;
 import com.www.goodjob.service.MonitoringService;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +41,12 @@ class AdminDashboardControllerTest {
     @MockitoBean
     private DashboardService dashboardService;
 
+    @MockitoBean
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @MockitoBean
+    private ActiveUserService activeUserService;
+
     @MockitoBean
     private JobService jobService;
 
@@ -65,18 +73,34 @@ class AdminDashboardControllerTest {
                         new KeywordCount("프론트", 15),
                         new KeywordCount("AI", 10)
                 ))
+                .computedAt(LocalDateTime.of(2025, 6, 8, 10, 0))
                 .build();
 
-        given(dashboardService.getDashboardStats()).willReturn(dto);
+        given(dashboardSnapshotService.getSnapshot()).willReturn(dto);
 
         mockMvc.perform(get("/admin/dashboard"))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.computedAt").exists())
                 .andExpect(jsonPath("$.totalUserCount").value(100))
                 .andExpect(jsonPath("$.weeklyUserChange").value(5))
                 .andExpect(jsonPath("$.totalJobCount").value(500))
                 .andExpect(jsonPath("$.ctr").value(25.4));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    @DisplayName("/admin/dashboard/active-users - 기준 날짜의 DAU/WAU/MAU 조회")
+    void getActiveUsers_success() throws Exception {
+        LocalDate date = LocalDate.of(2025, 6, 8);
+        given(activeUserService.getActiveUsers(date)).willReturn(new ActiveUserDto(date, 12, 45, 130));
+
+        mockMvc.perform(get("/admin/dashboard/active-users").param("date", "2025-06-08"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dau").value(12))
+                .andExpect(jsonPath("$.wau").value(45))
+                .andExpect(jsonPath("$.mau").value(130));
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     @DisplayName("/admin/dashboard/server-status - 서버 상태 조회 성공")
@@ -85,9 +109,7 @@ class AdminDashboardControllerTest {
         ServerStatus spring = new ServerStatus("Spring", true, 35.5, 20.0);
         ServerStatus fastapi = new ServerStatus("FastAPI", false, 0.0, 0.0);
 
-        given(monitoringService.getRedisStatus()).willReturn(redis);
-        given(monitoringService.getSpringStatus()).willReturn(spring);
-        given(monitoringService.getFastapiStatus()).willReturn(fastapi);
+        given(monitoringService.getServerStatuses()).willReturn(List.of(redis, spring, fastapi));
 
         mockMvc.perform(get("/admin/dashboard/server-status"))
                 .andExpect(status().isOk())
@@ -1,12 +1,16 @@
 package com.www.goodjob.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.www.goodjob.config.GlobalMockBeans;
 import com.www.goodjob.config.TestSecurityConfig;
+import com.www.goodjob.domain.Region;
 import com.www.goodjob.domain.User;
 import com.www.goodjob.dto.JobDto;
-import com.www.goodjob.dto.RegionGroupDto;
+import com.www.goodjob.dto.JobSummaryDto;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.service.JobService;
+import com.www.goodjob.service.RegionDictionaryService;
+import com.www.goodjob.util.RegionDictionary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +47,9 @@ class JobControllerTest {
     @MockitoBean
     private JobService jobService;
 
+    @MockitoBean
+    private RegionDictionaryService regionDictionaryService;
+
     @BeforeEach
     void setUpSecurityContext() {
         User user = new User();
@@ -79,6 +86,18 @@ class JobControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("채용 공고 요약 검색 API - 200 OK")
+    void searchJobSummaries_shouldReturnPageOfSummaries() throws Exception {
+        Page<JobSummaryDto> page = new PageImpl<>(List.of());
+        given(jobService.searchJobSummaries(any(), any(), any(), any(), any(), any(), any())).willReturn(page);
+
+        mockMvc.perform(get("/jobs/search/summary")
+                        .param("keyword", "백엔드")
+                        .param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("근무 유형 목록 조회 API - 200 OK")
     void getJobTypes_shouldReturnList() throws Exception {
@@ -102,13 +121,33 @@ class JobControllerTest {
     @Test
     @DisplayName("지역 목록 조회 API - 200 OK")
     void getRegionTypes_shouldReturnGroupedRegionList() throws Exception {
-        RegionGroupDto region = new RegionGroupDto("서울", List.of("강남구", "서초구"));
-        given(jobService.getGroupedRegions()).willReturn(List.of(region));
+        RegionDictionary dictionary = regionDictionary();
+        given(regionDictionaryService.current()).willReturn(dictionary);
 
         mockMvc.perform(get("/jobs/region-types"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", dictionary.getEtag()))
                 .andExpect(jsonPath("$[0].sido").value("서울"))
-                .andExpect(jsonPath("$[0].sigunguList[0]").value("강남구"));
+                .andExpect(jsonPath("$[0].sigunguList[0]").value("강남구"))
+                .andExpect(jsonPath("$[0].sigunguList[1]").value("서초구"));
+    }
+
+    @Test
+    @DisplayName("지역 목록 조회 API - If-None-Match 일치 시 304")
+    void getRegionTypes_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        RegionDictionary dictionary = regionDictionary();
+        given(regionDictionaryService.current()).willReturn(dictionary);
+
+        mockMvc.perform(get("/jobs/region-types").header("If-None-Match", dictionary.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private RegionDictionary regionDictionary() {
+        return RegionDictionary.build(List.of(
+                Region.builder().id(1L).sido("서울").sigungu("서초구").build(),
+                Region.builder().id(2L).sido("서울").sigungu("강남구").build()
+        ), new ObjectMapper());
     }
 
     @Test
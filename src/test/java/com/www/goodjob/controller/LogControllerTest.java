@@ -17,9 +17,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import com.www.goodjob.enums.EventType;
+import org.springframework.http.MediaType;
 
 @WebMvcTest(LogController.class)
 @Import(TestSecurityConfig.class)
@@ -63,4 +67,34 @@ class LogControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("/log/events - 이벤트 배열 일괄 적재 후 202")
+    void logJobEvents_accepted() throws Exception {
+        mockMvc.perform(post("/log/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"events": [
+                                  {"jobId": 123, "event": "impression"},
+                                  {"jobId": 456, "event": "click"}
+                                ]}
+                                """)
+                        .with(user(getMockUserDetails()))
+                        .with(csrf()))
+                .andExpect(status().isAccepted());
+
+        verify(jobLogService).logEvents(eq(1L), anyList());
+    }
+
+    @Test
+    @DisplayName("/log/events - 빈 배열은 400")
+    void logJobEvents_emptyEvents_returns400() throws Exception {
+        mockMvc.perform(post("/log/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"events\": []}")
+                        .with(user(getMockUserDetails()))
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(jobLogService, never()).logEvents(eq(1L), anyList());
+    }
+}
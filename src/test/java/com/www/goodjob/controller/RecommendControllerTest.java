@@ -1,6 +1,7 @@
 package com.www.goodjob.controller;
 
 import com.www.goodjob.config.TestSecurityConfig;
+import com.www.goodjob.dto.JobSummaryDto;
 import com.www.goodjob.dto.ScoredJobDto;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.service.AsyncService;
@@ -67,6 +68,28 @@ class RecommendControllerTest {
                 .andExpect(jsonPath("$[0].score").value(0.95));
     }
 
+    @Test
+    @DisplayName("/rec/topk-list/summary - 추천 요약 리스트 조회 성공")
+    void recommendTopKSummary_success() throws Exception {
+        List<JobSummaryDto> mockList = List.of(
+                JobSummaryDto.builder()
+                        .id(1L)
+                        .score(0.95)
+                        .build()
+        );
+        given(recommendService.requestRecommendationSummary(1L, 3)).willReturn(mockList);
+
+        mockMvc.perform(post("/rec/topk-list/summary")
+                        .param("topk", "3")
+                        .param("cvId", "1")
+                        .with(user(getMockUserDetails()))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].score").value(0.95))
+                .andExpect(jsonPath("$[0].jobDescription").doesNotExist());
+    }
+
     @Test
     @DisplayName("/rec/cache - 추천 캐시 생성 성공")
     void cacheRecommendation_success() throws Exception {
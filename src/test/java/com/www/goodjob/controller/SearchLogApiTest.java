@@ -2,7 +2,9 @@ package com.www.goodjob.controller;
 
 import com.www.goodjob.config.GlobalMockBeans;
 import com.www.goodjob.domain.User;
+import com.www.goodjob.dto.KeywordCount;
 import com.www.goodjob.dto.SearchLogDto;
+import com.www.goodjob.enums.TrendWindow;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.security.CustomUserDetailsService;
 import com.www.goodjob.service.JobService;
@@ -76,6 +78,21 @@ class SearchLogApiTest {
                 .andExpect(jsonPath("$[0].keyword").value("토스"));
     }
 
+    @Test
+    @DisplayName("인기 검색어 조회 API 테스트")
+    void getTrendingKeywords_shouldReturnWindowTopKeywords() throws Exception {
+        given(searchLogService.getTrendingKeywords(TrendWindow.WEEK, 5))
+                .willReturn(List.of(new KeywordCount("백엔드", 42), new KeywordCount("토스", 17)));
+
+        mockMvc.perform(get("/jobs/search/trending")
+                        .param("window", "WEEK")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0].keyword").value("백엔드"))
+                .andExpect(jsonPath("$[0].count").value(42));
+    }
+
     @Test
     @DisplayName("검색 기록 전체 삭제 API 테스트")
     void deleteAllSearchHistory_shouldRemoveAllKeywords() throws Exception {
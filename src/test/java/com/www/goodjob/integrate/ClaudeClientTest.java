@@ -1,15 +1,18 @@
 package com.www.goodjob.integrate;
 import com.www.goodjob.util.ClaudeClient;
-import org.junit.jupiter.api.BeforeEach;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 
 import java.awt.Desktop;
 import java.io.IOException;
@@ -23,19 +26,26 @@ import java.time.format.DateTimeFormatter;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @EnableConfigurationProperties
-@SpringBootTest(classes = ClaudeClient.class)
+@SpringBootTest(classes = {ClaudeClient.class, ClaudeClientTest.ObservabilityConfig.class})
 class ClaudeClientTest {
 
     private static final Logger log = LoggerFactory.getLogger(ClaudeClientTest.class);
 
+    @Autowired
     private ClaudeClient claudeClient;
 
-    @Value("${anthropic.api-key}")
-    private String apiKey;
+    /** 컨텍스트를 ClaudeClient 하나로 좁혔으므로 metrics/tracing 은 in-memory 로 대신 */
+    @TestConfiguration
+    static class ObservabilityConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
 
-    @BeforeEach
-    void setUp(){
-        this.claudeClient= new ClaudeClient(apiKey);
+        @Bean
+        Tracer tracer() {
+            return Tracer.NOOP;
+        }
     }
 
     // --- 테스트용 샘플 데이터 ---
@@ -107,7 +117,6 @@ class ClaudeClientTest {
     @DisplayName("이력서와 채용 공고를 바탕으로 피드백을 생성한다")
     void generateFeedback_3_Test() {
 
-        this.claudeClient= new ClaudeClient(apiKey);
         // when
         String feedback = claudeClient.generateFeedback(SAMPLE_CV, SAMPLE_JOB_DESCRIPTION);
 
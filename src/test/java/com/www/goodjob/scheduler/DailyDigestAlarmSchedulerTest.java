@@ -0,0 +1,90 @@
+package com.www.goodjob.scheduler;
+
+import com.www.goodjob.service.AlarmDigestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyDigestAlarmSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @InjectMocks
+    private DailyDigestAlarmScheduler scheduler;
+
+    @Mock
+    private AlarmDigestService alarmDigestService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "cron", "0 0 10 * * *");
+        ReflectionTestUtils.setField(scheduler, "shards", 3);
+        ReflectionTestUtils.setField(scheduler, "windowMinutes", 30L);
+    }
+
+    @Test
+    void catchUp_runsOnlyShardsWithoutDoneMarker_afterWindow() {
+        String key = DailyDigestAlarmScheduler.doneKey(TODAY, 3);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(key)).thenReturn(Set.of("0", "2"));
+        when(alarmDigestService.runShard(eq(1), eq(3), eq(TODAY), any())).thenReturn(result(1, 0));
+
+        scheduler.catchUp(ZonedDateTime.of(TODAY.atTime(10, 45), ZONE));
+
+        verify(alarmDigestService).runShard(eq(1), eq(3), eq(TODAY), any());
+        verify(alarmDigestService, never()).runShard(eq(0), anyInt(), any(), any());
+        verify(alarmDigestService, never()).runShard(eq(2), anyInt(), any(), any());
+        verify(setOperations).add(key, "1");
+    }
+
+    @Test
+    void catchUp_leavesShardUnmarked_whenChunksFailed() {
+        String key = DailyDigestAlarmScheduler.doneKey(TODAY, 3);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(key)).thenReturn(Set.of("0", "2"));
+        when(alarmDigestService.runShard(eq(1), eq(3), eq(TODAY), any())).thenReturn(result(1, 2));
+
+        scheduler.catchUp(ZonedDateTime.of(TODAY.atTime(10, 45), ZONE));
+
+        verify(setOperations, never()).add(anyString(), any(String[].class));
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    void catchUp_waitsUntilWindowAndGraceHavePassed() {
+        scheduler.catchUp(ZonedDateTime.of(TODAY.atTime(10, 35), ZONE));
+
+        verifyNoInteractions(alarmDigestService, redisTemplate);
+    }
+
+    private static AlarmDigestService.ShardResult result(int shard, int failedChunks) {
+        return new AlarmDigestService.ShardResult(shard, 0, 0, 0, 0, failedChunks, 0, 0, 0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.ActiveUserDto;
+import com.www.goodjob.enums.EventType;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHyperLogLogCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveUserServiceTest {
+
+    @InjectMocks
+    private ActiveUserService activeUserService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hllOps;
+
+    @Test
+    void getActiveUsers_countsUnionOfDailyKeysPerWindow() {
+        LocalDate date = LocalDate.of(2025, 6, 8);
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hllOps);
+        when(hllOps.size(any(String[].class))).thenAnswer(inv -> (long) inv.getArguments().length);
+
+        ActiveUserDto dto = activeUserService.getActiveUsers(date);
+
+        // 키 개수 = 기간 일수 (PFCOUNT 1회에 모든 날짜 키)
+        assertEquals(1, dto.getDau());
+        assertEquals(ActiveUserService.WEEK_DAYS, dto.getWau());
+        assertEquals(ActiveUserService.MONTH_DAYS, dto.getMau());
+        verify(hllOps).size("active:users:day:20250608");
+    }
+
+    @Test
+    void countBetween_returnsZero_whenRedisFails() {
+        when(redisTemplate.opsForHyperLogLog()).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertEquals(0L, activeUserService.countBetween(LocalDate.now(), LocalDate.now()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_pfaddsDistinctUsersPerDay() {
+        LocalDate today = LocalDate.now();
+        activeUserService.record(List.of(
+                new JobEventRow(1L, 10L, EventType.impression, today.atTime(9, 0)),
+                new JobEventRow(1L, 11L, EventType.click, today.atTime(9, 1)),
+                new JobEventRow(2L, 10L, EventType.impression, today.atTime(9, 2)),
+                new JobEventRow(3L, 10L, EventType.impression, today.minusDays(1).atTime(23, 59))));
+
+        activeUserService.flush();
+
+        ArgumentCaptor<RedisCallback<Object>> captor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(captor.capture());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisHyperLogLogCommands hll = mock(RedisHyperLogLogCommands.class);
+        when(connection.hyperLogLogCommands()).thenReturn(hll);
+        when(connection.keyCommands()).thenReturn(mock(RedisKeyCommands.class));
+        captor.getValue().doInRedis(connection);
+
+        ArgumentCaptor<byte[]> keys = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[][]> values = ArgumentCaptor.forClass(byte[][].class);
+        verify(hll, times(2)).pfAdd(keys.capture(), values.capture());
+        Map<String, Integer> sizes = Map.of(
+                new String(keys.getAllValues().get(0), StandardCharsets.UTF_8), values.getAllValues().get(0).length,
+                new String(keys.getAllValues().get(1), StandardCharsets.UTF_8), values.getAllValues().get(1).length);
+        assertEquals(2, sizes.get(ActiveUserService.keyOf(today)));
+        assertEquals(1, sizes.get(ActiveUserService.keyOf(today.minusDays(1))));
+
+        assertTrue(activeUserService.drain().isEmpty());
+    }
+
+    @Test
+    void flush_requeues_whenRedisFails() {
+        activeUserService.record(List.of(new JobEventRow(1L, 10L, EventType.click, LocalDate.now().atTime(9, 0))));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        activeUserService.flush();
+
+        assertEquals(Set.of(1L), activeUserService.drain().get(LocalDate.now()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.domain.alarm.AlarmJob;
+import com.www.goodjob.dto.alarm.AlarmDraft;
+import com.www.goodjob.dto.alarm.AlarmJobRequest;
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.AlarmBulkJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmBulkCommandServiceTest {
+
+    @InjectMocks
+    private AlarmBulkCommandService alarmBulkCommandService;
+
+    @Mock
+    private AlarmBulkJdbcRepository alarmBulkJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @Mock
+    private AlarmPushService alarmPushService;
+
+    @Mock
+    private AlarmUnreadCounterService alarmUnreadCounterService;
+
+    @Mock
+    private AlarmCtrService alarmCtrService;
+
+    @Test
+    void createAllIfNotExists_skipsExistingKeys_andInsertsJobsForCreatedOnly() {
+        // given: A는 이미 존재, B/C 신규, 입력 내 B 중복
+        List<AlarmDraft> drafts = List.of(
+                draft(1L, "K-A", List.of(new AlarmJobRequest(10L, 1))),
+                draft(2L, "K-B", List.of(new AlarmJobRequest(20L, 2), new AlarmJobRequest(21L, 1), new AlarmJobRequest(20L, 3))),
+                draft(2L, "K-B", List.of(new AlarmJobRequest(99L, 1))),
+                draft(3L, "K-C", null)
+        );
+        when(alarmBulkJdbcRepository.findIdsByDedupeKeys(List.of("K-A", "K-B", "K-C")))
+                .thenReturn(Map.of("K-A", 100L));
+        when(alarmBulkJdbcRepository.findIdsByDedupeKeys(List.of("K-B", "K-C")))
+                .thenReturn(Map.of("K-B", 101L, "K-C", 102L));
+
+        // when
+        List<Alarm> created = alarmBulkCommandService.createAllIfNotExists(drafts).created();
+
+        // then
+        assertEquals(List.of(101L, 102L), created.stream().map(Alarm::getId).toList());
+        assertEquals(List.of(2L, 3L), created.stream().map(Alarm::getUserId).toList());
+
+        ArgumentCaptor<List<Alarm>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(alarmBulkJdbcRepository).insertAlarmsSkippingDuplicates(inserted.capture());
+        assertEquals(List.of("K-B", "K-C"), inserted.getValue().stream().map(Alarm::getDedupeKey).toList());
+
+        // 같은 jobId는 rank가 작은 쪽만, rank 오름차순
+        ArgumentCaptor<List<AlarmJob>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(alarmBulkJdbcRepository).insertAlarmJobsSkippingDuplicates(jobs.capture());
+        assertEquals(List.of(21L, 20L), jobs.getValue().stream().map(AlarmJob::getJobId).toList());
+        assertTrue(jobs.getValue().stream().allMatch(j -> j.getAlarmId() == 101L));
+
+        // 생성된 알림만 푸시
+        verify(alarmPushService).publish(created);
+        verify(alarmUnreadCounterService).incrementAfterCommit(created);
+    }
+
+    @Test
+    void createAllIfNotExists_splitsIntoChunks() {
+        // given
+        List<AlarmDraft> drafts = new ArrayList<>();
+        for (long i = 0; i < AlarmBulkCommandService.CHUNK_SIZE + 1; i++) {
+            drafts.add(draft(i, "K-" + i, null));
+        }
+        when(alarmBulkJdbcRepository.findIdsByDedupeKeys(anyList())).thenReturn(Map.of());
+
+        // when
+        AlarmBulkCommandService.BulkCreateResult result = alarmBulkCommandService.createAllIfNotExists(drafts);
+
+        // then: 청크 2개 → INSERT 문장 2회
+        verify(alarmBulkJdbcRepository, times(2)).insertAlarmsSkippingDuplicates(anyList());
+        verify(txManager, times(2)).commit(any());
+        assertTrue(result.created().isEmpty());
+        assertEquals(0, result.failedChunks());
+    }
+
+    @Test
+    void createAllIfNotExists_countsFailedChunks_andKeepsOtherChunks() {
+        // given: 첫 청크의 INSERT 실패, 둘째 청크는 정상
+        List<AlarmDraft> drafts = new ArrayList<>();
+        for (long i = 0; i < AlarmBulkCommandService.CHUNK_SIZE + 1; i++) {
+            drafts.add(draft(i, "K-" + i, null));
+        }
+        String last = "K-" + AlarmBulkCommandService.CHUNK_SIZE;
+        when(alarmBulkJdbcRepository.findIdsByDedupeKeys(anyList())).thenReturn(Map.of());
+        when(alarmBulkJdbcRepository.findIdsByDedupeKeys(List.of(last)))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(last, 900L));
+        doThrow(new DataIntegrityViolationException("Data truncated for column 'type'"))
+                .doNothing()
+                .when(alarmBulkJdbcRepository).insertAlarmsSkippingDuplicates(anyList());
+
+        // when
+        AlarmBulkCommandService.BulkCreateResult result = alarmBulkCommandService.createAllIfNotExists(drafts);
+
+        // then
+        assertEquals(1, result.failedChunks());
+        assertTrue(result.hasFailures());
+        assertEquals(List.of(900L), result.created().stream().map(Alarm::getId).toList());
+        verify(txManager).rollback(any());
+    }
+
+    @Test
+    void createAllIfNotExists_rejectsBlankDedupeKey() {
+        List<AlarmDraft> drafts = List.of(draft(1L, " ", null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> alarmBulkCommandService.createAllIfNotExists(drafts));
+        verifyNoInteractions(alarmBulkJdbcRepository);
+    }
+
+    private static AlarmDraft draft(Long userId, String dedupeKey, List<AlarmJobRequest> jobs) {
+        return AlarmDraft.builder()
+                .userId(userId)
+                .alarmText("지원 마감 임박 1건")
+                .type(AlarmType.APPLY_DUE)
+                .dedupeKey(dedupeKey)
+                .jobs(jobs)
+                .build();
+    }
+}
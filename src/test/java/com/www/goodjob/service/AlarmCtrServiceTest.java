@@ -0,0 +1,85 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.AlarmCtrJdbcRepository;
+import com.www.goodjob.repository.AlarmCtrJdbcRepository.AlarmCtrDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmCtrServiceTest {
+
+    @InjectMocks
+    private AlarmCtrService alarmCtrService;
+
+    @Mock
+    private AlarmCtrJdbcRepository alarmCtrJdbcRepository;
+
+    @Test
+    void flush_writesAggregatedCountersPerTypeAndRank() {
+        alarmCtrService.recordDeliveredAfterCommit(AlarmType.CV_MATCH, List.of(1, 2, 12));
+        alarmCtrService.recordDeliveredAfterCommit(AlarmType.CV_MATCH, List.of(1));
+        alarmCtrService.recordOpenedAfterCommit(AlarmType.CV_MATCH);
+        alarmCtrService.recordClickedAfterCommit(AlarmType.CV_MATCH, 1);
+
+        alarmCtrService.flush();
+
+        List<AlarmCtrDelta> rows = captureWrite();
+        assertEquals(4, rows.size());
+        assertRow(rows.get(0), 0, 2, 1, 1);   // 알림 단위
+        assertRow(rows.get(1), 1, 2, 0, 1);
+        assertRow(rows.get(2), 2, 1, 0, 0);
+        assertRow(rows.get(3), AlarmCtrService.MAX_RANK, 1, 0, 0); // 12위 → 10 으로 묶음
+    }
+
+    @Test
+    void flush_requeuesCounters_whenWriteFails() {
+        alarmCtrService.recordOpenedAfterCommit(AlarmType.APPLY_DUE);
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(alarmCtrJdbcRepository).addAll(any(), any());
+
+        alarmCtrService.flush();
+        alarmCtrService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AlarmCtrDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(alarmCtrJdbcRepository, times(2)).addAll(captor.capture(), any());
+        assertRow(captor.getAllValues().get(1).get(0), 0, 0, 1, 0);
+    }
+
+    @Test
+    void flush_skipsWrite_whenNothingRecordedSinceLastFlush() {
+        alarmCtrService.recordOpenedAfterCommit(AlarmType.CV_MATCH);
+        alarmCtrService.flush();
+
+        alarmCtrService.flush();
+
+        verify(alarmCtrJdbcRepository, times(1)).addAll(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AlarmCtrDelta> captureWrite() {
+        ArgumentCaptor<List<AlarmCtrDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(alarmCtrJdbcRepository).addAll(captor.capture(), any());
+        return captor.getValue().stream().sorted(Comparator.comparingInt(AlarmCtrDelta::rank)).toList();
+    }
+
+    private static void assertRow(AlarmCtrDelta row, int rank, long delivered, long opened, long clicked) {
+        assertEquals(rank, row.rank());
+        assertEquals(delivered, row.delivered());
+        assertEquals(opened, row.opened());
+        assertEquals(clicked, row.clicked());
+    }
+}
@@ -0,0 +1,184 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.alarm.AlarmDraft;
+import com.www.goodjob.dto.alarm.AlarmJobRequest;
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.ApplicationDueJdbcRepository;
+import com.www.goodjob.repository.ApplicationDueJdbcRepository.ApplicationDueRow;
+import com.www.goodjob.repository.RecommendTopNJdbcRepository;
+import com.www.goodjob.repository.RecommendTopNJdbcRepository.RecommendTopNRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmDigestServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+    private static final LocalDateTime NOW = TODAY.atTime(10, 0);
+
+    @Mock
+    private RecommendTopNJdbcRepository recommendTopNRepository;
+
+    @Mock
+    private ApplicationDueJdbcRepository applicationDueRepository;
+
+    @Mock
+    private AlarmBulkCommandService alarmBulkCommandService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AlarmDigestService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AlarmDigestService(recommendTopNRepository, applicationDueRepository,
+                alarmBulkCommandService, meterRegistry);
+        lenient().when(alarmBulkCommandService.createAllIfNotExists(any()))
+                .thenReturn(new AlarmBulkCommandService.BulkCreateResult(List.of(), 0));
+    }
+
+    @Test
+    void runShard_mergesCvAndDueSectionsIntoOneDigestPerUser() {
+        streamsCv(List.of(
+                cv(1L, 7L, "백엔드 이력서", 500L),
+                cv(1L, 7L, "백엔드 이력서", 501L),
+                cv(2L, 8L, "프론트 이력서", 600L)));
+        streamsDue(List.of(
+                due(1L, 10L, TODAY),
+                due(1L, 11L, TODAY.plusDays(1)),
+                due(3L, 12L, TODAY.plusDays(2))));
+
+        AlarmDigestService.ShardResult result = service.runShard(0, 1, TODAY, NOW);
+
+        List<AlarmDraft> drafts = captureSingleWrite();
+        assertEquals(3, drafts.size());
+        assertEquals(3, result.users());
+
+        // 사용자 1: CV + 마감 임박 → DIGEST 1건, 순위는 섹션을 이어서 매김
+        AlarmDraft merged = drafts.get(0);
+        assertEquals(1L, merged.getUserId());
+        assertEquals(AlarmType.DIGEST, merged.getType());
+        assertEquals("DAILY_DIGEST", merged.getTitleCode());
+        assertEquals("DIGEST:1:" + TODAY, merged.getDedupeKey());
+        assertEquals(List.of(500L, 501L, 10L, 11L), merged.getJobs().stream().map(AlarmJobRequest::getJobId).toList());
+        assertEquals(List.of(1, 2, 3, 4), merged.getJobs().stream().map(AlarmJobRequest::getRank).toList());
+        assertEquals(2, ((List<?>) merged.getParams().get("sections")).size());
+
+        // 사용자 3: 마감 임박만 → 기존 APPLY_DUE 형식
+        AlarmDraft dueOnly = drafts.get(1);
+        assertEquals(3L, dueOnly.getUserId());
+        assertEquals(AlarmType.APPLY_DUE, dueOnly.getType());
+        assertEquals("지원 마감 임박 1건 (D0:0, D1:0, D2:1)", dueOnly.getAlarmText());
+
+        // 사용자 2: CV 추천만 → 기존 CV_MATCH 형식
+        AlarmDraft cvOnly = drafts.get(2);
+        assertEquals(2L, cvOnly.getUserId());
+        assertEquals(AlarmType.CV_MATCH, cvOnly.getType());
+        assertEquals(8L, cvOnly.getCvId());
+        assertEquals("프론트 이력서", cvOnly.getCvTitle());
+    }
+
+    @Test
+    void runShard_capsDueItemsPerUser() {
+        streamsCv(List.of());
+        List<ApplicationDueRow> rows = new ArrayList<>();
+        for (long j = 0; j < 12; j++) rows.add(due(2L, 100L + j, TODAY.plusDays(1)));
+        streamsDue(rows);
+
+        service.runShard(0, 1, TODAY, NOW);
+
+        AlarmDraft draft = captureSingleWrite().get(0);
+        assertEquals(AlarmDigestService.DUE_MAX_ITEMS, draft.getJobs().size());
+        assertEquals(10L, draft.getParams().get("d1"));
+    }
+
+    @Test
+    void runShard_handsOffDraftsInBatches_andRecordsPhaseTimers() {
+        streamsCv(List.of());
+        List<ApplicationDueRow> rows = new ArrayList<>();
+        for (long u = 1; u <= 501; u++) rows.add(due(u, 1L, TODAY));
+        streamsDue(rows);
+
+        service.runShard(0, 1, TODAY, NOW);
+
+        verify(alarmBulkCommandService, times(2)).createAllIfNotExists(any());
+        for (String phase : List.of("collect-cv", "merge-due", "write")) {
+            assertEquals(1, meterRegistry.get("alarm.digest.phase").tag("phase", phase).timer().count());
+        }
+    }
+
+    @Test
+    void runShard_reportsFailedChunksFromBulkWriter() {
+        streamsCv(List.of());
+        streamsDue(List.of(due(1L, 10L, TODAY)));
+        when(alarmBulkCommandService.createAllIfNotExists(any()))
+                .thenReturn(new AlarmBulkCommandService.BulkCreateResult(List.of(), 1));
+
+        AlarmDigestService.ShardResult result = service.runShard(0, 1, TODAY, NOW);
+
+        assertEquals(1, result.failedChunks());
+        assertEquals(0, result.generated());
+    }
+
+    @Test
+    void runShard_passesShardToBothStreams_andWritesNothingWhenEmpty() {
+        streamsCv(List.of());
+        streamsDue(List.of());
+
+        service.runShard(2, 6, TODAY, NOW);
+
+        verify(recommendTopNRepository).streamTopNPerUserAndCv(
+                eq(AlarmDigestService.CV_TOP_N), eq(AlarmDigestService.CV_THRESHOLD),
+                eq(TODAY.atTime(8, 0)), eq(2), eq(6), any());
+        verify(applicationDueRepository).streamDuesBetween(eq(TODAY), eq(TODAY.plusDays(2)), eq(2), eq(6), any());
+        verifyNoInteractions(alarmBulkCommandService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AlarmDraft> captureSingleWrite() {
+        ArgumentCaptor<List<AlarmDraft>> captor = ArgumentCaptor.forClass(List.class);
+        verify(alarmBulkCommandService).createAllIfNotExists(captor.capture());
+        return captor.getValue();
+    }
+
+    private void streamsCv(List<RecommendTopNRow> rows) {
+        when(recommendTopNRepository.streamTopNPerUserAndCv(anyInt(), anyDouble(), any(), anyInt(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    Consumer<RecommendTopNRow> consumer = inv.getArgument(5);
+                    rows.forEach(consumer);
+                    return (long) rows.size();
+                });
+    }
+
+    private void streamsDue(List<ApplicationDueRow> rows) {
+        when(applicationDueRepository.streamDuesBetween(any(), any(), anyInt(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    Consumer<ApplicationDueRow> consumer = inv.getArgument(4);
+                    rows.forEach(consumer);
+                    return (long) rows.size();
+                });
+    }
+
+    private static RecommendTopNRow cv(Long userId, Long cvId, String cvTitle, Long jobId) {
+        return new RecommendTopNRow(userId, cvId, cvTitle, jobId, 50.0);
+    }
+
+    private static ApplicationDueRow due(Long userId, Long jobId, LocalDate applyEndDate) {
+        return new ApplicationDueRow(userId, jobId, applyEndDate, "백엔드 개발자", "토스");
+    }
+}
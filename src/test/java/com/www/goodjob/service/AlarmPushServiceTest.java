@@ -0,0 +1,89 @@
+package com.www.goodjob.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.dto.alarm.AlarmPushMessage;
+import com.www.goodjob.enums.AlarmType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmPushServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private AlarmPushService alarmPushService;
+
+    @BeforeEach
+    void setUp() {
+        alarmPushService = new AlarmPushService(redisTemplate, listenerContainer, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(alarmPushService, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(alarmPushService, "maxConnections", 2);
+        alarmPushService.init();
+    }
+
+    @Test
+    void subscribe_rejectsConnectionsOverNodeCap() {
+        alarmPushService.subscribe(1L);
+        alarmPushService.subscribe(1L); // 같은 사용자 다중 탭 허용
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> alarmPushService.subscribe(2L));
+        assertEquals(503, ex.getStatusCode().value());
+        assertEquals(2, alarmPushService.connectionCount());
+    }
+
+    @Test
+    void publish_sendsAlarmJsonToChannel() throws Exception {
+        Alarm alarm = Alarm.builder().id(40L).userId(7L).type(AlarmType.CV_MATCH).alarmText("추천 공고 TOP 5").build();
+
+        alarmPushService.publish(List.of(alarm));
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(AlarmPushService.CHANNEL), json.capture());
+        AlarmPushMessage sent = objectMapper.readValue(json.getValue(), AlarmPushMessage.class);
+        assertEquals(40L, sent.getAlarmId());
+        assertEquals(7L, sent.getUserId());
+    }
+
+    @Test
+    void publish_swallowsRedisFailure() {
+        Alarm alarm = Alarm.builder().id(1L).userId(7L).type(AlarmType.APPLY_DUE).alarmText("마감 임박").build();
+        doThrow(new RuntimeException("redis down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        assertDoesNotThrow(() -> alarmPushService.publish(List.of(alarm)));
+    }
+
+    @Test
+    void onMessage_ignoresUsersWithoutLocalConnection() {
+        String json = "{\"userId\":99,\"alarmId\":1,\"type\":\"CV_MATCH\"}";
+
+        assertDoesNotThrow(() -> alarmPushService.onMessage(
+                new DefaultMessage(AlarmPushService.CHANNEL.getBytes(), json.getBytes(StandardCharsets.UTF_8)), null));
+        assertEquals(0, alarmPushService.connectionCount());
+    }
+}
@@ -0,0 +1,139 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.repository.AlarmArchiveJdbcRepository;
+import com.www.goodjob.repository.AlarmArchiveJdbcRepository.AlarmRetentionRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmRetentionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 1, 4, 0);
+
+    @Mock
+    private AlarmArchiveJdbcRepository archiveRepository;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AlarmRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retentionService = new AlarmRetentionService(archiveRepository, txManager, meterRegistry, redisTemplate);
+        ReflectionTestUtils.setField(retentionService, "readMaxAgeDays", 90);
+        ReflectionTestUtils.setField(retentionService, "chunkSize", 3);
+        ReflectionTestUtils.setField(retentionService, "pauseMs", 0L);
+        ReflectionTestUtils.setField(retentionService, "maxDurationMinutes", 30L);
+        ReflectionTestUtils.setField(retentionService, "fullScanIntervalDays", 7);
+        retentionService.initMetrics();
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    }
+
+    @Test
+    void archive_movesOnlyOldReadAlarms_andStopsAtCutoff() {
+        LocalDateTime old = NOW.minusDays(120);
+        LocalDateTime recent = NOW.minusDays(10);
+        // 청크1: 읽음+오래됨(1), 미읽음+오래됨(2), 읽음+오래됨(3) / 청크2: 읽음+오래됨(4), 최근(5) → 중단
+        when(archiveRepository.findAfterId(0L, 3)).thenReturn(List.of(
+                new AlarmRetentionRow(1L, old, true),
+                new AlarmRetentionRow(2L, old, false),
+                new AlarmRetentionRow(3L, old, true)));
+        when(archiveRepository.findAfterId(3L, 3)).thenReturn(List.of(
+                new AlarmRetentionRow(4L, old, true),
+                new AlarmRetentionRow(5L, recent, true),
+                new AlarmRetentionRow(6L, recent, true)));
+        when(archiveRepository.moveToArchive(List.of(1L, 3L), NOW)).thenReturn(2);
+        when(archiveRepository.moveToArchive(List.of(4L), NOW)).thenReturn(1);
+
+        AlarmRetentionService.Result result = retentionService.archive(NOW);
+
+        assertEquals(6, result.scanned());
+        assertEquals(3, result.archived());
+        assertEquals(6L, result.lastId());
+        assertTrue(result.completed());
+        verify(archiveRepository, never()).findAfterId(eq(6L), anyInt());
+        assertEquals(3.0, meterRegistry.get("alarm.retention.archived").counter().count());
+    }
+
+    @Test
+    void archive_resumesFromStoredCursor_andStoresLastIdBeforeCutoff() {
+        when(valueOps.get(AlarmRetentionService.CURSOR_KEY)).thenReturn("3");
+        when(valueOps.get(AlarmRetentionService.FULL_SCAN_KEY)).thenReturn(NOW.toLocalDate().minusDays(2).toString());
+        when(archiveRepository.findAfterId(3L, 3)).thenReturn(List.of(
+                new AlarmRetentionRow(4L, NOW.minusDays(120), false),
+                new AlarmRetentionRow(5L, NOW.minusDays(10), true)));
+
+        AlarmRetentionService.Result result = retentionService.archive(NOW);
+
+        assertTrue(result.completed());
+        verify(archiveRepository, never()).findAfterId(eq(0L), anyInt());
+        // 다음 실행은 기준 시각을 넘긴 5번부터 다시 본다
+        verify(valueOps).set(AlarmRetentionService.CURSOR_KEY, "4");
+        verify(valueOps, never()).set(eq(AlarmRetentionService.FULL_SCAN_KEY), any());
+    }
+
+    @Test
+    void archive_resetsCursor_whenFullScanIsDue() {
+        when(valueOps.get(AlarmRetentionService.CURSOR_KEY)).thenReturn("3");
+        when(valueOps.get(AlarmRetentionService.FULL_SCAN_KEY)).thenReturn(NOW.toLocalDate().minusDays(7).toString());
+        when(archiveRepository.findAfterId(3L, 3)).thenReturn(List.of());
+
+        retentionService.archive(NOW);
+
+        verify(valueOps).set(AlarmRetentionService.CURSOR_KEY, "0");
+    }
+
+    @Test
+    void archive_keepsLastScannedId_whenStoppedByTimeLimit() {
+        ReflectionTestUtils.setField(retentionService, "maxDurationMinutes", 0L);
+        when(archiveRepository.findAfterId(0L, 3)).thenReturn(List.of(
+                new AlarmRetentionRow(1L, NOW.minusDays(200), false),
+                new AlarmRetentionRow(2L, NOW.minusDays(200), false),
+                new AlarmRetentionRow(3L, NOW.minusDays(200), false)));
+
+        AlarmRetentionService.Result result = retentionService.archive(NOW);
+
+        assertFalse(result.completed());
+        verify(valueOps).set(AlarmRetentionService.FULL_SCAN_KEY, NOW.toLocalDate().toString());
+        verify(valueOps).set(AlarmRetentionService.CURSOR_KEY, "3");
+    }
+
+    @Test
+    void archive_skipsTransaction_whenChunkHasNothingToMove() {
+        when(archiveRepository.findAfterId(0L, 3)).thenReturn(List.of(
+                new AlarmRetentionRow(1L, NOW.minusDays(200), false)));
+
+        AlarmRetentionService.Result result = retentionService.archive(NOW);
+
+        assertEquals(0, result.archived());
+        assertTrue(result.completed());
+        verify(archiveRepository, never()).moveToArchive(any(), any());
+        verifyNoInteractions(txManager);
+    }
+}
@@ -0,0 +1,137 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.domain.alarm.AlarmJob;
+import com.www.goodjob.dto.alarm.AlarmJobDto;
+import com.www.goodjob.dto.alarm.AlarmResponse;
+import com.www.goodjob.enums.AlarmType;
+import com.www.goodjob.repository.AlarmJobRepository;
+import com.www.goodjob.repository.AlarmJobSummaryProjection;
+import com.www.goodjob.repository.AlarmRepository;
+import com.www.goodjob.repository.RecommendScoreRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmServiceTest {
+
+    @InjectMocks
+    private AlarmService alarmService;
+
+    @Mock
+    private AlarmRepository alarmRepository;
+
+    @Mock
+    private AlarmJobRepository alarmJobRepository;
+
+    @Mock
+    private JobHydrationService jobHydrationService;
+
+    @Mock
+    private RecommendScoreRepository recommendScoreRepository;
+
+    @Mock
+    private AlarmUnreadCounterService alarmUnreadCounterService;
+
+    @Mock
+    private AlarmCtrService alarmCtrService;
+
+    @Test
+    void markAllRead_usesBulkUpdateInChunks_andDecrementsCounter() {
+        // given: 미읽음 5,000 + 12건 → UPDATE 2회
+        int chunk = AlarmService.MARK_ALL_READ_CHUNK;
+        when(alarmRepository.findMaxUnreadId(7L)).thenReturn(9_000L);
+        when(alarmRepository.markReadChunk(eq(7L), eq(9_000L), any(), eq(chunk)))
+                .thenReturn(chunk, 12);
+
+        // when
+        long updated = alarmService.markAllRead(7L);
+
+        // then
+        assertEquals(chunk + 12L, updated);
+        verify(alarmRepository, times(2)).markReadChunk(eq(7L), eq(9_000L), any(), eq(chunk));
+        verify(alarmRepository, never()).findByUserIdAndRead(any(), anyBoolean(), any());
+        verify(alarmUnreadCounterService).decrementAfterCommit(7L, chunk + 12L);
+    }
+
+    @Test
+    void markAllRead_returnsZero_whenNothingUnread() {
+        when(alarmRepository.findMaxUnreadId(7L)).thenReturn(null);
+
+        assertEquals(0L, alarmService.markAllRead(7L));
+        verify(alarmRepository, never()).markReadChunk(any(), any(), any(), anyInt());
+        verifyNoInteractions(alarmUnreadCounterService);
+    }
+
+    @Test
+    void getList_loadsJobSummariesForWholePageInOneQuery() {
+        // given: 알림 2건 (CV_MATCH는 점수 포함, APPLY_DUE는 점수 없음)
+        PageRequest pageable = PageRequest.of(0, 20);
+        Alarm cvMatch = Alarm.builder().id(1L).userId(7L).type(AlarmType.CV_MATCH).cvId(3L).build();
+        Alarm applyDue = Alarm.builder().id(2L).userId(7L).type(AlarmType.APPLY_DUE).build();
+        when(alarmRepository.findByUserId(7L, pageable))
+                .thenReturn(new PageImpl<>(List.of(cvMatch, applyDue), pageable, 2));
+        when(alarmJobRepository.findSummariesByAlarmIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                summary(1L, 10L, 1, "토스", 0.92f),
+                summary(1L, 11L, 2, "당근", 0.81f),
+                summary(2L, 20L, 1, "네이버", null)
+        ));
+
+        // when
+        Page<AlarmResponse> page = alarmService.getList(7L, false, null, null, pageable);
+
+        // then
+        List<AlarmJobDto> first = page.getContent().get(0).getJobs();
+        assertEquals(List.of(10L, 11L), first.stream().map(AlarmJobDto::getJobId).toList());
+        assertEquals("토스", first.get(0).getCompanyName());
+        assertEquals(0.92, first.get(0).getScore(), 1e-6);
+        assertNull(page.getContent().get(1).getJobs().get(0).getScore());
+        verify(alarmJobRepository, times(1)).findSummariesByAlarmIdIn(any());
+        verify(alarmJobRepository, never()).findByAlarmIdOrderByRankAsc(any());
+    }
+
+    @Test
+    void markJobClicked_recordsFirstClickAndOpen_onlyOnce() {
+        Alarm alarm = Alarm.builder().id(1L).userId(7L).type(AlarmType.CV_MATCH).read(false).build();
+        AlarmJob alarmJob = AlarmJob.of(1L, 10L, 3);
+        when(alarmRepository.findById(1L)).thenReturn(Optional.of(alarm));
+        when(alarmJobRepository.findByAlarmIdAndJobId(1L, 10L)).thenReturn(Optional.of(alarmJob));
+
+        alarmService.markJobClicked(7L, false, 1L, 10L);
+        alarmService.markJobClicked(7L, false, 1L, 10L);
+
+        verify(alarmCtrService, times(1)).recordClickedAfterCommit(AlarmType.CV_MATCH, 3);
+        verify(alarmCtrService, times(1)).recordOpenedAfterCommit(AlarmType.CV_MATCH);
+    }
+
+    private static AlarmJobSummaryProjection summary(Long alarmId, Long jobId, int rank, String company, Float score) {
+        return new AlarmJobSummaryProjection() {
+            @Override public Long getAlarmId() { return alarmId; }
+            @Override public Long getJobId() { return jobId; }
+            @Override public Integer getRank() { return rank; }
+            @Override public LocalDateTime getClickedAt() { return null; }
+            @Override public String getCompanyName() { return company; }
+            @Override public String getTitle() { return "백엔드 개발자"; }
+            @Override public String getJobType() { return "정규직"; }
+            @Override public LocalDate getApplyEndDate() { return LocalDate.of(2025, 9, 1); }
+            @Override public String getFavicon() { return null; }
+            @Override public Float getScore() { return score; }
+        };
+    }
+}
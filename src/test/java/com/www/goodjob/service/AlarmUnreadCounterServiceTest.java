@@ -0,0 +1,122 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.domain.alarm.Alarm;
+import com.www.goodjob.repository.AlarmRepository;
+import com.www.goodjob.repository.UserUnreadCountProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmUnreadCounterServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    @Mock
+    private AlarmRepository alarmRepository;
+
+    private AlarmUnreadCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new AlarmUnreadCounterService(redisTemplate, alarmRepository, new SimpleMeterRegistry());
+        counterService.initMetrics();
+    }
+
+    @Test
+    void get_returnsCachedValue_withoutDbQuery() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get("alarm:unread:7")).thenReturn("3");
+
+        assertEquals(3L, counterService.get(7L));
+        verifyNoInteractions(alarmRepository);
+    }
+
+    @Test
+    void get_loadsFromDbOnMiss() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get("alarm:unread:7")).thenReturn(null);
+        when(alarmRepository.countByUserIdAndReadFalse(7L)).thenReturn(5L);
+
+        assertEquals(5L, counterService.get(7L));
+        verify(valueOps).setIfAbsent(eq("alarm:unread:7"), eq("5"), any(Duration.class));
+    }
+
+    @Test
+    void get_fallsBackToDbWhenRedisFails() {
+        when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("redis down"));
+        when(alarmRepository.countByUserIdAndReadFalse(7L)).thenReturn(2L);
+
+        assertEquals(2L, counterService.get(7L));
+    }
+
+    @Test
+    void incrementAfterCommit_singleUser_appliesDeltaWithScript() {
+        List<Alarm> created = List.of(
+                Alarm.builder().id(1L).userId(7L).build(),
+                Alarm.builder().id(2L).userId(7L).build());
+
+        counterService.incrementAfterCommit(created);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("alarm:unread:7")), eq("2"));
+    }
+
+    @Test
+    void incrementAfterCommit_multipleUsers_usesPipeline() {
+        List<Alarm> created = List.of(
+                Alarm.builder().id(1L).userId(7L).build(),
+                Alarm.builder().id(2L).userId(8L).build());
+
+        counterService.incrementAfterCommit(created);
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    void reconcileBatch_overwritesOnlyDriftedCounters() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.multiGet(List.of("alarm:unread:7", "alarm:unread:8", "alarm:unread:9")))
+                .thenReturn(List.of("4", "1", "2"));
+        // 7: 4건 일치, 8: 실제 0건(결과 없음), 9: 실제 3건
+        when(alarmRepository.countUnreadGroupByUserIdIn(anyCollection())).thenReturn(List.of(
+                unread(7L, 4L), unread(9L, 3L)));
+
+        int fixed = counterService.reconcileBatch(List.of("alarm:unread:7", "alarm:unread:8", "alarm:unread:9"));
+
+        assertEquals(2, fixed);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    private static UserUnreadCountProjection unread(Long userId, Long count) {
+        return new UserUnreadCountProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getUnreadCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.www.goodjob.enums.ApplicationStatus;
+import com.www.goodjob.enums.EngagementType;
 
 @ExtendWith(MockitoExtension.class)
 class ApplicationServiceTest {
@@ -34,6 +35,9 @@ class ApplicationServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private JobEngagementService jobEngagementService;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -92,6 +96,7 @@ class ApplicationServiceTest {
 
         // then
         verify(applicationRepository).save(any(Application.class));
+        verify(jobEngagementService).recordAfterCommit(jobId, EngagementType.APPLICATION, 1);
     }
 
     @Test
@@ -202,6 +207,7 @@ class ApplicationServiceTest {
 
         // then
         verify(applicationRepository).delete(app);
+        verify(jobEngagementService).recordAfterCommit(jobId, EngagementType.APPLICATION, -1);
     }
 
     @Test
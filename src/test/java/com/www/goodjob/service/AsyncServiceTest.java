@@ -9,6 +9,7 @@ import com.www.goodjob.dto.JobDto;
 import com.www.goodjob.dto.ScoredJobDto;
 import com.www.goodjob.repository.*;
 import com.www.goodjob.util.ClaudeClient;
+import io.micrometer.tracing.test.simple.SimpleTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
@@ -61,6 +63,12 @@ class AsyncServiceTest {
     @Mock
     private RecommendScoreRepository recommendScoreRepository;
 
+    @Mock
+    private CvTopJobService cvTopJobService;
+
+    @Spy
+    private SimpleTracer tracer = new SimpleTracer();
+
     @InjectMocks
     private AsyncService asyncService;
 
@@ -129,6 +137,7 @@ class AsyncServiceTest {
 
         // then
         verify(jdbcRepository).batchUpsert(eq(cvId), eq(recommendations));
+        verify(cvTopJobService).refresh(cvId);
     }
 
     @Test
@@ -148,6 +157,7 @@ class AsyncServiceTest {
 
         assertEquals("추천 점수 저장 실패", exception.getMessage());
         verify(jdbcRepository).batchUpsert(eq(cvId), eq(recommendations));
+        verify(cvTopJobService, never()).refresh(any());
     }
 
     @Test
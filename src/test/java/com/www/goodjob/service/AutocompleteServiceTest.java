@@ -0,0 +1,146 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.AutocompleteSuggestionDto;
+import com.www.goodjob.dto.KeywordCount;
+import com.www.goodjob.enums.SuggestionType;
+import com.www.goodjob.enums.TrendWindow;
+import com.www.goodjob.repository.JobLightRepository;
+import com.www.goodjob.repository.JobSuggestSourceProjection;
+import com.www.goodjob.repository.SearchLogRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 9, 1, 9, 0);
+
+    @Mock
+    private JobLightRepository jobLightRepository;
+
+    @Mock
+    private SearchLogRepository searchLogRepository;
+
+    @Mock
+    private KeywordTrendService keywordTrendService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        autocompleteService = new AutocompleteService(jobLightRepository, searchLogRepository, keywordTrendService, meterRegistry);
+        ReflectionTestUtils.setField(autocompleteService, "p99BudgetMs", 30L);
+        autocompleteService.initMetrics();
+
+        lenient().when(keywordTrendService.getTopKeywords(eq(TrendWindow.DAY), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void refresh_buildsFullIndexFirst_thenAppliesOnlyNewJobs() {
+        when(jobLightRepository.findPublicSuggestSources()).thenReturn(List.of(
+                job(1L, "백엔드 개발자", "토스"),
+                job(2L, "프론트엔드 개발자", "카카오")));
+        when(searchLogRepository.findTopKeywords(any(Pageable.class))).thenReturn(List.of(new KeywordCount("백엔드", 10)));
+
+        autocompleteService.refresh(T0);
+
+        assertEquals(List.of("백엔드", "백엔드 개발자"), texts(autocompleteService.suggest("백", 5)));
+
+        // 5분 뒤: 마지막 id 이후 공고만 조회, search_log 전체 집계는 다시 하지 않음
+        when(jobLightRepository.findPublicSuggestSourcesAfterId(2L)).thenReturn(List.of(job(3L, "백엔드 리드", "네이버")));
+
+        autocompleteService.refresh(T0.plusMinutes(5));
+
+        assertTrue(texts(autocompleteService.suggest("백", 5)).contains("백엔드 리드"));
+        verify(jobLightRepository, times(1)).findPublicSuggestSources();
+        verify(searchLogRepository, times(1)).findTopKeywords(any(Pageable.class));
+    }
+
+    @Test
+    void refresh_rebuildsEverything_afterFullRebuildInterval() {
+        when(jobLightRepository.findPublicSuggestSources())
+                .thenReturn(List.of(job(1L, "백엔드 개발자", "토스")))
+                .thenReturn(List.of(job(5L, "데이터 엔지니어", "토스")));
+        when(searchLogRepository.findTopKeywords(any(Pageable.class))).thenReturn(List.of());
+
+        autocompleteService.refresh(T0);
+        autocompleteService.refresh(T0.plusMinutes(61));
+
+        // 전체 재빌드는 누적 후보를 비우고 새로 만든다 (비공개 전환된 공고 제거)
+        assertTrue(autocompleteService.suggest("백", 5).isEmpty());
+        assertEquals(List.of("데이터 엔지니어"), texts(autocompleteService.suggest("데", 5)));
+        verify(jobLightRepository, times(2)).findPublicSuggestSources();
+        verify(jobLightRepository, never()).findPublicSuggestSourcesAfterId(anyLong());
+    }
+
+    @Test
+    void refresh_keepsServingPreviousIndex_whenIncrementFails() {
+        when(jobLightRepository.findPublicSuggestSources()).thenReturn(List.of(job(1L, "백엔드 개발자", "토스")));
+        when(searchLogRepository.findTopKeywords(any(Pageable.class))).thenReturn(List.of());
+        autocompleteService.refresh(T0);
+
+        when(jobLightRepository.findPublicSuggestSourcesAfterId(1L)).thenThrow(new RuntimeException("db down"));
+        autocompleteService.refresh(T0.plusMinutes(5));
+
+        List<AutocompleteSuggestionDto> result = autocompleteService.suggest("토", 5);
+        assertEquals(List.of("토스"), texts(result));
+        assertEquals(SuggestionType.COMPANY, result.get(0).getType());
+    }
+
+    @Test
+    void suggest_recordsLatencyAgainstBudget() {
+        autocompleteService.suggest("백", 5);
+        autocompleteService.suggest("토", 5);
+
+        Timer timer = meterRegistry.get("autocomplete.suggest").timer();
+        assertEquals(2, timer.count());
+        // 예산(p99-budget-ms)이 SLO 버킷으로 노출되어 초과 비율을 볼 수 있다
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+        assertTrue(Arrays.stream(buckets).anyMatch(b -> b.bucket(TimeUnit.MILLISECONDS) == 30.0));
+    }
+
+    private static List<String> texts(List<AutocompleteSuggestionDto> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestionDto::getText).toList();
+    }
+
+    private static JobSuggestSourceProjection job(Long id, String title, String companyName) {
+        return new JobSuggestSourceProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getCompanyName() {
+                return companyName;
+            }
+        };
+    }
+}
@@ -1,7 +1,9 @@
 package com.www.goodjob.service;
 
 import com.www.goodjob.domain.*;
+import com.www.goodjob.dto.JobDto;
 import com.www.goodjob.dto.ScoredJobDto;
+import com.www.goodjob.enums.EngagementType;
 import com.www.goodjob.repository.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,12 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +38,12 @@ class BookmarkServiceTest {
     @Mock
     private CvRepository cvRepository;
 
+    @Mock
+    private JobEngagementService jobEngagementService;
+
+    @Mock
+    private JobHydrationService jobHydrationService;
+
     @Test
     void addBookmark_returnsFalse_ifAlreadyExists() {
         // given
@@ -77,6 +83,7 @@ class BookmarkServiceTest {
         // then
         assertTrue(result);
         verify(bookmarkRepository).save(any(Bookmark.class));
+        verify(jobEngagementService).recordAfterCommit(jobId, EngagementType.BOOKMARK, 1);
     }
 
     @Test
@@ -138,6 +145,7 @@ class BookmarkServiceTest {
         // then
         assertTrue(result);
         verify(bookmarkRepository).delete(bookmark);
+        verify(jobEngagementService).recordAfterCommit(jobId, EngagementType.BOOKMARK, -1);
     }
 
 
@@ -150,12 +158,10 @@ class BookmarkServiceTest {
         Job job1 = new Job();
         job1.setId(100L);
         job1.setTitle("백엔드 개발자");
-        job1.setFavicon(new Favicon(null, "some-domain", "base64string"));
 
         Job job2 = new Job();
         job2.setId(200L);
         job2.setTitle("프론트엔드 개발자");
-        job2.setFavicon(new Favicon(null, "some-domain", "base64string"));
 
         Bookmark b1 = new Bookmark();
         b1.setUser(mockUser);
@@ -165,24 +171,15 @@ class BookmarkServiceTest {
         b2.setUser(mockUser);
         b2.setJob(job2);
 
-        when(bookmarkRepository.findAllByUser(mockUser)).thenReturn(List.of(b1, b2));
-
-        Cv cv = new Cv();
-        cv.setId(500L);
-        cv.setUser(mockUser);
-
-        List<Cv> cvs = new ArrayList<Cv>();
-        cvs.add(cv);
-
-        when(cvRepository.findAllByUser(mockUser)).thenReturn(cvs);
-
-        RecommendScore rs1 = new RecommendScore();
-        rs1.setCv(cv);
-        rs1.setJob(job1);
-        rs1.setScore(0.85f);
+        when(bookmarkRepository.findAllWithJobByUser(mockUser)).thenReturn(List.of(b1, b2));
+        when(cvRepository.findIdsByUser(mockUser)).thenReturn(List.of(500L, 501L));
+        when(jobHydrationService.toDtos(List.of(job1, job2))).thenReturn(List.of(
+                JobDto.from(job1, List.of(), "base64string"),
+                JobDto.from(job2, List.of(), "base64string")));
 
-        when(recommendScoreRepository.findByCvIdAndJobIdIn(eq(500L), eq(List.of(100L, 200L))))
-                .thenReturn(List.of(rs1));
+        // CV 2개 중 최고 점수를 공고별로 한 번에 조회
+        when(recommendScoreRepository.findMaxScoresByCvIdInAndJobIdIn(List.of(500L, 501L), List.of(100L, 200L)))
+                .thenReturn(List.of(score(100L, 0.85f)));
 
         // when
         List<ScoredJobDto> result = bookmarkService.getBookmarkedJobsByUser(mockUser);
@@ -196,6 +193,7 @@ class BookmarkServiceTest {
                 .orElseThrow();
 
         assertEquals(0.85f, job1Dto.getScore());
+        assertEquals("base64string", job1Dto.getFavicon());
 
         ScoredJobDto job2Dto = result.stream()
                 .filter(dto -> dto.getId().equals(200L))
@@ -203,8 +201,31 @@ class BookmarkServiceTest {
                 .orElseThrow();
 
         assertEquals(0.0f, job2Dto.getScore());  // 점수 없음 → default 0
-        verify(bookmarkRepository).findAllByUser(mockUser);
-        verify(cvRepository).findAllByUser(mockUser);
-        verify(recommendScoreRepository).findByCvIdAndJobIdIn(500L, List.of(100L, 200L));
+        verify(recommendScoreRepository, never()).findByCvIdAndJobIdIn(any(), any());
+    }
+
+    @Test
+    void getBookmarkedJobsByUser_throws_whenUserHasNoCv() {
+        User mockUser = new User();
+        mockUser.setId(1L);
+        when(bookmarkRepository.findAllWithJobByUser(mockUser)).thenReturn(List.of());
+        when(cvRepository.findIdsByUser(mockUser)).thenReturn(List.of());
+
+        assertThrows(RuntimeException.class, () -> bookmarkService.getBookmarkedJobsByUser(mockUser));
+        verifyNoInteractions(recommendScoreRepository, jobHydrationService);
+    }
+
+    private static JobScoreProjection score(Long jobId, float score) {
+        return new JobScoreProjection() {
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public Float getScore() {
+                return score;
+            }
+        };
     }
 }
\ No newline at end of file
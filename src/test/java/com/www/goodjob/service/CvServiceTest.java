@@ -47,6 +47,9 @@ class CvServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private CvTopJobService cvTopJobService;
+
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
@@ -68,6 +71,7 @@ class CvServiceTest {
 
         // then
         verify(recommendScoreRepository).deleteByCvId(cvId);
+        verify(cvTopJobService).deleteByCvId(cvId);
         verify(cvRepository).delete(mockCv);
         verify(restTemplate).delete("http://localhost:8000/delete-cv?cv_id=" + cvId);
         verify(redisTemplate).delete("recommendation:" + cvId);
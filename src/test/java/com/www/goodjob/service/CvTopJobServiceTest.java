@@ -0,0 +1,67 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.repository.CvTopJobJdbcRepository;
+import com.www.goodjob.repository.CvTopJobJdbcRepository.TopJobRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CvTopJobServiceTest {
+
+    @InjectMocks
+    private CvTopJobService cvTopJobService;
+
+    @Mock
+    private CvTopJobJdbcRepository cvTopJobJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @Test
+    void refresh_readsTopNThenReplacesRowsOfSingleCv_inOwnTransaction() {
+        List<TopJobRow> top = List.of(new TopJobRow(1L, 10L, 95f), new TopJobRow(1L, 11L, 91f));
+        when(cvTopJobJdbcRepository.findTopN(eq(7L), any(), eq(CvTopJobService.TOP_N))).thenReturn(top);
+
+        cvTopJobService.refresh(7L);
+
+        InOrder order = inOrder(cvTopJobJdbcRepository, txManager);
+        order.verify(cvTopJobJdbcRepository).findTopN(eq(7L), any(), eq(CvTopJobService.TOP_N));
+        order.verify(cvTopJobJdbcRepository).replace(eq(7L), eq(top), any(), any());
+        order.verify(txManager).commit(any());
+        verifyNoMoreInteractions(cvTopJobJdbcRepository);
+    }
+
+    @Test
+    void refresh_rollsBackOwnTransactionOnFailure_soScoreSaveIsKept() {
+        when(cvTopJobJdbcRepository.findTopN(any(), any(), anyInt())).thenReturn(List.of());
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(cvTopJobJdbcRepository).replace(any(), any(), any(), any());
+
+        assertDoesNotThrow(() -> cvTopJobService.refresh(7L));
+        verify(txManager).rollback(any());
+        verify(txManager, never()).commit(any());
+    }
+
+    @Test
+    void windowStartAt_rollsOverAtEightAm() {
+        assertEquals(LocalDateTime.of(2025, 3, 9, 8, 0),
+                CvTopJobService.windowStartAt(LocalDateTime.of(2025, 3, 10, 7, 59)));
+        assertEquals(LocalDateTime.of(2025, 3, 10, 8, 0),
+                CvTopJobService.windowStartAt(LocalDateTime.of(2025, 3, 10, 8, 0)));
+    }
+}
@@ -3,6 +3,8 @@ package com.www.goodjob.service;
 import com.www.goodjob.dto.DashboardDto;
 import com.www.goodjob.dto.KeywordCount;
 import com.www.goodjob.repository.*;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository.JobEventDayRow;
+import com.www.goodjob.util.HyperLogLog;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,6 +22,8 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,17 +38,11 @@ class DashboardServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private UserFeedbackRepository userFeedbackRepository;
     @Mock private SearchLogRepository searchLogRepository;
-    @Mock private JobEventLogRepository jobEventLogRepository;
-
+    @Mock private JobEventRollupService jobEventRollupService;
+    @Mock private KeywordTrendService keywordTrendService;
 
     @Test
     void getDashboardStats_returnsAggregatedStats() {
-        // 날짜 기반 계산 (고정 날짜 기준으로 테스트)
-        LocalDate now = LocalDate.of(2025, 6, 8); // 기준 날짜
-        LocalDateTime startOfThisWeek = now.with(DayOfWeek.MONDAY).atStartOfDay(); // 2025-06-02
-        LocalDateTime startOfLastWeek = startOfThisWeek.minusWeeks(1);             // 2025-05-26
-        LocalDateTime endOfLastWeek = startOfThisWeek.minusSeconds(1);             // 2025-06-01T23:59:59
-
         // mock 리턴값 설정
         when(userRepository.count()).thenReturn(100L);
         when(userRepository.countByCreatedAtAfter(any(LocalDateTime.class))).thenReturn(20L);
@@ -61,23 +59,18 @@ class DashboardServiceTest {
                 new KeywordCount("AI", 30),
                 new KeywordCount("백엔드", 20)
         );
-        when(searchLogRepository.findTopKeywords(any(Pageable.class))).thenReturn(keywordList);
-
-        when(jobEventLogRepository.countActiveUsersSince(any(LocalDateTime.class)))
-                .thenReturn(60L)
-                .thenReturn(40L);
-
-        when(jobEventLogRepository.countImpressionsSince(any(LocalDateTime.class))).thenReturn(200L);
-        when(jobEventLogRepository.countClicksSince(any(LocalDateTime.class))).thenReturn(40L);
-
-        for (int i = 6; i >= 0; i--) {
-            LocalDate targetDate = now.minusDays(i);
-            LocalDateTime startOfDay = targetDate.atStartOfDay();
-            LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
-
-            when(jobEventLogRepository.countImpressionsBetween(startOfDay, endOfDay)).thenReturn(100L + i);
-            when(jobEventLogRepository.countClicksBetween(startOfDay, endOfDay)).thenReturn(10L + i);
-        }
+        when(searchLogRepository.findTopKeywordsSince(eq(LocalDate.now().minusDays(6).atStartOfDay()), any(Pageable.class)))
+                .thenReturn(keywordList);
+
+        // 일별 롤업 최근 30일: 오늘(사용자 1~60, 노출 200/클릭 40) + 지난주 월요일(사용자 41~80) + 20일 전(사용자 101~120)
+        // 지난주 월요일은 항상 7일 이상 전이라 최근 7일 구간에는 들어가지 않음
+        LocalDate today = LocalDate.now();
+        LocalDate lastMonday = today.with(DayOfWeek.MONDAY).minusWeeks(1);
+        when(jobEventRollupService.getDaysSince(today.minusDays(29))).thenReturn(List.of(
+                new JobEventDayRow(today.minusDays(20), 10L, 1L, users(101, 120)),
+                new JobEventDayRow(lastMonday, 50L, 5L, users(41, 80)),
+                new JobEventDayRow(today, 200L, 40L, users(1, 60))
+        ));
 
         // when
         DashboardDto result = dashboardService.getDashboardStats();
@@ -89,11 +82,33 @@ class DashboardServiceTest {
         assertEquals(20, result.getWeeklyJobChange());
         assertEquals(4.2f, result.getAverageSatisfaction(), 0.001f);
         assertEquals(0.4f, result.getWeeklySatisfactionChange(), 0.001f);
-        assertEquals(60L, result.getActiveUserCount());
-        assertEquals(20, result.getWeeklyActiveUserChange());
+        assertEquals(60L, result.getActiveUserCount(), 1);
+        assertEquals(-20, result.getWeeklyActiveUserChange(), 1); // 이번 주 60 - 지난주 월요일 이후 80
+        // 같은 스케치에서 구간만 달리 계산
+        assertEquals(60L, result.getDailyActiveUserCount(), 1);
+        assertEquals(60L, result.getWeeklyActiveUserCount(), 1);
+        assertEquals(100L, result.getMonthlyActiveUserCount(), 2);
         assertEquals(20.0f, result.getCtr(), 0.001f); // 40 / 200 * 100
 
         assertEquals(7, result.getDailyCtrList().size());
+        assertEquals(20.0f, result.getDailyCtrList().get(6), 0.001f);
         assertEquals(keywordList, result.getTopKeywords());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getDashboardStats_usesPrecomputedTrendKeywords_whenAvailable() {
+        List<KeywordCount> trend = List.of(new KeywordCount("백엔드", 12));
+        when(keywordTrendService.getRecentTopKeywords(7, 10)).thenReturn(trend);
+
+        DashboardDto result = dashboardService.getDashboardStats();
+
+        assertEquals(trend, result.getTopKeywords());
+        verify(searchLogRepository, never()).findTopKeywordsSince(any(), any(Pageable.class));
+    }
+
+    private static HyperLogLog users(long from, long to) {
+        HyperLogLog hll = new HyperLogLog();
+        for (long id = from; id <= to; id++) hll.add(id);
+        return hll;
+    }
+}
@@ -0,0 +1,89 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.DashboardDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DashboardSnapshotServiceTest {
+
+    private final DashboardService dashboardService = mock(DashboardService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DashboardSnapshotService snapshotService = new DashboardSnapshotService(dashboardService, meterRegistry);
+
+    // 테스트에서는 전용 풀 없이 (executor = null) 계산 결과를 직접 제어
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(snapshotService, "maxAgeMs", 60_000L);
+        snapshotService.initMetrics();
+    }
+
+    @Test
+    void getSnapshot_waitsOnlyForFirstComputation_andStampsComputedAt() {
+        when(dashboardService.computeStatsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(stats(100)));
+
+        DashboardDto first = snapshotService.getSnapshot();
+        DashboardDto second = snapshotService.getSnapshot();
+
+        assertEquals(100, first.getTotalUserCount());
+        assertNotNull(first.getComputedAt());
+        assertSame(first, second);
+        verify(dashboardService, times(1)).computeStatsAsync(any());
+    }
+
+    @Test
+    void getSnapshot_servesStaleSnapshot_whileSingleRefreshRuns() {
+        when(dashboardService.computeStatsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(stats(100)));
+        DashboardDto stale = snapshotService.getSnapshot();
+        stale.setComputedAt(LocalDateTime.now().minusMinutes(5));
+
+        CompletableFuture<DashboardDto> pending = new CompletableFuture<>();
+        when(dashboardService.computeStatsAsync(any())).thenReturn(pending);
+
+        // 갱신 중에는 여러 번 조회해도 기존 스냅샷 즉시 반환, 계산은 1회
+        assertSame(stale, snapshotService.getSnapshot());
+        assertSame(stale, snapshotService.getSnapshot());
+        snapshotService.scheduledRefresh();
+        verify(dashboardService, times(2)).computeStatsAsync(any());
+
+        pending.complete(stats(120));
+        assertEquals(120, snapshotService.getSnapshot().getTotalUserCount());
+    }
+
+    @Test
+    void refreshFailure_keepsPreviousSnapshot() {
+        when(dashboardService.computeStatsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(stats(100)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+        DashboardDto previous = snapshotService.getSnapshot();
+
+        snapshotService.scheduledRefresh();
+
+        assertSame(previous, snapshotService.getSnapshot());
+        assertEquals(2, meterRegistry.get("dashboard.snapshot.refresh").timer().count());
+    }
+
+    @Test
+    void getSnapshot_throws503_whenFirstComputationFails() {
+        when(dashboardService.computeStatsAsync(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, snapshotService::getSnapshot);
+        assertEquals(503, e.getStatusCode().value());
+    }
+
+    private static DashboardDto stats(long totalUsers) {
+        return DashboardDto.builder().totalUserCount(totalUsers).build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.www.goodjob.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.config.QueryCountConfig;
+import com.www.goodjob.domain.*;
+import com.www.goodjob.dto.ApplicationResponse;
+import com.www.goodjob.dto.ScoredJobDto;
+import com.www.goodjob.enums.ApplicationStatus;
+import com.www.goodjob.util.QueryCountAssertions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 핫 경로 SQL 수 고정 (H2 + QueryCountConfig 의 Hibernate 훅).
+ * 북마크/지원 수가 늘어도 문장 수가 그대로인지 확인한다 (N+1 회귀 방지).
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+        QueryCountConfig.class,
+        HotPathQueryCountTest.SupportConfig.class,
+        BookmarkService.class,
+        ApplicationService.class,
+        JobHydrationService.class,
+        RegionDictionaryService.class
+})
+class HotPathQueryCountTest {
+
+    private static final int JOBS = 5;
+
+    @TestConfiguration
+    static class SupportConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        // @DataJpaTest 는 Jackson 자동 설정을 올리지 않음 (RegionDictionaryService 용)
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @MockitoBean
+    private JobEngagementService jobEngagementService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private RegionDictionaryService regionDictionaryService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("query@count.test").name("쿼리").build());
+        Region seoul = em.persist(Region.builder().cd("11680").sido("서울").sigungu("강남구").build());
+        Region busan = em.persist(Region.builder().cd("26350").sido("부산").sigungu("해운대구").build());
+
+        Cv cv1 = em.persist(cv("cv1.pdf"));
+        Cv cv2 = em.persist(cv("cv2.pdf"));
+
+        for (int i = 0; i < JOBS; i++) {
+            Job job = new Job();
+            job.setTitle("공고 " + i);
+            job.setCompanyName("회사 " + i);
+            job.setRawJobsText("raw " + i);
+            job.setCreatedAt(LocalDateTime.now());
+            em.persist(job);
+
+            em.persist(JobRegion.builder().job(job).region(i % 2 == 0 ? seoul : busan).build());
+            em.persist(Bookmark.builder().user(user).job(job).build());
+            em.persist(Application.builder().user(user).job(job).applyStatus(ApplicationStatus.준비중).build());
+            em.persist(RecommendScore.builder().cv(cv1).job(job).score(0.5f).build());
+            em.persist(RecommendScore.builder().cv(cv2).job(job).score(0.5f + i / 10f).build());
+        }
+        em.flush();
+        em.clear();
+
+        // 지역 사전은 기동 시 로드되므로 측정 대상에서 제외
+        regionDictionaryService.reload();
+    }
+
+    @Test
+    void getBookmarkedJobsByUser_usesFixedStatementCount() {
+        // 북마크+공고, CV id, 점수(MAX), job_region (파비콘 없음)
+        List<ScoredJobDto> result = QueryCountAssertions.assertStatements(4,
+                () -> bookmarkService.getBookmarkedJobsByUser(user));
+
+        assertEquals(JOBS, result.size());
+        assertTrue(result.stream().allMatch(dto -> dto.getRegions().size() == 1));
+        assertEquals(0.5f + (JOBS - 1) / 10f, result.stream()
+                .mapToDouble(ScoredJobDto::getScore).max().orElseThrow(), 1e-6);
+    }
+
+    @Test
+    void getApplications_usesSingleStatement() {
+        List<ApplicationResponse> result = QueryCountAssertions.assertStatements(1,
+                () -> applicationService.getApplications(user));
+
+        assertEquals(JOBS, result.size());
+        assertTrue(result.stream().allMatch(r -> r.getJobTitle().startsWith("공고")));
+    }
+
+    private Cv cv(String fileName) {
+        return Cv.builder()
+                .user(user)
+                .fileName(fileName)
+                .fileUrl("https://s3/" + fileName)
+                .rawText("raw")
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.JobEngagementDto;
+import com.www.goodjob.enums.EngagementType;
+import com.www.goodjob.enums.EventType;
+import com.www.goodjob.repository.JobEngagementJdbcRepository;
+import com.www.goodjob.repository.JobEngagementJdbcRepository.JobEngagementRow;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobEngagementServiceTest {
+
+    @InjectMocks
+    private JobEngagementService jobEngagementService;
+
+    @Mock
+    private JobEngagementJdbcRepository jobEngagementJdbcRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_addsDeltasToDb_thenSyncsTotalsToRedis() {
+        LocalDateTime now = LocalDateTime.now();
+        jobEngagementService.record(List.of(
+                new JobEventRow(1L, 10L, EventType.impression, now),
+                new JobEventRow(2L, 10L, EventType.impression, now),
+                new JobEventRow(1L, 10L, EventType.click, now)));
+        jobEngagementService.recordAfterCommit(10L, EngagementType.BOOKMARK, 1);
+        jobEngagementService.recordAfterCommit(11L, EngagementType.APPLICATION, 1);
+        jobEngagementService.recordAfterCommit(11L, EngagementType.APPLICATION, -1);
+
+        jobEngagementService.flush();
+
+        // 11번은 +1/-1 상쇄 → 반영 대상 아님
+        ArgumentCaptor<List<JobEngagementRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobEngagementJdbcRepository).addAll(captor.capture(), any());
+        assertEquals(List.of(new JobEngagementRow(10L, 2, 1, 1, 0)), captor.getValue());
+        verify(jobEngagementJdbcRepository).findByJobIds(List.of(10L));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+
+        // 반영 후 비어 있음
+        assertTrue(jobEngagementService.drain().isEmpty());
+    }
+
+    @Test
+    void drain_prunesJobsWithoutDeltas() {
+        jobEngagementService.recordAfterCommit(10L, EngagementType.BOOKMARK, 1);
+        jobEngagementService.recordAfterCommit(11L, EngagementType.APPLICATION, 1);
+        jobEngagementService.recordAfterCommit(11L, EngagementType.APPLICATION, -1);
+
+        assertEquals(List.of(new JobEngagementRow(10L, 0, 0, 1, 0)), jobEngagementService.drain());
+        assertEquals(1, jobEngagementService.trackedJobs()); // 11번은 상쇄되어 바로 제거
+
+        assertTrue(jobEngagementService.drain().isEmpty());
+        assertEquals(0, jobEngagementService.trackedJobs()); // 다음 주기에 증분이 없으면 제거
+
+        jobEngagementService.recordAfterCommit(10L, EngagementType.BOOKMARK, -1);
+        assertEquals(List.of(new JobEngagementRow(10L, 0, 0, -1, 0)), jobEngagementService.drain());
+    }
+
+    @Test
+    void flush_requeues_whenDbWriteFails() {
+        jobEngagementService.recordAfterCommit(10L, EngagementType.BOOKMARK, 1);
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(jobEngagementJdbcRepository).addAll(any(), any());
+
+        jobEngagementService.flush();
+
+        assertEquals(List.of(new JobEngagementRow(10L, 0, 0, 1, 0)), jobEngagementService.drain());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEngagements_mapsPipelinedHmgetColumnsPerJob() {
+        // 지표 순서(IMPRESSION, CLICK, BOOKMARK, APPLICATION)별 HMGET 결과, 20번은 집계 없음
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(
+                Arrays.asList("100", null),
+                Arrays.asList("7", null),
+                Arrays.asList("3", null),
+                Arrays.asList("1", null)));
+
+        Map<Long, JobEngagementDto> result = jobEngagementService.getEngagements(List.of(10L, 20L));
+
+        assertEquals(1, result.size());
+        JobEngagementDto dto = result.get(10L);
+        assertEquals(100, dto.getImpressions());
+        assertEquals(7, dto.getClicks());
+        assertEquals(3, dto.getBookmarks());
+        assertEquals(1, dto.getApplications());
+        assertEquals(7.0, dto.getCtr(), 1e-9);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEngagements_returnsEmpty_whenRedisFails() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertTrue(jobEngagementService.getEngagements(List.of(10L)).isEmpty());
+    }
+}
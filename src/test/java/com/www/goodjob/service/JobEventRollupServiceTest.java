@@ -0,0 +1,105 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.enums.EventType;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository;
+import com.www.goodjob.repository.JobEventRollupJdbcRepository.JobCountDelta;
+import com.www.goodjob.util.HyperLogLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobEventRollupServiceTest {
+
+    @InjectMocks
+    private JobEventRollupService jobEventRollupService;
+
+    @Mock
+    private JobEventRollupJdbcRepository jobEventRollupJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @Test
+    void flush_writesPerJobCountsAndDayTotalsWithUserSketch() {
+        LocalDateTime now = LocalDateTime.now();
+        jobEventRollupService.record(List.of(
+                new JobEventRow(1L, 10L, EventType.impression, now),
+                new JobEventRow(2L, 10L, EventType.impression, now),
+                new JobEventRow(1L, 10L, EventType.click, now),
+                new JobEventRow(1L, 11L, EventType.impression, now)));
+
+        jobEventRollupService.flush();
+
+        List<JobCountDelta> rows = captureJobCounts(1).get(0).stream()
+                .sorted(Comparator.comparing(JobCountDelta::jobId).thenComparing(JobCountDelta::event))
+                .toList();
+        assertEquals(3, rows.size());
+        assertEquals(2, rows.get(0).count()); // 10번 노출
+        assertEquals(1, rows.get(1).count()); // 10번 클릭
+        assertEquals(1, rows.get(2).count()); // 11번 노출
+
+        ArgumentCaptor<HyperLogLog> users = ArgumentCaptor.forClass(HyperLogLog.class);
+        verify(jobEventRollupJdbcRepository).mergeDay(eq(now.toLocalDate()), eq(3L), eq(1L), users.capture(), any());
+        assertEquals(2, users.getValue().estimate());
+
+        // 반영 후에는 비어 있어야 함
+        jobEventRollupService.flush();
+        verifyNoMoreInteractions(jobEventRollupJdbcRepository);
+    }
+
+    @Test
+    void flush_requeuesCountsAndSketch_whenWriteFails() {
+        LocalDateTime now = LocalDateTime.now();
+        jobEventRollupService.record(List.of(new JobEventRow(1L, 10L, EventType.click, now)));
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(jobEventRollupJdbcRepository).addJobCounts(any());
+
+        jobEventRollupService.flush();
+        jobEventRollupService.flush();
+
+        assertEquals(1, captureJobCounts(2).get(1).get(0).count());
+        ArgumentCaptor<HyperLogLog> users = ArgumentCaptor.forClass(HyperLogLog.class);
+        verify(jobEventRollupJdbcRepository).mergeDay(eq(now.toLocalDate()), eq(0L), eq(1L), users.capture(), any());
+        assertEquals(1, users.getValue().estimate());
+    }
+
+    @Test
+    void drain_forgetsIdleKeysOfPastDays() {
+        LocalDate today = LocalDate.now();
+        jobEventRollupService.record(List.of(
+                new JobEventRow(1L, 10L, EventType.click, today.minusDays(3).atTime(12, 0))));
+
+        assertEquals(1, jobEventRollupService.drainCounts(today).size());
+        assertEquals(1, jobEventRollupService.drainSketches(today).size());
+        assertTrue(jobEventRollupService.drainCounts(today).isEmpty());
+        assertTrue(jobEventRollupService.drainSketches(today).isEmpty());
+
+        jobEventRollupService.flush();
+        verify(jobEventRollupJdbcRepository, never()).mergeDay(any(), anyLong(), anyLong(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<JobCountDelta>> captureJobCounts(int times) {
+        ArgumentCaptor<List<JobCountDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobEventRollupJdbcRepository, times(times)).addJobCounts(captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,88 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.domain.Favicon;
+import com.www.goodjob.domain.Job;
+import com.www.goodjob.dto.JobDto;
+import com.www.goodjob.repository.FaviconRepository;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobHydrationServiceTest {
+
+    @InjectMocks
+    private JobHydrationService jobHydrationService;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private RegionDictionaryService regionDictionaryService;
+
+    @Mock
+    private FaviconRepository faviconRepository;
+
+    @Test
+    void findJobDtosInOrder_assemblesRegionsAndFavicons_withBatchedQueries() {
+        // given: 같은 회사(파비콘 5번) 공고 2건 + 파비콘 없는 공고 1건
+        Job job1 = job(1L, 5L);
+        Job job2 = job(2L, 5L);
+        Job job3 = job(3L, null);
+        when(jobRepository.findAllById(any())).thenReturn(List.of(job1, job2, job3));
+        when(regionDictionaryService.findRegionsByJobIds(any())).thenReturn(Map.of(
+                1L, List.of(region("서울", "강남구"), region("서울", "서초구")),
+                3L, List.of(region("부산", "해운대구"))
+        ));
+        when(faviconRepository.findAllById(Set.of(5L)))
+                .thenReturn(List.of(new Favicon(5L, "toss.im", "logo-base64")));
+
+        // when
+        List<JobDto> result = jobHydrationService.findJobDtosInOrder(List.of(3L, 1L, 2L, 99L));
+
+        // then: 요청 순서 유지, 없는 ID 제외
+        assertEquals(List.of(3L, 1L, 2L), result.stream().map(JobDto::getId).toList());
+        assertEquals(1, result.get(0).getRegions().size());
+        assertNull(result.get(0).getFavicon());
+        assertEquals(2, result.get(1).getRegions().size());
+        assertEquals("logo-base64", result.get(1).getFavicon());
+        assertEquals("logo-base64", result.get(2).getFavicon());
+        assertTrue(result.get(2).getRegions().isEmpty());
+
+        // 파비콘은 distinct id로 1회만 조회
+        verify(faviconRepository, times(1)).findAllById(Set.of(5L));
+    }
+
+    @Test
+    void findJobDtosInOrder_emptyIds_skipsQueries() {
+        assertTrue(jobHydrationService.findJobDtosInOrder(List.of()).isEmpty());
+        verifyNoInteractions(jobRepository, regionDictionaryService, faviconRepository);
+    }
+
+    private Job job(Long id, Long faviconId) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("job-" + id);
+        if (faviconId != null) {
+            // LAZY 프록시와 동일하게 id만 채워진 상태
+            job.setFavicon(new Favicon(faviconId, null, null));
+        }
+        return job;
+    }
+
+    private RegionDto region(String sido, String sigungu) {
+        return RegionDto.builder().sido(sido).sigungu(sigungu).build();
+    }
+}
@@ -1,39 +1,113 @@
 package com.www.goodjob.service;
 
-import com.www.goodjob.domain.JobEventLog;
+import com.www.goodjob.dto.JobEventRequest;
 import com.www.goodjob.enums.EventType;
-import com.www.goodjob.repository.JobEventLogRepository;
+import com.www.goodjob.repository.JobEventLogJdbcRepository;
+import com.www.goodjob.repository.JobEventLogJdbcRepository.JobEventRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.mockito.Mockito.mock;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 class JobLogServiceTest {
 
-    private final JobEventLogRepository mockRepository = mock(JobEventLogRepository.class);
-    private final JobLogService jobLogService = new JobLogService(mockRepository);
+    private final JobEventLogJdbcRepository mockRepository = mock(JobEventLogJdbcRepository.class);
+    private final JobEventRollupService mockRollupService = mock(JobEventRollupService.class);
+    private final ActiveUserService mockActiveUserService = mock(ActiveUserService.class);
+    private final JobEngagementService mockEngagementService = mock(JobEngagementService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobLogService jobLogService = new JobLogService(
+            mockRepository, mockRollupService, mockActiveUserService, mockEngagementService, meterRegistry);
 
-    @Test
-    @DisplayName("logEvent() - 유저 ID, 잡 ID, 이벤트 타입이 로그에 저장되어야 함")
-    void logEvent_savesCorrectLog() {
-        // Given
-        Long userId = 1L;
-        Long jobId = 100L;
-        EventType eventType = EventType.click;
+    // 테스트에서는 writer 스레드 없이 drain() 을 직접 호출
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jobLogService, "queueCapacity", 3);
+        ReflectionTestUtils.setField(jobLogService, "batchSize", 2);
+        jobLogService.initMetrics();
+    }
 
+    @Test
+    @DisplayName("logEvent() - 요청 스레드에서는 DB 에 쓰지 않고, drain 시 유저 ID/잡 ID/이벤트 타입이 기록되어야 함")
+    void logEvent_isWrittenOnDrain() {
         // When
-        jobLogService.logEvent(userId, jobId, eventType);
+        assertTrue(jobLogService.logEvent(1L, 100L, EventType.click));
 
         // Then
-        ArgumentCaptor<JobEventLog> captor = ArgumentCaptor.forClass(JobEventLog.class);
-        verify(mockRepository, times(1)).save(captor.capture());
+        verifyNoInteractions(mockRepository);
+        jobLogService.drain();
+
+        List<List<JobEventRow>> batches = captureBatches(1);
+        JobEventRow row = batches.get(0).get(0);
+        assertEquals(1L, row.userId());
+        assertEquals(100L, row.jobId());
+        assertEquals(EventType.click, row.event());
+        assertNotNull(row.timestamp());
+    }
+
+    @Test
+    @DisplayName("logEvents() - batch-size 단위로 나눠 기록되어야 함")
+    void logEvents_writtenInBatches() {
+        jobLogService.logEvents(1L, List.of(
+                new JobEventRequest(10L, EventType.impression),
+                new JobEventRequest(11L, EventType.impression),
+                new JobEventRequest(12L, EventType.click)));
+
+        jobLogService.drain();
+
+        List<List<JobEventRow>> batches = captureBatches(2);
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(1).size());
+        assertEquals(3, meterRegistry.get("job.event.ingest.written").counter().count());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 버리고 dropped 카운터를 올려야 함")
+    void logEvents_dropsWhenQueueFull() {
+        List<JobEventRequest> events = new ArrayList<>();
+        for (long i = 0; i < 5; i++) events.add(new JobEventRequest(i, EventType.impression));
+
+        int accepted = jobLogService.logEvents(1L, events);
+
+        assertEquals(3, accepted);
+        assertEquals(2, meterRegistry.get("job.event.ingest.dropped").counter().count());
+        assertEquals(3, meterRegistry.get("job.event.ingest.queue").gauge().value());
+    }
+
+    @Test
+    @DisplayName("기록 실패 시 해당 배치는 failed 로 계측하고 큐는 계속 비워야 함")
+    void drain_countsFailedBatch() {
+        when(mockRepository.insertAll(any())).thenThrow(new QueryTimeoutException("timeout")).thenReturn(1);
+        jobLogService.logEvent(1L, 1L, EventType.click);
+        jobLogService.logEvent(1L, 2L, EventType.click);
+        jobLogService.logEvent(1L, 3L, EventType.click);
+
+        jobLogService.drain();
+
+        assertEquals(2, meterRegistry.get("job.event.ingest.failed").counter().count());
+        assertEquals(1, meterRegistry.get("job.event.ingest.written").counter().count());
+        assertEquals(0, meterRegistry.get("job.event.ingest.queue").gauge().value());
+        // 롤업에는 기록에 성공한 배치만 반영
+        verify(mockRollupService, times(1)).record(argThat(batch -> batch.size() == 1));
+        verify(mockActiveUserService, times(1)).record(argThat(batch -> batch.size() == 1));
+        verify(mockEngagementService, times(1)).record(argThat(batch -> batch.size() == 1));
+    }
 
-        JobEventLog savedLog = captor.getValue();
-        assertEquals(userId, savedLog.getUserId());
-        assertEquals(jobId, savedLog.getJobId());
-        assertEquals(eventType, savedLog.getEvent());
+    @SuppressWarnings("unchecked")
+    private List<List<JobEventRow>> captureBatches(int times) {
+        ArgumentCaptor<List<JobEventRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mockRepository, times(times)).insertAll(captor.capture());
+        return captor.getAllValues();
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,13 @@
 package com.www.goodjob.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.www.goodjob.domain.*;
 import com.www.goodjob.dto.*;
 import com.www.goodjob.repository.JobRegionRepository;
 import com.www.goodjob.repository.JobRepository;
 // import com.www.goodjob.repository.JobValidTypeRepository;
 import com.www.goodjob.repository.RegionRepository;
+import com.www.goodjob.util.RegionDictionary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -56,6 +58,15 @@ class JobServiceTest {
     @Mock
     private JobRegionRepository jobRegionRepository;
 
+    @Mock
+    private JobSummaryService jobSummaryService;
+
+    @Mock
+    private JobHydrationService jobHydrationService;
+
+    @Mock
+    private RegionDictionaryService regionDictionaryService;
+
     @BeforeEach
     void setup() {
         // fastapiHost 값을 강제로 설정
@@ -89,15 +100,16 @@ class JobServiceTest {
                 eq(JobSearchResponse.class)
         )).thenReturn(new ResponseEntity<>(searchResponse, HttpStatus.OK));
 
-        // JobRepository 응답
-        Job job = new Job();
-        job.setId(jobId);
-        job.setJobType("정규직");
-        job.setExperience("신입");
-        job.setJobRegions(List.of());  // 간단화
-        job.setFavicon(new Favicon(null, "domain", "base64"));
+        // 공고 조립 결과
+        JobDto job = JobDto.builder()
+                .id(jobId)
+                .jobType("정규직")
+                .requireExperience("신입")
+                .regions(List.of())  // 간단화
+                .favicon("base64")
+                .build();
 
-        when(jobRepository.findByIdInWithRegion(List.of(jobId))).thenReturn(List.of(job));
+        when(jobHydrationService.findJobDtosInOrder(List.of(jobId))).thenReturn(List.of(job));
 
         // when
         Page<JobDto> result = jobService.searchJobs(
@@ -111,7 +123,69 @@ class JobServiceTest {
 
         verify(searchLogService).saveSearchLog(eq(keyword), eq(mockUser));
         verify(restTemplate).postForEntity(anyString(), any(HttpEntity.class), eq(JobSearchResponse.class));
-        verify(jobRepository).findByIdInWithRegion(eq(List.of(jobId)));
+        verify(jobHydrationService).findJobDtosInOrder(eq(List.of(jobId)));
+    }
+
+    @Test
+    void searchJobSummaries_withKeyword_usesSummaryProjection() {
+        // given
+        String keyword = "백엔드";
+        Pageable pageable = PageRequest.of(0, 10);
+        User mockUser = new User();
+
+        JobSearchDto first = new JobSearchDto();
+        first.setJobId(2L);
+        JobSearchDto second = new JobSearchDto();
+        second.setJobId(1L);
+
+        JobSearchResponse searchResponse = new JobSearchResponse();
+        searchResponse.setResults(List.of(first, second));
+        searchResponse.setTotal(2);
+
+        when(restTemplate.postForEntity(
+                eq("http://localhost:8000/search-es"),
+                any(HttpEntity.class),
+                eq(JobSearchResponse.class)
+        )).thenReturn(new ResponseEntity<>(searchResponse, HttpStatus.OK));
+
+        when(jobSummaryService.findByIdsInOrder(List.of(2L, 1L))).thenReturn(List.of(
+                JobSummaryDto.builder().id(2L).title("B").build(),
+                JobSummaryDto.builder().id(1L).title("A").build()
+        ));
+
+        // when
+        Page<JobSummaryDto> result = jobService.searchJobSummaries(
+                keyword, null, List.of("경력무관"), null, null, pageable, mockUser
+        );
+
+        // then
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(JobSummaryDto::getId).toList());
+        verify(searchLogService).saveSearchLog(eq(keyword), eq(mockUser));
+        verify(jobHydrationService, never()).findJobDtosInOrder(any());
+    }
+
+    @Test
+    void searchJobSummaries_withoutKeyword_searchesRdbWithExpandedFilters() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+        when(jobSummaryService.search(
+                eq(null),
+                eq(List.of("경력무관", "신입", "경력")),
+                eq(List.of("서울")),
+                eq(null),
+                eq(pageable)
+        )).thenReturn(Page.empty());
+
+        // when
+        Page<JobSummaryDto> result = jobService.searchJobSummaries(
+                null, List.of(), List.of("경력무관"), List.of("서울"), null, pageable, null
+        );
+
+        // then
+        assertEquals(0, result.getTotalElements());
+        verify(jobRepository, never()).searchJobsWithFilters(any(), any(), any(), any(), any(), any());
+        verify(searchLogService, never()).saveSearchLog(any(), any());
     }
 
     @Test
@@ -175,7 +249,7 @@ class JobServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         verify(restTemplate).postForEntity(anyString(), any(), eq(JobSearchResponse.class));
-        verify(jobRepository, never()).findByIdInWithRegion(any());
+        verify(jobHydrationService, never()).findJobDtosInOrder(any());
     }
 
     @Test
@@ -222,7 +296,7 @@ class JobServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         verify(restTemplate).postForEntity(anyString(), any(), eq(JobSearchResponse.class));
-        verify(jobRepository, never()).findByIdInWithRegion(any());
+        verify(jobHydrationService, never()).findJobDtosInOrder(any());
     }
 
 
@@ -270,7 +344,7 @@ class JobServiceTest {
         r3.setSido("경기");
         r3.setSigungu("수원시");
 
-        when(regionRepository.findAllRegions()).thenReturn(List.of(r1, r2, r3));
+        when(regionDictionaryService.current()).thenReturn(RegionDictionary.build(List.of(r1, r2, r3), new ObjectMapper()));
 
         // when
         List<RegionGroupDto> result = jobService.getGroupedRegions();
@@ -284,7 +358,7 @@ class JobServiceTest {
                 .orElseThrow();
 
         assertEquals(List.of("강남구", "서초구"), seoul.getSigunguList());
-        verify(regionRepository, atLeastOnce()).findAllRegions();
+        assertEquals("경기", result.getFirst().getSido()); // 시도 정렬
     }
 
     @Test
@@ -0,0 +1,108 @@
+package com.www.goodjob.service;
+
+import com.www.goodjob.dto.JobEngagementDto;
+import com.www.goodjob.dto.JobSummaryDto;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.repository.JobRepository;
+import com.www.goodjob.repository.JobSummaryProjection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobSummaryServiceTest {
+
+    @InjectMocks
+    private JobSummaryService jobSummaryService;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private RegionDictionaryService regionDictionaryService;
+
+    @Mock
+    private JobEngagementService jobEngagementService;
+
+    @Test
+    void findByIdsInOrder_keepsRequestOrder_andGroupsRegions() {
+        // given: DB는 id 오름차순으로 반환
+        JobSummaryProjection job1 = summary(1L, "A");
+        JobSummaryProjection job2 = summary(2L, "B");
+        when(jobRepository.findSummariesByIdIn(List.of(2L, 1L, 3L))).thenReturn(List.of(job1, job2));
+        when(regionDictionaryService.findRegionsByJobIds(any())).thenReturn(Map.of(
+                2L, List.of(region("서울", "강남구"), region("경기", "성남시")),
+                1L, List.of(region("부산", "해운대구"))
+        ));
+
+        // when
+        List<JobSummaryDto> result = jobSummaryService.findByIdsInOrder(List.of(2L, 1L, 3L));
+
+        // then: 요청 순서 유지, 없는 ID(3) 제외
+        assertEquals(List.of(2L, 1L), result.stream().map(JobSummaryDto::getId).toList());
+        assertEquals(2, result.get(0).getRegions().size());
+        assertEquals("해운대구", result.get(1).getRegions().getFirst().getSigungu());
+        assertNull(result.get(0).getScore());
+    }
+
+    @Test
+    void findScoredInOrder_setsScores() {
+        // given
+        JobSummaryProjection job = summary(7L, "C");
+        when(jobRepository.findSummariesByIdIn(List.of(7L))).thenReturn(List.of(job));
+        when(regionDictionaryService.findRegionsByJobIds(any())).thenReturn(Map.of());
+
+        LinkedHashMap<Long, Double> scores = new LinkedHashMap<>();
+        scores.put(7L, 0.91);
+
+        // when
+        List<JobSummaryDto> result = jobSummaryService.findScoredInOrder(scores);
+
+        // then
+        assertEquals(0.91, result.getFirst().getScore());
+        assertTrue(result.getFirst().getRegions().isEmpty());
+    }
+
+    @Test
+    void findByIdsInOrder_annotatesEngagement_onlyForAggregatedJobs() {
+        JobSummaryProjection job1 = summary(1L, "A");
+        JobSummaryProjection job2 = summary(2L, "B");
+        when(jobRepository.findSummariesByIdIn(List.of(1L, 2L))).thenReturn(List.of(job1, job2));
+        when(regionDictionaryService.findRegionsByJobIds(any())).thenReturn(Map.of());
+        when(jobEngagementService.getEngagements(any())).thenReturn(Map.of(
+                1L, new JobEngagementDto(200, 20, 5, 2)));
+
+        List<JobSummaryDto> result = jobSummaryService.findByIdsInOrder(List.of(1L, 2L));
+
+        assertEquals(20, result.get(0).getEngagement().getClicks());
+        assertEquals(10.0, result.get(0).getEngagement().getCtr(), 1e-9);
+        assertNull(result.get(1).getEngagement());
+    }
+
+    @Test
+    void findByIdsInOrder_emptyIds_skipsQueries() {
+        assertTrue(jobSummaryService.findByIdsInOrder(List.of()).isEmpty());
+        verifyNoInteractions(jobRepository, regionDictionaryService, jobEngagementService);
+    }
+
+    private JobSummaryProjection summary(Long id, String title) {
+        JobSummaryProjection p = mock(JobSummaryProjection.class);
+        when(p.getId()).thenReturn(id);
+        lenient().when(p.getTitle()).thenReturn(title);
+        return p;
+    }
+
+    private RegionDto region(String sido, String sigungu) {
+        return RegionDto.builder().sido(sido).sigungu(sigungu).build();
+    }
+}
@@ -1,35 +1,63 @@
 package com.www.goodjob.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.config.FastApiClientMetricsInterceptor;
 import com.www.goodjob.dto.ServerStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MonitoringServiceTest {
 
-    @InjectMocks
     private MonitoringService monitoringService;
+    private MeterRegistry meterRegistry;
 
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private HealthEndpoint healthEndpoint;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitoringService = new MonitoringService(restTemplate, new ObjectMapper(), meterRegistry, healthEndpoint, redisTemplate);
         ReflectionTestUtils.setField(monitoringService, "prometheusBaseUrl", "http://localhost:9090");
+        ReflectionTestUtils.setField(monitoringService, "cacheTtlMs", 10_000L);
+        monitoringService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitoringService.shutdown();
     }
 
     private String createMockResponse(double value) {
@@ -49,63 +77,109 @@ class MonitoringServiceTest {
                 """.formatted(value);
     }
 
-    @Test
-    void getRedisStatus_returnsExpectedStatus() {
-        String upJson = createMockResponse(1.0);
-        String uptimeJson = createMockResponse(0.95);
-        String latencyJson = createMockResponse(0.005);
-
-        when(restTemplate.getForEntity(any(URI.class), eq(String.class)))
-                .thenReturn(new ResponseEntity<>(upJson, HttpStatus.OK))
-                .thenReturn(new ResponseEntity<>(uptimeJson, HttpStatus.OK))
-                .thenReturn(new ResponseEntity<>(latencyJson, HttpStatus.OK));
+    /** 병렬 조회라 호출 순서가 정해져 있지 않으므로 query 파라미터로 응답을 고른다 */
+    private void stubPrometheus(Map<String, Double> values) {
+        when(restTemplate.getForEntity(any(URI.class), eq(String.class))).thenAnswer(inv -> {
+            String query = ((URI) inv.getArgument(0)).getQuery().substring("query=".length());
+            Double value = values.get(query);
+            if (value == null) throw new IllegalStateException("unexpected query: " + query);
+            return new ResponseEntity<>(createMockResponse(value), HttpStatus.OK);
+        });
+    }
 
-        ServerStatus result = monitoringService.getRedisStatus();
+    private void record(String name, long millis, String... tags) {
+        Timer.builder(name).tags(tags).register(meterRegistry).record(Duration.ofMillis(millis));
+    }
 
-        assertTrue(result.isUp());
-        assertEquals("Redis Cache", result.getName());
-        assertEquals(0.95, result.getUptime(), 1e-6);
-        assertEquals(5.0, result.getResponseTime(), 1e-6);
+    @Test
+    void getServerStatuses_usesPrometheusUpAndClientSideLatency() {
+        stubPrometheus(Map.of(
+                "up{job=\"redis\"}", 1.0,
+                "avg_over_time(up{job=\"redis\"}[1h])", 0.95,
+                "up{job=\"spring-ec2\"}", 1.0,
+                "avg_over_time(up{job=\"spring-ec2\"}[1h])", 0.80,
+                "up{job=\"ecs-fastapi\"}", 0.0,
+                "avg_over_time(up{job=\"ecs-fastapi\"}[1h])", 0.5
+        ));
+        record(MonitoringService.REDIS_PING_TIMER, 4);
+        record(MonitoringService.REDIS_PING_TIMER, 6);
+        record(MonitoringService.HTTP_SERVER_TIMER, 3, "uri", "/jobs");
+        record(FastApiClientMetricsInterceptor.TIMER_NAME, 120, "outcome", "SUCCESS");
+        record(FastApiClientMetricsInterceptor.TIMER_NAME, 2_000, "outcome", "IO_ERROR");
+
+        List<ServerStatus> result = monitoringService.getServerStatuses();
+
+        ServerStatus redis = result.get(0);
+        assertEquals("Redis Cache", redis.getName());
+        assertTrue(redis.isUp());
+        assertEquals(0.95, redis.getUptime(), 1e-6);
+        assertEquals(5.0, redis.getResponseTime(), 1e-6);
+
+        ServerStatus spring = result.get(1);
+        assertEquals("Spring Server", spring.getName());
+        assertTrue(spring.isUp());
+        assertEquals(0.80, spring.getUptime(), 1e-6);
+        assertEquals(3.0, spring.getResponseTime(), 1e-6);
+
+        ServerStatus fastapi = result.get(2);
+        assertEquals("FastAPI Server", fastapi.getName());
+        assertFalse(fastapi.isUp());
+        assertEquals(0.5, fastapi.getUptime(), 1e-6);
+        assertEquals(120.0, fastapi.getResponseTime(), 1e-6); // 실패 호출은 응답 시간에서 제외
     }
 
     @Test
-    void getSpringStatus_returnsExpectedStatus() {
-        String upJson = createMockResponse(1.0);
-        String uptimeJson = createMockResponse(0.80);
-        String latencyJson = createMockResponse(0.003);
+    void getServerStatuses_reusesResultWithinTtl() {
+        stubPrometheus(Map.of(
+                "up{job=\"redis\"}", 1.0,
+                "avg_over_time(up{job=\"redis\"}[1h])", 1.0,
+                "up{job=\"spring-ec2\"}", 1.0,
+                "avg_over_time(up{job=\"spring-ec2\"}[1h])", 1.0,
+                "up{job=\"ecs-fastapi\"}", 1.0,
+                "avg_over_time(up{job=\"ecs-fastapi\"}[1h])", 1.0
+        ));
+
+        List<ServerStatus> first = monitoringService.getServerStatuses();
+        List<ServerStatus> second = monitoringService.getServerStatuses();
+
+        assertSame(first, second);
+        verify(restTemplate, times(6)).getForEntity(any(URI.class), eq(String.class));
+    }
 
-        // 순서대로 반환되도록 설정
+    @Test
+    void getServerStatuses_fallsBackToLocalSignals_whenPrometheusUnavailable() {
         when(restTemplate.getForEntity(any(URI.class), eq(String.class)))
-                .thenReturn(new ResponseEntity<>(upJson, HttpStatus.OK))
-                .thenReturn(new ResponseEntity<>(uptimeJson, HttpStatus.OK))
-                .thenReturn(new ResponseEntity<>(latencyJson, HttpStatus.OK));
-
-        ServerStatus result = monitoringService.getSpringStatus();
-
-        assertTrue(result.isUp());
-        assertEquals("Spring Server", result.getName());
-        assertEquals(0.80, result.getUptime(), 1e-6);
-        assertEquals(3.0, result.getResponseTime(), 1e-6);
+                .thenThrow(new RuntimeException("연결 실패"));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisCallback<String>>any())).thenReturn("PONG");
+        when(healthEndpoint.health()).thenReturn(Health.up().build());
+        record(FastApiClientMetricsInterceptor.TIMER_NAME, 2_000, "outcome", "IO_ERROR");
+
+        monitoringService.probeRedis();
+        List<ServerStatus> result = monitoringService.getServerStatuses();
+
+        assertTrue(result.get(0).isUp());
+        assertEquals(1.0, result.get(0).getUptime(), 1e-6);
+        assertTrue(result.get(1).isUp());
+        assertFalse(result.get(2).isUp());
+        assertEquals(0.0, result.get(2).getUptime(), 1e-6);
+        assertEquals(1L, meterRegistry.get(MonitoringService.REDIS_PING_TIMER).timer().count());
     }
 
     @Test
-    void getFastapiStatus_returnsExpectedStatus() {
-        String upJson = createMockResponse(0.0);
-        String uptimeJson = createMockResponse(0.5);
-        String latencyJson = createMockResponse(0.01);
+    void recentMean_onlyCountsSamplesSinceLastUpdate() {
+        MonitoringService.RecentMean mean = new MonitoringService.RecentMean();
+        Timer timer = Timer.builder("t").register(meterRegistry);
 
-        // 순서대로 반환되도록 설정
-        when(restTemplate.getForEntity(any(URI.class), eq(String.class)))
-                .thenReturn(new ResponseEntity<>(upJson, HttpStatus.OK))
-                .thenReturn(new ResponseEntity<>(uptimeJson, HttpStatus.OK))
-                .thenReturn(new ResponseEntity<>(latencyJson, HttpStatus.OK));
+        timer.record(Duration.ofMillis(100));
+        assertEquals(100.0, mean.update(List.of(timer)), 1e-6);
 
-        ServerStatus result = monitoringService.getFastapiStatus();
+        timer.record(Duration.ofMillis(10));
+        timer.record(Duration.ofMillis(20));
+        assertEquals(15.0, mean.update(List.of(timer)), 1e-6);
 
-        assertFalse(result.isUp());
-        assertEquals("FastAPI Server", result.getName());
-        assertEquals(0.5, result.getUptime(), 1e-6);
-        assertEquals(10.0, result.getResponseTime(), 1e-6);
+        // 새 요청이 없으면 직전 평균 유지
+        assertEquals(15.0, mean.update(List.of(timer)), 1e-6);
+        assertFalse(mean.hadRecentSamples());
     }
 
     @Test
@@ -122,14 +196,12 @@ class MonitoringServiceTest {
     }
 
     @Test
-    void parsePrometheusValue_whenMalformedJson_returnsZero() {
-        // given: 잘못된 JSON 문자열
-        String malformedJson = "{ this is not valid JSON";
+    void queryMetricValue_whenMalformedJson_returnsZero() {
+        when(restTemplate.getForEntity(any(URI.class), eq(String.class)))
+                .thenReturn(new ResponseEntity<>("{ this is not valid JSON", HttpStatus.OK));
 
-        // reflection으로 private 메서드 호출
-        double result = ReflectionTestUtils.invokeMethod(monitoringService, "parsePrometheusValue", malformedJson);
+        double result = monitoringService.queryMetricValue("up{job=\"redis\"}");
 
-        // then
         assertEquals(0.0, result, 1e-6);
     }
-}
\ No newline at end of file
+}
@@ -4,13 +4,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.www.goodjob.domain.*;
 import com.www.goodjob.dto.JobDto;
+import com.www.goodjob.dto.JobSummaryDto;
 import com.www.goodjob.dto.ScoredJobDto;
 import com.www.goodjob.repository.CvFeedbackRepository;
 import com.www.goodjob.repository.CvRepository;
-import com.www.goodjob.repository.JobRepository;
 import com.www.goodjob.repository.RecommendScoreRepository;
 import com.www.goodjob.security.CustomUserDetails;
 import com.www.goodjob.util.ClaudeClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +37,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -59,9 +64,6 @@ class RecommendServiceTest {
     @Mock
     private RecommendScoreRepository recommendScoreRepository;
 
-    @Mock
-    private JobRepository jobRepository;
-
     @Mock
     private CustomUserDetails userDetails;
 
@@ -74,6 +76,18 @@ class RecommendServiceTest {
     @Mock
     private ClaudeClient claudeClient;
 
+    @Mock
+    private JobSummaryService jobSummaryService;
+
+    @Mock
+    private JobHydrationService jobHydrationService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SimpleTracer tracer = new SimpleTracer();
+
     private ObjectMapper realObjectMapper = new ObjectMapper(); // 실제 인스턴스
 
     @BeforeEach
@@ -109,19 +123,11 @@ class RecommendServiceTest {
         when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
                 .thenReturn(cached);
 
-        Job dummyJob1 = new Job();
-        dummyJob1.setId(1L);
-        dummyJob1.setTitle("Job 1");
-        dummyJob1.setFavicon(new Favicon(null, "some-domain", "base64string"));
-
-        Job dummyJob2 = new Job();
-        dummyJob2.setId(2L);
-        dummyJob2.setTitle("Job 2");
-        dummyJob2.setFavicon(new Favicon(null, "some-domain", "base64string"));
+        JobDto dummyJob1 = JobDto.builder().id(1L).title("Job 1").favicon("base64string").build();
+        JobDto dummyJob2 = JobDto.builder().id(2L).title("Job 2").favicon("base64string").build();
 
-
-        when(jobRepository.findByIdInWithRegion(anyList()))
-                .thenReturn(List.of(dummyJob1, dummyJob2));
+        when(jobHydrationService.findJobDtosById(anyList()))
+                .thenReturn(Map.of(1L, dummyJob1, 2L, dummyJob2));
 
         // when
         List<ScoredJobDto> result = recommendService.requestRecommendation(userId, topk);
@@ -157,10 +163,8 @@ class RecommendServiceTest {
         when(restTemplate.postForEntity(anyString(), any(), eq(String.class)))
                 .thenReturn(mockResponse);
 
-        Job mockJob = mock(Job.class);
-        when(mockJob.getId()).thenReturn(42L);
-        when(mockJob.getFavicon()).thenReturn(new Favicon(null, "some-domain", "base64string"));
-        when(jobRepository.findByIdInWithRegion(anyList())).thenReturn(List.of(mockJob));
+        JobDto mockJob = JobDto.builder().id(42L).favicon("base64string").build();
+        when(jobHydrationService.findJobDtosInOrder(List.of(42L))).thenReturn(List.of(mockJob));
 
         // when
         List<ScoredJobDto> result = recommendService.requestRecommendation(userId, topk);
@@ -171,6 +175,50 @@ class RecommendServiceTest {
         verify(asyncService).saveRecommendScores(eq(userId), anyList());
     }
 
+    @Test
+    void requestRecommendationSummary_캐시존재_요약조회() {
+        // given
+        Long cvId = 1L;
+        Set<ZSetOperations.TypedTuple<String>> cached = new java.util.LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("1", 0.96),
+                new DefaultTypedTuple<>("2", 0.83)
+        ));
+        when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong())).thenReturn(cached);
+        when(jobSummaryService.findScoredInOrder(any())).thenReturn(List.of(
+                JobSummaryDto.builder().id(1L).score(0.96).build(),
+                JobSummaryDto.builder().id(2L).score(0.83).build()
+        ));
+
+        // when
+        List<JobSummaryDto> result = recommendService.requestRecommendationSummary(cvId, 2);
+
+        // then
+        assertEquals(2, result.size());
+        verify(jobHydrationService, never()).findJobDtosInOrder(any());
+        verify(asyncService, never()).cacheRecommendForUser(any());
+        verify(asyncService).saveRecommendScores(eq(cvId), argThat(list ->
+                list.size() == 2 && list.get(0).getId() == 1L && list.get(0).getScore() == 0.96));
+        assertEquals(1.0, meterRegistry.get("cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1L, meterRegistry.get("recommend.requests")
+                .tags("view", "summary", "source", "cache", "outcome", "SUCCESS").timer().count());
+    }
+
+    @Test
+    void requestRecommendationSummary_recordsStageSpans() {
+        Set<ZSetOperations.TypedTuple<String>> cached = new java.util.LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("1", 0.96)
+        ));
+        when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong())).thenReturn(cached);
+        when(jobSummaryService.findScoredInOrder(any())).thenReturn(List.of(
+                JobSummaryDto.builder().id(1L).score(0.96).build()
+        ));
+
+        recommendService.requestRecommendationSummary(1L, 1);
+
+        assertEquals(List.of("recommend.cache.read", "recommend.hydrate"),
+                tracer.getSpans().stream().map(SimpleSpan::getName).toList());
+    }
+
     @Test
     void requestRecommendation_캐시이외_예외발생() {
         // given
@@ -338,7 +386,7 @@ class RecommendServiceTest {
                 .thenReturn(Set.of(validTuple));
 
         // RDB 조회에서 예외 발생 유도
-        when(jobRepository.findByIdInWithRegion(any())).thenThrow(new RuntimeException("DB 오류"));
+        when(jobHydrationService.findJobDtosById(any())).thenThrow(new RuntimeException("DB 오류"));
 
         // when & then
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -392,12 +440,12 @@ class RecommendServiceTest {
         when(restTemplate.getForEntity(contains("/similar-jobs"), eq(String.class)))
                 .thenReturn(mockResponse);
 
-        // Job 엔티티 모킹
-        Job job1 = new Job(); job1.setId(101L); job1.setTitle("Job A");
-        Job job2 = new Job(); job2.setId(102L); job2.setTitle("Job B");
-        Job job3 = new Job(); job3.setId(103L); job3.setTitle("Job C");
+        // 공고 조립 결과 모킹
+        JobDto job1 = JobDto.builder().id(101L).title("Job A").build();
+        JobDto job2 = JobDto.builder().id(102L).title("Job B").build();
+        JobDto job3 = JobDto.builder().id(103L).title("Job C").build();
 
-        when(jobRepository.findByIdInWithRegion(eq(List.of(101L, 102L, 103L))))
+        when(jobHydrationService.findJobDtosInOrder(eq(List.of(101L, 102L, 103L))))
                 .thenReturn(List.of(job1, job2, job3));
 
         ReflectionTestUtils.setField(recommendService, "fastapiHost", "http://mock-fastapi");
@@ -0,0 +1,97 @@
+package com.www.goodjob.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.www.goodjob.domain.Region;
+import com.www.goodjob.dto.RegionDto;
+import com.www.goodjob.repository.JobRegionRepository;
+import com.www.goodjob.repository.JobRegionRowProjection;
+import com.www.goodjob.repository.RegionRepository;
+import com.www.goodjob.util.RegionDictionary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegionDictionaryServiceTest {
+
+    @InjectMocks
+    private RegionDictionaryService regionDictionaryService;
+
+    @Mock
+    private RegionRepository regionRepository;
+
+    @Mock
+    private JobRegionRepository jobRegionRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Region> regions = List.of(
+            Region.builder().id(1L).sido("서울").sigungu("서초구").build(),
+            Region.builder().id(2L).sido("서울").sigungu("강남구").build(),
+            Region.builder().id(3L).sido("경기").sigungu("수원시").build()
+    );
+
+    @Test
+    void current_loadsOnce_andBuildsSortedGroupsWithJsonAndEtag() {
+        // given
+        when(regionRepository.findAllRegions()).thenReturn(regions);
+
+        // when
+        RegionDictionary first = regionDictionaryService.current();
+        RegionDictionary second = regionDictionaryService.current();
+
+        // then
+        assertSame(first, second);
+        verify(regionRepository, times(1)).findAllRegions();
+
+        assertEquals(List.of("경기", "서울"), first.getGroups().stream().map(g -> g.getSido()).toList());
+        assertEquals(List.of("강남구", "서초구"), first.getGroups().get(1).getSigunguList());
+        assertEquals("[{\"sido\":\"경기\",\"sigunguList\":[\"수원시\"]},{\"sido\":\"서울\",\"sigunguList\":[\"강남구\",\"서초구\"]}]",
+                new String(first.getGroupsJson(), StandardCharsets.UTF_8));
+        assertTrue(first.getEtag().startsWith("\"") && first.getEtag().endsWith("\""));
+        assertEquals(first.getEtag(), RegionDictionary.build(regions, new ObjectMapper()).getEtag());
+    }
+
+    @Test
+    void findRegionsByJobIds_resolvesRegionIdsFromDictionary() {
+        // given
+        when(regionRepository.findAllRegions()).thenReturn(regions);
+        when(jobRegionRepository.findRegionRowsByJobIdIn(any())).thenReturn(List.of(
+                row(10L, 2L),
+                row(10L, 3L),
+                row(11L, 99L)   // 사전에 없는 지역 → 제외
+        ));
+
+        // when
+        Map<Long, List<RegionDto>> result = regionDictionaryService.findRegionsByJobIds(List.of(10L, 11L));
+
+        // then
+        assertEquals(List.of("강남구", "수원시"), result.get(10L).stream().map(RegionDto::getSigungu).toList());
+        assertNull(result.get(11L));
+    }
+
+    @Test
+    void findRegionsByJobIds_emptyIds_skipsQueries() {
+        assertTrue(regionDictionaryService.findRegionsByJobIds(List.of()).isEmpty());
+        verifyNoInteractions(regionRepository, jobRegionRepository);
+    }
+
+    private JobRegionRowProjection row(Long jobId, Long regionId) {
+        JobRegionRowProjection row = mock(JobRegionRowProjection.class);
+        when(row.getJobId()).thenReturn(jobId);
+        when(row.getRegionId()).thenReturn(regionId);
+        return row;
+    }
+}
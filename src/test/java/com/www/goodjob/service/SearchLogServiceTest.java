@@ -16,6 +16,7 @@ import static org.mockito.Mockito.*;
 class SearchLogServiceTest {
 
     private SearchLogRepository searchLogRepository;
+    private KeywordTrendService keywordTrendService;
     private SearchLogService searchLogService;
 
     private User testUser;
@@ -23,7 +24,8 @@ class SearchLogServiceTest {
     @BeforeEach
     void setUp() {
         searchLogRepository = mock(SearchLogRepository.class);
-        searchLogService = new SearchLogService(searchLogRepository);
+        keywordTrendService = mock(KeywordTrendService.class);
+        searchLogService = new SearchLogService(searchLogRepository, keywordTrendService);
 
         testUser = new User();
         testUser.setId(1L);
@@ -78,6 +80,7 @@ class SearchLogServiceTest {
 
         // then
         verify(searchLogRepository, never()).save(any(SearchLog.class));
+        verify(keywordTrendService, never()).record(any());
     }
 
     @Test
@@ -92,6 +95,7 @@ class SearchLogServiceTest {
 
         // then
         verify(searchLogRepository).save(any(SearchLog.class));
+        verify(keywordTrendService).record("프론트엔드");
     }
 
     @Test
@@ -0,0 +1,46 @@
+package com.www.goodjob.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void run_executesImmediately_outsideTransaction() {
+        AtomicInteger calls = new AtomicInteger();
+
+        AfterCommit.run(calls::incrementAndGet);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void run_defersUntilCommit_andSkipsOnRollback() {
+        AtomicInteger calls = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(calls::incrementAndGet);
+        assertEquals(0, calls.get());
+
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        assertEquals(0, calls.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,62 @@
+package com.www.goodjob.util;
+
+import com.www.goodjob.enums.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    private AutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = AutocompleteIndex.build(List.of(
+                new AutocompleteIndex.Entry("백엔드", SuggestionType.KEYWORD, 30),
+                new AutocompleteIndex.Entry("백엔드 개발자 채용", SuggestionType.TITLE, 1),
+                new AutocompleteIndex.Entry("토스", SuggestionType.COMPANY, 12),
+                new AutocompleteIndex.Entry("강남 닭갈비", SuggestionType.COMPANY, 2),
+                new AutocompleteIndex.Entry("Kakao Bank", SuggestionType.COMPANY, 5)
+        ));
+    }
+
+    @Test
+    void decompose_splitsCompoundVowelsAndFinals() {
+        assertEquals("ㄱㅏㅇㄴㅏㅁ", HangulJamo.decompose("강남"));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+        assertEquals("ㄱㅗㅏ", HangulJamo.decompose("과"));
+    }
+
+    @Test
+    void suggest_ranksByWeight() {
+        List<AutocompleteIndex.Entry> result = index.suggest("백", 5);
+
+        assertEquals(2, result.size());
+        assertEquals("백엔드", result.get(0).text());
+        assertEquals("백엔드 개발자 채용", result.get(1).text());
+    }
+
+    @Test
+    void suggest_matchesComposingSyllable() {
+        // '달'(ㄷㅏㄹ)은 '닭'(ㄷㅏㄹㄱ)의 prefix
+        assertEquals("강남 닭갈비", index.suggest("달", 5).get(0).text());
+        // '백에'(ㅂㅐㄱㅇㅔ)는 '백엔드'(ㅂㅐㄱㅇㅔㄴ...)의 prefix
+        assertEquals("백엔드", index.suggest("백에", 5).get(0).text());
+    }
+
+    @Test
+    void suggest_matchesWordStartsCaseInsensitive() {
+        assertEquals("백엔드 개발자 채용", index.suggest("개발", 5).get(0).text());
+        assertEquals("Kakao Bank", index.suggest("bank", 5).get(0).text());
+    }
+
+    @Test
+    void suggest_returnsEmpty_forBlankOrUnknownPrefix() {
+        assertTrue(index.suggest("  ", 5).isEmpty());
+        assertTrue(index.suggest("없는회사", 5).isEmpty());
+        assertTrue(AutocompleteIndex.empty().suggest("토", 5).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.www.goodjob.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimate_isExactForSmallCardinality() {
+        HyperLogLog hll = new HyperLogLog();
+        for (long id = 1; id <= 100; id++) {
+            hll.add(id);
+            hll.add(id); // 중복은 무시
+        }
+        assertEquals(100, hll.estimate(), 2);
+    }
+
+    @Test
+    void estimate_staysWithinErrorBound_forLargeCardinality() {
+        HyperLogLog hll = new HyperLogLog();
+        for (long id = 1; id <= 200_000; id++) hll.add(id);
+
+        double error = Math.abs(hll.estimate() - 200_000) / 200_000.0;
+        assertTrue(error < 0.05, "error=" + error);
+    }
+
+    @Test
+    void merge_equalsSketchOfUnion() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        HyperLogLog both = new HyperLogLog();
+        for (long id = 1; id <= 5_000; id++) {
+            monday.add(id);
+            both.add(id);
+        }
+        for (long id = 2_500; id <= 8_000; id++) {
+            tuesday.add(id);
+            both.add(id);
+        }
+
+        HyperLogLog union = monday.copy();
+        union.merge(tuesday);
+
+        assertEquals(both, union);
+        assertEquals(8_000, union.estimate(), 8_000 * 0.05);
+    }
+
+    @Test
+    void bytes_roundTrip() {
+        HyperLogLog hll = new HyperLogLog();
+        for (long id = 1; id <= 1_000; id++) hll.add(id);
+
+        assertEquals(hll, HyperLogLog.fromBytes(hll.toBytes()));
+        assertTrue(HyperLogLog.fromBytes(null).isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package com.www.goodjob.util;
+
+import com.www.goodjob.util.QueryCounter.QueryStats;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 핫 경로의 SQL 수를 테스트에서 고정하기 위한 assertion.
+ * query-count.enabled=true 인 Spring 컨텍스트에서 서비스/리포지토리 호출을 감싸서 쓴다.
+ * 슬라이스 테스트(@DataJpaTest)는 QueryCountConfig 를 @Import 한다 (예: HotPathQueryCountTest).
+ *
+ * <pre>
+ * List&lt;ApplicationResponse&gt; res = QueryCountAssertions.assertStatements(1, () -&gt; applicationService.getApplications(user));
+ * QueryCountAssertions.assertNoRepeatedStatements(1, () -&gt; bookmarkService.getBookmarkedJobsByUser(user));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /** 정확히 expected 개의 SQL 이 실행되어야 한다 */
+    public static <T> T assertStatements(int expected, Supplier<T> action) {
+        QueryCounter.Measured<T> measured = QueryCounter.measure(action);
+        assertEquals(expected, measured.stats().statements(), () -> describe(measured.stats()));
+        return measured.value();
+    }
+
+    public static void assertStatements(int expected, Runnable action) {
+        QueryStats stats = QueryCounter.measure(action);
+        assertEquals(expected, stats.statements(), () -> describe(stats));
+    }
+
+    /** SQL 수 상한 */
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        QueryCounter.Measured<T> measured = QueryCounter.measure(action);
+        assertTrue(measured.stats().statements() <= max,
+                () -> "expected at most " + max + " statements. " + describe(measured.stats()));
+        return measured.value();
+    }
+
+    /** 같은 SQL 이 maxRepeats 번을 넘게 반복되면 실패 (N+1) */
+    public static <T> T assertNoRepeatedStatements(int maxRepeats, Supplier<T> action) {
+        QueryCounter.Measured<T> measured = QueryCounter.measure(action);
+        assertTrue(measured.stats().maxRepeats() <= maxRepeats,
+                () -> "same statement repeated more than " + maxRepeats + " times. " + describe(measured.stats()));
+        return measured.value();
+    }
+
+    private static String describe(QueryStats stats) {
+        StringBuilder sb = new StringBuilder("actual statements=").append(stats.statements());
+        stats.statementsBySql().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> sb.append("\n  ").append(e.getValue()).append("x ").append(e.getKey()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.www.goodjob.util;
+
+import com.www.goodjob.config.QueryCountStatementInspector;
+import com.www.goodjob.util.QueryCounter.QueryStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCounterTest {
+
+    private static final String FIND_CV = "select c.id from cv c where c.user_id=?";
+    private static final String FIND_SCORE = "select rs.id from recommend_score rs where rs.cv_id=? and rs.job_id in (?,?)";
+
+    private final QueryCountStatementInspector inspector = new QueryCountStatementInspector();
+
+    @AfterEach
+    void clear() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    void ignoresStatements_whenNoSectionIsOpen() {
+        inspector.inspect(FIND_CV);
+
+        assertFalse(QueryCounter.isActive());
+        assertEquals(QueryStats.EMPTY, QueryCounter.stop());
+    }
+
+    @Test
+    void countsStatementsAndRepeatsPerSql() {
+        QueryCounter.start();
+        inspector.inspect(FIND_CV);
+        IntStream.range(0, 3).forEach(i -> inspector.inspect(FIND_SCORE));
+        QueryCounter.onExecuted(2_000_000L);
+
+        QueryStats stats = QueryCounter.stop();
+
+        assertEquals(4, stats.statements());
+        assertEquals(2.0, stats.executionMillis(), 1e-9);
+        assertEquals(3, stats.maxRepeats());
+        assertEquals(FIND_SCORE, stats.mostRepeated().orElseThrow().getKey());
+    }
+
+    @Test
+    void measure_isolatesInnerSection_andAddsItToOuter() {
+        QueryCounter.start();
+        inspector.inspect(FIND_CV);
+
+        QueryStats inner = QueryCounter.measure(() -> {
+            inspector.inspect(FIND_SCORE);
+        });
+        QueryStats outer = QueryCounter.stop();
+
+        assertEquals(1, inner.statements());
+        assertEquals(2, outer.statements());
+    }
+
+    @Test
+    void assertions_reportRepeatedSql_onFailure() {
+        AssertionError error = assertThrows(AssertionError.class, () ->
+                QueryCountAssertions.assertNoRepeatedStatements(1, () -> {
+                    inspector.inspect(FIND_SCORE);
+                    inspector.inspect(FIND_SCORE);
+                    return null;
+                }));
+
+        assertTrue(error.getMessage().contains("2x " + FIND_SCORE));
+        assertEquals("ok", QueryCountAssertions.assertStatements(1, () -> {
+            inspector.inspect(FIND_CV);
+            return "ok";
+        }));
+    }
+}
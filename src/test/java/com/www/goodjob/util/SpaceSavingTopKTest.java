@@ -0,0 +1,63 @@
+package com.www.goodjob.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceSavingTopKTest {
+
+    @Test
+    void top_returnsExactCounts_whenUnderCapacity() {
+        SpaceSavingTopK sketch = new SpaceSavingTopK(10);
+        for (int i = 0; i < 5; i++) sketch.offer("백엔드");
+        for (int i = 0; i < 3; i++) sketch.offer("토스");
+        sketch.offer("AI");
+
+        List<Map.Entry<String, Long>> top = sketch.top(2);
+
+        assertEquals(2, top.size());
+        assertEquals("백엔드", top.get(0).getKey());
+        assertEquals(5L, top.get(0).getValue());
+        assertEquals("토스", top.get(1).getKey());
+        assertEquals(3L, top.get(1).getValue());
+        assertEquals(0L, sketch.errorOf("백엔드"));
+    }
+
+    @Test
+    void offer_keepsHeavyHitters_whenCapacityExceeded() {
+        SpaceSavingTopK sketch = new SpaceSavingTopK(3);
+        for (int i = 0; i < 100; i++) sketch.offer("heavy");
+        for (int i = 0; i < 50; i++) sketch.offer("k" + i); // 1회성 키워드 다수
+
+        assertEquals(3, sketch.size());
+        assertEquals("heavy", sketch.top(1).get(0).getKey());
+        assertTrue(sketch.top(1).get(0).getValue() >= 100);
+    }
+
+    @Test
+    void guaranteedSnapshot_subtractsInheritedError() {
+        SpaceSavingTopK sketch = new SpaceSavingTopK(2);
+        for (int i = 0; i < 5; i++) sketch.offer("heavy");
+        for (int i = 0; i < 3; i++) sketch.offer("mid");
+        sketch.offer("tail"); // mid(3) 을 밀어내고 count=4, error=3 으로 이어받음
+
+        Map<String, Long> guaranteed = sketch.guaranteedSnapshot();
+
+        assertEquals(5L, guaranteed.get("heavy"));
+        assertEquals(1L, guaranteed.get("tail"));
+        assertEquals(4L, sketch.snapshot().get("tail"));
+        assertFalse(guaranteed.containsKey("mid"));
+    }
+
+    @Test
+    void offer_ignoresNullAndNonPositiveIncrement() {
+        SpaceSavingTopK sketch = new SpaceSavingTopK(3);
+        sketch.offer(null);
+        sketch.offer("a", 0);
+
+        assertTrue(sketch.isEmpty());
+    }
+}
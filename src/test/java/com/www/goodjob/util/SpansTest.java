@@ -0,0 +1,45 @@
+package com.www.goodjob.util;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpansTest {
+
+    private final SimpleTracer tracer = new SimpleTracer();
+
+    @Test
+    void inSpan_opensChildOfCurrentSpan_andEndsIt() {
+        Span request = tracer.nextSpan().name("http get /recommend").start();
+        String result;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(request)) {
+            result = Spans.inSpan(tracer, "recommend.cache.read", () -> "hit");
+        } finally {
+            request.end();
+        }
+
+        assertEquals("hit", result);
+        SimpleSpan child = tracer.getSpans().stream()
+                .filter(s -> "recommend.cache.read".equals(s.getName()))
+                .findFirst().orElseThrow();
+        assertEquals(request.context().traceId(), child.context().traceId());
+        assertEquals(request.context().spanId(), child.context().parentId());
+        assertNotNull(child.getEndTimestamp());
+    }
+
+    @Test
+    void inSpan_recordsErrorAndRethrows() {
+        IllegalStateException boom = new IllegalStateException("fastapi down");
+
+        assertThrows(IllegalStateException.class,
+                () -> Spans.inSpan(tracer, "recommend.fastapi", (Runnable) () -> { throw boom; }));
+
+        SimpleSpan span = tracer.onlySpan();
+        assertEquals("recommend.fastapi", span.getName());
+        assertSame(boom, span.getError());
+    }
+}